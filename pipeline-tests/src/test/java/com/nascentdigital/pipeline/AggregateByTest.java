@@ -0,0 +1,142 @@
+package com.nascentdigital.pipeline;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map.Entry;
+
+import static org.junit.Assert.assertEquals;
+
+
+public class AggregateByTest extends PipelineTest {
+
+    // region empty source
+
+    @Test
+    public void emptySource_shouldBeEmpty() {
+
+        // use pipeline
+        List<Entry<String, Integer>> counts = Pipeline.from(new Pet[0])
+                .countBy(p -> p.name)
+                .toList();
+
+        // assert
+        assertEquals(0, counts.size());
+    }
+
+    // endregion
+
+
+    // region aggregateBy
+
+    @Test
+    public void aggregateBy_shouldFoldEachGroup_inEncounterOrder() {
+
+        // create source
+        final Pet[] source = {
+                new Pet("Barley", 8),
+                new Pet("Boots", 4),
+                new Pet("Barley", 2),
+                new Pet("Whiskers", 1),
+                new Pet("Boots", 9)
+        };
+
+        // use pipeline
+        List<Entry<String, String>> groups = Pipeline.from(source)
+                .aggregateBy(p -> p.name, "", (s, p) -> s + p.age)
+                .toList();
+
+        // assert
+        assertEquals(3, groups.size());
+        assertEquals("Barley", groups.get(0).getKey());
+        assertEquals("82", groups.get(0).getValue());
+        assertEquals("Boots", groups.get(1).getKey());
+        assertEquals("49", groups.get(1).getValue());
+        assertEquals("Whiskers", groups.get(2).getKey());
+        assertEquals("1", groups.get(2).getValue());
+    }
+
+    @Test
+    public void aggregateBy_shouldGroupNullKeys() {
+
+        // create source
+        final String[] source = { "a", null, "bb", null };
+
+        // use pipeline
+        List<Entry<Integer, Integer>> groups = Pipeline.from(source)
+                .aggregateBy(s -> s == null ? null : s.length(), 0, (n, s) -> n + 1)
+                .toList();
+
+        // assert
+        assertEquals(3, groups.size());
+        assertEquals(Integer.valueOf(1), groups.get(0).getKey());
+        assertEquals(null, groups.get(1).getKey());
+        assertEquals(Integer.valueOf(2), groups.get(1).getValue());
+        assertEquals(Integer.valueOf(2), groups.get(2).getKey());
+    }
+
+    // endregion
+
+
+    // region countBy
+
+    @Test
+    public void countBy_shouldCountEachGroup() {
+
+        // use pipeline
+        List<Entry<Boolean, Integer>> counts = Pipeline.from(numbers)
+                .countBy(n -> n % 2 == 0)
+                .toList();
+
+        // assert
+        assertEquals(2, counts.size());
+        assertEquals(Boolean.TRUE, counts.get(0).getKey());
+        assertEquals(Integer.valueOf(3), counts.get(0).getValue());
+        assertEquals(Boolean.FALSE, counts.get(1).getKey());
+        assertEquals(Integer.valueOf(3), counts.get(1).getValue());
+    }
+
+    @Test
+    public void countBy_shouldMatchIterator() {
+
+        // use pipeline
+        Pipeline<Entry<String, Integer>> pipeline = Pipeline.from(colors)
+                .countBy(c -> c.substring(0, 1));
+
+        // assert that iteration and push agree
+        List<Entry<String, Integer>> pushed = pipeline.toList();
+        int index = 0;
+        for (Entry<String, Integer> count : pipeline) {
+            assertEquals(pushed.get(index++), count);
+        }
+        assertEquals(pushed.size(), index);
+    }
+
+    // endregion
+
+
+    // region sumBy
+
+    @Test
+    public void sumBy_shouldSumEachGroup_withoutOverflow() {
+
+        // create source
+        final Pet[] source = {
+                new Pet("Barley", Integer.MAX_VALUE),
+                new Pet("Boots", 4),
+                new Pet("Barley", Integer.MAX_VALUE)
+        };
+
+        // use pipeline
+        List<Entry<String, Long>> sums = Pipeline.from(source)
+                .sumBy(p -> p.name, p -> p.age)
+                .toList();
+
+        // assert
+        assertEquals(2, sums.size());
+        assertEquals(Long.valueOf(2L * Integer.MAX_VALUE), sums.get(0).getValue());
+        assertEquals(Long.valueOf(4), sums.get(1).getValue());
+    }
+
+    // endregion
+}
@@ -0,0 +1,152 @@
+package com.nascentdigital.pipeline;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+public class CacheTest extends PipelineTest {
+
+    // region helpers
+
+    private static Iterable<Integer> countingIterable(final Integer[] source,
+                                                      final AtomicInteger iterations) {
+        return () -> {
+            iterations.incrementAndGet();
+            return Arrays.asList(source).iterator();
+        };
+    }
+
+    // endregion
+
+
+    // region cache
+
+    @Test
+    public void cache_shouldNotEvaluate_untilAccessed() {
+
+        // use pipeline
+        final AtomicInteger evaluations = new AtomicInteger();
+        Pipeline.from(numbers)
+                .where(i -> {
+                    evaluations.incrementAndGet();
+                    return true;
+                })
+                .cache();
+
+        // assert
+        assertEquals(0, evaluations.get());
+    }
+
+    @Test
+    public void cache_shouldEvaluateOnce_whenAccessedRepeatedly() {
+
+        // create cached pipeline
+        final AtomicInteger evaluations = new AtomicInteger();
+        Pipeline<Integer> pipeline = Pipeline.from(numbers)
+                .where(i -> {
+                    evaluations.incrementAndGet();
+                    return i % 2 == 1;
+                })
+                .cache();
+
+        // use pipeline repeatedly
+        assertTrue(pipeline.any());
+        assertEquals(3, pipeline.count());
+        assertArrayEquals(new Integer[] { 1, 3, 5 }, pipeline.toList().toArray());
+        assertEquals(Integer.valueOf(5), pipeline.last());
+        assertEquals(Integer.valueOf(3), pipeline.elementAt(1));
+        List<Integer> iterated = new ArrayList<>();
+        for (Integer i : pipeline) {
+            iterated.add(i);
+        }
+
+        // assert
+        assertEquals(numbers.length, evaluations.get());
+        assertArrayEquals(new Integer[] { 1, 3, 5 }, iterated.toArray());
+    }
+
+    @Test
+    public void cache_shouldReplayToLaterStages() {
+
+        // create cached pipeline
+        final AtomicInteger iterations = new AtomicInteger();
+        Pipeline<Integer> pipeline = Pipeline.from(countingIterable(numbers, iterations))
+                .cache();
+
+        // use pipeline
+        List<Integer> skipped = pipeline.skip(4).toList();
+        int sum = pipeline.map(i -> i * 2).sumInts(i -> i);
+
+        // assert
+        assertEquals(1, iterations.get());
+        assertArrayEquals(new Integer[] { 4, 5 }, skipped.toArray());
+        assertEquals(30, sum);
+    }
+
+    @Test
+    public void cache_shouldReturnEmpty_whenSourceEmpty() {
+
+        // use pipeline
+        Pipeline<Integer> pipeline = Pipeline.from(new Integer[0])
+                .where(i -> true)
+                .cache();
+
+        // assert
+        assertEquals(0, pipeline.count());
+        assertFalse(pipeline.any());
+        assertFalse(pipeline.iterator().hasNext());
+    }
+
+    @Test
+    public void cache_shouldMatchSequential_whenParallel() {
+
+        // create source
+        final Integer[] source = new Integer[20000];
+        for (int i = 0; i < source.length; ++i) {
+            source[i] = i;
+        }
+
+        // create cached pipeline, which can be split even though the filter can't be indexed
+        Pipeline<Integer> pipeline = Pipeline.from(source)
+                .where(i -> i % 3 == 0)
+                .cache();
+
+        // assert
+        assertEquals(pipeline.sumLongs(i -> i), pipeline.parallel().sumLongs(i -> i));
+        assertEquals(pipeline.count(i -> i > 100), pipeline.parallel().count(i -> i > 100));
+    }
+
+    // endregion
+
+
+    // region soft cache
+
+    @Test
+    public void softCache_shouldEvaluateOnce_whenAccessedRepeatedly() {
+
+        // create cached pipeline
+        final AtomicInteger iterations = new AtomicInteger();
+        Pipeline<Integer> pipeline = Pipeline.from(countingIterable(numbers, iterations))
+                .softCache();
+
+        // use pipeline repeatedly
+        int count = pipeline.count();
+        List<Integer> values = pipeline.toList();
+
+        // assert (buffer is only collected under memory pressure)
+        assertEquals(1, iterations.get());
+        assertEquals(numbers.length, count);
+        assertArrayEquals(numbers, values.toArray());
+    }
+
+    // endregion
+}
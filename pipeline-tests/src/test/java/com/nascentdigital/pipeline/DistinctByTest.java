@@ -0,0 +1,168 @@
+package com.nascentdigital.pipeline;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+
+public class DistinctByTest extends PipelineTest {
+
+    // region empty source
+
+    @Test
+    public void emptySource_shouldBeEmpty() {
+
+        // use pipeline
+        List<Pet> pets = Pipeline.from(new Pet[0])
+                .distinctBy(p -> p.name)
+                .toList();
+
+        // assert
+        assertEquals(0, pets.size());
+    }
+
+    // endregion
+
+
+    // region many source
+
+    @Test
+    public void manySource_shouldKeepFirst_whenKeysRepeat() {
+
+        // create source
+        final Pet barley = new Pet("Barley", 8);
+        final Pet boots = new Pet("Boots", 4);
+        final Pet whiskers = new Pet("Whiskers", 1);
+        final Pet[] source = {
+                barley,
+                boots,
+                new Pet("Barley", 2),
+                whiskers,
+                new Pet("Boots", 9)
+        };
+
+        // use pipeline
+        List<Pet> pets = Pipeline.from(source)
+                .distinctBy(p -> p.name)
+                .toList();
+
+        // assert
+        assertEquals(3, pets.size());
+        assertSame(barley, pets.get(0));
+        assertSame(boots, pets.get(1));
+        assertSame(whiskers, pets.get(2));
+    }
+
+    @Test
+    public void manySource_shouldTreatNullKeysAsEqual() {
+
+        // create source
+        final String[] source = { "a", null, "b", null };
+
+        // use pipeline
+        List<String> values = Pipeline.from(source)
+                .distinctBy(s -> s == null ? null : "key")
+                .toList();
+
+        // assert
+        assertArrayEquals(new String[] { "a", null }, values.toArray());
+    }
+
+    @Test
+    public void manySource_shouldIterateDistinctKeys() {
+
+        // use pipeline
+        List<Integer> values = new ArrayList<>();
+        for (Integer value : Pipeline.from(numbers).distinctBy(i -> i % 3)) {
+            values.add(value);
+        }
+
+        // assert
+        assertArrayEquals(new Integer[] { 0, 1, 2 }, values.toArray());
+    }
+
+    @Test
+    public void manySource_shouldThrow_whenIteratedPastEnd() {
+
+        // use pipeline, reading every distinct element
+        Iterator<Integer> iterator = Pipeline.from(numbers).distinctByInt(i -> i % 3).iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            ++count;
+        }
+        try {
+            iterator.next();
+            fail();
+        }
+        catch (NoSuchElementException e) {
+
+            // assert
+            assertEquals(3, count);
+        }
+    }
+
+    // endregion
+
+
+    // region primitive keys
+
+    @Test
+    public void intKeys_shouldKeepFirst_whenKeysRepeat() {
+
+        // create source
+        final Pet[] source = {
+                new Pet("Barley", 8),
+                new Pet("Boots", 4),
+                new Pet("Daisy", 8),
+                new Pet("Whiskers", 0),
+                new Pet("Bella", 0)
+        };
+
+        // use pipeline
+        String[] names = Pipeline.from(source)
+                .distinctByInt(p -> p.age)
+                .map(p -> p.name)
+                .toArray(String.class);
+
+        // assert
+        assertArrayEquals(new String[] { "Barley", "Boots", "Whiskers" }, names);
+    }
+
+    @Test
+    public void longKeys_shouldMatchBoxedKeys_whenManyValues() {
+
+        // create source
+        final Integer[] source = new Integer[20000];
+        for (int i = 0; i < source.length; ++i) {
+            source[i] = i;
+        }
+
+        // use pipeline
+        List<Integer> unboxed = Pipeline.from(source)
+                .distinctByLong(i -> (i * 37L) % 1500 - 750)
+                .toList();
+        List<Integer> boxed = Pipeline.from(source)
+                .distinctBy(i -> (i * 37L) % 1500 - 750)
+                .toList();
+        List<Integer> iterated = new ArrayList<>();
+        for (Integer value : Pipeline.from(source).distinctByLong(i -> (i * 37L) % 1500 - 750)) {
+            iterated.add(value);
+        }
+
+        // assert
+        assertEquals(1500, unboxed.size());
+        assertEquals(boxed, unboxed);
+        assertEquals(boxed, iterated);
+    }
+
+    // endregion
+}
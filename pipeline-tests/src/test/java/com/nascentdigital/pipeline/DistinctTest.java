@@ -3,6 +3,12 @@ package com.nascentdigital.pipeline;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -144,4 +150,96 @@ public class DistinctTest extends PipelineTest {
     }
 
     // endregion
+
+
+    // region numeric source
+
+    @Test
+    public void numericSource_shouldMatchHashSet_whenManyValues() {
+
+        // create source with duplicates, zeros, negatives and extremes
+        final Integer[] source = new Integer[100000];
+        for (int i = 0; i < source.length; ++i) {
+            source[i] = (i % 3 == 0 ? -1 : 1) * ((i * 31) % 40000);
+        }
+        source[7] = Integer.MIN_VALUE;
+        source[8] = Integer.MAX_VALUE;
+        source[9] = Integer.MIN_VALUE;
+
+        // determine expected
+        Set<Integer> expected = new LinkedHashSet<>(Arrays.asList(source));
+
+        // use pipeline
+        Integer[] values = Pipeline.from(source)
+                .distinct()
+                .toArray(Integer.class);
+        List<Integer> iterated = new ArrayList<>();
+        for (Integer value : Pipeline.from(source).distinct()) {
+            iterated.add(value);
+        }
+
+        // assert
+        assertArrayEquals(expected.toArray(), values);
+        assertArrayEquals(expected.toArray(), iterated.toArray());
+    }
+
+    @Test
+    public void mixedSource_shouldKeepTypesDistinct() {
+
+        // create source
+        final Object[] source = new Object[] { 1, 1L, "1", null, 0, 0L, null, 1, 1L, "1" };
+
+        // use pipeline
+        Object[] values = Pipeline.from(source)
+                .distinct()
+                .toArray(Object.class);
+
+        // assert
+        assertArrayEquals(new Object[] { 1, 1L, "1", null, 0, 0L }, values);
+    }
+
+    @Test
+    public void primitiveSource_shouldReturnDistinctValues() {
+
+        // use pipelines
+        int[] ints = Pipeline.from(new int[] { 0, 5, -5, 5, 0, Integer.MIN_VALUE, -5 })
+                .distinct()
+                .toArray();
+        long[] longs = Pipeline.from(new long[] { 0L, Long.MAX_VALUE, 0L, 1L << 40, 1L << 40 })
+                .distinct()
+                .toArray();
+        double[] doubles = Pipeline.from(new double[] { 0.0, -0.0, Double.NaN, 0.0, Double.NaN })
+                .distinct()
+                .toArray();
+
+        // assert
+        assertArrayEquals(new int[] { 0, 5, -5, Integer.MIN_VALUE }, ints);
+        assertArrayEquals(new long[] { 0L, Long.MAX_VALUE, 1L << 40 }, longs);
+        assertArrayEquals(new double[] { 0.0, -0.0, Double.NaN }, doubles, 0);
+    }
+
+    @Test
+    public void primitiveSource_shouldIterateDistinctValues() {
+
+        // create source
+        final long[] source = new long[50000];
+        for (int i = 0; i < source.length; ++i) {
+            source[i] = (i * 7L) % 1000;
+        }
+
+        // use pipeline
+        LongIterator iterator = Pipeline.from(source)
+                .distinct()
+                .iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            assertEquals((count * 7L) % 1000, iterator.nextLong());
+            ++count;
+        }
+
+        // assert
+        assertEquals(1000, count);
+    }
+
+    // endregion
 }
@@ -0,0 +1,199 @@
+package com.nascentdigital.pipeline;
+
+import org.junit.Test;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+
+public class ElementAtTest extends PipelineTest {
+
+    // region helpers
+
+    /**
+     * A random access list of sequential integers that counts how often it is accessed.
+     */
+    private static class CountingList extends AbstractList<Integer> implements RandomAccess {
+
+        private final int _size;
+        int reads;
+
+        CountingList(int size) {
+            _size = size;
+        }
+
+        @Override
+        public Integer get(int index) {
+            ++reads;
+            return index;
+        }
+
+        @Override
+        public int size() {
+            return _size;
+        }
+    }
+
+    // endregion
+
+
+    // region elementAt
+
+    @Test
+    public void indexedSource_shouldReturnElement_whenInRange() {
+
+        // use pipeline
+        Integer value = Pipeline.from(numbers)
+                .map(i -> i * 10)
+                .elementAt(3);
+
+        // assert
+        assertEquals(Integer.valueOf(30), value);
+    }
+
+    @Test
+    public void unindexedSource_shouldReturnElement_whenInRange() {
+
+        // use pipeline
+        Integer value = Pipeline.from(new LinkedList<>(Arrays.asList(numbers)))
+                .where(i -> i > 0)
+                .elementAt(3);
+
+        // assert
+        assertEquals(Integer.valueOf(4), value);
+    }
+
+    @Test
+    public void indexedSource_shouldThrow_whenOutOfRange() {
+
+        // expect exception
+        exception.expect(NoElementFoundException.class);
+
+        // use pipeline
+        Pipeline.from(numbers)
+                .elementAt(numbers.length);
+    }
+
+    @Test
+    public void unindexedSource_shouldThrow_whenNegative() {
+
+        // expect exception
+        exception.expect(NoElementFoundException.class);
+
+        // use pipeline
+        Pipeline.from(numbers)
+                .where(i -> true)
+                .elementAt(-1);
+    }
+
+    @Test
+    public void anySource_shouldReturnNull_whenDefaultOutOfRange() {
+
+        // assert
+        assertNull(Pipeline.from(numbers).elementAtOrDefault(100));
+        assertNull(Pipeline.from(numbers).where(i -> true).elementAtOrDefault(100));
+    }
+
+    // endregion
+
+
+    // region last
+
+    @Test
+    public void anySource_shouldReturnLast() {
+
+        // assert
+        assertEquals(Integer.valueOf(5), Pipeline.from(numbers).last());
+        assertEquals(Integer.valueOf(4), Pipeline.from(numbers).where(i -> i < 5).last());
+        assertEquals("purple", Pipeline.from(Arrays.asList(colors)).last());
+    }
+
+    @Test
+    public void emptySource_shouldThrow_last() {
+
+        // expect exception
+        exception.expect(NoElementFoundException.class);
+
+        // use pipeline
+        Pipeline.from(new Integer[0])
+                .last();
+    }
+
+    @Test
+    public void emptySource_shouldReturnNull_lastOrDefault() {
+
+        // assert
+        assertNull(Pipeline.from(new Integer[0]).lastOrDefault());
+        assertNull(Pipeline.from(numbers).where(i -> i > 100).lastOrDefault());
+    }
+
+    // endregion
+
+
+    // region indexed partitions
+
+    @Test
+    public void indexedSource_shouldNotReadSkipped_whenPaginated() {
+
+        // create source
+        CountingList source = new CountingList(1000000);
+
+        // use pipeline
+        Integer[] page = Pipeline.from(source)
+                .skip(999990)
+                .take(5)
+                .toArray(Integer.class);
+
+        // assert
+        assertArrayEquals(new Integer[] { 999990, 999991, 999992, 999993, 999994 }, page);
+        assertEquals(5, source.reads);
+    }
+
+    @Test
+    public void indexedSource_shouldNotReadSkipped_whenIterated() {
+
+        // create source
+        CountingList source = new CountingList(1000);
+
+        // use pipeline
+        List<Integer> page = Pipeline.from(source)
+                .concat(new Integer[] { -1, -2 })
+                .skip(999)
+                .map(i -> i * 2)
+                .toList();
+        int last = 0;
+        for (Integer value : Pipeline.from(source).skip(998)) {
+            last = value;
+        }
+
+        // assert
+        assertEquals(Arrays.asList(1998, -2, -4), page);
+        assertEquals(999, last);
+        assertEquals(3, source.reads);
+    }
+
+    @Test
+    public void indexedSource_shouldNotRead_whenLast() {
+
+        // create source
+        CountingList source = new CountingList(1000);
+
+        // use pipeline
+        Integer value = Pipeline.from(source)
+                .take(500)
+                .last();
+
+        // assert
+        assertEquals(Integer.valueOf(499), value);
+        assertEquals(1, source.reads);
+    }
+
+    // endregion
+}
@@ -0,0 +1,126 @@
+package com.nascentdigital.pipeline;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+
+public class GroupAdjacentTest extends PipelineTest {
+
+    // region helpers
+
+    private static <TKey, TElement> void assertGrouping(TKey key, TElement[] elements,
+                                                        Grouping<TKey, TElement> grouping) {
+        List<TElement> actual = new ArrayList<>();
+        for (TElement element : grouping) {
+            actual.add(element);
+        }
+        assertEquals(key, grouping.key);
+        assertArrayEquals(elements, actual.toArray());
+    }
+
+    // endregion
+
+
+    // region empty source
+
+    @Test
+    public void emptySource_shouldBeEmpty() {
+
+        // use pipeline
+        List<Grouping<Integer, Pet>> groupings = Pipeline.from(new Pet[0])
+                .groupAdjacent(p -> p.age)
+                .toList();
+
+        // assert
+        assertEquals(0, groupings.size());
+    }
+
+    // endregion
+
+
+    // region many source
+
+    @Test
+    public void manySource_shouldGroupRuns() {
+
+        // create source
+        final String[] source = { "ant", "ape", "bee", "cat", "cow", "ant" };
+
+        // use pipeline
+        List<Grouping<Character, String>> groupings = Pipeline.from(source)
+                .groupAdjacent(s -> s.charAt(0))
+                .toList();
+
+        // assert
+        assertEquals(4, groupings.size());
+        assertGrouping('a', new String[] { "ant", "ape" }, groupings.get(0));
+        assertGrouping('b', new String[] { "bee" }, groupings.get(1));
+        assertGrouping('c', new String[] { "cat", "cow" }, groupings.get(2));
+        assertGrouping('a', new String[] { "ant" }, groupings.get(3));
+    }
+
+    @Test
+    public void manySource_shouldGroupNullKeys() {
+
+        // create source
+        final String[] source = { null, null, "a", null };
+
+        // use pipeline
+        List<Grouping<String, String>> groupings = Pipeline.from(source)
+                .groupAdjacent(s -> s)
+                .toList();
+
+        // assert
+        assertEquals(3, groupings.size());
+        assertGrouping(null, new String[] { null, null }, groupings.get(0));
+        assertGrouping("a", new String[] { "a" }, groupings.get(1));
+        assertGrouping(null, new String[] { null }, groupings.get(2));
+    }
+
+    @Test
+    public void manySource_shouldMatchIterator() {
+
+        // create source
+        final Integer[] source = { 1, 1, 2, 3, 3, 3 };
+
+        // use iterator
+        Iterator<Grouping<Integer, Integer>> iterator = Pipeline.from(source)
+                .groupAdjacent(n -> n)
+                .iterator();
+
+        // assert
+        assertGrouping(1, new Integer[] { 1, 1 }, iterator.next());
+        assertGrouping(2, new Integer[] { 2 }, iterator.next());
+        assertGrouping(3, new Integer[] { 3, 3, 3 }, iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void manySource_shouldYieldFirstGroup_beforeSourceIsExhausted() {
+
+        // track how many elements have been read from the source
+        final int[] read = { 0 };
+
+        // use pipeline
+        Grouping<Boolean, Integer> first = Pipeline.from(numbers)
+                .where(n -> {
+                    ++read[0];
+                    return true;
+                })
+                .groupAdjacent(n -> n < 2)
+                .first();
+
+        // assert
+        assertGrouping(true, new Integer[] { 0, 1 }, first);
+        assertEquals(3, read[0]);
+    }
+
+    // endregion
+}
@@ -0,0 +1,177 @@
+package com.nascentdigital.pipeline;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+
+public class GroupJoinTest extends PipelineTest {
+
+    // region helpers
+
+    private final Pet barley = new Pet("Barley", 8);
+    private final Pet boots = new Pet("Boots", 4);
+    private final Pet whiskers = new Pet("Whiskers", 1);
+    private final Pet daisy = new Pet("Daisy", 4);
+    private final Pet[] pets = { barley, boots, whiskers, daisy };
+
+    private static String names(Iterable<Pet> pets) {
+        StringBuilder names = new StringBuilder();
+        for (Pet pet : pets) {
+            if (names.length() > 0) {
+                names.append(",");
+            }
+            names.append(pet.name);
+        }
+        return names.toString();
+    }
+
+    // endregion
+
+
+    // region empty source
+
+    @Test
+    public void emptySource_shouldBeEmpty() {
+
+        // use pipeline
+        List<String> joined = Pipeline.from(new Integer[0])
+                .groupJoin(Arrays.asList(pets), a -> a, p -> p.age, (a, g) -> a + ":" + names(g))
+                .toList();
+
+        // assert
+        assertEquals(0, joined.size());
+    }
+
+    // endregion
+
+
+    // region groupJoin
+
+    @Test
+    public void groupJoin_shouldYieldGroupPerOuterElement_inOrder() {
+
+        // create source
+        final Integer[] ages = { 4, 2, 8, 1 };
+
+        // use pipeline
+        Pipeline<String> pipeline = Pipeline.from(ages)
+                .groupJoin(Arrays.asList(pets), a -> a, p -> p.age, (a, g) -> a + ":" + names(g));
+
+        // assert
+        List<String> expected = Arrays.asList("4:Boots,Daisy", "2:", "8:Barley", "1:Whiskers");
+        assertEquals(expected, pipeline.toList());
+        List<String> iterated = new ArrayList<>();
+        for (String result : pipeline) {
+            iterated.add(result);
+        }
+        assertEquals(expected, iterated);
+    }
+
+    @Test
+    public void groupJoin_shouldShareEmptyGroup_whenNoMatch() {
+
+        // use pipeline
+        List<Iterable<Pet>> groups = Pipeline.from(new Integer[] { 2, 3, 4 })
+                .groupJoin(Arrays.asList(pets), a -> a, p -> p.age, (a, g) -> g)
+                .toList();
+
+        // assert
+        assertSame(groups.get(0), groups.get(1));
+        assertEquals("Boots,Daisy", names(groups.get(2)));
+    }
+
+    @Test
+    public void groupJoin_shouldNeverMatchNullKeys() {
+
+        // create sources
+        final String[] outer = { "a", null };
+        final String[] inner = { "a", null, "b", null };
+
+        // use pipeline
+        List<Integer> counts = Pipeline.from(outer)
+                .groupJoin(Arrays.asList(inner), s -> s, s -> s,
+                        (o, g) -> Pipeline.from(g).count())
+                .toList();
+
+        // assert
+        assertEquals(Arrays.asList(1, 0), counts);
+    }
+
+    @Test
+    public void groupJoin_shouldIndexInnerOncePerEvaluation() {
+
+        // create source
+        final AtomicInteger extractions = new AtomicInteger();
+
+        // use pipeline
+        Pipeline.from(new Integer[] { 1, 4, 4, 8, 9 })
+                .groupJoin(Arrays.asList(pets), a -> a, p -> {
+                    extractions.incrementAndGet();
+                    return p.age;
+                }, (a, g) -> a)
+                .toList();
+
+        // assert
+        assertEquals(pets.length, extractions.get());
+    }
+
+    // endregion
+
+
+    // region parallelism
+
+    @Test
+    public void groupJoin_shouldMatchSequential_whenParallel() {
+
+        // create sources
+        Integer[] outer = new Integer[10000];
+        for (int i = 0; i < outer.length; ++i) {
+            outer[i] = i % 300;
+        }
+        Pet[] inner = new Pet[1000];
+        for (int i = 0; i < inner.length; ++i) {
+            inner[i] = new Pet("Pet" + i, i % 250);
+        }
+
+        // use pipelines
+        Pipeline<String> sequential = Pipeline.from(outer)
+                .groupJoin(Arrays.asList(inner), o -> o, p -> p.age, (o, g) -> o + names(g));
+        Pipeline<String> parallel = sequential.parallel(new ForkJoinPool(4));
+
+        // assert
+        assertEquals(sequential.toList(), parallel.toList());
+    }
+
+    @Test
+    public void groupJoin_shouldIndexInnerOnce_whenParallelOuterCantBeSplit() {
+
+        // create sources, where the outer sequence can't be split
+        final List<Integer> ages = Arrays.asList(4, 2, 8, 1);
+        final AtomicInteger reads = new AtomicInteger();
+        Pipeline<Pet> inner = Pipeline.from(pets).map(p -> {
+            reads.incrementAndGet();
+            return p;
+        });
+
+        // use pipeline
+        int count = Pipeline.from((Iterable<Integer>) ages::iterator)
+                .where(a -> a > 1)
+                .groupJoin(inner, a -> a, p -> p.age, (a, g) -> a + ":" + names(g))
+                .parallel(new ForkJoinPool(4))
+                .count();
+
+        // assert
+        assertEquals(3, count);
+        assertEquals(pets.length, reads.get());
+    }
+
+    // endregion
+}
@@ -0,0 +1,138 @@
+package com.nascentdigital.pipeline;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+public class HyperLogLogTest extends PipelineTest {
+
+    // region helpers
+
+    private static Integer[] repeat(int distinctCount, int repetitions) {
+        Integer[] values = new Integer[distinctCount * repetitions];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = (int) ((i * 7919L) % distinctCount);
+        }
+        return values;
+    }
+
+    private static void assertWithin(long expected, long actual, double error) {
+        assertTrue("expected " + expected + " but was " + actual,
+                Math.abs(actual - expected) <= expected * error);
+    }
+
+    // endregion
+
+
+    // region countDistinctApprox
+
+    @Test
+    public void emptySource_shouldReturnZero() {
+
+        // use pipeline
+        long count = Pipeline.from(new Integer[0])
+                .countDistinctApprox(i -> i);
+
+        // assert
+        assertEquals(0, count);
+    }
+
+    @Test
+    public void smallSource_shouldReturnExactCount() {
+
+        // use pipeline
+        long count = Pipeline.from(colors)
+                .concat(colors)
+                .countDistinctApprox(c -> c);
+
+        // assert
+        assertEquals(colors.length, count);
+    }
+
+    @Test
+    public void largeSource_shouldEstimateCount() {
+
+        // use pipeline
+        long count = Pipeline.from(repeat(200000, 3))
+                .countDistinctApprox(i -> i);
+
+        // assert (standard error is 0.81%, so 3% is ~4 standard deviations)
+        assertWithin(200000, count, 0.03);
+    }
+
+    @Test
+    public void largeSource_shouldEstimateCount_whenLowPrecision() {
+
+        // use pipeline
+        long count = Pipeline.from(repeat(50000, 2))
+                .countDistinctApprox(i -> "key" + i, HyperLogLog.MIN_PRECISION + 6);
+
+        // assert (standard error is 3.25%)
+        assertWithin(50000, count, 0.15);
+    }
+
+    @Test
+    public void parallel_shouldMatchSequential() {
+
+        // create source
+        final Integer[] source = repeat(100000, 2);
+
+        // use pipeline
+        long sequential = Pipeline.from(source)
+                .countDistinctApprox(i -> i);
+        long parallel = Pipeline.from(source)
+                .parallel()
+                .countDistinctApprox(i -> i);
+
+        // assert (merged sketches are identical to a single sketch)
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    public void precision_shouldThrow_whenOutOfRange() {
+
+        // expect exception
+        exception.expect(IllegalArgumentException.class);
+
+        // use pipeline
+        Pipeline.from(numbers).countDistinctApprox(i -> i, HyperLogLog.MAX_PRECISION + 1);
+    }
+
+    // endregion
+
+
+    // region merge
+
+    @Test
+    public void merge_shouldEstimateUnion() {
+
+        // create sketches of overlapping ranges
+        final Integer[] source = repeat(60000, 1);
+        HyperLogLog left = Pipeline.from(source)
+                .take(40000)
+                .toHyperLogLog(i -> i, HyperLogLog.DEFAULT_PRECISION);
+        HyperLogLog right = Pipeline.from(source)
+                .skip(20000)
+                .toHyperLogLog(i -> i, HyperLogLog.DEFAULT_PRECISION);
+
+        // merge sketches
+        left.merge(right);
+
+        // assert
+        assertWithin(60000, left.estimate(), 0.03);
+    }
+
+    @Test
+    public void merge_shouldThrow_whenPrecisionsDiffer() {
+
+        // expect exception
+        exception.expect(IllegalArgumentException.class);
+
+        // merge sketches
+        new HyperLogLog(10).merge(new HyperLogLog(12));
+    }
+
+    // endregion
+}
@@ -0,0 +1,301 @@
+package com.nascentdigital.pipeline;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+
+public class JoinTest extends PipelineTest {
+
+    // region helpers
+
+    private final Pet barley = new Pet("Barley", 8);
+    private final Pet boots = new Pet("Boots", 4);
+    private final Pet whiskers = new Pet("Whiskers", 1);
+    private final Pet daisy = new Pet("Daisy", 4);
+    private final Pet[] pets = { barley, boots, whiskers, daisy };
+
+    private static <T> List<T> toList(Iterable<T> elements) {
+        List<T> list = new ArrayList<>();
+        for (T element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    // endregion
+
+
+    // region empty source
+
+    @Test
+    public void emptySource_shouldBeEmpty() {
+
+        // use pipelines
+        List<String> emptyOuter = Pipeline.from(new Pet[0])
+                .join(Arrays.asList(pets), p -> p.age, p -> p.age, (o, i) -> o.name + i.name)
+                .toList();
+        List<String> emptyInner = Pipeline.from(pets)
+                .join(Collections.<Pet>emptyList(), p -> p.age, p -> p.age,
+                        (o, i) -> o.name + i.name)
+                .toList();
+        List<String> leftEmptyInner = Pipeline.from(pets)
+                .leftJoin(Collections.<Pet>emptyList(), p -> p.age, p -> p.age,
+                        (o, i) -> o.name + ":" + (i == null ? "-" : i.name))
+                .toList();
+
+        // assert
+        assertEquals(0, emptyOuter.size());
+        assertEquals(0, emptyInner.size());
+        assertEquals(Arrays.asList("Barley:-", "Boots:-", "Whiskers:-", "Daisy:-"),
+                leftEmptyInner);
+    }
+
+    // endregion
+
+
+    // region join
+
+    @Test
+    public void join_shouldMatchKeys_inOuterThenInnerOrder() {
+
+        // create source
+        final Integer[] ages = { 4, 2, 8, 4 };
+
+        // use pipeline
+        Pipeline<String> pipeline = Pipeline.from(ages)
+                .join(Arrays.asList(pets), a -> a, p -> p.age, (a, p) -> a + ":" + p.name);
+
+        // assert
+        List<String> expected = Arrays.asList(
+                "4:Boots", "4:Daisy", "8:Barley", "4:Boots", "4:Daisy");
+        assertEquals(expected, pipeline.toList());
+        assertEquals(expected, toList(pipeline));
+    }
+
+    @Test
+    public void join_shouldKeepOuterOrder_whenOuterIsSmaller() {
+
+        // create sources, where only the outer sequence is small
+        final Integer[] ages = { 8, 1, 4 };
+        Pet[] inner = new Pet[100];
+        for (int i = 0; i < inner.length; ++i) {
+            inner[i] = new Pet("Pet" + i, i % 10 == 0 ? 4 : 100 + i);
+        }
+
+        // use pipeline
+        Pipeline<String> pipeline = Pipeline.from(ages)
+                .join(Pipeline.from(inner), a -> a, p -> p.age, (a, p) -> a + ":" + p.name);
+
+        // assert
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < inner.length; i += 10) {
+            expected.add("4:Pet" + i);
+        }
+        assertEquals(expected, pipeline.toList());
+        assertEquals(expected, toList(pipeline));
+    }
+
+    @Test
+    public void join_shouldNeverMatchNullKeys() {
+
+        // create sources
+        final String[] outer = { "a", null, "b" };
+        final String[] inner = { null, "b", "a", null };
+
+        // use pipeline
+        List<String> joined = Pipeline.from(outer)
+                .join(Arrays.asList(inner), s -> s, s -> s, (o, i) -> o + i)
+                .toList();
+        List<String> leftJoined = Pipeline.from(outer)
+                .leftJoin(Arrays.asList(inner), s -> s, s -> s, (o, i) -> o + "=" + i)
+                .toList();
+
+        // assert
+        assertEquals(Arrays.asList("aa", "bb"), joined);
+        assertEquals(Arrays.asList("a=a", "null=null", "b=b"), leftJoined);
+    }
+
+    @Test
+    public void join_shouldStop_whenSinkIsDone() {
+
+        // use pipeline
+        List<String> joined = Pipeline.from(new Integer[] { 4, 4, 8 })
+                .join(Arrays.asList(pets), a -> a, p -> p.age, (a, p) -> p.name)
+                .take(3)
+                .toList();
+
+        // assert
+        assertEquals(Arrays.asList("Boots", "Daisy", "Boots"), joined);
+    }
+
+    @Test
+    public void join_shouldThrow_whenInnerIsNull() {
+
+        // expect exception
+        exception.expect(IllegalArgumentException.class);
+
+        // use pipeline
+        Pipeline.from(pets).join(null, p -> p.age, (Pet p) -> p.age, (o, i) -> o);
+    }
+
+    // endregion
+
+
+    // region leftJoin
+
+    @Test
+    public void leftJoin_shouldYieldUnmatchedElements_withNullInner() {
+
+        // create source
+        final Integer[] ages = { 1, 2, 4 };
+
+        // use pipeline
+        Pipeline<String> pipeline = Pipeline.from(ages)
+                .leftJoin(Arrays.asList(pets), a -> a, p -> p.age,
+                        (a, p) -> a + ":" + (p == null ? "-" : p.name));
+
+        // assert
+        List<String> expected = Arrays.asList("1:Whiskers", "2:-", "4:Boots", "4:Daisy");
+        assertEquals(expected, pipeline.toList());
+        assertEquals(expected, toList(pipeline));
+    }
+
+    // endregion
+
+
+    // region primitive keys
+
+    @Test
+    public void joinByPrimitive_shouldMatchUnboxedKeys() {
+
+        // create sources, including zero and negative keys
+        final int[] outer = { 0, -3, 7, Integer.MIN_VALUE, 5 };
+        final int[] inner = { 7, 0, Integer.MIN_VALUE, -3, 0, 9 };
+        Iterable<Integer> innerValues = Pipeline.from(inner).boxed();
+
+        // use pipelines
+        List<String> byInt = Pipeline.from(outer).boxed()
+                .joinByInt(innerValues, o -> o, i -> i, (o, i) -> o + "=" + i)
+                .toList();
+        List<String> byLong = Pipeline.from(outer).boxed()
+                .joinByLong(innerValues, o -> o * 1000000000000L, i -> i * 1000000000000L,
+                        (o, i) -> o + "=" + i)
+                .toList();
+        List<String> leftByInt = Pipeline.from(outer).boxed()
+                .leftJoinByInt(innerValues, o -> o, i -> i, (o, i) -> o + "=" + i)
+                .toList();
+        List<String> leftByLong = Pipeline.from(outer).boxed()
+                .leftJoinByLong(innerValues, o -> (long) o, i -> (long) i, (o, i) -> o + "=" + i)
+                .toList();
+
+        // assert
+        List<String> expected = Arrays.asList("0=0", "0=0", "-3=-3", "7=7",
+                Integer.MIN_VALUE + "=" + Integer.MIN_VALUE);
+        List<String> expectedLeft = new ArrayList<>(expected);
+        expectedLeft.add("5=null");
+        assertEquals(expected, byInt);
+        assertEquals(expected, byLong);
+        assertEquals(expectedLeft, leftByInt);
+        assertEquals(expectedLeft, leftByLong);
+    }
+
+    // endregion
+
+
+    // region parallelism
+
+    @Test
+    public void join_shouldMatchSequential_whenParallel() {
+
+        // create sources
+        Integer[] outer = new Integer[10000];
+        for (int i = 0; i < outer.length; ++i) {
+            outer[i] = i % 500;
+        }
+        Pet[] inner = new Pet[1000];
+        for (int i = 0; i < inner.length; ++i) {
+            inner[i] = new Pet("Pet" + i, i % 250);
+        }
+
+        // use pipelines
+        Pipeline<String> sequential = Pipeline.from(outer)
+                .joinByInt(Arrays.asList(inner), o -> o, p -> p.age, (o, p) -> o + p.name);
+        Pipeline<String> parallel = sequential.parallel(new ForkJoinPool(4));
+
+        // assert
+        List<String> expected = sequential.toList();
+        assertEquals(20000, expected.size());
+        assertEquals(expected, parallel.toList());
+        assertEquals(sequential.count(), parallel.count());
+    }
+
+    @Test
+    public void join_shouldSelectOuterKeysOnce_whenOuterIsSmaller() {
+
+        // create sources, where the outer sequence is smaller and only some of its keys match
+        Integer[] outer = new Integer[1000];
+        for (int i = 0; i < outer.length; ++i) {
+            outer[i] = i % 300;
+        }
+        Integer[] inner = new Integer[2000];
+        for (int i = 0; i < inner.length; ++i) {
+            inner[i] = i % 200;
+        }
+        final AtomicInteger selections = new AtomicInteger();
+        Pipeline<String> sequential = Pipeline.from(outer)
+                .leftJoinByInt(Arrays.asList(inner), o -> {
+                    selections.incrementAndGet();
+                    return o;
+                }, i -> i, (o, i) -> o + "=" + i);
+
+        // use pipelines
+        List<String> results = new ArrayList<>();
+        for (String result : sequential) {
+            results.add(result);
+        }
+        int iterated = selections.getAndSet(0);
+        int count = sequential.parallel(new ForkJoinPool(4)).count();
+        int counted = selections.get();
+
+        // assert
+        assertEquals(7300, results.size());
+        assertEquals("0=0", results.get(0));
+        assertEquals("200=null", results.get(2000));
+        assertEquals(results.size(), count);
+        assertEquals(outer.length, iterated);
+        assertEquals(outer.length, counted);
+    }
+
+    @Test
+    public void join_shouldReadInnerOnce_whenParallelOuterCantBeSplit() {
+
+        // create sources, where the outer sequence can't be split
+        final List<Integer> ages = Arrays.asList(4, 2, 8, 4);
+        final AtomicInteger reads = new AtomicInteger();
+        Pipeline<Pet> inner = Pipeline.from(pets).map(p -> {
+            reads.incrementAndGet();
+            return p;
+        });
+
+        // use pipeline
+        int count = Pipeline.from((Iterable<Integer>) ages::iterator)
+                .where(a -> a > 2)
+                .join(inner, a -> a, p -> p.age, (a, p) -> a + ":" + p.name)
+                .parallel(new ForkJoinPool(4))
+                .count();
+
+        // assert
+        assertEquals(5, count);
+        assertEquals(pets.length, reads.get());
+    }
+
+    // endregion
+}
@@ -0,0 +1,177 @@
+package com.nascentdigital.pipeline;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+
+public class MergeJoinTest extends PipelineTest {
+
+    // region helpers
+
+    private static <T> List<T> toList(Iterable<T> elements) {
+        List<T> list = new ArrayList<>();
+        for (T element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    /**
+     * Returns an endless sequence of ascending values, counting how many have been read.
+     */
+    private static Iterable<Integer> ascending(final AtomicInteger reads) {
+        return () -> new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return reads.getAndIncrement();
+            }
+        };
+    }
+
+    // endregion
+
+
+    // region empty source
+
+    @Test
+    public void emptySource_shouldBeEmpty() {
+
+        // use pipelines
+        List<String> emptyOuter = Pipeline.from(new Integer[0])
+                .mergeJoin(Arrays.asList(1, 2), o -> o, i -> i, (o, i) -> o + "=" + i)
+                .toList();
+        List<String> emptyInner = Pipeline.from(new Integer[] { 1, 2 })
+                .mergeJoin(Collections.<Integer>emptyList(), o -> o, i -> i,
+                        (o, i) -> o + "=" + i)
+                .toList();
+
+        // assert
+        assertEquals(0, emptyOuter.size());
+        assertEquals(0, emptyInner.size());
+    }
+
+    // endregion
+
+
+    // region mergeJoin
+
+    @Test
+    public void mergeJoin_shouldMatchRunsOfEqualKeys() {
+
+        // create sources, sorted by key
+        final String[] outer = { "a1", "b1", "b2", "c1", "e1" };
+        final String[] inner = { "a", "b", "b", "d", "e", "e", "f" };
+
+        // use pipeline
+        Pipeline<String> pipeline = Pipeline.from(outer)
+                .mergeJoin(Arrays.asList(inner), o -> o.substring(0, 1), i -> i,
+                        (o, i) -> o + "=" + i);
+
+        // assert
+        List<String> expected = Arrays.asList(
+                "a1=a", "b1=b", "b1=b", "b2=b", "b2=b", "e1=e", "e1=e");
+        assertEquals(expected, pipeline.toList());
+        assertEquals(expected, toList(pipeline));
+    }
+
+    @Test
+    public void mergeJoin_shouldUseComparator() {
+
+        // create sources, sorted in descending order
+        final Integer[] outer = { 9, 7, 7, 3 };
+        final Integer[] inner = { 8, 7, 3, 3, 1 };
+
+        // use pipeline
+        List<String> joined = Pipeline.from(outer)
+                .mergeJoin(Arrays.asList(inner), o -> o, i -> i, Comparator.reverseOrder(),
+                        (o, i) -> o + "=" + i)
+                .toList();
+
+        // assert
+        assertEquals(Arrays.asList("7=7", "7=7", "3=3", "3=3"), joined);
+    }
+
+    @Test
+    public void mergeJoin_shouldNeverMatchNullKeys() {
+
+        // create sources, with null keys first
+        final String[] outer = { null, "a", "b" };
+        final String[] inner = { null, null, "b" };
+
+        // use pipeline
+        List<String> joined = Pipeline.from(outer)
+                .mergeJoin(Arrays.asList(inner), o -> o, i -> i, (o, i) -> o + "=" + i)
+                .toList();
+
+        // assert
+        assertEquals(Collections.singletonList("b=b"), joined);
+    }
+
+    @Test
+    public void mergeJoin_shouldOnlyReadInnerAsFarAsNeeded() {
+
+        // create sources, where the inner sequence never ends
+        final AtomicInteger reads = new AtomicInteger();
+        final Integer[] outer = { 2, 5, 5, 9 };
+
+        // use pipeline
+        List<String> joined = Pipeline.from(outer)
+                .mergeJoin(ascending(reads), o -> o, i -> i, (o, i) -> o + "=" + i)
+                .toList();
+
+        // assert
+        assertEquals(Arrays.asList("2=2", "5=5", "5=5", "9=9"), joined);
+        assertEquals(11, reads.get());
+    }
+
+    @Test
+    public void mergeJoin_shouldThrow_whenOuterIsNotSorted() {
+
+        // expect exception
+        exception.expect(IllegalStateException.class);
+
+        // use pipeline
+        Pipeline.from(new Integer[] { 1, 3, 2 })
+                .mergeJoin(Arrays.asList(1, 2, 3), o -> o, i -> i, (o, i) -> o)
+                .toList();
+    }
+
+    @Test
+    public void mergeJoin_shouldThrow_whenInnerIsNotSorted() {
+
+        // expect exception
+        exception.expect(IllegalStateException.class);
+
+        // use pipeline
+        Pipeline.from(new Integer[] { 1, 2, 3 })
+                .mergeJoin(Arrays.asList(1, 3, 2), o -> o, i -> i, (o, i) -> o)
+                .toList();
+    }
+
+    @Test
+    public void mergeJoin_shouldThrow_whenComparatorIsNull() {
+
+        // expect exception
+        exception.expect(IllegalArgumentException.class);
+
+        // use pipeline
+        Pipeline.from(new Integer[] { 1 })
+                .mergeJoin(Arrays.asList(1), o -> o, i -> i, null, (Integer o, Integer i) -> o);
+    }
+
+    // endregion
+}
@@ -0,0 +1,364 @@
+package com.nascentdigital.pipeline;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+
+public class OrderByTest extends PipelineTest {
+
+    // region helpers
+
+    private final Pet barley = new Pet("Barley", 8);
+    private final Pet boots = new Pet("Boots", 4);
+    private final Pet whiskers = new Pet("Whiskers", 1);
+    private final Pet daisy = new Pet("Daisy", 4);
+    private final Pet[] pets = { barley, boots, whiskers, daisy };
+
+    // endregion
+
+
+    // region empty source
+
+    @Test
+    public void emptySource_shouldBeEmpty() {
+
+        // use pipeline
+        List<Pet> sorted = Pipeline.from(new Pet[0])
+                .orderBy(p -> p.name)
+                .toList();
+
+        // assert
+        assertEquals(0, sorted.size());
+    }
+
+    // endregion
+
+
+    // region orderBy
+
+    @Test
+    public void orderBy_shouldSortAscending_andStably() {
+
+        // use pipeline
+        Pet[] sorted = Pipeline.from(pets)
+                .orderBy(p -> p.age)
+                .toArray(Pet.class);
+
+        // assert
+        assertArrayEquals(new Pet[] { whiskers, boots, daisy, barley }, sorted);
+    }
+
+    @Test
+    public void orderByDescending_shouldSortDescending_andStably() {
+
+        // use pipeline
+        Pet[] sorted = Pipeline.from(pets)
+                .orderByDescending(p -> p.age)
+                .toArray(Pet.class);
+
+        // assert
+        assertArrayEquals(new Pet[] { barley, boots, daisy, whiskers }, sorted);
+    }
+
+    @Test
+    public void orderBy_shouldPlaceNullKeysFirst() {
+
+        // use pipeline
+        String[] sorted = Pipeline.from(new String[] { "b", null, "a", null })
+                .orderBy(s -> s)
+                .toArray(String.class);
+        String[] descending = Pipeline.from(new String[] { "b", null, "a" })
+                .orderByDescending(s -> s)
+                .toArray(String.class);
+
+        // assert
+        assertArrayEquals(new String[] { null, null, "a", "b" }, sorted);
+        assertArrayEquals(new String[] { "b", "a", null }, descending);
+    }
+
+    @Test
+    public void orderBy_shouldUseComparator() {
+
+        // use pipeline
+        Pet[] sorted = Pipeline.from(pets)
+                .orderBy(p -> p.name, Comparator.comparing(String::length))
+                .toArray(Pet.class);
+        Pet[] descending = Pipeline.from(pets)
+                .orderByDescending(p -> p.name, Comparator.comparing(String::length))
+                .toArray(Pet.class);
+
+        // assert
+        assertArrayEquals(new Pet[] { boots, daisy, barley, whiskers }, sorted);
+        assertArrayEquals(new Pet[] { whiskers, barley, boots, daisy }, descending);
+    }
+
+    @Test
+    public void orderBy_shouldExtractKeysOncePerElement() {
+
+        // count key extractions
+        final AtomicInteger extractions = new AtomicInteger();
+        final Integer[] source = new Integer[1000];
+        for (int i = 0; i < source.length; ++i) {
+            source[i] = (i * 7919) % 1000;
+        }
+
+        // use pipeline
+        Pipeline.from(source)
+                .orderBy(n -> {
+                    extractions.incrementAndGet();
+                    return n;
+                })
+                .toList();
+
+        // assert
+        assertEquals(source.length, extractions.get());
+    }
+
+    @Test
+    public void orderBy_shouldMatchCollectionsSort_whenLarge() {
+
+        // create source with many duplicate keys
+        Random random = new Random(42);
+        Pet[] source = new Pet[5000];
+        for (int i = 0; i < source.length; ++i) {
+            source[i] = new Pet("Pet" + i, random.nextInt(100));
+        }
+        List<Pet> expected = new ArrayList<>(Arrays.asList(source));
+        Collections.sort(expected, (left, right) -> Integer.compare(left.age, right.age));
+
+        // use pipeline
+        List<Pet> sorted = Pipeline.from(source)
+                .orderBy(p -> p.age)
+                .toList();
+        List<Pet> sortedByInt = Pipeline.from(source)
+                .orderByInt(p -> p.age)
+                .toList();
+
+        // assert
+        assertEquals(expected, sorted);
+        assertEquals(expected, sortedByInt);
+    }
+
+    @Test
+    public void orderBy_shouldSortStablyInParallel_whenLarge() {
+
+        // create source with many duplicate keys, whose second half is already sorted
+        Random random = new Random(42);
+        Pet[] source = new Pet[100000];
+        for (int i = 0; i < source.length; ++i) {
+            source[i] = new Pet("Pet" + i, i < source.length / 2 ? random.nextInt(500) : i);
+        }
+        Comparator<Pet> byAge = (left, right) -> Integer.compare(left.age, right.age);
+        List<Pet> expected = new ArrayList<>(Arrays.asList(source));
+        Collections.sort(expected, byAge.reversed());
+        List<Pet> expectedThenBy = new ArrayList<>(Arrays.asList(source));
+        Collections.sort(expectedThenBy, Comparator.comparing((Pet p) -> p.age % 7)
+                .thenComparing(byAge));
+
+        // use pipelines
+        Pipeline<Pet> pipeline = Pipeline.from(source)
+                .parallel(new ForkJoinPool(4))
+                .orderByDescending(p -> p.age);
+        List<Pet> sorted = pipeline.toList();
+        List<Pet> iterated = new ArrayList<>();
+        for (Pet pet : pipeline) {
+            iterated.add(pet);
+        }
+        List<Pet> sortedThenBy = Pipeline.from(source)
+                .parallel(new ForkJoinPool(4))
+                .orderByInt(p -> p.age % 7)
+                .thenBy(p -> p.age)
+                .toList();
+
+        // assert
+        assertEquals(expected, sorted);
+        assertEquals(expected, iterated);
+        assertEquals(expectedThenBy, sortedThenBy);
+    }
+
+    @Test
+    public void orderBy_shouldReevaluateSource() {
+
+        // create source
+        final List<Integer> source = new ArrayList<>(Arrays.asList(3, 1, 2));
+        Pipeline<Integer> pipeline = Pipeline.from(source)
+                .orderBy(n -> n);
+
+        // use pipeline, then change source and use it again
+        List<Integer> first = pipeline.toList();
+        source.add(0);
+        List<Integer> second = pipeline.toList();
+
+        // assert
+        assertEquals(Arrays.asList(1, 2, 3), first);
+        assertEquals(Arrays.asList(0, 1, 2, 3), second);
+    }
+
+    @Test
+    public void orderBy_shouldIterateAndEvaluateInParallel() {
+
+        // use pipelines
+        Pipeline<Integer> pipeline = Pipeline.from(new Integer[] { 5, 3, 9, 1, 7 })
+                .orderBy(n -> n);
+        List<Integer> iterated = new ArrayList<>();
+        for (Integer value : pipeline) {
+            iterated.add(value);
+        }
+        int sum = pipeline.parallel(new ForkJoinPool(2))
+                .reduce((total, n) -> total * 10 + n, 0, (left, right) -> {
+                    int scale = 1;
+                    while (scale <= right) {
+                        scale *= 10;
+                    }
+                    return left * scale + right;
+                });
+
+        // assert
+        assertEquals(Arrays.asList(1, 3, 5, 7, 9), iterated);
+        assertEquals(13579, sum);
+    }
+
+    // endregion
+
+
+    // region primitive keys
+
+    @Test
+    public void orderByPrimitive_shouldSortUnboxedKeys() {
+
+        // create source
+        final Integer[] source = { 3, -1, 2, Integer.MIN_VALUE, Integer.MAX_VALUE };
+
+        // use pipelines
+        Integer[] byInt = Pipeline.from(source)
+                .orderByInt(n -> n)
+                .toArray(Integer.class);
+        Integer[] byIntDescending = Pipeline.from(source)
+                .orderByIntDescending(n -> n)
+                .toArray(Integer.class);
+        Integer[] byLong = Pipeline.from(source)
+                .orderByLong(n -> -(long) n)
+                .toArray(Integer.class);
+        Integer[] byLongDescending = Pipeline.from(source)
+                .orderByLongDescending(n -> -(long) n)
+                .toArray(Integer.class);
+        Integer[] byDouble = Pipeline.from(source)
+                .orderByDouble(n -> n / 2.0)
+                .toArray(Integer.class);
+        Integer[] byDoubleDescending = Pipeline.from(source)
+                .orderByDoubleDescending(n -> n / 2.0)
+                .toArray(Integer.class);
+
+        // assert
+        Integer[] ascending = { Integer.MIN_VALUE, -1, 2, 3, Integer.MAX_VALUE };
+        Integer[] descending = { Integer.MAX_VALUE, 3, 2, -1, Integer.MIN_VALUE };
+        assertArrayEquals(ascending, byInt);
+        assertArrayEquals(descending, byIntDescending);
+        assertArrayEquals(descending, byLong);
+        assertArrayEquals(ascending, byLongDescending);
+        assertArrayEquals(ascending, byDouble);
+        assertArrayEquals(descending, byDoubleDescending);
+    }
+
+    @Test
+    public void orderByPrimitive_shouldMatchCollectionsSort_whenLarge() {
+
+        // create source with many duplicate keys, and large enough to be sorted in parallel
+        Random random = new Random(42);
+        Pet[] source = new Pet[100000];
+        for (int i = 0; i < source.length; ++i) {
+            source[i] = new Pet("Pet" + i, random.nextInt(2000) - 1000);
+        }
+        List<Pet> ascending = new ArrayList<>(Arrays.asList(source));
+        Collections.sort(ascending, (left, right) -> Integer.compare(left.age, right.age));
+        List<Pet> descending = new ArrayList<>(Arrays.asList(source));
+        Collections.sort(descending, (left, right) -> Integer.compare(right.age, left.age));
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        // use pipelines
+        List<Pet> byInt = Pipeline.from(source)
+                .orderByInt(p -> p.age)
+                .toList();
+        List<Pet> byIntInParallel = Pipeline.from(source)
+                .parallel(pool)
+                .orderByInt(p -> p.age)
+                .toList();
+        List<Pet> byLongDescending = Pipeline.from(source)
+                .orderByLongDescending(p -> p.age * 1000000000L)
+                .toList();
+        List<Pet> byDoubleInParallel = Pipeline.from(source)
+                .parallel(pool)
+                .orderByDouble(p -> p.age == 0 ? -0.0 : p.age / 3.0)
+                .toList();
+
+        // assert
+        assertEquals(ascending, byInt);
+        assertEquals(ascending, byIntInParallel);
+        assertEquals(descending, byLongDescending);
+        assertEquals(ascending, byDoubleInParallel);
+    }
+
+    // endregion
+
+
+    // region thenBy
+
+    @Test
+    public void thenBy_shouldOrderEqualKeys() {
+
+        // use pipelines
+        Pet[] ascending = Pipeline.from(pets)
+                .orderByInt(p -> p.age)
+                .thenByDescending(p -> p.name)
+                .toArray(Pet.class);
+        Pet[] byLength = Pipeline.from(pets)
+                .orderBy(p -> p.name.length())
+                .thenBy(p -> p.age)
+                .thenBy(p -> p.name, Comparator.reverseOrder())
+                .toArray(Pet.class);
+
+        // assert
+        assertArrayEquals(new Pet[] { whiskers, daisy, boots, barley }, ascending);
+        assertArrayEquals(new Pet[] { daisy, boots, barley, whiskers }, byLength);
+    }
+
+    @Test
+    public void thenBy_shouldThrow_whenNotOrdered() {
+
+        // expect exception
+        exception.expect(IllegalStateException.class);
+
+        // use pipeline
+        Pipeline.from(pets)
+                .orderBy(p -> p.age)
+                .where(p -> p.age > 1)
+                .thenBy(p -> p.name);
+    }
+
+    @Test
+    public void thenBy_shouldNotChangeOriginalOrdering() {
+
+        // use pipelines
+        Pipeline<Pet> byAge = Pipeline.from(pets)
+                .orderBy(p -> p.age);
+        Pipeline<Pet> byAgeThenName = byAge.thenByDescending(p -> p.name);
+
+        // assert
+        assertSame(boots, byAge.toList().get(1));
+        assertSame(daisy, byAgeThenName.toList().get(1));
+    }
+
+    // endregion
+}
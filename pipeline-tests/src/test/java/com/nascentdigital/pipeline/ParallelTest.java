@@ -0,0 +1,256 @@
+package com.nascentdigital.pipeline;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+
+public class ParallelTest extends PipelineTest {
+
+    // region helpers
+
+    private static Integer[] range(int count) {
+        Integer[] values = new Integer[count];
+        for (int i = 0; i < count; ++i) {
+            values[i] = i;
+        }
+        return values;
+    }
+
+    private static <T> List<T> toList(Iterable<T> elements) {
+        List<T> list = new ArrayList<>();
+        for (T element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    // endregion
+
+
+    // region mode
+
+    @Test
+    public void pipeline_shouldSwitchMode() {
+
+        // create pipelines
+        Pipeline<Integer> sequential = Pipeline.from(numbers);
+        Pipeline<Integer> parallel = sequential.parallel();
+
+        // assert
+        assertFalse(sequential.isParallel());
+        assertTrue(parallel.isParallel());
+        assertTrue(parallel.where(i -> true).map(i -> i).isParallel());
+        assertFalse(parallel.sequential().isParallel());
+        assertSame(sequential, sequential.sequential());
+    }
+
+    @Test
+    public void pipeline_shouldThrow_whenPoolIsNull() {
+
+        // expect exception
+        exception.expect(IllegalArgumentException.class);
+
+        // use pipeline
+        Pipeline.from(numbers).parallel(null);
+    }
+
+    // endregion
+
+
+    // region aggregation
+
+    @Test
+    public void indexedSource_shouldMatchSequential_whenAggregated() {
+
+        // create source
+        final Integer[] source = range(100000);
+        Pipeline<Integer> sequential = Pipeline.from(source)
+                .where(i -> i % 3 != 0)
+                .map(i -> i - 50000);
+        Pipeline<Integer> parallel = Pipeline.from(source)
+                .parallel()
+                .where(i -> i % 3 != 0)
+                .map(i -> i - 50000);
+
+        // assert
+        assertEquals(sequential.count(), parallel.count());
+        assertEquals(sequential.count(i -> i > 0), parallel.count(i -> i > 0));
+        assertEquals(sequential.sumLongs(i -> i), parallel.sumLongs(i -> i));
+        assertEquals(sequential.sumInts(i -> i), parallel.sumInts(i -> i));
+        assertEquals(sequential.minInteger(i -> i), parallel.minInteger(i -> i));
+        assertEquals(sequential.maxInteger(i -> i), parallel.maxInteger(i -> i));
+        assertEquals(sequential.minLong(i -> (long)i), parallel.minLong(i -> (long)i));
+        assertTrue(parallel.any(i -> i == 49998));
+        assertFalse(parallel.any(i -> i == 49999));
+        assertTrue(parallel.all(i -> i > -50000));
+        assertFalse(parallel.all(i -> i < 49998));
+        assertTrue(parallel.contains(-49999));
+        assertFalse(parallel.contains(-50000));
+    }
+
+    @Test
+    public void listSource_shouldMatchSequential_whenFlattened() {
+
+        // create source
+        List<Integer> source = new ArrayList<>(Arrays.asList(range(10000)));
+
+        // create pipeline
+        Pipeline<Object> pipeline = Pipeline.from(source)
+                .parallel(new ForkJoinPool(3))
+                .flatMap(i -> Arrays.asList(i, -i))
+                .cast(Object.class);
+
+        // assert
+        assertEquals(20000, pipeline.count());
+        assertEquals(0L, pipeline.sumLongs(i -> (Integer)i));
+        assertEquals(Integer.valueOf(-9999), pipeline.minInteger(i -> (Integer)i));
+    }
+
+    @Test
+    public void emptySource_shouldReturnDefaults_whenParallel() {
+
+        // create pipeline
+        Pipeline<Integer> pipeline = Pipeline.from(new Integer[0])
+                .parallel()
+                .where(i -> true);
+
+        // assert
+        assertEquals(0, pipeline.count());
+        assertEquals(0L, pipeline.sumLongs(i -> i));
+        assertNull(pipeline.maxInteger(i -> i));
+        assertFalse(pipeline.any(i -> true));
+        assertTrue(pipeline.all(i -> false));
+    }
+
+    @Test
+    public void nullValues_shouldBeIgnored_whenParallelMinimum() {
+
+        // create source with only one non-null value
+        Integer[] source = new Integer[1000];
+        source[731] = 42;
+
+        // use pipeline
+        Integer minimum = Pipeline.from(source)
+                .parallel()
+                .minInteger(i -> i);
+
+        // assert
+        assertEquals(Integer.valueOf(42), minimum);
+    }
+
+    // endregion
+
+
+    // region threading
+
+    @Test
+    public void indexedSource_shouldEvaluateOnPool() {
+
+        // count evaluations off the pool
+        final AtomicInteger offPool = new AtomicInteger();
+
+        // use pipeline
+        int count = Pipeline.from(range(10000))
+                .parallel(new ForkJoinPool(4))
+                .count(i -> {
+                    if (!(Thread.currentThread() instanceof ForkJoinWorkerThread)) {
+                        offPool.incrementAndGet();
+                    }
+                    return i % 2 == 0;
+                });
+
+        // assert
+        assertEquals(5000, count);
+        assertEquals(0, offPool.get());
+    }
+
+    @Test
+    public void unsplittableSource_shouldEvaluateOnCaller() {
+
+        // capture calling thread
+        final Thread caller = Thread.currentThread();
+        final AtomicInteger offCaller = new AtomicInteger();
+
+        // use pipeline
+        int count = Pipeline.from(range(1000))
+                .parallel()
+                .distinct()
+                .count(i -> {
+                    if (Thread.currentThread() != caller) {
+                        offCaller.incrementAndGet();
+                    }
+                    return true;
+                });
+
+        // assert
+        assertEquals(1000, count);
+        assertEquals(0, offCaller.get());
+    }
+
+    // endregion
+
+
+    // region grouping
+
+    @Test
+    public void indexedSource_shouldMatchSequential_whenGrouped() {
+
+        // create source with keys first encountered out of order
+        final Integer[] source = range(10000);
+
+        // use pipelines
+        List<Grouping<Integer, Integer>> sequential = Pipeline.from(source)
+                .groupBy(i -> (i * 31) % 97)
+                .toList();
+        List<Grouping<Integer, Integer>> parallel = Pipeline.from(source)
+                .parallel(new ForkJoinPool(4))
+                .groupBy(i -> (i * 31) % 97)
+                .toList();
+
+        // assert that keys and elements keep their encounter order
+        assertEquals(97, parallel.size());
+        assertEquals(sequential.size(), parallel.size());
+        for (int i = 0; i < sequential.size(); ++i) {
+            assertEquals(sequential.get(i).key, parallel.get(i).key);
+            assertEquals(toList(sequential.get(i)), toList(parallel.get(i)));
+        }
+        assertEquals(Integer.valueOf(0), parallel.get(0).key);
+        assertEquals(Integer.valueOf(31), parallel.get(1).key);
+    }
+
+    @Test
+    public void indexedSource_shouldGroupOnPool() {
+
+        // count key selections off the pool
+        final AtomicInteger offPool = new AtomicInteger();
+
+        // use pipeline
+        int count = Pipeline.from(range(10000))
+                .parallel(new ForkJoinPool(4))
+                .groupBy(i -> {
+                    if (!(Thread.currentThread() instanceof ForkJoinWorkerThread)) {
+                        offPool.incrementAndGet();
+                    }
+                    return i % 10;
+                })
+                .count();
+
+        // assert
+        assertEquals(10, count);
+        assertEquals(0, offPool.get());
+    }
+
+    // endregion
+}
@@ -4,6 +4,10 @@ package com.nascentdigital.pipeline;
 import org.junit.Rule;
 import org.junit.rules.ExpectedException;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 
@@ -74,4 +78,99 @@ public class PipelineTest {
             "octagon"
     };
     protected static final Integer[] numbers = { 0, 1, 2, 3, 4, 5 };
+
+    protected static final Codec<Integer> integerCodec = new Codec<Integer>() {
+        @Override
+        public void write(DataOutput output, Integer element) throws IOException {
+            output.writeBoolean(element != null);
+            if (element != null) {
+                output.writeInt(element);
+            }
+        }
+
+        @Override
+        public Integer read(DataInput input) throws IOException {
+            return input.readBoolean()
+                    ? input.readInt()
+                    : null;
+        }
+    };
+    /**
+     * Returns <i>count</i> values from <i>min</i> to <i>min + range - 1</i>, scattered out of
+     * order by stepping through them with a large prime.
+     */
+    protected static Integer[] scattered(int count, int range, int min) {
+        Integer[] values = new Integer[count];
+        for (int i = 0; i < count; ++i) {
+            values[i] = (int) ((i * 7919L) % range) + min;
+        }
+        return values;
+    }
+
+    /**
+     * Returns a permutation of the values from <c>0</c> to <i>count - 1</i>, scattered out of
+     * order.
+     */
+    protected static Integer[] scattered(int count) {
+        return scattered(count, count, 0);
+    }
+
+    /**
+     * Returns the number of spill files currently in the temporary directory.
+     */
+    protected static int spillFileCount() {
+        File[] files = new File(System.getProperty("java.io.tmpdir")).listFiles(
+                (directory, name) -> name.startsWith("pipeline-") && name.endsWith(".spill"));
+        return files == null ? 0 : files.length;
+    }
+
+    /**
+     * Reads elements in a for-each loop, breaking out of it after <i>limit</i> elements so that
+     * its iterator is abandoned.
+     */
+    protected static <T> int readAndAbandon(Iterable<T> values, int limit) {
+        int count = 0;
+        for (T ignored : values) {
+            if (++count == limit) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of spill files in the temporary directory once it has dropped to an
+     * expected count, collecting garbage so that abandoned iterators are cleaned up, or after a
+     * few seconds if it doesn't.
+     */
+    protected static int spillFileCountAfterCollection(int expected) {
+        for (int attempt = 0; attempt < 200 && spillFileCount() > expected; ++attempt) {
+            System.gc();
+            try {
+                Thread.sleep(25);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return spillFileCount();
+    }
+
+    protected static final Codec<String> stringCodec = new Codec<String>() {
+        @Override
+        public void write(DataOutput output, String element) throws IOException {
+            output.writeBoolean(element != null);
+            if (element != null) {
+                output.writeUTF(element);
+            }
+        }
+
+        @Override
+        public String read(DataInput input) throws IOException {
+            return input.readBoolean()
+                    ? input.readUTF()
+                    : null;
+        }
+    };
 }
@@ -0,0 +1,340 @@
+package com.nascentdigital.pipeline;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+public class PrimitivePipelineTest extends PipelineTest {
+
+    // region helpers
+
+    private static int[] range(int count) {
+        int[] values = new int[count];
+        for (int i = 0; i < count; ++i) {
+            values[i] = i;
+        }
+        return values;
+    }
+
+    private static long[] reverse(long[] values) {
+        long[] reversed = new long[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            reversed[i] = values[values.length - 1 - i];
+        }
+        return reversed;
+    }
+
+    private static double[] reverse(double[] values) {
+        double[] reversed = new double[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            reversed[i] = values[values.length - 1 - i];
+        }
+        return reversed;
+    }
+
+    // endregion
+
+
+    // region creation
+
+    @Test
+    public void from_shouldReturnValues_whenIntArray() {
+
+        // create source
+        final int[] source = { 3, 1, 4, 1, 5 };
+
+        // use pipeline
+        int[] values = Pipeline.from(source).toArray();
+
+        // assert
+        assertArrayEquals(source, values);
+    }
+
+    @Test
+    public void from_shouldReturnEmpty_whenNull() {
+
+        // use pipeline
+        IntPipeline pipeline = Pipeline.from((int[]) null);
+
+        // assert
+        assertEquals(0, pipeline.count());
+        assertEquals(0, pipeline.sum());
+        assertEquals(0, pipeline.toArray().length);
+        assertFalse(pipeline.any());
+    }
+
+    // endregion
+
+
+    // region projection
+
+    @Test
+    public void mapToInt_shouldProjectElements() {
+
+        // create source
+        final Pet[] pets = {
+                new Pet("Barley", 8),
+                new Pet("Boots", 4),
+                new Pet("Whiskers", 1)
+        };
+
+        // use pipeline
+        IntPipeline ages = Pipeline.from(pets).mapToInt(p -> p.age);
+
+        // assert
+        assertEquals(3, ages.count());
+        assertEquals(13, ages.sum());
+        assertEquals(1, ages.min());
+        assertEquals(8, ages.max());
+        assertArrayEquals(new int[] { 8, 4, 1 }, ages.toArray());
+    }
+
+    @Test
+    public void mapToLong_shouldProjectElements() {
+
+        // use pipeline
+        LongPipeline values = Pipeline.from(numbers)
+                .mapToLong(i -> i * 1000000000000L);
+
+        // assert
+        assertEquals(15000000000000L, values.sum());
+        assertEquals(5000000000000L, values.max());
+    }
+
+    @Test
+    public void mapToDouble_shouldProjectElements() {
+
+        // use pipeline
+        DoublePipeline values = Pipeline.from(numbers)
+                .mapToDouble(i -> i / 2.0);
+
+        // assert
+        assertEquals(7.5, values.sum(), 0);
+        assertEquals(0, values.min(), 0);
+        assertArrayEquals(new double[] { 0, 0.5, 1, 1.5, 2, 2.5 }, values.toArray(), 0);
+    }
+
+    // endregion
+
+
+    // region filtering
+
+    @Test
+    public void where_shouldFilterValues() {
+
+        // use pipeline
+        IntPipeline evens = Pipeline.from(range(10))
+                .where(i -> i % 2 == 0);
+
+        // assert
+        assertEquals(5, evens.count());
+        assertEquals(20, evens.sum());
+        assertArrayEquals(new int[] { 0, 2, 4, 6, 8 }, evens.toArray());
+    }
+
+    @Test
+    public void iterator_shouldReturnFilteredValues() {
+
+        // use pipeline
+        IntIterator iterator = Pipeline.from(range(10))
+                .where(i -> i > 6)
+                .iterator();
+
+        // assert
+        assertTrue(iterator.hasNext());
+        assertEquals(7, iterator.nextInt());
+        assertTrue(iterator.hasNext());
+        assertEquals(8, iterator.nextInt());
+        assertEquals(9, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+    }
+
+    // endregion
+
+
+    // region aggregation
+
+    @Test
+    public void min_shouldThrow_whenEmpty() {
+
+        // expect exception
+        exception.expect(NoElementFoundException.class);
+
+        // use pipeline
+        Pipeline.from(new long[0]).min();
+    }
+
+    @Test
+    public void max_shouldThrow_whenFilteredEmpty() {
+
+        // expect exception
+        exception.expect(NoElementFoundException.class);
+
+        // use pipeline
+        Pipeline.from(new double[] { 1, 2 })
+                .where(d -> d > 2)
+                .max();
+    }
+
+    @Test
+    public void reduce_shouldAggregateValues() {
+
+        // use pipeline
+        int product = Pipeline.from(new int[] { 1, 2, 3, 4 })
+                .reduce((total, i) -> total * i, 1);
+
+        // assert
+        assertEquals(24, product);
+    }
+
+    // endregion
+
+
+    // region quantification
+
+    @Test
+    public void any_shouldMatch() {
+
+        // use pipeline
+        IntPipeline values = Pipeline.from(range(10));
+
+        // assert
+        assertTrue(values.any(i -> i == 9));
+        assertFalse(values.any(i -> i > 9));
+        assertTrue(values.where(i -> i > 8).any());
+        assertFalse(values.where(i -> i > 9).any());
+    }
+
+    @Test
+    public void all_shouldMatch() {
+
+        // use pipeline
+        IntPipeline values = Pipeline.from(range(10));
+
+        // assert
+        assertTrue(values.all(i -> i < 10));
+        assertFalse(values.all(i -> i < 9));
+    }
+
+    // endregion
+
+
+    // region ordering
+
+    @Test
+    public void sorted_shouldSortValues() {
+
+        // create source
+        final int[] source = { 3, -1, Integer.MAX_VALUE, 2, Integer.MIN_VALUE };
+
+        // use pipelines
+        int[] ascending = Pipeline.from(source)
+                .sorted()
+                .toArray();
+        long[] descending = Pipeline.from(new long[] { 3, -1, Long.MIN_VALUE, 2, Long.MAX_VALUE })
+                .sortedDescending()
+                .toArray();
+
+        // assert
+        assertArrayEquals(new int[] { Integer.MIN_VALUE, -1, 2, 3, Integer.MAX_VALUE }, ascending);
+        assertArrayEquals(new long[] { Long.MAX_VALUE, 3, 2, -1, Long.MIN_VALUE }, descending);
+    }
+
+    @Test
+    public void sorted_shouldMatchArraysSort_whenLarge() {
+
+        // create sources, large enough to be radix sorted in parallel
+        Random random = new Random(42);
+        int[] ints = new int[100000];
+        long[] longs = new long[ints.length];
+        double[] doubles = new double[ints.length];
+        double[] specialDoubles = { Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY,
+                Double.POSITIVE_INFINITY, Double.MIN_VALUE, -Double.MAX_VALUE };
+        for (int i = 0; i < ints.length; ++i) {
+            ints[i] = random.nextInt();
+            longs[i] = random.nextLong();
+            doubles[i] = i % 100 == 0
+                    ? specialDoubles[random.nextInt(specialDoubles.length)]
+                    : random.nextGaussian() * 1e6;
+        }
+        int[] expectedInts = ints.clone();
+        Arrays.sort(expectedInts);
+        long[] expectedLongs = longs.clone();
+        Arrays.sort(expectedLongs);
+        double[] expectedDoubles = doubles.clone();
+        Arrays.sort(expectedDoubles);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        // use pipelines
+        int[] sortedInts = Pipeline.from(ints).sorted().toArray();
+        int[] sortedIntsInParallel = Pipeline.from(ints).parallel(pool).sorted().toArray();
+        long[] sortedLongs = Pipeline.from(longs).sortedDescending().toArray();
+        double[] sortedDoubles = Pipeline.from(doubles).sorted().toArray();
+        double[] sortedDoublesInParallel = Pipeline.from(doubles)
+                .parallel(pool)
+                .sortedDescending()
+                .toArray();
+
+        // assert
+        assertArrayEquals(expectedInts, sortedInts);
+        assertArrayEquals(expectedInts, sortedIntsInParallel);
+        assertArrayEquals(reverse(expectedLongs), sortedLongs);
+        assertTrue(Arrays.equals(expectedDoubles, sortedDoubles));
+        assertTrue(Arrays.equals(reverse(expectedDoubles), sortedDoublesInParallel));
+    }
+
+    // endregion
+
+
+    // region conversion operations
+
+    @Test
+    public void boxed_shouldReturnPipeline() {
+
+        // use pipeline
+        List<Integer> values = Pipeline.from(new int[] { 3, 1, 2 })
+                .boxed()
+                .toList();
+
+        // assert
+        assertArrayEquals(new Integer[] { 3, 1, 2 }, values.toArray());
+    }
+
+    // endregion
+
+
+    // region parallelism
+
+    @Test
+    public void parallel_shouldMatchSequential() {
+
+        // create source
+        final int[] source = range(100000);
+
+        // use pipeline
+        IntPipeline sequential = Pipeline.from(source).where(i -> i % 3 == 0);
+        IntPipeline parallel = sequential.parallel();
+
+        // assert
+        assertTrue(parallel.isParallel());
+        assertEquals(sequential.count(), parallel.count());
+        assertEquals(sequential.sum(), parallel.sum());
+        assertEquals(sequential.min(), parallel.min());
+        assertEquals(sequential.max(), parallel.max());
+        assertEquals(sequential.reduce((a, b) -> a + b, 0),
+                parallel.reduce((a, b) -> a + b, 0, (a, b) -> a + b));
+        assertArrayEquals(sequential.toArray(), parallel.toArray());
+        assertEquals(sequential.boxed().toList(), parallel.boxed().toList());
+    }
+
+    // endregion
+}
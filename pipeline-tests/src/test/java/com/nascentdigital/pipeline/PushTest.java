@@ -0,0 +1,144 @@
+package com.nascentdigital.pipeline;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+public class PushTest extends PipelineTest {
+
+    // region helpers
+
+    private static Iterable<Integer> naturals() {
+        return () -> new Iterator<Integer>() {
+
+            private int _next;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return _next++;
+            }
+        };
+    }
+
+    // endregion
+
+
+    // region fused chains
+
+    @Test
+    public void chain_shouldMatchIterator_whenManyStages() {
+
+        // create source
+        List<Integer> source = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            source.add(i);
+        }
+
+        // create pipeline
+        Pipeline<String> pipeline = Pipeline.from(source)
+                .skipWhile(i -> i < 10)
+                .where(i -> i % 3 == 0)
+                .map(i -> i * 2)
+                .skip(5)
+                .distinct()
+                .take(50)
+                .map(String::valueOf);
+
+        // iterate pipeline
+        List<String> expected = new ArrayList<>();
+        for (String value : pipeline) {
+            expected.add(value);
+        }
+
+        // assert
+        assertEquals(50, expected.size());
+        assertEquals(expected, pipeline.toList());
+        assertEquals(expected.size(), pipeline.count());
+        assertEquals(String.join(",", expected), pipeline.join(","));
+    }
+
+    @Test
+    public void chain_shouldMatchIterator_whenNotRandomAccess() {
+
+        // create source
+        List<Integer> source = new LinkedList<>();
+        for (int i = 0; i < 100; ++i) {
+            source.add(i);
+        }
+
+        // use pipeline
+        int sum = Pipeline.from(source)
+                .where(i -> i % 2 == 1)
+                .sumInts(i -> i);
+        Integer reduced = Pipeline.from(source)
+                .where(i -> i % 2 == 1)
+                .reduce((total, i) -> total + i, 0);
+
+        // assert
+        assertEquals(2500, sum);
+        assertEquals(Integer.valueOf(2500), reduced);
+    }
+
+    @Test
+    public void concat_shouldPushAddition_whenSourceIsLimited() {
+
+        // use pipeline
+        Integer[] array = Pipeline.from(naturals())
+                .take(2)
+                .concat(Pipeline.from(naturals()).takeWhile(i -> i < 3))
+                .toArray(Integer.class);
+
+        // assert
+        assertArrayEquals(new Integer[] { 0, 1, 0, 1, 2 }, array);
+    }
+
+    // endregion
+
+
+    // region short circuiting
+
+    @Test
+    public void infiniteSource_shouldStop_whenTaken() {
+
+        // use pipeline
+        List<Integer> list = Pipeline.from(naturals())
+                .where(i -> i % 2 == 0)
+                .flatMap(i -> Pipeline.from(new Integer[] { i, i }))
+                .take(5)
+                .toList();
+
+        // assert
+        assertEquals(5, list.size());
+        assertEquals(Integer.valueOf(4), list.get(4));
+    }
+
+    @Test
+    public void infiniteSource_shouldStop_whenMatched() {
+
+        // create pipeline
+        Pipeline<Integer> pipeline = Pipeline.from(naturals())
+                .map(i -> i * 10);
+
+        // assert
+        assertTrue(pipeline.any(i -> i > 100));
+        assertTrue(pipeline.contains(500));
+        assertFalse(pipeline.all(i -> i < 100));
+        assertEquals(Integer.valueOf(110), pipeline.first(i -> i > 100));
+    }
+
+    // endregion
+}
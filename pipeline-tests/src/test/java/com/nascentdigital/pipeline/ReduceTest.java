@@ -170,4 +170,64 @@ public class ReduceTest extends PipelineTest {
     }
 
     // endregion
-}
\ No newline at end of file
+
+
+    // region combiner
+
+    @Test
+    public void combiner_shouldReturnInitial_whenEmpty() {
+
+        // create empty array
+        final Integer[] source = new Integer[0];
+
+        // use pipeline
+        Integer value = Pipeline.from(source)
+                .parallel()
+                .reduce((total, i) -> total + i, 0, (left, right) -> left + right);
+
+        // assert
+        assertEquals(Integer.valueOf(0), value);
+    }
+
+    @Test
+    public void combiner_shouldMatchSequential_whenParallel() {
+
+        // create source
+        final Integer[] source = new Integer[10000];
+        for (int i = 0; i < source.length; ++i) {
+            source[i] = i % 97;
+        }
+
+        // use pipeline
+        Long sequential = Pipeline.from(source)
+                .reduce((total, i) -> total + i, 0L, (left, right) -> left + right);
+        Long parallel = Pipeline.from(source)
+                .parallel()
+                .reduce((total, i) -> total + i, 0L, (left, right) -> left + right);
+
+        // assert
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    public void combiner_shouldPreserveOrder_whenParallel() {
+
+        // create source
+        final Integer[] source = new Integer[2000];
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < source.length; ++i) {
+            source[i] = i;
+            expected.append(i).append(',');
+        }
+
+        // use pipeline
+        String value = Pipeline.from(source)
+                .parallel()
+                .reduce((total, i) -> total + i + ",", "", (left, right) -> left + right);
+
+        // assert
+        assertEquals(expected.toString(), value);
+    }
+
+    // endregion
+}
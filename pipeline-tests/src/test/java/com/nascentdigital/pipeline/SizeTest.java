@@ -0,0 +1,118 @@
+package com.nascentdigital.pipeline;
+
+import org.junit.Test;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+public class SizeTest extends PipelineTest {
+
+    // region helpers
+
+    /**
+     * A collection that knows its size, but fails if it is ever iterated.
+     */
+    private static class SizedCollection extends AbstractCollection<Integer> {
+
+        private final int _size;
+
+        SizedCollection(int size) {
+            _size = size;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            throw new AssertionError("Collection should not be iterated.");
+        }
+
+        @Override
+        public int size() {
+            return _size;
+        }
+    }
+
+    // endregion
+
+
+    // region count
+
+    @Test
+    public void count_shouldNotIterate_whenSized() {
+
+        // create source
+        SizedCollection source = new SizedCollection(100);
+
+        // assert
+        assertEquals(100, Pipeline.from(source).count());
+        assertEquals(100, Pipeline.from(source).map(i -> i * 2).count());
+        assertEquals(100, Pipeline.from(source).cast(Integer.class).count());
+        assertEquals(10, Pipeline.from(source).skip(90).count());
+        assertEquals(0, Pipeline.from(source).skip(200).count());
+        assertEquals(5, Pipeline.from(source).take(5).count());
+        assertEquals(0, Pipeline.from(source).take(-1).count());
+        assertEquals(103, Pipeline.from(source).concat(new Integer[] { 1, 2, 3 }).count());
+        assertTrue(Pipeline.from(source).any());
+        assertFalse(Pipeline.from(source).skip(100).any());
+    }
+
+    @Test
+    public void count_shouldIterate_whenFiltered() {
+
+        // create source
+        List<Integer> source = Arrays.asList(numbers);
+
+        // use pipeline
+        int count = Pipeline.from(source)
+                .map(i -> i * 3)
+                .where(i -> i % 2 == 0)
+                .take(10)
+                .count();
+
+        // assert
+        assertEquals(3, count);
+    }
+
+    // endregion
+
+
+    // region conversion
+
+    @Test
+    public void toArray_shouldMatch_whenSized() {
+
+        // use pipeline
+        Integer[] array = Pipeline.from(numbers)
+                .skip(1)
+                .concat(Arrays.asList(numbers))
+                .map(i -> i + 1)
+                .take(8)
+                .toArray(Integer.class);
+
+        // assert
+        assertArrayEquals(new Integer[] { 2, 3, 4, 5, 6, 1, 2, 3 }, array);
+    }
+
+    @Test
+    public void toList_shouldMatch_whenSized() {
+
+        // use pipeline
+        List<String> list = Pipeline.from(colors)
+                .map(String::toUpperCase)
+                .toList();
+
+        // assert
+        assertEquals(colors.length, list.size());
+        assertEquals("RED", list.get(0));
+        assertEquals("PURPLE", list.get(colors.length - 1));
+    }
+
+    // endregion
+}
@@ -0,0 +1,253 @@
+package com.nascentdigital.pipeline;
+
+import org.junit.Test;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+public class SpillingDistinctTest extends PipelineTest {
+
+    // region helpers
+
+    private static <T> Object[] expected(T[] source) {
+        Set<T> distinct = new LinkedHashSet<>();
+        for (T value : source) {
+            distinct.add(value);
+        }
+        return distinct.toArray();
+    }
+
+    // endregion
+
+
+    // region within memory limit
+
+    @Test
+    public void smallSource_shouldMatchDistinct() {
+
+        // use pipeline
+        Integer[] values = Pipeline.from(new Integer[] { 3, 1, 3, null, 2, 1, null })
+                .distinct(integerCodec, 100)
+                .toArray(Integer.class);
+
+        // assert
+        assertArrayEquals(new Integer[] { 3, 1, null, 2 }, values);
+    }
+
+    @Test
+    public void memoryLimit_shouldThrow_whenLessThanOne() {
+
+        // expect exception
+        exception.expect(IllegalArgumentException.class);
+
+        // use pipeline
+        Pipeline.from(numbers).distinct(integerCodec, 0);
+    }
+
+    // endregion
+
+
+    // region beyond memory limit
+
+    @Test
+    public void largeSource_shouldKeepFirstOccurrenceOrder_whenSpilled() {
+
+        // create source
+        final Integer[] source = scattered(30000, 5000, -2500);
+        int spillFiles = spillFileCount();
+
+        // use pipeline
+        Integer[] values = Pipeline.from(source)
+                .distinct(integerCodec, 100)
+                .toArray(Integer.class);
+
+        // assert
+        assertArrayEquals(expected(source), values);
+        assertEquals(spillFiles, spillFileCount());
+    }
+
+    @Test
+    public void largeSource_shouldIterateInOrder_whenSpilled() {
+
+        // create source
+        final Integer[] source = scattered(20000, 3000, -1500);
+
+        // use pipeline
+        List<Integer> values = new ArrayList<>();
+        for (Integer value : Pipeline.from(source).distinct(integerCodec, 10)) {
+            values.add(value);
+        }
+
+        // assert
+        assertArrayEquals(expected(source), values.toArray());
+    }
+
+    @Test
+    public void largeSource_shouldStopEarly_whenTaken() {
+
+        // create source
+        final Integer[] source = scattered(20000, 3000, -1500);
+        int spillFiles = spillFileCount();
+
+        // use pipeline
+        Integer[] values = Pipeline.from(source)
+                .distinct(integerCodec, 10)
+                .take(50)
+                .toArray(Integer.class);
+
+        // assert
+        assertArrayEquals(Pipeline.from(expected(source)).take(50).toArray(Object.class), values);
+        assertEquals(spillFiles, spillFileCount());
+    }
+
+    @Test
+    public void largeSource_shouldDeleteSpillFiles_whenIterationIsAbandoned() {
+
+        // create source
+        final Integer[] source = scattered(20000, 3000, -1500);
+        int spillFiles = spillFileCount();
+
+        // use pipeline, reading past the spilled elements and then breaking out of the loop
+        int count = readAndAbandon(Pipeline.from(source).distinct(integerCodec, 10), 100);
+
+        // assert
+        assertEquals(100, count);
+        assertEquals(spillFiles, spillFileCountAfterCollection(spillFiles));
+    }
+
+    @Test
+    public void largeSource_shouldDeleteSpillFiles_whenSpillingFails() {
+
+        // fail once elements have been read back from disk
+        Codec<Integer> failingCodec = new Codec<Integer>() {
+            @Override
+            public void write(DataOutput output, Integer element) throws IOException {
+                integerCodec.write(output, element);
+            }
+
+            @Override
+            public Integer read(DataInput input) throws IOException {
+                throw new IOException("Unreadable.");
+            }
+        };
+        final Integer[] source = scattered(20000, 3000, -1500);
+        int spillFiles = spillFileCount();
+
+        // use pipeline
+        try {
+            Pipeline.from(source)
+                    .distinct(failingCodec, 10)
+                    .toList();
+            fail();
+        }
+        catch (SpillException e) {
+
+            // assert
+            assertEquals(spillFiles, spillFileCount());
+        }
+    }
+
+    @Test
+    public void largeSource_shouldThrow_whenReadPastEnd() {
+
+        // create source
+        final Integer[] source = scattered(2000, 300, -150);
+
+        // use pipeline, reading every spilled element
+        Iterator<Integer> iterator = Pipeline.from(source).distinct(integerCodec, 10).iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            ++count;
+        }
+        try {
+            iterator.next();
+            fail();
+        }
+        catch (NoSuchElementException e) {
+
+            // assert
+            assertEquals(300, count);
+        }
+    }
+
+    @Test
+    public void collidingSource_shouldDeduplicate_whenHashCodesCollide() {
+
+        // create strings that share a hash code ("Aa" and "BB" hash identically)
+        List<String> colliding = new ArrayList<>();
+        for (int i = 0; i < 64; ++i) {
+            StringBuilder builder = new StringBuilder();
+            for (int bit = 0; bit < 6; ++bit) {
+                builder.append((i & (1 << bit)) == 0 ? "Aa" : "BB");
+            }
+            colliding.add(builder.toString());
+        }
+        List<String> source = new ArrayList<>(colliding);
+        source.addAll(colliding);
+        source.add(null);
+
+        // use pipeline
+        String[] values = Pipeline.from(source)
+                .distinct(stringCodec, 4)
+                .toArray(String.class);
+
+        // assert
+        assertEquals(65, values.length);
+        assertArrayEquals(expected(source.toArray(new String[0])), values);
+    }
+
+    @Test
+    public void collidingSource_shouldNotBeRepartitionedRepeatedly() {
+
+        // count encoded elements
+        final AtomicInteger encoded = new AtomicInteger();
+        Codec<String> countingCodec = new Codec<String>() {
+            @Override
+            public void write(DataOutput output, String element) throws IOException {
+                encoded.incrementAndGet();
+                stringCodec.write(output, element);
+            }
+
+            @Override
+            public String read(DataInput input) throws IOException {
+                return stringCodec.read(input);
+            }
+        };
+
+        // create strings that share a hash code
+        List<String> source = new ArrayList<>();
+        for (int i = 0; i < 256; ++i) {
+            StringBuilder builder = new StringBuilder();
+            for (int bit = 0; bit < 8; ++bit) {
+                builder.append((i & (1 << bit)) == 0 ? "Aa" : "BB");
+            }
+            source.add(builder.toString());
+        }
+
+        // use pipeline
+        String[] values = Pipeline.from(source)
+                .distinct(countingCodec, 4)
+                .toArray(String.class);
+
+        // assert that elements were spilled, re-partitioned at most once, then deduplicated
+        assertArrayEquals(source.toArray(), values);
+        assertTrue(encoded.get() <= 3 * source.size());
+    }
+
+    // endregion
+}
@@ -0,0 +1,208 @@
+package com.nascentdigital.pipeline;
+
+import org.junit.Test;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+public class SpillingGroupByTest extends PipelineTest {
+
+    // region helpers
+
+    private static Map<Integer, List<Integer>> expected(Integer[] source, int keyCount) {
+        Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+        for (Integer value : source) {
+            Integer key = value % keyCount;
+            List<Integer> group = groups.get(key);
+            if (group == null) {
+                group = new ArrayList<>();
+                groups.put(key, group);
+            }
+            group.add(value);
+        }
+        return groups;
+    }
+
+    private static Map<Integer, List<Integer>> toMap(
+            Iterable<Grouping<Integer, Integer>> groupings) {
+        Map<Integer, List<Integer>> groups = new HashMap<>();
+        for (Grouping<Integer, Integer> grouping : groupings) {
+            List<Integer> group = new ArrayList<>();
+            for (Integer element : grouping) {
+                group.add(element);
+            }
+            assertEquals(null, groups.put(grouping.key, group));
+        }
+        return groups;
+    }
+
+    // endregion
+
+
+    // region within memory limit
+
+    @Test
+    public void smallSource_shouldMatchGroupBy() {
+
+        // create source
+        final Integer[] source = scattered(100);
+
+        // use pipeline
+        List<Grouping<Integer, Integer>> groupings = Pipeline.from(source)
+                .groupBy(n -> n % 7, integerCodec, 100)
+                .toList();
+
+        // assert that groups keep encounter order
+        Map<Integer, List<Integer>> expected = expected(source, 7);
+        assertEquals(new ArrayList<>(expected.keySet()),
+                Pipeline.from(groupings).map(g -> g.key).toList());
+        assertEquals(expected, toMap(groupings));
+    }
+
+    @Test
+    public void codec_shouldThrow_whenNull() {
+
+        // expect exception
+        exception.expect(IllegalArgumentException.class);
+
+        // use pipeline
+        Pipeline.from(numbers).groupBy(n -> n, null, 10);
+    }
+
+    @Test
+    public void memoryLimit_shouldThrow_whenLessThanOne() {
+
+        // expect exception
+        exception.expect(IllegalArgumentException.class);
+
+        // use pipeline
+        Pipeline.from(numbers).groupBy(n -> n, integerCodec, 0);
+    }
+
+    // endregion
+
+
+    // region beyond memory limit
+
+    @Test
+    public void largeSource_shouldGroupEveryElement_whenSpilled() {
+
+        // create source
+        final Integer[] source = scattered(30000);
+        int spillFiles = spillFileCount();
+
+        // use pipeline
+        List<Grouping<Integer, Integer>> groupings = Pipeline.from(source)
+                .groupBy(n -> n % 5000, integerCodec, 100)
+                .toList();
+
+        // assert
+        assertEquals(expected(source, 5000), toMap(groupings));
+        assertEquals(spillFiles, spillFileCount());
+    }
+
+    @Test
+    public void largeSource_shouldIterateEveryGroup_whenSpilled() {
+
+        // create source
+        final Integer[] source = scattered(20000);
+
+        // use pipeline
+        Iterable<Grouping<Integer, Integer>> groupings = Pipeline.from(source)
+                .groupBy(n -> n % 300, integerCodec, 10);
+
+        // assert
+        assertEquals(expected(source, 300), toMap(groupings));
+    }
+
+    @Test
+    public void largeSource_shouldDeleteSpillFiles_whenStoppedEarly() {
+
+        // create source
+        final Integer[] source = scattered(20000);
+        int spillFiles = spillFileCount();
+
+        // use pipeline
+        List<Grouping<Integer, Integer>> groupings = Pipeline.from(source)
+                .groupBy(n -> n % 300, integerCodec, 10)
+                .take(5)
+                .toList();
+
+        // assert
+        assertEquals(5, groupings.size());
+        assertEquals(spillFiles, spillFileCount());
+    }
+
+    @Test
+    public void largeSource_shouldDeleteSpillFiles_whenIterationIsAbandoned() {
+
+        // create source
+        final Integer[] source = scattered(20000);
+        int spillFiles = spillFileCount();
+
+        // use pipeline, reading the groups of a few partitions and then breaking out of the loop
+        int count = readAndAbandon(Pipeline.from(source).groupBy(n -> n % 300, integerCodec, 10),
+                20);
+
+        // assert
+        assertEquals(20, count);
+        assertEquals(spillFiles, spillFileCountAfterCollection(spillFiles));
+    }
+
+    @Test
+    public void largeGroup_shouldBeKeptWhole_whenLargerThanLimit() {
+
+        // create source
+        final Integer[] source = scattered(1000);
+
+        // use pipeline
+        List<Grouping<Integer, Integer>> groupings = Pipeline.from(source)
+                .groupBy(n -> n % 2, integerCodec, 10)
+                .toList();
+
+        // assert
+        assertEquals(expected(source, 2), toMap(groupings));
+    }
+
+    @Test
+    public void largeGroup_shouldNotBeRepartitionedRepeatedly() {
+
+        // count encoded elements
+        final AtomicInteger encoded = new AtomicInteger();
+        Codec<Integer> countingCodec = new Codec<Integer>() {
+            @Override
+            public void write(DataOutput output, Integer element) throws IOException {
+                encoded.incrementAndGet();
+                integerCodec.write(output, element);
+            }
+
+            @Override
+            public Integer read(DataInput input) throws IOException {
+                return integerCodec.read(input);
+            }
+        };
+        final Integer[] source = scattered(1000);
+
+        // use pipeline, grouping every element under a single key
+        List<Grouping<Integer, Integer>> groupings = Pipeline.from(source)
+                .groupBy(n -> 0, countingCodec, 10)
+                .toList();
+
+        // assert that elements were spilled, then re-partitioned at most once
+        assertEquals(expected(source, 1), toMap(groupings));
+        assertTrue(encoded.get() <= 2 * source.length);
+    }
+
+    // endregion
+}
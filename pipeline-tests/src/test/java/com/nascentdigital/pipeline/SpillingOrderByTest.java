@@ -0,0 +1,233 @@
+package com.nascentdigital.pipeline;
+
+import org.junit.Test;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+public class SpillingOrderByTest extends PipelineTest {
+
+    // region helpers
+
+    private static List<Integer> sorted(Integer[] source) {
+        List<Integer> values = new ArrayList<>(Arrays.asList(source));
+        Collections.sort(values);
+        return values;
+    }
+
+    // endregion
+
+
+    // region within memory limit
+
+    @Test
+    public void smallSource_shouldMatchOrderBy() {
+
+        // create source
+        final Integer[] source = scattered(100);
+
+        // use pipeline
+        List<Integer> values = Pipeline.from(source)
+                .orderBy(n -> n)
+                .spill(integerCodec, 100)
+                .toList();
+
+        // assert
+        assertEquals(sorted(source), values);
+    }
+
+    @Test
+    public void codec_shouldThrow_whenNull() {
+
+        // expect exception
+        exception.expect(IllegalArgumentException.class);
+
+        // use pipeline
+        Pipeline.from(numbers).orderBy(n -> n).spill(null, 10);
+    }
+
+    @Test
+    public void memoryLimit_shouldThrow_whenLessThanOne() {
+
+        // expect exception
+        exception.expect(IllegalArgumentException.class);
+
+        // use pipeline
+        Pipeline.from(numbers).orderBy(n -> n).spill(integerCodec, 0);
+    }
+
+    @Test
+    public void spill_shouldThrow_whenNotOrdered() {
+
+        // expect exception
+        exception.expect(IllegalStateException.class);
+
+        // use pipeline
+        Pipeline.from(numbers).spill(integerCodec, 10);
+    }
+
+    // endregion
+
+
+    // region beyond memory limit
+
+    @Test
+    public void largeSource_shouldSort_whenSpilled() {
+
+        // create source
+        final Integer[] source = scattered(30000);
+        int spillFiles = spillFileCount();
+
+        // use pipeline
+        List<Integer> values = Pipeline.from(source)
+                .orderBy(n -> n)
+                .spill(integerCodec, 1000)
+                .toList();
+
+        // assert
+        assertEquals(sorted(source), values);
+        assertEquals(spillFiles, spillFileCount());
+    }
+
+    @Test
+    public void largeSource_shouldKeepEqualKeysInOrder_whenSpilled() {
+
+        // create source whose keys repeat across runs
+        final Integer[] source = scattered(5000);
+
+        // use pipeline
+        List<Integer> values = Pipeline.from(source)
+                .orderByIntDescending(n -> n % 10)
+                .thenBy(n -> n % 3)
+                .spill(integerCodec, 64)
+                .toList();
+        List<Integer> expected = Pipeline.from(source)
+                .orderByIntDescending(n -> n % 10)
+                .thenBy(n -> n % 3)
+                .toList();
+
+        // assert
+        assertEquals(expected, values);
+    }
+
+    @Test
+    public void largeSource_shouldIterateInOrder_whenSpilled() {
+
+        // create source
+        final Integer[] source = scattered(20000);
+
+        // use pipeline
+        List<Integer> values = new ArrayList<>();
+        for (Integer value : Pipeline.from(source).orderBy(n -> n).spill(integerCodec, 500)) {
+            values.add(value);
+        }
+
+        // assert
+        assertEquals(sorted(source), values);
+    }
+
+    @Test
+    public void largeSource_shouldReadOnlyRunPrefixes_whenTaken() {
+
+        // count decoded elements
+        final AtomicInteger decoded = new AtomicInteger();
+        Codec<Integer> countingCodec = new Codec<Integer>() {
+            @Override
+            public void write(DataOutput output, Integer element) throws IOException {
+                integerCodec.write(output, element);
+            }
+
+            @Override
+            public Integer read(DataInput input) throws IOException {
+                decoded.incrementAndGet();
+                return integerCodec.read(input);
+            }
+        };
+        final Integer[] source = scattered(20000);
+        int spillFiles = spillFileCount();
+
+        // use pipeline
+        List<Integer> values = Pipeline.from(source)
+                .orderBy(n -> n)
+                .spill(countingCodec, 1000)
+                .take(1500)
+                .toList();
+
+        // assert that less than every element was read back
+        assertEquals(sorted(source).subList(0, 1500), values);
+        assertTrue(decoded.get() < 2000);
+        assertEquals(spillFiles, spillFileCount());
+    }
+
+    @Test
+    public void largeSource_shouldDeleteRuns_whenIterationFinishes() {
+
+        // create source
+        final Integer[] source = scattered(5000);
+        int spillFiles = spillFileCount();
+
+        // use iterator until exhausted
+        Iterator<Integer> iterator = Pipeline.from(source)
+                .orderBy(n -> n)
+                .spill(integerCodec, 100)
+                .iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            ++count;
+        }
+
+        // assert
+        assertEquals(source.length, count);
+        assertEquals(spillFiles, spillFileCount());
+    }
+
+    @Test
+    public void largeSource_shouldDeleteRuns_whenIterationIsAbandoned() {
+
+        // create source
+        final Integer[] source = scattered(5000);
+        int spillFiles = spillFileCount();
+
+        // use pipeline, breaking out of the loop part way through the merge
+        int count = readAndAbandon(Pipeline.from(source).orderBy(n -> n).spill(integerCodec, 100),
+                10);
+
+        // assert
+        assertEquals(10, count);
+        assertEquals(spillFiles, spillFileCountAfterCollection(spillFiles));
+    }
+
+    @Test
+    public void largeSource_shouldDeleteRuns_whenFirstIsTaken() {
+
+        // create source
+        final Integer[] source = scattered(5000);
+        int spillFiles = spillFileCount();
+
+        // use pipelines, which stop after the first element
+        Pipeline<Integer> pipeline = Pipeline.from(source)
+                .orderBy(n -> n)
+                .spill(integerCodec, 100);
+        Integer first = pipeline.first();
+        boolean any = pipeline.where(n -> n >= 0).any();
+
+        // assert
+        assertEquals(Integer.valueOf(0), first);
+        assertTrue(any);
+        assertEquals(spillFiles, spillFileCount());
+    }
+
+    // endregion
+}
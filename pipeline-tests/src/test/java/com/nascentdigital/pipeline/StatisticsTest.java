@@ -0,0 +1,162 @@
+package com.nascentdigital.pipeline;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+
+public class StatisticsTest extends PipelineTest {
+
+    // region empty source
+
+    @Test
+    public void emptySource_shouldReturnZeroCountAndSum() {
+
+        // use pipeline
+        IntStatistics statistics = Pipeline.from(new Integer[0])
+                .intStatistics(i -> i);
+
+        // assert
+        assertEquals(0, statistics.count());
+        assertEquals(0, statistics.sum());
+    }
+
+    @Test
+    public void emptySource_shouldThrow_whenMinRequested() {
+
+        // expect exception
+        exception.expect(NoElementFoundException.class);
+
+        // use pipeline
+        Pipeline.from(new double[0])
+                .statistics()
+                .min();
+    }
+
+    @Test
+    public void emptySource_shouldThrow_whenAverageRequested() {
+
+        // expect exception
+        exception.expect(NoElementFoundException.class);
+
+        // use pipeline
+        Pipeline.from(new Integer[0])
+                .longStatistics(i -> i)
+                .average();
+    }
+
+    // endregion
+
+
+    // region many source
+
+    @Test
+    public void manySource_shouldReturnAllStatistics() {
+
+        // create source
+        final Pet[] pets = {
+                new Pet("Barley", 8),
+                new Pet("Boots", 4),
+                new Pet("Whiskers", 1),
+                new Pet("Daisy", 3)
+        };
+
+        // use pipeline
+        IntStatistics statistics = Pipeline.from(pets)
+                .intStatistics(p -> p.age);
+
+        // assert
+        assertEquals(4, statistics.count());
+        assertEquals(16, statistics.sum());
+        assertEquals(1, statistics.min());
+        assertEquals(8, statistics.max());
+        assertEquals(4.0, statistics.average(), 0);
+    }
+
+    @Test
+    public void manySource_shouldNotOverflow_whenSummingInts() {
+
+        // create source
+        final int[] source = { Integer.MAX_VALUE, Integer.MAX_VALUE };
+
+        // use pipeline
+        IntStatistics statistics = Pipeline.from(source).statistics();
+
+        // assert
+        assertEquals(2L * Integer.MAX_VALUE, statistics.sum());
+        assertEquals(Integer.MAX_VALUE, statistics.average(), 0);
+    }
+
+    @Test
+    public void manySource_shouldEvaluateOnce() {
+
+        // use pipeline
+        final AtomicInteger evaluations = new AtomicInteger();
+        DoubleStatistics statistics = Pipeline.from(numbers)
+                .where(i -> {
+                    evaluations.incrementAndGet();
+                    return i > 0;
+                })
+                .doubleStatistics(i -> i * 1.5);
+
+        // assert
+        assertEquals(numbers.length, evaluations.get());
+        assertEquals(5, statistics.count());
+        assertEquals(22.5, statistics.sum(), 0);
+        assertEquals(1.5, statistics.min(), 0);
+        assertEquals(7.5, statistics.max(), 0);
+        assertEquals(4.5, statistics.average(), 0);
+    }
+
+    // endregion
+
+
+    // region combine
+
+    @Test
+    public void combine_shouldMergeStatistics() {
+
+        // create statistics
+        LongStatistics left = Pipeline.from(new long[] { 5, 9 }).statistics();
+        LongStatistics right = Pipeline.from(new long[] { -3, 4 }).statistics();
+        LongStatistics empty = new LongStatistics();
+
+        // combine statistics
+        left.combine(empty);
+        left.combine(right);
+        empty.combine(left);
+
+        // assert
+        assertEquals(4, empty.count());
+        assertEquals(15, empty.sum());
+        assertEquals(-3, empty.min());
+        assertEquals(9, empty.max());
+    }
+
+    @Test
+    public void combine_shouldMatchSequential_whenParallel() {
+
+        // create source
+        final Integer[] source = new Integer[50000];
+        for (int i = 0; i < source.length; ++i) {
+            source[i] = (i * 7919) % 10007;
+        }
+
+        // use pipeline
+        LongStatistics sequential = Pipeline.from(source)
+                .longStatistics(i -> i);
+        LongStatistics parallel = Pipeline.from(source)
+                .parallel()
+                .longStatistics(i -> i);
+
+        // assert
+        assertEquals(sequential.count(), parallel.count());
+        assertEquals(sequential.sum(), parallel.sum());
+        assertEquals(sequential.min(), parallel.min());
+        assertEquals(sequential.max(), parallel.max());
+    }
+
+    // endregion
+}
@@ -0,0 +1,133 @@
+package com.nascentdigital.pipeline;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+public class ToLookupTest extends PipelineTest {
+
+    // region helpers
+
+    private static <T> Object[] toArray(Iterable<T> elements) {
+        List<T> list = new ArrayList<>();
+        for (T element : elements) {
+            list.add(element);
+        }
+        return list.toArray();
+    }
+
+    // endregion
+
+
+    // region empty source
+
+    @Test
+    public void emptySource_shouldBeEmpty() {
+
+        // use pipeline
+        Lookup<Integer, Pet> lookup = Pipeline.from(new Pet[0])
+                .toLookup(p -> p.age);
+
+        // assert
+        assertEquals(0, lookup.size());
+        assertFalse(lookup.contains(1));
+        assertEquals(0, lookup.count(1));
+        assertFalse(lookup.get(1).iterator().hasNext());
+        assertFalse(lookup.iterator().hasNext());
+    }
+
+    // endregion
+
+
+    // region many source
+
+    @Test
+    public void manySource_shouldIndexElementsByKey_inOriginalOrder() {
+
+        // create source
+        final String[] source = { "bee", "ant", "cat", "ape", "cow", "asp" };
+
+        // use pipeline
+        Lookup<Character, String> lookup = Pipeline.from(source)
+                .toLookup(s -> s.charAt(0));
+
+        // assert
+        assertEquals(3, lookup.size());
+        assertTrue(lookup.contains('a'));
+        assertFalse(lookup.contains('d'));
+        assertEquals(3, lookup.count('a'));
+        assertEquals(1, lookup.count('b'));
+        assertEquals(0, lookup.count('d'));
+        assertArrayEquals(new Object[] { "ant", "ape", "asp" }, toArray(lookup.get('a')));
+        assertArrayEquals(new Object[] { "cat", "cow" }, toArray(lookup.get('c')));
+        assertArrayEquals(new Object[0], toArray(lookup.get('d')));
+    }
+
+    @Test
+    public void manySource_shouldIterateKeys_inEncounterOrder() {
+
+        // create source
+        final String[] source = { "bee", "ant", "cat", "ape", "cow", "asp" };
+
+        // use pipeline
+        Lookup<Character, String> lookup = Pipeline.from(source)
+                .toLookup(s -> s.charAt(0));
+
+        // assert
+        List<Character> keys = new ArrayList<>();
+        for (Grouping<Character, String> grouping : lookup) {
+            keys.add(grouping.key);
+        }
+        assertArrayEquals(new Object[] { 'b', 'a', 'c' }, keys.toArray());
+    }
+
+    @Test
+    public void manySource_shouldSupportNullKeys() {
+
+        // create source
+        final String[] source = { "a", null, "b", null };
+
+        // use pipeline
+        Lookup<String, String> lookup = Pipeline.from(source)
+                .toLookup(s -> s);
+
+        // assert
+        assertTrue(lookup.contains(null));
+        assertEquals(2, lookup.count(null));
+        assertArrayEquals(new Object[] { null, null }, toArray(lookup.get(null)));
+    }
+
+    @Test
+    public void manySource_shouldGrowStorage() {
+
+        // create source with more keys and elements than the initial capacity
+        final Integer[] source = new Integer[1000];
+        for (int i = 0; i < source.length; ++i) {
+            source[i] = i;
+        }
+
+        // use pipeline
+        Lookup<Integer, Integer> lookup = Pipeline.from(source)
+                .toLookup(n -> n % 100);
+
+        // assert
+        assertEquals(100, lookup.size());
+        for (int key = 0; key < 100; ++key) {
+            assertEquals(10, lookup.count(key));
+            int expected = key;
+            for (Integer element : lookup.get(key)) {
+                assertEquals(expected, element.intValue());
+                expected += 100;
+            }
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,204 @@
+package com.nascentdigital.pipeline;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+
+public class TopTest extends PipelineTest {
+
+    // region helpers
+
+    private final Pet barley = new Pet("Barley", 8);
+    private final Pet boots = new Pet("Boots", 4);
+    private final Pet whiskers = new Pet("Whiskers", 1);
+    private final Pet daisy = new Pet("Daisy", 4);
+    private final Pet[] pets = { barley, boots, whiskers, daisy };
+
+    private static Iterable<Integer> unsized(Integer[] values) {
+        return () -> Arrays.asList(values).iterator();
+    }
+
+    // endregion
+
+
+    // region empty source
+
+    @Test
+    public void emptySource_shouldBeEmpty() {
+
+        // use pipeline
+        List<Pet> top = Pipeline.from(new Pet[0])
+                .top(3, p -> p.age)
+                .toList();
+
+        // assert
+        assertEquals(0, top.size());
+    }
+
+    // endregion
+
+
+    // region top and bottom
+
+    @Test
+    public void top_shouldReturnHighestKeys_inOrder() {
+
+        // use pipeline
+        Pet[] top = Pipeline.from(pets)
+                .top(3, p -> p.age)
+                .toArray(Pet.class);
+
+        // assert that equal keys keep their original order
+        assertArrayEquals(new Pet[] { barley, boots, daisy }, top);
+    }
+
+    @Test
+    public void bottom_shouldReturnLowestKeys_inOrder() {
+
+        // use pipeline
+        Pet[] bottom = Pipeline.from(pets)
+                .bottom(2, p -> p.age)
+                .toArray(Pet.class);
+
+        // assert that equal keys keep their original order
+        assertArrayEquals(new Pet[] { whiskers, boots }, bottom);
+    }
+
+    @Test
+    public void top_shouldUseComparator() {
+
+        // use pipelines
+        Pet[] top = Pipeline.from(pets)
+                .top(1, p -> p.name, Comparator.comparing(String::length))
+                .toArray(Pet.class);
+        Pet[] bottom = Pipeline.from(pets)
+                .bottom(1, p -> p.name, Comparator.comparing(String::length))
+                .toArray(Pet.class);
+
+        // assert
+        assertArrayEquals(new Pet[] { whiskers }, top);
+        assertArrayEquals(new Pet[] { boots }, bottom);
+    }
+
+    @Test
+    public void top_shouldReturnEverything_whenCountExceedsSize() {
+
+        // use pipelines
+        Pet[] sized = Pipeline.from(pets)
+                .top(10, p -> p.age)
+                .toArray(Pet.class);
+        List<Integer> unsized = Pipeline.from(unsized(new Integer[] { 2, 3, 1 }))
+                .top(10, n -> n)
+                .toList();
+
+        // assert
+        assertArrayEquals(new Pet[] { barley, boots, daisy, whiskers }, sized);
+        assertEquals(Arrays.asList(3, 2, 1), unsized);
+    }
+
+    @Test
+    public void top_shouldBeEmpty_whenCountIsNotPositive() {
+
+        // use pipelines
+        List<Pet> zero = Pipeline.from(pets)
+                .top(0, p -> p.age)
+                .toList();
+        List<Pet> negative = Pipeline.from(pets)
+                .bottom(-1, p -> p.age)
+                .toList();
+
+        // assert
+        assertEquals(0, zero.size());
+        assertEquals(0, negative.size());
+    }
+
+    @Test
+    public void top_shouldMatchFullSort_whenLarge() {
+
+        // create source with many duplicate keys
+        Random random = new Random(7);
+        Integer[] source = new Integer[20000];
+        for (int i = 0; i < source.length; ++i) {
+            source[i] = random.nextInt(500);
+        }
+        List<Integer> expected = new ArrayList<>(Arrays.asList(source));
+        Collections.sort(expected, Collections.reverseOrder());
+
+        // use pipelines
+        List<Integer> sized = Pipeline.from(source)
+                .top(100, n -> n)
+                .toList();
+        List<Integer> unsized = Pipeline.from(unsized(source))
+                .top(100, n -> n)
+                .toList();
+
+        // assert
+        assertEquals(expected.subList(0, 100), sized);
+        assertEquals(expected.subList(0, 100), unsized);
+    }
+
+    // endregion
+
+
+    // region fused take
+
+    @Test
+    public void orderByTake_shouldKeepFirstElements_stably() {
+
+        // create source where every key is equal apart from the last element
+        Pet[] source = new Pet[1000];
+        for (int i = 0; i < source.length - 1; ++i) {
+            source[i] = new Pet("Pet" + i, 5);
+        }
+        source[source.length - 1] = new Pet("Last", 1);
+
+        // use pipeline
+        List<String> names = Pipeline.from(source)
+                .orderByInt(p -> p.age)
+                .thenBy(p -> p.name.length())
+                .take(4)
+                .map(p -> p.name)
+                .toList();
+
+        // assert
+        assertEquals(Arrays.asList("Last", "Pet0", "Pet1", "Pet2"), names);
+    }
+
+    @Test
+    public void orderByTake_shouldApplySmallestCount() {
+
+        // use pipeline
+        Pipeline<Pet> pipeline = Pipeline.from(pets)
+                .orderBy(p -> p.age)
+                .take(3)
+                .take(2);
+
+        // assert
+        assertEquals(2, pipeline.count());
+        assertArrayEquals(new Pet[] { whiskers, boots }, pipeline.toArray(Pet.class));
+    }
+
+    @Test
+    public void thenBy_shouldThrow_whenTaken() {
+
+        // expect exception
+        exception.expect(IllegalStateException.class);
+
+        // use pipeline
+        Pipeline.from(pets)
+                .orderBy(p -> p.age)
+                .take(2)
+                .thenBy(p -> p.name);
+    }
+
+    // endregion
+}
@@ -0,0 +1,31 @@
+package com.nascentdigital.pipeline;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+
+/**
+ * Encodes and decodes elements in a compact binary form, allowing stages that exceed their memory
+ * budget to spill elements to temporary files.
+ *
+ * @param <TElement> The type of elements being encoded.
+ */
+public interface Codec<TElement> {
+
+    /**
+     * Writes an element to an output.
+     *
+     * @param output  The output being written to.
+     * @param element The element being written, which may be <c>null</c> if the sequence
+     *                contains <c>null</c> elements.
+     */
+    void write(DataOutput output, TElement element) throws IOException;
+
+    /**
+     * Reads an element previously written using {@link #write(DataOutput, Object)}.
+     *
+     * @param input The input being read from.
+     */
+    TElement read(DataInput input) throws IOException;
+}
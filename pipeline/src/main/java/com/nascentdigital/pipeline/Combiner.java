@@ -0,0 +1,11 @@
+package com.nascentdigital.pipeline;
+
+/**
+ * Combines two partial aggregates, produced from adjacent parts of a sequence, into one.
+ *
+ * @param <TAggregate> The type of the aggregates being combined.
+ */
+public interface Combiner<TAggregate> {
+
+    TAggregate combine(TAggregate left, TAggregate right);
+}
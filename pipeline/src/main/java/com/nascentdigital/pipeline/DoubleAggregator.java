@@ -0,0 +1,9 @@
+package com.nascentdigital.pipeline;
+
+/**
+ * Aggregates an unboxed <c>double</c> value into an aggregate of the same type.
+ */
+public interface DoubleAggregator {
+
+    double aggregate(double aggregate, double element);
+}
@@ -0,0 +1,11 @@
+package com.nascentdigital.pipeline;
+
+/**
+ * Iterates over a sequence of unboxed <c>double</c> values.
+ */
+public interface DoubleIterator {
+
+    boolean hasNext();
+
+    double nextDouble();
+}
@@ -0,0 +1,640 @@
+package com.nascentdigital.pipeline;
+
+import com.nascentdigital.pipeline.annotations.Group;
+import com.nascentdigital.pipeline.annotations.GroupType;
+import com.nascentdigital.pipeline.operations.BoxedDoubleOperation;
+import com.nascentdigital.pipeline.operations.DoubleDistinctOperation;
+import com.nascentdigital.pipeline.operations.DoubleEvaluation;
+import com.nascentdigital.pipeline.operations.DoubleFilterOperation;
+import com.nascentdigital.pipeline.operations.DoubleSortOperation;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * A {@link Pipeline} specialized for sequences of unboxed <c>double</c> values, which never
+ * allocates a boxed {@link Double} per element unless converted back using {@link #boxed()}.
+ */
+public final class DoublePipeline {
+
+    // region instance variables
+
+    private final DoublePipelineOperation _operation;
+    private final ForkJoinPool _pool;
+
+    // endregion
+
+
+    // region constructors
+
+    DoublePipeline(DoublePipelineOperation operation, ForkJoinPool pool) {
+        _operation = operation;
+        _pool = pool;
+    }
+
+    // endregion
+
+
+    // region parallelism
+
+    /**
+     * Returns an equivalent pipeline whose terminal operations evaluate the sequence in parallel,
+     * using the same shared {@link ForkJoinPool} as {@link Pipeline#parallel()}.
+     */
+    @Group(type = GroupType.Parallelism)
+    public DoublePipeline parallel() {
+        return parallel(Pipeline.DefaultPool.instance);
+    }
+
+    /**
+     * Returns an equivalent pipeline whose terminal operations evaluate the sequence in parallel,
+     * using the specified {@link ForkJoinPool}.
+     *
+     * @param pool The pool used to evaluate partitions of the sequence.
+     */
+    @Group(type = GroupType.Parallelism)
+    public DoublePipeline parallel(ForkJoinPool pool) {
+
+        // fail if pool isn't specified
+        if (pool == null) {
+            throw new IllegalArgumentException("A pool is required for parallel pipelines.");
+        }
+
+        // return new pipeline using pool
+        return new DoublePipeline(_operation, pool);
+    }
+
+    /**
+     * Returns an equivalent pipeline whose terminal operations evaluate the sequence on the
+     * calling thread.
+     */
+    @Group(type = GroupType.Parallelism)
+    public DoublePipeline sequential() {
+        return _pool == null
+                ? this
+                : new DoublePipeline(_operation, null);
+    }
+
+    /**
+     * Determines whether terminal operations of the pipeline are evaluated in parallel.
+     */
+    @Group(type = GroupType.Parallelism)
+    public boolean isParallel() {
+        return _pool != null;
+    }
+
+    // endregion
+
+
+    // region filtering
+
+    /**
+     * Filters a sequence of values based on a predicate.
+     *
+     * @param predicate A predicate deciding what values remain in the sequence.
+     */
+    @Group(type = GroupType.Filtering)
+    public DoublePipeline where(DoublePredicate predicate) {
+        return new DoublePipeline(new DoubleFilterOperation(_operation, predicate), _pool);
+    }
+
+    /**
+     * Returns distinct values from the sequence, in the order they are first encountered.
+     * <p>
+     * Values are tracked unboxed in an open-addressing hash set, instead of as boxed
+     * {@link Double} keys in a {@link java.util.HashSet}.  Values are compared like
+     * {@link Double#equals(Object)}, so <c>NaN</c> values are equal to each other and <c>-0.0</c>
+     * is distinct from <c>0.0</c>.
+     */
+    @Group(type = GroupType.Filtering)
+    public DoublePipeline distinct() {
+        return new DoublePipeline(new DoubleDistinctOperation(_operation), _pool);
+    }
+
+    // endregion
+
+
+    // region ordering
+
+    /**
+     * Sorts the values of the sequence in ascending order, as ordered by
+     * {@link Double#compare(double, double)}.
+     * <p>
+     * Large sequences are radix sorted in linear time rather than compared, in parallel for
+     * parallel pipelines.  The sequence is sorted each time the pipeline is evaluated.
+     */
+    @Group(type = GroupType.Ordering)
+    public DoublePipeline sorted() {
+        return new DoublePipeline(new DoubleSortOperation(_operation, false, _pool), _pool);
+    }
+
+    /**
+     * Sorts the values of the sequence in descending order, as ordered by
+     * {@link Double#compare(double, double)}.
+     */
+    @Group(type = GroupType.Ordering)
+    public DoublePipeline sortedDescending() {
+        return new DoublePipeline(new DoubleSortOperation(_operation, true, _pool), _pool);
+    }
+
+    // endregion
+
+
+    // region aggregation
+
+    /**
+     * Returns the number of values in the sequence.
+     */
+    @Group(type = GroupType.Aggregation)
+    public int count() {
+
+        // use size of sequence, if known
+        int size = _operation.size();
+        if (size != PipelineOperation.UNKNOWN_SIZE) {
+            return size;
+        }
+
+        // or count values, in parallel if possible
+        return evaluate(new DoubleEvaluation<Integer>() {
+
+            @Override
+            protected Integer evaluatePartition(DoublePipelineOperation partition) {
+
+                // use size of partition, if known
+                int size = partition.size();
+                if (size != PipelineOperation.UNKNOWN_SIZE) {
+                    return size;
+                }
+
+                // or count partition values
+                final int[] count = { 0 };
+                partition.push(new DoubleSink() {
+                    @Override
+                    public boolean accept(double element) {
+
+                        // increment count
+                        ++count[0];
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return count
+                return count[0];
+            }
+
+            @Override
+            protected Integer combine(Integer left, Integer right) {
+                return left + right;
+            }
+        });
+    }
+
+    /**
+     * Computes the sum of the values in the sequence, which is <c>0</c> if there are none.
+     */
+    @Group(type = GroupType.Sum)
+    public double sum() {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new DoubleEvaluation<Double>() {
+
+            @Override
+            protected Double evaluatePartition(DoublePipelineOperation partition) {
+
+                // add all values
+                final double[] sum = { 0 };
+                partition.push(new DoubleSink() {
+                    @Override
+                    public boolean accept(double element) {
+
+                        // add value
+                        sum[0] += element;
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return sum
+                return sum[0];
+            }
+
+            @Override
+            protected Double combine(Double left, Double right) {
+                return left + right;
+            }
+        });
+    }
+
+    /**
+     * Returns the minimum value in the sequence.
+     *
+     * @throws NoElementFoundException The sequence is empty.
+     */
+    @Group(type = GroupType.Min)
+    public double min() throws NoElementFoundException {
+
+        // evaluate partitions, in parallel if possible
+        Double result = evaluate(new DoubleEvaluation<Double>() {
+
+            @Override
+            protected Double evaluatePartition(DoublePipelineOperation partition) {
+
+                // push all values, looking for the smallest value
+                final double[] minimum = { 0 };
+                final boolean[] found = { false };
+                partition.push(new DoubleSink() {
+                    @Override
+                    public boolean accept(double element) {
+
+                        // use value if it's the first, or smaller than the minimum
+                        if (!found[0]
+                                || Double.compare(minimum[0], element) > 0) {
+                            minimum[0] = element;
+                            found[0] = true;
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return smallest value, or null if the partition is empty
+                return found[0]
+                        ? minimum[0]
+                        : null;
+            }
+
+            @Override
+            protected Double combine(Double left, Double right) {
+
+                // use the smaller of the partition minimums, ignoring empty partitions
+                return left == null
+                        || (right != null && left.compareTo(right) > 0)
+                        ? right
+                        : left;
+            }
+        });
+
+        // fail if sequence is empty
+        if (result == null) {
+            throw new NoElementFoundException("Sequence is empty.");
+        }
+
+        // return minimum
+        return result;
+    }
+
+    /**
+     * Returns the maximum value in the sequence.
+     *
+     * @throws NoElementFoundException The sequence is empty.
+     */
+    @Group(type = GroupType.Max)
+    public double max() throws NoElementFoundException {
+
+        // evaluate partitions, in parallel if possible
+        Double result = evaluate(new DoubleEvaluation<Double>() {
+
+            @Override
+            protected Double evaluatePartition(DoublePipelineOperation partition) {
+
+                // push all values, looking for the largest value
+                final double[] maximum = { 0 };
+                final boolean[] found = { false };
+                partition.push(new DoubleSink() {
+                    @Override
+                    public boolean accept(double element) {
+
+                        // use value if it's the first, or larger than the maximum
+                        if (!found[0]
+                                || Double.compare(maximum[0], element) < 0) {
+                            maximum[0] = element;
+                            found[0] = true;
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return largest value, or null if the partition is empty
+                return found[0]
+                        ? maximum[0]
+                        : null;
+            }
+
+            @Override
+            protected Double combine(Double left, Double right) {
+
+                // use the larger of the partition maximums, ignoring empty partitions
+                return left == null
+                        || (right != null && left.compareTo(right) < 0)
+                        ? right
+                        : left;
+            }
+        });
+
+        // fail if sequence is empty
+        if (result == null) {
+            throw new NoElementFoundException("Sequence is empty.");
+        }
+
+        // return maximum
+        return result;
+    }
+
+    /**
+     * Computes the count, sum, minimum, maximum and average of the values in a single pass.
+     */
+    @Group(type = GroupType.Aggregation)
+    public DoubleStatistics statistics() {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new DoubleEvaluation<DoubleStatistics>() {
+
+            @Override
+            protected DoubleStatistics evaluatePartition(DoublePipelineOperation partition) {
+
+                // add all values to statistics
+                final DoubleStatistics statistics = new DoubleStatistics();
+                partition.push(new DoubleSink() {
+                    @Override
+                    public boolean accept(double element) {
+
+                        // add value
+                        statistics.accept(element);
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return statistics
+                return statistics;
+            }
+
+            @Override
+            protected DoubleStatistics combine(DoubleStatistics left, DoubleStatistics right) {
+                left.combine(right);
+                return left;
+            }
+        });
+    }
+
+    /**
+     * Combines the sequence into a single value, on the calling thread.
+     *
+     * @param aggregator A function that combines individual values into the previous aggregate.
+     * @param initial    The initial value passed into the aggregator, which is the result if
+     *                   there are no values in the sequence.
+     */
+    @Group(type = GroupType.Reduce)
+    public double reduce(final DoubleAggregator aggregator, double initial) {
+
+        // fold all values into aggregate
+        final double[] aggregate = { initial };
+        _operation.push(new DoubleSink() {
+            @Override
+            public boolean accept(double element) {
+
+                // fold value into aggregate
+                aggregate[0] = aggregator.aggregate(aggregate[0], element);
+
+                // continue processing
+                return true;
+            }
+        });
+
+        // return aggregate
+        return aggregate[0];
+    }
+
+    /**
+     * Combines the sequence into a single value, allowing parallel pipelines to reduce
+     * partitions of the sequence concurrently and then merge the partial results in order.
+     *
+     * @param aggregator A function that combines individual values into the previous aggregate.
+     * @param initial    The initial value passed into the aggregator for each partition, which
+     *                   must be an identity value for <i>combiner</i>.
+     * @param combiner   A function that merges the aggregates of two adjacent partitions.
+     * @see Pipeline#reduce(Aggregator, Object, Combiner)
+     */
+    @Group(type = GroupType.Reduce)
+    public double reduce(final DoubleAggregator aggregator,
+                         final double initial,
+                         final DoubleAggregator combiner) {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new DoubleEvaluation<Double>() {
+
+            @Override
+            protected Double evaluatePartition(DoublePipelineOperation partition) {
+
+                // fold all values into aggregate
+                final double[] aggregate = { initial };
+                partition.push(new DoubleSink() {
+                    @Override
+                    public boolean accept(double element) {
+
+                        // fold value into aggregate
+                        aggregate[0] = aggregator.aggregate(aggregate[0], element);
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return aggregate
+                return aggregate[0];
+            }
+
+            @Override
+            protected Double combine(Double left, Double right) {
+                return combiner.aggregate(left, right);
+            }
+        });
+    }
+
+    // endregion
+
+
+    // region quantification
+
+    /**
+     * Determines whether the sequence contains any values.
+     */
+    @Group(type = GroupType.Quantification)
+    public boolean any() {
+
+        // use size of sequence, if known
+        int size = _operation.size();
+        if (size != PipelineOperation.UNKNOWN_SIZE) {
+            return size > 0;
+        }
+
+        // or stop at the first value
+        return !_operation.push(new DoubleSink() {
+            @Override
+            public boolean accept(double element) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Determines whether any value of the sequence satisfies a condition.
+     *
+     * @param predicate A predicate to test each value against.
+     */
+    @Group(type = GroupType.Quantification)
+    public boolean any(final DoublePredicate predicate) {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new DoubleEvaluation<Boolean>() {
+
+            @Override
+            protected Boolean evaluatePartition(DoublePipelineOperation partition) {
+
+                // stop at the first match
+                return !partition.push(new DoubleSink() {
+                    @Override
+                    public boolean accept(double element) {
+                        return !predicate.evaluate(element);
+                    }
+                });
+            }
+
+            @Override
+            protected Boolean combine(Boolean left, Boolean right) {
+                return left || right;
+            }
+
+            @Override
+            protected boolean isFinal(Boolean result) {
+                return result;
+            }
+        });
+    }
+
+    /**
+     * Determines whether all values of the sequence satisfy a condition.
+     *
+     * @param predicate A predicate to test each value against.
+     */
+    @Group(type = GroupType.Quantification)
+    public boolean all(final DoublePredicate predicate) {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new DoubleEvaluation<Boolean>() {
+
+            @Override
+            protected Boolean evaluatePartition(DoublePipelineOperation partition) {
+
+                // stop at the first value that doesn't match
+                return partition.push(new DoubleSink() {
+                    @Override
+                    public boolean accept(double element) {
+                        return predicate.evaluate(element);
+                    }
+                });
+            }
+
+            @Override
+            protected Boolean combine(Boolean left, Boolean right) {
+                return left && right;
+            }
+
+            @Override
+            protected boolean isFinal(Boolean result) {
+                return !result;
+            }
+        });
+    }
+
+    // endregion
+
+
+    // region conversion operations
+
+    /**
+     * Returns a {@link Pipeline} of the values in the sequence, boxed as {@link Double} instances.
+     */
+    @Group(type = GroupType.ConversionOperations)
+    public Pipeline<Double> boxed() {
+        return new Pipeline<>(new BoxedDoubleOperation(_operation), _pool);
+    }
+
+    /**
+     * Returns the values of the sequence in an array.
+     * <p>
+     * If the size of the sequence is known without iterating, the array is allocated once and
+     * filled directly.
+     */
+    @Group(type = GroupType.ConversionOperations)
+    public double[] toArray() {
+
+        // append all values, growing the array as needed
+        class ArraySink implements DoubleSink {
+
+            private double[] _values;
+            private int _count;
+
+            private ArraySink(int capacity) {
+                _values = new double[capacity];
+            }
+
+            @Override
+            public boolean accept(double element) {
+
+                // grow array if full
+                if (_count == _values.length) {
+                    _values = Arrays.copyOf(_values, Math.max(16, _count * 2));
+                }
+
+                // append value
+                _values[_count++] = element;
+
+                // continue processing
+                return true;
+            }
+        }
+
+        // allocate for the size of the sequence, if known
+        int size = _operation.size();
+        ArraySink sink = new ArraySink(size != PipelineOperation.UNKNOWN_SIZE ? size : 16);
+        _operation.push(sink);
+
+        // return values, trimming any unused capacity
+        return sink._count == sink._values.length
+                ? sink._values
+                : Arrays.copyOf(sink._values, sink._count);
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    private <TResult> TResult evaluate(DoubleEvaluation<TResult> evaluation) {
+        return evaluation.evaluate(_operation, _pool);
+    }
+
+    // endregion
+
+
+    // region DoubleIterator interface
+
+    /**
+     * Returns an iterator over the values of the sequence.
+     */
+    @Group(type = GroupType.InterfaceIterator)
+    public DoubleIterator iterator() {
+        return _operation.iterator();
+    }
+
+    // endregion
+}
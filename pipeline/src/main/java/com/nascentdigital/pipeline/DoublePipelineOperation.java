@@ -0,0 +1,42 @@
+package com.nascentdigital.pipeline;
+
+import java.util.List;
+
+
+/**
+ * A stage of an {@link DoublePipeline}, producing a sequence of unboxed <c>double</c> values.
+ *
+ * @see PipelineOperation
+ */
+public interface DoublePipelineOperation {
+
+    /**
+     * Returns an iterator over the values of the sequence.
+     */
+    DoubleIterator iterator();
+
+    /**
+     * Returns the exact number of values in the sequence, if it is known without iterating, or
+     * {@link PipelineOperation#UNKNOWN_SIZE} otherwise.
+     */
+    int size();
+
+    /**
+     * Splits the sequence into contiguous partitions that can be processed independently.
+     *
+     * @param count The desired number of partitions, which is a hint and may not be honoured.
+     * @return The partitions of the sequence, in order, or <c>null</c> if the operation cannot be
+     *         split.
+     */
+    List<DoublePipelineOperation> split(int count);
+
+    /**
+     * Pushes the values of the sequence into a sink, in order, until the sequence is exhausted
+     * or the sink stops processing.
+     *
+     * @param sink The sink receiving the values of the sequence.
+     * @return <c>false</c> if the sink stopped processing before the sequence was exhausted,
+     *         otherwise <c>true</c>.
+     */
+    boolean push(DoubleSink sink);
+}
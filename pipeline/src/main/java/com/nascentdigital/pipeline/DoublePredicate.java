@@ -0,0 +1,9 @@
+package com.nascentdigital.pipeline;
+
+/**
+ * Evaluates a condition against an unboxed <c>double</c> value.
+ */
+public interface DoublePredicate {
+
+    boolean evaluate(double value);
+}
@@ -0,0 +1,11 @@
+package com.nascentdigital.pipeline;
+
+/**
+ * Selects an unboxed <c>double</c> value from an input value.
+ *
+ * @param <TInput> The type of input values to the function.
+ */
+public interface DoubleSelector<TInput> {
+
+    double select(TInput input);
+}
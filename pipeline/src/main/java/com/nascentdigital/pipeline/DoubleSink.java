@@ -0,0 +1,17 @@
+package com.nascentdigital.pipeline;
+
+/**
+ * Receives unboxed <c>double</c> values pushed through a fused chain of
+ * {@link DoublePipelineOperation} stages.
+ */
+public interface DoubleSink {
+
+    /**
+     * Accepts the next value of a sequence.
+     *
+     * @param element The value being pushed into the sink.
+     * @return <c>true</c> if the sink should continue receiving values, or <c>false</c> to stop
+     *         processing the sequence.
+     */
+    boolean accept(double element);
+}
@@ -0,0 +1,183 @@
+package com.nascentdigital.pipeline;
+
+/**
+ * A HyperLogLog sketch, which estimates the number of distinct values added to it using a fixed
+ * amount of memory, regardless of how many values are added.
+ * <p>
+ * A sketch with precision <i>p</i> uses <c>2^p</c> one-byte registers and has a standard error
+ * of roughly <c>1.04 / sqrt(2^p)</c> (e.g. 0.81% for the default precision of 14, using 16 KB).
+ * Sketches with the same precision can be merged, so partial sketches built from separate parts
+ * of a sequence (e.g. parallel partitions, or separate batches of data) combine into the sketch
+ * of the entire sequence.
+ * <p>
+ * Values are hashed using {@link Object#hashCode()}, so values considered equal must have equal
+ * hash codes, and values with colliding hash codes are counted once.
+ */
+public final class HyperLogLog {
+
+    // region constants
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 18;
+    public static final int DEFAULT_PRECISION = 14;
+
+    // endregion
+
+
+    // region instance variables
+
+    private final int _precision;
+    private final byte[] _registers;
+
+    // endregion
+
+
+    // region constructors
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param precision The number of bits used to select a register, between
+     *                  {@link #MIN_PRECISION} and {@link #MAX_PRECISION}.
+     * @throws IllegalArgumentException The precision is out of range.
+     */
+    public HyperLogLog(int precision) {
+
+        // fail if precision is out of range
+        checkPrecision(precision);
+
+        // initialize instance variables
+        _precision = precision;
+        _registers = new byte[1 << precision];
+    }
+
+    // endregion
+
+
+    // region properties
+
+    /**
+     * Returns the number of bits used to select a register.
+     */
+    public int precision() {
+        return _precision;
+    }
+
+    // endregion
+
+
+    // region sketch operations
+
+    /**
+     * Adds a value to the sketch.
+     *
+     * @param value The value being added, which may be <c>null</c>.
+     */
+    public void add(Object value) {
+
+        // spread hash code over 64 bits
+        long hash = mix(value == null ? 0 : value.hashCode());
+
+        // use leading bits to select register, and remaining bits to determine rank
+        int index = (int) (hash >>> (64 - _precision));
+        long remaining = hash << _precision;
+        int rank = remaining == 0
+                ? 64 - _precision + 1
+                : Long.numberOfLeadingZeros(remaining) + 1;
+
+        // keep highest rank seen by register
+        if (rank > _registers[index]) {
+            _registers[index] = (byte) rank;
+        }
+    }
+
+    /**
+     * Merges another sketch into this sketch, so that it estimates the distinct values added to
+     * either sketch.
+     *
+     * @param other The sketch being merged, which is not modified.
+     * @throws IllegalArgumentException The sketches have different precisions.
+     */
+    public void merge(HyperLogLog other) {
+
+        // fail if sketches are incompatible
+        if (other._precision != _precision) {
+            throw new IllegalArgumentException("Sketches with precision " + other._precision
+                    + " can't be merged into a sketch with precision " + _precision + ".");
+        }
+
+        // keep highest rank of each register
+        byte[] registers = other._registers;
+        for (int i = 0; i < _registers.length; ++i) {
+            if (registers[i] > _registers[i]) {
+                _registers[i] = registers[i];
+            }
+        }
+    }
+
+    /**
+     * Returns the estimated number of distinct values added to the sketch.
+     */
+    public long estimate() {
+
+        // compute harmonic mean of registers, counting empty registers
+        int count = _registers.length;
+        double sum = 0;
+        int emptyCount = 0;
+        for (byte register : _registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                ++emptyCount;
+            }
+        }
+        double estimate = alpha(count) * count * count / sum;
+
+        // use linear counting for small cardinalities, where it is more accurate
+        if (estimate <= 2.5 * count
+                && emptyCount > 0) {
+            estimate = count * Math.log((double) count / emptyCount);
+        }
+
+        // return estimate
+        return Math.round(estimate);
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    static void checkPrecision(int precision) {
+        if (precision < MIN_PRECISION
+                || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Precision must be between " + MIN_PRECISION
+                    + " and " + MAX_PRECISION + ".");
+        }
+    }
+
+    private static double alpha(int count) {
+        switch (count) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1 + 1.079 / count);
+        }
+    }
+
+    private static long mix(long hash) {
+
+        // apply the MurmurHash3 64-bit finalizer
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    // endregion
+}
@@ -0,0 +1,9 @@
+package com.nascentdigital.pipeline;
+
+/**
+ * Aggregates an unboxed <c>int</c> value into an aggregate of the same type.
+ */
+public interface IntAggregator {
+
+    int aggregate(int aggregate, int element);
+}
@@ -0,0 +1,11 @@
+package com.nascentdigital.pipeline;
+
+/**
+ * Iterates over a sequence of unboxed <c>int</c> values.
+ */
+public interface IntIterator {
+
+    boolean hasNext();
+
+    int nextInt();
+}
@@ -0,0 +1,9 @@
+package com.nascentdigital.pipeline;
+
+/**
+ * Evaluates a condition against an unboxed <c>int</c> value.
+ */
+public interface IntPredicate {
+
+    boolean evaluate(int value);
+}
@@ -0,0 +1,11 @@
+package com.nascentdigital.pipeline;
+
+/**
+ * Selects an unboxed <c>int</c> value from an input value.
+ *
+ * @param <TInput> The type of input values to the function.
+ */
+public interface IntSelector<TInput> {
+
+    int select(TInput input);
+}
@@ -0,0 +1,17 @@
+package com.nascentdigital.pipeline;
+
+/**
+ * Receives unboxed <c>int</c> values pushed through a fused chain of
+ * {@link IntPipelineOperation} stages.
+ */
+public interface IntSink {
+
+    /**
+     * Accepts the next value of a sequence.
+     *
+     * @param element The value being pushed into the sink.
+     * @return <c>true</c> if the sink should continue receiving values, or <c>false</c> to stop
+     *         processing the sequence.
+     */
+    boolean accept(int element);
+}
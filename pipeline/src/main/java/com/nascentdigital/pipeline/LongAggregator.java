@@ -0,0 +1,9 @@
+package com.nascentdigital.pipeline;
+
+/**
+ * Aggregates an unboxed <c>long</c> value into an aggregate of the same type.
+ */
+public interface LongAggregator {
+
+    long aggregate(long aggregate, long element);
+}
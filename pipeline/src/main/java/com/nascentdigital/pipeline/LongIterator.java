@@ -0,0 +1,11 @@
+package com.nascentdigital.pipeline;
+
+/**
+ * Iterates over a sequence of unboxed <c>long</c> values.
+ */
+public interface LongIterator {
+
+    boolean hasNext();
+
+    long nextLong();
+}
@@ -0,0 +1,636 @@
+package com.nascentdigital.pipeline;
+
+import com.nascentdigital.pipeline.annotations.Group;
+import com.nascentdigital.pipeline.annotations.GroupType;
+import com.nascentdigital.pipeline.operations.BoxedLongOperation;
+import com.nascentdigital.pipeline.operations.LongDistinctOperation;
+import com.nascentdigital.pipeline.operations.LongEvaluation;
+import com.nascentdigital.pipeline.operations.LongFilterOperation;
+import com.nascentdigital.pipeline.operations.LongSortOperation;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * A {@link Pipeline} specialized for sequences of unboxed <c>long</c> values, which never
+ * allocates a boxed {@link Long} per element unless converted back using {@link #boxed()}.
+ */
+public final class LongPipeline {
+
+    // region instance variables
+
+    private final LongPipelineOperation _operation;
+    private final ForkJoinPool _pool;
+
+    // endregion
+
+
+    // region constructors
+
+    LongPipeline(LongPipelineOperation operation, ForkJoinPool pool) {
+        _operation = operation;
+        _pool = pool;
+    }
+
+    // endregion
+
+
+    // region parallelism
+
+    /**
+     * Returns an equivalent pipeline whose terminal operations evaluate the sequence in parallel,
+     * using the same shared {@link ForkJoinPool} as {@link Pipeline#parallel()}.
+     */
+    @Group(type = GroupType.Parallelism)
+    public LongPipeline parallel() {
+        return parallel(Pipeline.DefaultPool.instance);
+    }
+
+    /**
+     * Returns an equivalent pipeline whose terminal operations evaluate the sequence in parallel,
+     * using the specified {@link ForkJoinPool}.
+     *
+     * @param pool The pool used to evaluate partitions of the sequence.
+     */
+    @Group(type = GroupType.Parallelism)
+    public LongPipeline parallel(ForkJoinPool pool) {
+
+        // fail if pool isn't specified
+        if (pool == null) {
+            throw new IllegalArgumentException("A pool is required for parallel pipelines.");
+        }
+
+        // return new pipeline using pool
+        return new LongPipeline(_operation, pool);
+    }
+
+    /**
+     * Returns an equivalent pipeline whose terminal operations evaluate the sequence on the
+     * calling thread.
+     */
+    @Group(type = GroupType.Parallelism)
+    public LongPipeline sequential() {
+        return _pool == null
+                ? this
+                : new LongPipeline(_operation, null);
+    }
+
+    /**
+     * Determines whether terminal operations of the pipeline are evaluated in parallel.
+     */
+    @Group(type = GroupType.Parallelism)
+    public boolean isParallel() {
+        return _pool != null;
+    }
+
+    // endregion
+
+
+    // region filtering
+
+    /**
+     * Filters a sequence of values based on a predicate.
+     *
+     * @param predicate A predicate deciding what values remain in the sequence.
+     */
+    @Group(type = GroupType.Filtering)
+    public LongPipeline where(LongPredicate predicate) {
+        return new LongPipeline(new LongFilterOperation(_operation, predicate), _pool);
+    }
+
+    /**
+     * Returns distinct values from the sequence, in the order they are first encountered.
+     * <p>
+     * Values are tracked unboxed in an open-addressing hash set, instead of as boxed
+     * {@link Long} keys in a {@link java.util.HashSet}.
+     */
+    @Group(type = GroupType.Filtering)
+    public LongPipeline distinct() {
+        return new LongPipeline(new LongDistinctOperation(_operation), _pool);
+    }
+
+    // endregion
+
+
+    // region ordering
+
+    /**
+     * Sorts the values of the sequence in ascending order.
+     * <p>
+     * Large sequences are radix sorted in linear time rather than compared, in parallel for
+     * parallel pipelines.  The sequence is sorted each time the pipeline is evaluated.
+     */
+    @Group(type = GroupType.Ordering)
+    public LongPipeline sorted() {
+        return new LongPipeline(new LongSortOperation(_operation, false, _pool), _pool);
+    }
+
+    /**
+     * Sorts the values of the sequence in descending order.
+     */
+    @Group(type = GroupType.Ordering)
+    public LongPipeline sortedDescending() {
+        return new LongPipeline(new LongSortOperation(_operation, true, _pool), _pool);
+    }
+
+    // endregion
+
+
+    // region aggregation
+
+    /**
+     * Returns the number of values in the sequence.
+     */
+    @Group(type = GroupType.Aggregation)
+    public int count() {
+
+        // use size of sequence, if known
+        int size = _operation.size();
+        if (size != PipelineOperation.UNKNOWN_SIZE) {
+            return size;
+        }
+
+        // or count values, in parallel if possible
+        return evaluate(new LongEvaluation<Integer>() {
+
+            @Override
+            protected Integer evaluatePartition(LongPipelineOperation partition) {
+
+                // use size of partition, if known
+                int size = partition.size();
+                if (size != PipelineOperation.UNKNOWN_SIZE) {
+                    return size;
+                }
+
+                // or count partition values
+                final int[] count = { 0 };
+                partition.push(new LongSink() {
+                    @Override
+                    public boolean accept(long element) {
+
+                        // increment count
+                        ++count[0];
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return count
+                return count[0];
+            }
+
+            @Override
+            protected Integer combine(Integer left, Integer right) {
+                return left + right;
+            }
+        });
+    }
+
+    /**
+     * Computes the sum of the values in the sequence, which is <c>0</c> if there are none.
+     */
+    @Group(type = GroupType.Sum)
+    public long sum() {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new LongEvaluation<Long>() {
+
+            @Override
+            protected Long evaluatePartition(LongPipelineOperation partition) {
+
+                // add all values
+                final long[] sum = { 0 };
+                partition.push(new LongSink() {
+                    @Override
+                    public boolean accept(long element) {
+
+                        // add value
+                        sum[0] += element;
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return sum
+                return sum[0];
+            }
+
+            @Override
+            protected Long combine(Long left, Long right) {
+                return left + right;
+            }
+        });
+    }
+
+    /**
+     * Returns the minimum value in the sequence.
+     *
+     * @throws NoElementFoundException The sequence is empty.
+     */
+    @Group(type = GroupType.Min)
+    public long min() throws NoElementFoundException {
+
+        // evaluate partitions, in parallel if possible
+        Long result = evaluate(new LongEvaluation<Long>() {
+
+            @Override
+            protected Long evaluatePartition(LongPipelineOperation partition) {
+
+                // push all values, looking for the smallest value
+                final long[] minimum = { 0 };
+                final boolean[] found = { false };
+                partition.push(new LongSink() {
+                    @Override
+                    public boolean accept(long element) {
+
+                        // use value if it's the first, or smaller than the minimum
+                        if (!found[0]
+                                || Long.compare(minimum[0], element) > 0) {
+                            minimum[0] = element;
+                            found[0] = true;
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return smallest value, or null if the partition is empty
+                return found[0]
+                        ? minimum[0]
+                        : null;
+            }
+
+            @Override
+            protected Long combine(Long left, Long right) {
+
+                // use the smaller of the partition minimums, ignoring empty partitions
+                return left == null
+                        || (right != null && left.compareTo(right) > 0)
+                        ? right
+                        : left;
+            }
+        });
+
+        // fail if sequence is empty
+        if (result == null) {
+            throw new NoElementFoundException("Sequence is empty.");
+        }
+
+        // return minimum
+        return result;
+    }
+
+    /**
+     * Returns the maximum value in the sequence.
+     *
+     * @throws NoElementFoundException The sequence is empty.
+     */
+    @Group(type = GroupType.Max)
+    public long max() throws NoElementFoundException {
+
+        // evaluate partitions, in parallel if possible
+        Long result = evaluate(new LongEvaluation<Long>() {
+
+            @Override
+            protected Long evaluatePartition(LongPipelineOperation partition) {
+
+                // push all values, looking for the largest value
+                final long[] maximum = { 0 };
+                final boolean[] found = { false };
+                partition.push(new LongSink() {
+                    @Override
+                    public boolean accept(long element) {
+
+                        // use value if it's the first, or larger than the maximum
+                        if (!found[0]
+                                || Long.compare(maximum[0], element) < 0) {
+                            maximum[0] = element;
+                            found[0] = true;
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return largest value, or null if the partition is empty
+                return found[0]
+                        ? maximum[0]
+                        : null;
+            }
+
+            @Override
+            protected Long combine(Long left, Long right) {
+
+                // use the larger of the partition maximums, ignoring empty partitions
+                return left == null
+                        || (right != null && left.compareTo(right) < 0)
+                        ? right
+                        : left;
+            }
+        });
+
+        // fail if sequence is empty
+        if (result == null) {
+            throw new NoElementFoundException("Sequence is empty.");
+        }
+
+        // return maximum
+        return result;
+    }
+
+    /**
+     * Computes the count, sum, minimum, maximum and average of the values in a single pass.
+     */
+    @Group(type = GroupType.Aggregation)
+    public LongStatistics statistics() {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new LongEvaluation<LongStatistics>() {
+
+            @Override
+            protected LongStatistics evaluatePartition(LongPipelineOperation partition) {
+
+                // add all values to statistics
+                final LongStatistics statistics = new LongStatistics();
+                partition.push(new LongSink() {
+                    @Override
+                    public boolean accept(long element) {
+
+                        // add value
+                        statistics.accept(element);
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return statistics
+                return statistics;
+            }
+
+            @Override
+            protected LongStatistics combine(LongStatistics left, LongStatistics right) {
+                left.combine(right);
+                return left;
+            }
+        });
+    }
+
+    /**
+     * Combines the sequence into a single value, on the calling thread.
+     *
+     * @param aggregator A function that combines individual values into the previous aggregate.
+     * @param initial    The initial value passed into the aggregator, which is the result if
+     *                   there are no values in the sequence.
+     */
+    @Group(type = GroupType.Reduce)
+    public long reduce(final LongAggregator aggregator, long initial) {
+
+        // fold all values into aggregate
+        final long[] aggregate = { initial };
+        _operation.push(new LongSink() {
+            @Override
+            public boolean accept(long element) {
+
+                // fold value into aggregate
+                aggregate[0] = aggregator.aggregate(aggregate[0], element);
+
+                // continue processing
+                return true;
+            }
+        });
+
+        // return aggregate
+        return aggregate[0];
+    }
+
+    /**
+     * Combines the sequence into a single value, allowing parallel pipelines to reduce
+     * partitions of the sequence concurrently and then merge the partial results in order.
+     *
+     * @param aggregator A function that combines individual values into the previous aggregate.
+     * @param initial    The initial value passed into the aggregator for each partition, which
+     *                   must be an identity value for <i>combiner</i>.
+     * @param combiner   A function that merges the aggregates of two adjacent partitions.
+     * @see Pipeline#reduce(Aggregator, Object, Combiner)
+     */
+    @Group(type = GroupType.Reduce)
+    public long reduce(final LongAggregator aggregator,
+                       final long initial,
+                       final LongAggregator combiner) {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new LongEvaluation<Long>() {
+
+            @Override
+            protected Long evaluatePartition(LongPipelineOperation partition) {
+
+                // fold all values into aggregate
+                final long[] aggregate = { initial };
+                partition.push(new LongSink() {
+                    @Override
+                    public boolean accept(long element) {
+
+                        // fold value into aggregate
+                        aggregate[0] = aggregator.aggregate(aggregate[0], element);
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return aggregate
+                return aggregate[0];
+            }
+
+            @Override
+            protected Long combine(Long left, Long right) {
+                return combiner.aggregate(left, right);
+            }
+        });
+    }
+
+    // endregion
+
+
+    // region quantification
+
+    /**
+     * Determines whether the sequence contains any values.
+     */
+    @Group(type = GroupType.Quantification)
+    public boolean any() {
+
+        // use size of sequence, if known
+        int size = _operation.size();
+        if (size != PipelineOperation.UNKNOWN_SIZE) {
+            return size > 0;
+        }
+
+        // or stop at the first value
+        return !_operation.push(new LongSink() {
+            @Override
+            public boolean accept(long element) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Determines whether any value of the sequence satisfies a condition.
+     *
+     * @param predicate A predicate to test each value against.
+     */
+    @Group(type = GroupType.Quantification)
+    public boolean any(final LongPredicate predicate) {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new LongEvaluation<Boolean>() {
+
+            @Override
+            protected Boolean evaluatePartition(LongPipelineOperation partition) {
+
+                // stop at the first match
+                return !partition.push(new LongSink() {
+                    @Override
+                    public boolean accept(long element) {
+                        return !predicate.evaluate(element);
+                    }
+                });
+            }
+
+            @Override
+            protected Boolean combine(Boolean left, Boolean right) {
+                return left || right;
+            }
+
+            @Override
+            protected boolean isFinal(Boolean result) {
+                return result;
+            }
+        });
+    }
+
+    /**
+     * Determines whether all values of the sequence satisfy a condition.
+     *
+     * @param predicate A predicate to test each value against.
+     */
+    @Group(type = GroupType.Quantification)
+    public boolean all(final LongPredicate predicate) {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new LongEvaluation<Boolean>() {
+
+            @Override
+            protected Boolean evaluatePartition(LongPipelineOperation partition) {
+
+                // stop at the first value that doesn't match
+                return partition.push(new LongSink() {
+                    @Override
+                    public boolean accept(long element) {
+                        return predicate.evaluate(element);
+                    }
+                });
+            }
+
+            @Override
+            protected Boolean combine(Boolean left, Boolean right) {
+                return left && right;
+            }
+
+            @Override
+            protected boolean isFinal(Boolean result) {
+                return !result;
+            }
+        });
+    }
+
+    // endregion
+
+
+    // region conversion operations
+
+    /**
+     * Returns a {@link Pipeline} of the values in the sequence, boxed as {@link Long} instances.
+     */
+    @Group(type = GroupType.ConversionOperations)
+    public Pipeline<Long> boxed() {
+        return new Pipeline<>(new BoxedLongOperation(_operation), _pool);
+    }
+
+    /**
+     * Returns the values of the sequence in an array.
+     * <p>
+     * If the size of the sequence is known without iterating, the array is allocated once and
+     * filled directly.
+     */
+    @Group(type = GroupType.ConversionOperations)
+    public long[] toArray() {
+
+        // append all values, growing the array as needed
+        class ArraySink implements LongSink {
+
+            private long[] _values;
+            private int _count;
+
+            private ArraySink(int capacity) {
+                _values = new long[capacity];
+            }
+
+            @Override
+            public boolean accept(long element) {
+
+                // grow array if full
+                if (_count == _values.length) {
+                    _values = Arrays.copyOf(_values, Math.max(16, _count * 2));
+                }
+
+                // append value
+                _values[_count++] = element;
+
+                // continue processing
+                return true;
+            }
+        }
+
+        // allocate for the size of the sequence, if known
+        int size = _operation.size();
+        ArraySink sink = new ArraySink(size != PipelineOperation.UNKNOWN_SIZE ? size : 16);
+        _operation.push(sink);
+
+        // return values, trimming any unused capacity
+        return sink._count == sink._values.length
+                ? sink._values
+                : Arrays.copyOf(sink._values, sink._count);
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    private <TResult> TResult evaluate(LongEvaluation<TResult> evaluation) {
+        return evaluation.evaluate(_operation, _pool);
+    }
+
+    // endregion
+
+
+    // region LongIterator interface
+
+    /**
+     * Returns an iterator over the values of the sequence.
+     */
+    @Group(type = GroupType.InterfaceIterator)
+    public LongIterator iterator() {
+        return _operation.iterator();
+    }
+
+    // endregion
+}
@@ -0,0 +1,9 @@
+package com.nascentdigital.pipeline;
+
+/**
+ * Evaluates a condition against an unboxed <c>long</c> value.
+ */
+public interface LongPredicate {
+
+    boolean evaluate(long value);
+}
@@ -0,0 +1,11 @@
+package com.nascentdigital.pipeline;
+
+/**
+ * Selects an unboxed <c>long</c> value from an input value.
+ *
+ * @param <TInput> The type of input values to the function.
+ */
+public interface LongSelector<TInput> {
+
+    long select(TInput input);
+}
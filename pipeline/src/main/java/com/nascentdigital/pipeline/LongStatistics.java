@@ -0,0 +1,158 @@
+package com.nascentdigital.pipeline;
+
+/**
+ * Summarizes a sequence of <c>long</c> values in a single pass, tracking the count, sum, minimum,
+ * maximum and average of the values.
+ * <p>
+ * Statistics for separate parts of a sequence (e.g. the partitions of a parallel pipeline, or
+ * separate batches of data) can be merged using {@link #combine(LongStatistics)}.
+ */
+public final class LongStatistics {
+
+    // region instance variables
+
+    private long _count;
+    private long _sum;
+    private long _min;
+    private long _max;
+
+    // endregion
+
+
+    // region accumulation
+
+    /**
+     * Adds a value to the statistics.
+     *
+     * @param value The value being added.
+     */
+    public void accept(long value) {
+
+        // use value as minimum and maximum if it's the first
+        if (_count == 0) {
+            _min = value;
+            _max = value;
+        }
+
+        // or update minimum and maximum (if applicable)
+        else {
+            if (Long.compare(_min, value) > 0) {
+                _min = value;
+            }
+            if (Long.compare(_max, value) < 0) {
+                _max = value;
+            }
+        }
+
+        // update count and sum
+        ++_count;
+        _sum += value;
+    }
+
+    /**
+     * Merges the statistics of another set of values into these statistics.
+     *
+     * @param other The statistics being merged, which are not modified.
+     */
+    public void combine(LongStatistics other) {
+
+        // skip empty statistics
+        if (other._count == 0) {
+            return;
+        }
+
+        // use other minimum and maximum if these statistics are empty
+        if (_count == 0) {
+            _min = other._min;
+            _max = other._max;
+        }
+
+        // or update minimum and maximum (if applicable)
+        else {
+            if (Long.compare(_min, other._min) > 0) {
+                _min = other._min;
+            }
+            if (Long.compare(_max, other._max) < 0) {
+                _max = other._max;
+            }
+        }
+
+        // update count and sum
+        _count += other._count;
+        _sum += other._sum;
+    }
+
+    // endregion
+
+
+    // region properties
+
+    /**
+     * Returns the number of values.
+     */
+    public long count() {
+        return _count;
+    }
+
+    /**
+     * Returns the sum of the values, which is <c>0</c> if there are none.
+     */
+    public long sum() {
+        return _sum;
+    }
+
+    /**
+     * Returns the minimum value.
+     *
+     * @throws NoElementFoundException There are no values.
+     */
+    public long min() throws NoElementFoundException {
+
+        // fail if there are no values
+        failIfEmpty();
+
+        // return minimum
+        return _min;
+    }
+
+    /**
+     * Returns the maximum value.
+     *
+     * @throws NoElementFoundException There are no values.
+     */
+    public long max() throws NoElementFoundException {
+
+        // fail if there are no values
+        failIfEmpty();
+
+        // return maximum
+        return _max;
+    }
+
+    /**
+     * Returns the arithmetic mean of the values.
+     *
+     * @throws NoElementFoundException There are no values.
+     */
+    public double average() throws NoElementFoundException {
+
+        // fail if there are no values
+        failIfEmpty();
+
+        // return average
+        return (double) _sum / _count;
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    private void failIfEmpty() {
+        if (_count == 0) {
+            throw new NoElementFoundException("Sequence is empty.");
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,254 @@
+package com.nascentdigital.pipeline;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+
+/**
+ * An immutable index of elements by key, where each key maps to every element that produced it.
+ * <p>
+ * Elements are stored in a single backing array, ordered by key, with each key mapping to a range
+ * of that array, so probing a key takes constant time.  The only storage kept per key is its
+ * entry in a hash map and its offset into the array; the groups of a key are only created as
+ * views over its range when it is retrieved or iterated.  Keys are iterated in the order they
+ * were first encountered, and the elements of each key retain their original order.  Keys may be
+ * <c>null</c>.
+ */
+public final class Lookup<TKey, TElement> implements Iterable<Grouping<TKey, TElement>> {
+
+    // region instance variables
+
+    private final Map<TKey, Integer> _indices;
+    private final Object[] _keys;
+    private final int[] _offsets;
+    private final Object[] _elements;
+
+    // endregion
+
+
+    // region constructors
+
+    private Lookup(Map<TKey, Integer> indices, Object[] keys, int[] offsets, Object[] elements) {
+        _indices = indices;
+        _keys = keys;
+        _offsets = offsets;
+        _elements = elements;
+    }
+
+    // endregion
+
+
+    // region properties
+
+    /**
+     * Returns the number of distinct keys in the lookup.
+     */
+    public int size() {
+        return _keys.length;
+    }
+
+    // endregion
+
+
+    // region lookup operations
+
+    /**
+     * Determines whether the lookup contains a key.
+     *
+     * @param key The key being located, which may be <c>null</c>.
+     */
+    public boolean contains(TKey key) {
+        return _indices.containsKey(key);
+    }
+
+    /**
+     * Returns the number of elements with a key, or <c>0</c> if the lookup doesn't contain it.
+     *
+     * @param key The key being located, which may be <c>null</c>.
+     */
+    public int count(TKey key) {
+        Integer index = _indices.get(key);
+        return index == null
+                ? 0
+                : _offsets[index + 1] - _offsets[index];
+    }
+
+    /**
+     * Returns the elements with a key, in their original order, or an empty sequence if the
+     * lookup doesn't contain it.
+     *
+     * @param key The key being located, which may be <c>null</c>.
+     */
+    public Iterable<TElement> get(TKey key) {
+        Integer index = _indices.get(key);
+        return index == null
+                ? Collections.<TElement>emptyList()
+                : group(index);
+    }
+
+    // endregion
+
+
+    // region Iterable<Grouping<TKey, TElement>> interface
+
+    @Override
+    public Iterator<Grouping<TKey, TElement>> iterator() {
+        return new Iterator<Grouping<TKey, TElement>>() {
+
+            private int _index;
+
+            @Override
+            public boolean hasNext() {
+                return _index < _keys.length;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public Grouping<TKey, TElement> next() {
+
+                // fail if there are no more keys
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                // return grouping of next key
+                int index = _index++;
+                return new Grouping<>((TKey) _keys[index], group(index));
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("Not implemented.");
+            }
+        };
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    /**
+     * Returns a read-only view of the elements of a key.
+     */
+    private List<TElement> group(int index) {
+        return new Group<>(_elements, _offsets[index], _offsets[index + 1]);
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    /**
+     * A read-only view of a range of the backing array.
+     */
+    private static final class Group<TElement> extends AbstractList<TElement>
+            implements RandomAccess {
+
+        private final Object[] _elements;
+        private final int _start;
+        private final int _end;
+
+        Group(Object[] elements, int start, int end) {
+            _elements = elements;
+            _start = start;
+            _end = end;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public TElement get(int index) {
+
+            // fail if index is outside of the range
+            if (index < 0
+                    || index >= _end - _start) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+
+            // return element
+            return (TElement) _elements[_start + index];
+        }
+
+        @Override
+        public int size() {
+            return _end - _start;
+        }
+    }
+
+    /**
+     * Collects elements by key, then packs them into a {@link Lookup}.  A builder is not thread
+     * safe, and shouldn't be used after building a lookup.
+     */
+    static final class Builder<TKey, TElement> {
+
+        private final Map<TKey, Integer> _indices = new HashMap<>();
+        private final List<TKey> _keys = new ArrayList<>();
+        private int[] _counts = new int[16];
+        private Object[] _elements = new Object[16];
+        private int[] _elementIndices = new int[16];
+        private int _count;
+
+        /**
+         * Adds an element with its key.
+         */
+        void add(TKey key, TElement element) {
+
+            // get index of key, or assign one
+            Integer index = _indices.get(key);
+            if (index == null) {
+                index = _keys.size();
+                _indices.put(key, index);
+                _keys.add(key);
+                if (index == _counts.length) {
+                    _counts = Arrays.copyOf(_counts, index * 2);
+                }
+            }
+
+            // grow arrays if full
+            if (_count == _elements.length) {
+                _elements = Arrays.copyOf(_elements, _count * 2);
+                _elementIndices = Arrays.copyOf(_elementIndices, _count * 2);
+            }
+
+            // append element, tracking its key
+            _elements[_count] = element;
+            _elementIndices[_count] = index;
+            ++_count;
+            ++_counts[index];
+        }
+
+        /**
+         * Creates a lookup from the elements added so far.
+         */
+        Lookup<TKey, TElement> build() {
+
+            // compute start of each key's range, followed by the end of the last range
+            int keyCount = _keys.size();
+            int[] offsets = new int[keyCount + 1];
+            for (int i = 0; i < keyCount; ++i) {
+                offsets[i + 1] = offsets[i] + _counts[i];
+            }
+
+            // place each element at the next position of its key's range, keeping their order
+            int[] positions = Arrays.copyOf(offsets, keyCount);
+            Object[] elements = new Object[_count];
+            for (int i = 0; i < _count; ++i) {
+                elements[positions[_elementIndices[i]]++] = _elements[i];
+            }
+
+            // return lookup
+            return new Lookup<>(_indices, _keys.toArray(), offsets, elements);
+        }
+    }
+
+    // endregion
+}
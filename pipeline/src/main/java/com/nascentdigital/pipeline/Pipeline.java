@@ -3,28 +3,51 @@ package com.nascentdigital.pipeline;
 
 import com.nascentdigital.pipeline.annotations.Group;
 import com.nascentdigital.pipeline.annotations.GroupType;
+import com.nascentdigital.pipeline.operations.AggregateByOperation;
 import com.nascentdigital.pipeline.operations.ArraySourceOperation;
+import com.nascentdigital.pipeline.operations.CacheOperation;
 import com.nascentdigital.pipeline.operations.CastOperation;
 import com.nascentdigital.pipeline.operations.ConcatOperation;
+import com.nascentdigital.pipeline.operations.CountByOperation;
+import com.nascentdigital.pipeline.operations.DistinctByOperation;
+import com.nascentdigital.pipeline.operations.DistinctKey;
 import com.nascentdigital.pipeline.operations.DistinctOperation;
+import com.nascentdigital.pipeline.operations.DoubleArraySourceOperation;
+import com.nascentdigital.pipeline.operations.DoubleProjectionOperation;
+import com.nascentdigital.pipeline.operations.Evaluation;
 import com.nascentdigital.pipeline.operations.FilterOperation;
 import com.nascentdigital.pipeline.operations.FlatProjectionOperation;
+import com.nascentdigital.pipeline.operations.GroupAdjacentOperation;
 import com.nascentdigital.pipeline.operations.GroupByOperation;
+import com.nascentdigital.pipeline.operations.GroupJoinOperation;
+import com.nascentdigital.pipeline.operations.IntArraySourceOperation;
+import com.nascentdigital.pipeline.operations.IntProjectionOperation;
 import com.nascentdigital.pipeline.operations.IterableSourceOperation;
+import com.nascentdigital.pipeline.operations.JoinKey;
+import com.nascentdigital.pipeline.operations.JoinOperation;
+import com.nascentdigital.pipeline.operations.LongArraySourceOperation;
+import com.nascentdigital.pipeline.operations.LongProjectionOperation;
+import com.nascentdigital.pipeline.operations.MergeJoinOperation;
 import com.nascentdigital.pipeline.operations.ProjectionOperation;
 import com.nascentdigital.pipeline.operations.SkipOperation;
 import com.nascentdigital.pipeline.operations.SkipWhileOperation;
+import com.nascentdigital.pipeline.operations.SortKey;
+import com.nascentdigital.pipeline.operations.SortOperation;
+import com.nascentdigital.pipeline.operations.SpillingDistinctOperation;
+import com.nascentdigital.pipeline.operations.SpillingGroupByOperation;
+import com.nascentdigital.pipeline.operations.SumByOperation;
 import com.nascentdigital.pipeline.operations.TakeOperation;
 import com.nascentdigital.pipeline.operations.TakeWhileOperation;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ForkJoinPool;
 
 
 /**
@@ -37,6 +60,7 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
     // region instance variables
 
     private final PipelineOperation<TElement> _operation;
+    private final ForkJoinPool _pool;
 
     // endregion
 
@@ -44,7 +68,12 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
     // region constructors
 
     private Pipeline(PipelineOperation<TElement> operation) {
+        this(operation, null);
+    }
+
+    Pipeline(PipelineOperation<TElement> operation, ForkJoinPool pool) {
         _operation = operation;
+        _pool = pool;
     }
 
     // endregion
@@ -92,6 +121,126 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
         return new Pipeline<>(new IterableSourceOperation<>(source));
     }
 
+    /**
+     * Creates a new {@link IntPipeline} using the specified array of unboxed <c>int</c> values
+     * as the initial sequence source.
+     *
+     * @param source An array to be used as a source.
+     */
+    @Group(type = GroupType.Creation)
+    public static IntPipeline from(int[] source) {
+        return new IntPipeline(new IntArraySourceOperation(source), null);
+    }
+
+    /**
+     * Creates a new {@link LongPipeline} using the specified array of unboxed <c>long</c> values
+     * as the initial sequence source.
+     *
+     * @param source An array to be used as a source.
+     */
+    @Group(type = GroupType.Creation)
+    public static LongPipeline from(long[] source) {
+        return new LongPipeline(new LongArraySourceOperation(source), null);
+    }
+
+    /**
+     * Creates a new {@link DoublePipeline} using the specified array of unboxed <c>double</c> values
+     * as the initial sequence source.
+     *
+     * @param source An array to be used as a source.
+     */
+    @Group(type = GroupType.Creation)
+    public static DoublePipeline from(double[] source) {
+        return new DoublePipeline(new DoubleArraySourceOperation(source), null);
+    }
+
+    // endregion
+
+
+    // region parallelism
+
+    /**
+     * Returns an equivalent pipeline whose terminal operations evaluate the sequence in parallel,
+     * using a shared {@link ForkJoinPool} sized to the number of available processors.
+     * <p>
+     * Sequences are split into partitions when the source is indexed (an array or random access
+     * list) and the stages that follow it are stateless (e.g. <c>where()</c>, <c>map()</c>,
+     * <c>flatMap()</c> or <c>cast()</c>); otherwise the sequence is evaluated on the calling
+     * thread.  Aggregations such as <c>count()</c>, <c>sumLongs()</c>, <c>minInteger()</c>,
+     * <c>any()</c> and <c>all()</c> combine the results of each partition, so selectors and
+     * predicates must be safe to call concurrently.
+     */
+    @Group(type = GroupType.Parallelism)
+    public Pipeline<TElement> parallel() {
+        return parallel(DefaultPool.instance);
+    }
+
+    /**
+     * Returns an equivalent pipeline whose terminal operations evaluate the sequence in parallel,
+     * using the specified {@link ForkJoinPool}.
+     *
+     * @param pool The pool used to evaluate partitions of the sequence.
+     * @see #parallel()
+     */
+    @Group(type = GroupType.Parallelism)
+    public Pipeline<TElement> parallel(ForkJoinPool pool) {
+
+        // fail if pool isn't specified
+        if (pool == null) {
+            throw new IllegalArgumentException("A pool is required for parallel pipelines.");
+        }
+
+        // return new pipeline using pool
+        return new Pipeline<>(_operation, pool);
+    }
+
+    /**
+     * Returns an equivalent pipeline whose terminal operations evaluate the sequence on the
+     * calling thread.
+     */
+    @Group(type = GroupType.Parallelism)
+    public Pipeline<TElement> sequential() {
+        return _pool == null
+                ? this
+                : new Pipeline<>(_operation);
+    }
+
+    /**
+     * Determines whether terminal operations of the pipeline are evaluated in parallel.
+     */
+    @Group(type = GroupType.Parallelism)
+    public boolean isParallel() {
+        return _pool != null;
+    }
+
+    // endregion
+
+
+    // region caching
+
+    /**
+     * Returns an equivalent pipeline that evaluates the sequence once, the first time it is
+     * accessed, and replays the buffered elements for every later iteration or terminal
+     * operation instead of re-evaluating the stages before it.
+     * <p>
+     * The buffered sequence is indexed, so stages applied after caching can use positional access
+     * (e.g. <c>skip()</c>, <c>elementAt()</c>) and be split for parallel evaluation.
+     */
+    @Group(type = GroupType.Caching)
+    public Pipeline<TElement> cache() {
+        return new Pipeline<>(new CacheOperation<>(_operation, false), _pool);
+    }
+
+    /**
+     * Returns an equivalent pipeline that caches the evaluated sequence like {@link #cache()},
+     * but allows the garbage collector to drop the buffered elements under memory pressure, in
+     * which case the sequence is evaluated again the next time it is accessed.
+     */
+    @Group(type = GroupType.Caching)
+    public Pipeline<TElement> softCache() {
+        return new Pipeline<>(new CacheOperation<>(_operation, true), _pool);
+    }
+
     // endregion
 
 
@@ -103,6 +252,7 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      * @param addition The sequence to concatenate to the first sequence.
      */
     @Group(type = GroupType.Concatenation)
+    @SuppressWarnings("unchecked")
     public Pipeline<TElement> concat(Iterable<TElement> addition) {
 
         // return self if iterable is null
@@ -110,8 +260,11 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
             return this;
         }
 
-        // or return new pipeline using iterable
-        return new Pipeline<>(new ConcatOperation<>(this, addition));
+        // or return new pipeline using iterable, fusing directly with pipelines
+        PipelineOperation<TElement> operation = addition instanceof Pipeline
+                ? ((Pipeline<TElement>)addition)._operation
+                : new IterableSourceOperation<>(addition);
+        return new Pipeline<>(new ConcatOperation<>(_operation, operation), _pool);
     }
 
     /**
@@ -128,7 +281,8 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
         }
 
         // or return new pipeline using array
-        return new Pipeline<>(new ConcatOperation<>(this, Arrays.asList(addition)));
+        return new Pipeline<>(new ConcatOperation<>(_operation,
+                new ArraySourceOperation<>(addition)), _pool);
     }
 
     /**
@@ -139,40 +293,39 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      *                  in the sequence by
      */
     @Group(type = GroupType.Concatenation)
-    public String join(CharSequence separator) {
+    public String join(final CharSequence separator) {
 
         // create buffer for new string
-        StringBuilder builder = new StringBuilder();
+        final StringBuilder builder = new StringBuilder();
 
-        // add first element
-        Iterator<TElement> iterator = iterator();
-        if (iterator.hasNext()) {
+        // push all elements into the buffer
+        _operation.push(new Sink<TElement>() {
 
-            // normalize string
-            TElement element = iterator.next();
-            String string = element == null
-                    ? ""
-                    : element.toString();
+            private boolean _first = true;
 
-            // and append it
-            builder.append(string);
-        }
+            @Override
+            public boolean accept(TElement element) {
 
-        // add remaining elements
-        while (iterator.hasNext()) {
+                // add separator before all but the first element
+                if (_first) {
+                    _first = false;
+                }
+                else {
+                    builder.append(separator);
+                }
 
-            // add separator
-            builder.append(separator);
+                // normalize string
+                String string = element == null
+                        ? ""
+                        : element.toString();
 
-            // normalize string
-            TElement element = iterator.next();
-            String string = element == null
-                    ? ""
-                    : element.toString();
+                // and append it
+                builder.append(string);
 
-            // and append it
-            builder.append(string);
-        }
+                // continue processing
+                return true;
+            }
+        });
 
         // return final string
         return builder.toString();
@@ -190,7 +343,7 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      */
     @Group(type = GroupType.Filtering)
     public Pipeline<TElement> where(Predicate<TElement> predicate) {
-        return new Pipeline<>(new FilterOperation<>(this, predicate));
+        return new Pipeline<>(new FilterOperation<>(_operation, predicate), _pool);
     }
 
     /**
@@ -199,7 +352,75 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      */
     @Group(type = GroupType.Filtering)
     public Pipeline<TElement> distinct() {
-        return new Pipeline<>(new DistinctOperation<>(this));
+        return new Pipeline<>(new DistinctOperation<>(_operation), _pool);
+    }
+
+    /**
+     * Returns distinct elements from a sequence, in the order they are first encountered, while
+     * keeping at most <i>memoryLimit</i> distinct elements in memory.
+     * <p>
+     * Once the limit is reached, elements that haven't been seen yet are encoded with
+     * <i>codec</i> and spilled to temporary files partitioned by hash code, which are
+     * deduplicated and merged back into order after the rest of the sequence has been evaluated.
+     * Elements must therefore have a {@link Object#hashCode()} consistent with
+     * {@link Object#equals(Object)}, and survive a round trip through the codec.
+     *
+     * @param codec       Encodes and decodes spilled elements.
+     * @param memoryLimit The maximum number of distinct elements kept in memory.
+     * @throws IllegalArgumentException The codec is missing or the memory limit is less than
+     *                                  <c>1</c>.
+     */
+    @Group(type = GroupType.Filtering)
+    public Pipeline<TElement> distinct(Codec<TElement> codec, int memoryLimit) {
+
+        // fail if arguments are invalid
+        if (codec == null) {
+            throw new IllegalArgumentException("A codec is required to spill elements.");
+        }
+        if (memoryLimit < 1) {
+            throw new IllegalArgumentException("Memory limit must be at least 1 element.");
+        }
+
+        // return new pipeline
+        return new Pipeline<>(
+                new SpillingDistinctOperation<>(_operation, codec, memoryLimit), _pool);
+    }
+
+    /**
+     * Returns the elements of a sequence whose keys are distinct, keeping the first element
+     * encountered for each key.
+     * <p>
+     * Only the keys are retained while the sequence is evaluated, rather than every distinct
+     * element, and {@link Integer} or {@link Long} keys are tracked unboxed.
+     *
+     * @param keySelector A function returning the key used to compare each element.
+     * @param <TKey>      The type of the key returned by <i>keySelector</i>.
+     */
+    @Group(type = GroupType.Filtering)
+    public <TKey> Pipeline<TElement> distinctBy(Selector<TElement, TKey> keySelector) {
+        return distinctBy(DistinctKey.of(keySelector));
+    }
+
+    /**
+     * Returns the elements of a sequence whose <c>int</c> keys are distinct, keeping the first
+     * element encountered for each key, without boxing the keys.
+     *
+     * @param keySelector A function returning the key used to compare each element.
+     */
+    @Group(type = GroupType.Filtering)
+    public Pipeline<TElement> distinctByInt(IntSelector<TElement> keySelector) {
+        return distinctBy(DistinctKey.ofInt(keySelector));
+    }
+
+    /**
+     * Returns the elements of a sequence whose <c>long</c> keys are distinct, keeping the first
+     * element encountered for each key, without boxing the keys.
+     *
+     * @param keySelector A function returning the key used to compare each element.
+     */
+    @Group(type = GroupType.Filtering)
+    public Pipeline<TElement> distinctByLong(LongSelector<TElement> keySelector) {
+        return distinctBy(DistinctKey.ofLong(keySelector));
     }
 
     // endregion
@@ -215,7 +436,7 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      */
     @Group(type = GroupType.Projection)
     public <TProjected> Pipeline<TProjected> map(Selector<TElement, TProjected> selector) {
-        return new Pipeline<>(new ProjectionOperation<>(this, selector));
+        return new Pipeline<>(new ProjectionOperation<>(_operation, selector), _pool);
     }
 
     /**
@@ -228,7 +449,40 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
     @Group(type = GroupType.Projection)
     public <TProjected> Pipeline<TProjected> flatMap(Selector<TElement,
             Iterable<TProjected>> selector) {
-        return new Pipeline<>(new FlatProjectionOperation<>(this, selector));
+        return new Pipeline<>(new FlatProjectionOperation<>(_operation, selector), _pool);
+    }
+
+    /**
+     * Projects each element of a sequence into an unboxed <c>int</c> value, returning an
+     * {@link IntPipeline} whose filters and aggregations don't box values.
+     *
+     * @param selector A transform function to apply to each element.
+     */
+    @Group(type = GroupType.Projection)
+    public IntPipeline mapToInt(IntSelector<TElement> selector) {
+        return new IntPipeline(new IntProjectionOperation<>(_operation, selector), _pool);
+    }
+
+    /**
+     * Projects each element of a sequence into an unboxed <c>long</c> value, returning a
+     * {@link LongPipeline} whose filters and aggregations don't box values.
+     *
+     * @param selector A transform function to apply to each element.
+     */
+    @Group(type = GroupType.Projection)
+    public LongPipeline mapToLong(LongSelector<TElement> selector) {
+        return new LongPipeline(new LongProjectionOperation<>(_operation, selector), _pool);
+    }
+
+    /**
+     * Projects each element of a sequence into an unboxed <c>double</c> value, returning a
+     * {@link DoublePipeline} whose filters and aggregations don't box values.
+     *
+     * @param selector A transform function to apply to each element.
+     */
+    @Group(type = GroupType.Projection)
+    public DoublePipeline mapToDouble(DoubleSelector<TElement> selector) {
+        return new DoublePipeline(new DoubleProjectionOperation<>(_operation, selector), _pool);
     }
 
     // endregion
@@ -246,7 +500,7 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      */
     @Group(type = GroupType.PartitionOperators)
     public Pipeline<TElement> skip(int count) {
-        return new Pipeline<>(new SkipOperation<>(this, count));
+        return new Pipeline<>(new SkipOperation<>(_operation, count), _pool);
     }
 
     /**
@@ -257,7 +511,7 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      */
     @Group(type = GroupType.PartitionOperators)
     public Pipeline<TElement> skipWhile(Predicate<TElement> predicate) {
-        return new Pipeline<>(new SkipWhileOperation<>(this, predicate));
+        return new Pipeline<>(new SkipWhileOperation<>(_operation, predicate), _pool);
     }
 
     /**
@@ -270,7 +524,14 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      */
     @Group(type = GroupType.PartitionOperators)
     public Pipeline<TElement> take(int count) {
-        return new Pipeline<>(new TakeOperation<>(this, count));
+
+        // select only the first elements of an ordering, rather than sorting every element
+        if (_operation instanceof SortOperation) {
+            return new Pipeline<>(((SortOperation<TElement>) _operation).take(count), _pool);
+        }
+
+        // or take elements from the sequence
+        return new Pipeline<>(new TakeOperation<>(_operation, count), _pool);
     }
 
     /**
@@ -280,7 +541,7 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      */
     @Group(type = GroupType.PartitionOperators)
     public Pipeline<TElement> takeWhile(Predicate<TElement> predicate) {
-        return new Pipeline<>(new TakeWhileOperation<>(this, predicate));
+        return new Pipeline<>(new TakeWhileOperation<>(_operation, predicate), _pool);
     }
 
     // endregion
@@ -303,39 +564,102 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
     @Group(type = GroupType.Reduce)
     public <TOutput> TOutput reduce(Aggregator<TElement, TOutput> aggregator, TOutput initial) {
 
-        // start aggregate as null
-        TOutput aggregate = initial;
-
         // process all elements
-        for (TElement element : this) {
-            aggregate = aggregator.aggregate(aggregate, element);
-        }
+        return reducePartition(_operation, aggregator, initial);
+    }
 
-        // return aggregate
-        return aggregate;
+    /**
+     * Combines the sequence into a singular {@link TOutput} value, allowing parallel pipelines to
+     * reduce partitions of the sequence concurrently and then merge the partial results.
+     * <p>
+     * Each partition is reduced starting from <i>initial</i>, so it must be an identity value for
+     * <i>combiner</i> (e.g. <c>0</c> for addition) and must not be modified by <i>aggregator</i>.
+     * Partial results are always combined in sequence order, so <i>combiner</i> only needs to be
+     * associative, not commutative.
+     *
+     * @param aggregator A function that combines individual sequence elements into the previous
+     *                   aggregator value.
+     * @param initial    The initial value passed into the aggregator for each partition, which is
+     *                   the final result if there are no elements in the sequence.
+     * @param combiner   A function that merges the aggregates of two adjacent partitions.
+     * @param <TOutput>  The type of the value passed in/out of the aggregator, also representing
+     *                   the final result of the <c>reduce()</c> method.
+     */
+    @Group(type = GroupType.Reduce)
+    public <TOutput> TOutput reduce(final Aggregator<TElement, TOutput> aggregator,
+                                    final TOutput initial,
+                                    final Combiner<TOutput> combiner) {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, TOutput>() {
+
+            @Override
+            protected TOutput evaluatePartition(PipelineOperation<TElement> partition) {
+                return reducePartition(partition, aggregator, initial);
+            }
+
+            @Override
+            protected TOutput combine(TOutput left, TOutput right) {
+                return combiner.combine(left, right);
+            }
+        });
     }
 
     // endregion
 
     // region count
 
+    /**
+     * Returns the number of elements in a sequence.
+     * <p>
+     * If the size of the sequence is known without iterating (e.g. an array or collection source
+     * that is only projected, cast, concatenated, skipped or taken) it is returned immediately,
+     * without evaluating any projections.
+     */
     @Group(type = GroupType.Aggregation)
     public int count() {
 
-        // count sequence items, including null
-        int count = 0;
-        Iterator<TElement> iterator = iterator();
-        while (iterator.hasNext()) {
+        // use size of sequence, if known
+        int size = _operation.size();
+        if (size != PipelineOperation.UNKNOWN_SIZE) {
+            return size;
+        }
 
-            // increment count
-            ++count;
+        // or count sequence items, including null, in parallel if possible
+        return evaluate(new Evaluation<TElement, Integer>() {
 
-            // iterate
-            iterator.next();
-        }
+            @Override
+            protected Integer evaluatePartition(PipelineOperation<TElement> partition) {
+
+                // use size of partition, if known
+                int size = partition.size();
+                if (size != PipelineOperation.UNKNOWN_SIZE) {
+                    return size;
+                }
+
+                // or count partition items
+                final int[] count = { 0 };
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
+
+                        // increment count
+                        ++count[0];
 
-        // return count
-        return count;
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return count
+                return count[0];
+            }
+
+            @Override
+            protected Integer combine(Integer left, Integer right) {
+                return left + right;
+            }
+        });
     }
 
     /**
@@ -344,18 +668,39 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      * @param predicate A predicate deciding what gets matched.
      */
     @Group(type = GroupType.Aggregation)
-    public int count(Predicate<TElement> predicate) {
+    public int count(final Predicate<TElement> predicate) {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Integer>() {
+
+            @Override
+            protected Integer evaluatePartition(PipelineOperation<TElement> partition) {
+
+                // evaluate all items matching a predicate
+                final int[] count = { 0 };
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
+
+                        // increment count if predicate passes
+                        if (predicate.evaluate(element)) {
+                            ++count[0];
+                        }
 
-        // evaluate all items matching a predicate
-        int count = 0;
-        for (TElement element : this) {
-            if (predicate.evaluate(element)) {
-                ++count;
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return count
+                return count[0];
             }
-        }
 
-        // return count
-        return count;
+            @Override
+            protected Integer combine(Integer left, Integer right) {
+                return left + right;
+            }
+        });
     }
 
     // endregion
@@ -368,23 +713,44 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      * @param selector A selector that targets the bytes being evaluated.
      */
     @Group(type = GroupType.Sum)
-    public byte sumBytes(Selector<TElement, Number> selector) {
+    public byte sumBytes(final Selector<TElement, Number> selector) {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Byte>() {
 
-        // iterate through all values, adding as we go
-        byte total = 0;
-        for (TElement element : this) {
+            @Override
+            protected Byte evaluatePartition(PipelineOperation<TElement> partition) {
 
-            // get next value
-            Number value = selector.select(element);
+                // push all values, adding as we go
+                final byte[] total = { 0 };
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
 
-            // add value if it isn't null
-            if (value != null) {
-                total += value.byteValue();
+                        // get next value
+                        Number value = selector.select(element);
+
+                        // add value if it isn't null
+                        if (value != null) {
+                            total[0] += value.byteValue();
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return sum
+                return total[0];
             }
-        }
 
-        // return sum
-        return total;
+            @Override
+            protected Byte combine(Byte left, Byte right) {
+
+                // add partition totals
+                return (byte)(left + right);
+            }
+        });
     }
 
     /**
@@ -393,23 +759,44 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      * @param selector A selector that targets the shorts being evaluated.
      */
     @Group(type = GroupType.Sum)
-    public short sumShorts(Selector<TElement, Number> selector) {
+    public short sumShorts(final Selector<TElement, Number> selector) {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Short>() {
+
+            @Override
+            protected Short evaluatePartition(PipelineOperation<TElement> partition) {
 
-        // iterate through all values, adding as we go
-        short total = 0;
-        for (TElement element : this) {
+                // push all values, adding as we go
+                final short[] total = { 0 };
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
 
-            // get next value
-            Number value = selector.select(element);
+                        // get next value
+                        Number value = selector.select(element);
 
-            // add value if it isn't null
-            if (value != null) {
-                total += value.shortValue();
+                        // add value if it isn't null
+                        if (value != null) {
+                            total[0] += value.shortValue();
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return sum
+                return total[0];
             }
-        }
 
-        // return sum
-        return total;
+            @Override
+            protected Short combine(Short left, Short right) {
+
+                // add partition totals
+                return (short)(left + right);
+            }
+        });
     }
 
     /**
@@ -418,23 +805,44 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      * @param selector A selector that targets the integers being evaluated.
      */
     @Group(type = GroupType.Sum)
-    public int sumInts(Selector<TElement, Number> selector) {
+    public int sumInts(final Selector<TElement, Number> selector) {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Integer>() {
+
+            @Override
+            protected Integer evaluatePartition(PipelineOperation<TElement> partition) {
+
+                // push all values, adding as we go
+                final int[] total = { 0 };
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
 
-        // iterate through all values, adding as we go
-        int total = 0;
-        for (TElement element : this) {
+                        // get next value
+                        Number value = selector.select(element);
 
-            // get next value
-            Number value = selector.select(element);
+                        // add value if it isn't null
+                        if (value != null) {
+                            total[0] += value.intValue();
+                        }
 
-            // add value if it isn't null
-            if (value != null) {
-                total += value.intValue();
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return sum
+                return total[0];
             }
-        }
 
-        // return sum
-        return total;
+            @Override
+            protected Integer combine(Integer left, Integer right) {
+
+                // add partition totals
+                return left + right;
+            }
+        });
     }
 
     /**
@@ -443,23 +851,44 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      * @param selector A selector that targets the longs being evaluated.
      */
     @Group(type = GroupType.Sum)
-    public long sumLongs(Selector<TElement, Number> selector) {
+    public long sumLongs(final Selector<TElement, Number> selector) {
 
-        // iterate through all values, adding as we go
-        long total = 0;
-        for (TElement element : this) {
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Long>() {
 
-            // get next value
-            Number value = selector.select(element);
+            @Override
+            protected Long evaluatePartition(PipelineOperation<TElement> partition) {
 
-            // add value if it isn't null
-            if (value != null) {
-                total += value.longValue();
+                // push all values, adding as we go
+                final long[] total = { 0 };
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
+
+                        // get next value
+                        Number value = selector.select(element);
+
+                        // add value if it isn't null
+                        if (value != null) {
+                            total[0] += value.longValue();
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return sum
+                return total[0];
             }
-        }
 
-        // return sum
-        return total;
+            @Override
+            protected Long combine(Long left, Long right) {
+
+                // add partition totals
+                return left + right;
+            }
+        });
     }
 
     /**
@@ -468,23 +897,44 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      * @param selector A selector that targets the floats being evaluated.
      */
     @Group(type = GroupType.Sum)
-    public float sumFloats(Selector<TElement, Number> selector) {
+    public float sumFloats(final Selector<TElement, Number> selector) {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Float>() {
 
-        // iterate through all values, adding as we go
-        float total = 0;
-        for (TElement element : this) {
+            @Override
+            protected Float evaluatePartition(PipelineOperation<TElement> partition) {
 
-            // get next value
-            Number value = selector.select(element);
+                // push all values, adding as we go
+                final float[] total = { 0 };
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
 
-            // add value if it isn't null
-            if (value != null) {
-                total += value.floatValue();
+                        // get next value
+                        Number value = selector.select(element);
+
+                        // add value if it isn't null
+                        if (value != null) {
+                            total[0] += value.floatValue();
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return sum
+                return total[0];
             }
-        }
 
-        // return sum
-        return total;
+            @Override
+            protected Float combine(Float left, Float right) {
+
+                // add partition totals
+                return left + right;
+            }
+        });
     }
 
     /**
@@ -493,23 +943,44 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      * @param selector A selector that targets the doubles being evaluated.
      */
     @Group(type = GroupType.Sum)
-    public double sumDoubles(Selector<TElement, Number> selector) {
+    public double sumDoubles(final Selector<TElement, Number> selector) {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Double>() {
+
+            @Override
+            protected Double evaluatePartition(PipelineOperation<TElement> partition) {
 
-        // iterate through all values, adding as we go
-        double total = 0;
-        for (TElement element : this) {
+                // push all values, adding as we go
+                final double[] total = { 0 };
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
 
-            // get next value
-            Number value = selector.select(element);
+                        // get next value
+                        Number value = selector.select(element);
 
-            // add value if it isn't null
-            if (value != null) {
-                total += value.doubleValue();
+                        // add value if it isn't null
+                        if (value != null) {
+                            total[0] += value.doubleValue();
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return sum
+                return total[0];
             }
-        }
 
-        // return sum
-        return total;
+            @Override
+            protected Double combine(Double left, Double right) {
+
+                // add partition totals
+                return left + right;
+            }
+        });
     }
 
     // endregion
@@ -522,29 +993,53 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      * @param selector Returns a numeric value for each element.
      */
     @Group(type = GroupType.Min)
-    public Byte minByte(Selector<TElement, Byte> selector) {
+    public Byte minByte(final Selector<TElement, Byte> selector) {
 
-        // iterate through all values, looking for the smallest value
-        Byte minimum = null;
-        for (TElement element : this) {
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Byte>() {
 
-            // get next value
-            Byte value = selector.select(element);
+            @Override
+            protected Byte evaluatePartition(PipelineOperation<TElement> partition) {
 
-            // use value if null
-            if (minimum == null) {
-                minimum = value;
-            }
+                // push all values, looking for the smallest value
+                final Byte[] minimum = { null };
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
+
+                        // get next value
+                        Byte value = selector.select(element);
+
+                        // use value if null
+                        if (minimum[0] == null) {
+                            minimum[0] = value;
+                        }
 
-            // or update minimum (if applicable)
-            else if (value != null
-                    && minimum.compareTo(value) > 0) {
-                minimum = value;
+                        // or update minimum (if applicable)
+                        else if (value != null
+                                && minimum[0].compareTo(value) > 0) {
+                            minimum[0] = value;
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return smallest value, or null if there are no matches
+                return minimum[0];
             }
-        }
 
-        // return smallest value, or null if there are no matches
-        return minimum;
+            @Override
+            protected Byte combine(Byte left, Byte right) {
+
+                // use the smaller of the partition minimums, ignoring missing values
+                return left == null
+                        || (right != null && left.compareTo(right) > 0)
+                        ? right
+                        : left;
+            }
+        });
     }
 
     /**
@@ -553,29 +1048,53 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      * @param selector Returns a numeric value for each element.
      */
     @Group(type = GroupType.Min)
-    public Short minShort(Selector<TElement, Short> selector) {
+    public Short minShort(final Selector<TElement, Short> selector) {
 
-        // iterate through all values, looking for the smallest value
-        Short minimum = null;
-        for (TElement element : this) {
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Short>() {
 
-            // get next value
-            Short value = selector.select(element);
+            @Override
+            protected Short evaluatePartition(PipelineOperation<TElement> partition) {
 
-            // use value if null
-            if (minimum == null) {
-                minimum = value;
-            }
+                // push all values, looking for the smallest value
+                final Short[] minimum = { null };
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
+
+                        // get next value
+                        Short value = selector.select(element);
+
+                        // use value if null
+                        if (minimum[0] == null) {
+                            minimum[0] = value;
+                        }
 
-            // or update minimum (if applicable)
-            else if (value != null
-                    && minimum.compareTo(value) > 0) {
-                minimum = value;
+                        // or update minimum (if applicable)
+                        else if (value != null
+                                && minimum[0].compareTo(value) > 0) {
+                            minimum[0] = value;
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return smallest value, or null if there are no matches
+                return minimum[0];
             }
-        }
 
-        // return smallest value, or null if there are no matches
-        return minimum;
+            @Override
+            protected Short combine(Short left, Short right) {
+
+                // use the smaller of the partition minimums, ignoring missing values
+                return left == null
+                        || (right != null && left.compareTo(right) > 0)
+                        ? right
+                        : left;
+            }
+        });
     }
 
     /**
@@ -584,29 +1103,53 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      * @param selector Returns a numeric value for each element.
      */
     @Group(type = GroupType.Min)
-    public Integer minInteger(Selector<TElement, Integer> selector) {
+    public Integer minInteger(final Selector<TElement, Integer> selector) {
 
-        // iterate through all values, looking for the smallest value
-        Integer minimum = null;
-        for (TElement element : this) {
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Integer>() {
 
-            // get next value
-            Integer value = selector.select(element);
+            @Override
+            protected Integer evaluatePartition(PipelineOperation<TElement> partition) {
 
-            // use value if null
-            if (minimum == null) {
-                minimum = value;
-            }
+                // push all values, looking for the smallest value
+                final Integer[] minimum = { null };
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
+
+                        // get next value
+                        Integer value = selector.select(element);
+
+                        // use value if null
+                        if (minimum[0] == null) {
+                            minimum[0] = value;
+                        }
 
-            // or update minimum (if applicable)
-            else if (value != null
-                    && minimum.compareTo(value) > 0) {
-                minimum = value;
+                        // or update minimum (if applicable)
+                        else if (value != null
+                                && minimum[0].compareTo(value) > 0) {
+                            minimum[0] = value;
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return smallest value, or null if there are no matches
+                return minimum[0];
             }
-        }
 
-        // return smallest value, or null if there are no matches
-        return minimum;
+            @Override
+            protected Integer combine(Integer left, Integer right) {
+
+                // use the smaller of the partition minimums, ignoring missing values
+                return left == null
+                        || (right != null && left.compareTo(right) > 0)
+                        ? right
+                        : left;
+            }
+        });
     }
 
     /**
@@ -615,29 +1158,53 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      * @param selector Returns a numeric value for each element.
      */
     @Group(type = GroupType.Min)
-    public Long minLong(Selector<TElement, Long> selector) {
+    public Long minLong(final Selector<TElement, Long> selector) {
 
-        // iterate through all values, looking for the smallest value
-        Long minimum = null;
-        for (TElement element : this) {
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Long>() {
 
-            // get next value
-            Long value = selector.select(element);
+            @Override
+            protected Long evaluatePartition(PipelineOperation<TElement> partition) {
 
-            // use value if null
-            if (minimum == null) {
-                minimum = value;
-            }
+                // push all values, looking for the smallest value
+                final Long[] minimum = { null };
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
+
+                        // get next value
+                        Long value = selector.select(element);
+
+                        // use value if null
+                        if (minimum[0] == null) {
+                            minimum[0] = value;
+                        }
 
-            // or update minimum (if applicable)
-            else if (value != null
-                    && minimum.compareTo(value) > 0) {
-                minimum = value;
+                        // or update minimum (if applicable)
+                        else if (value != null
+                                && minimum[0].compareTo(value) > 0) {
+                            minimum[0] = value;
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return smallest value, or null if there are no matches
+                return minimum[0];
             }
-        }
 
-        // return smallest value, or null if there are no matches
-        return minimum;
+            @Override
+            protected Long combine(Long left, Long right) {
+
+                // use the smaller of the partition minimums, ignoring missing values
+                return left == null
+                        || (right != null && left.compareTo(right) > 0)
+                        ? right
+                        : left;
+            }
+        });
     }
 
     /**
@@ -646,29 +1213,53 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      * @param selector Returns a numeric value for each element.
      */
     @Group(type = GroupType.Min)
-    public Float minFloat(Selector<TElement, Float> selector) {
+    public Float minFloat(final Selector<TElement, Float> selector) {
 
-        // iterate through all values, looking for the smallest value
-        Float minimum = null;
-        for (TElement element : this) {
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Float>() {
 
-            // get next value
-            Float value = selector.select(element);
+            @Override
+            protected Float evaluatePartition(PipelineOperation<TElement> partition) {
 
-            // use value if null
-            if (minimum == null) {
-                minimum = value;
-            }
+                // push all values, looking for the smallest value
+                final Float[] minimum = { null };
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
+
+                        // get next value
+                        Float value = selector.select(element);
+
+                        // use value if null
+                        if (minimum[0] == null) {
+                            minimum[0] = value;
+                        }
 
-            // or update minimum (if applicable)
-            else if (value != null
-                    && minimum.compareTo(value) > 0) {
-                minimum = value;
+                        // or update minimum (if applicable)
+                        else if (value != null
+                                && minimum[0].compareTo(value) > 0) {
+                            minimum[0] = value;
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return smallest value, or null if there are no matches
+                return minimum[0];
             }
-        }
 
-        // return smallest value, or null if there are no matches
-        return minimum;
+            @Override
+            protected Float combine(Float left, Float right) {
+
+                // use the smaller of the partition minimums, ignoring missing values
+                return left == null
+                        || (right != null && left.compareTo(right) > 0)
+                        ? right
+                        : left;
+            }
+        });
     }
 
     /**
@@ -677,29 +1268,53 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      * @param selector Returns a numeric value for each element.
      */
     @Group(type = GroupType.Min)
-    public Double minDouble(Selector<TElement, Double> selector) {
+    public Double minDouble(final Selector<TElement, Double> selector) {
 
-        // iterate through all values, looking for the smallest value
-        Double minimum = null;
-        for (TElement element : this) {
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Double>() {
 
-            // get next value
-            Double value = selector.select(element);
+            @Override
+            protected Double evaluatePartition(PipelineOperation<TElement> partition) {
 
-            // use value if null
-            if (minimum == null) {
-                minimum = value;
-            }
+                // push all values, looking for the smallest value
+                final Double[] minimum = { null };
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
+
+                        // get next value
+                        Double value = selector.select(element);
+
+                        // use value if null
+                        if (minimum[0] == null) {
+                            minimum[0] = value;
+                        }
 
-            // or update minimum (if applicable)
-            else if (value != null
-                    && minimum.compareTo(value) > 0) {
-                minimum = value;
+                        // or update minimum (if applicable)
+                        else if (value != null
+                                && minimum[0].compareTo(value) > 0) {
+                            minimum[0] = value;
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return smallest value, or null if there are no matches
+                return minimum[0];
             }
-        }
 
-        // return smallest value, or null if there are no matches
-        return minimum;
+            @Override
+            protected Double combine(Double left, Double right) {
+
+                // use the smaller of the partition minimums, ignoring missing values
+                return left == null
+                        || (right != null && left.compareTo(right) > 0)
+                        ? right
+                        : left;
+            }
+        });
     }
 
     // endregion
@@ -712,29 +1327,53 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      * @param selector Returns a numeric value for each element.
      */
     @Group(type = GroupType.Max)
-    public Byte maxByte(Selector<TElement, Byte> selector) {
+    public Byte maxByte(final Selector<TElement, Byte> selector) {
 
-        // iterate through all values, looking for the largest value
-        Byte maximum = null;
-        for (TElement element : this) {
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Byte>() {
 
-            // get next value
-            Byte value = selector.select(element);
+            @Override
+            protected Byte evaluatePartition(PipelineOperation<TElement> partition) {
 
-            // use value if null
-            if (maximum == null) {
-                maximum = value;
-            }
+                // push all values, looking for the largest value
+                final Byte[] maximum = { null };
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
+
+                        // get next value
+                        Byte value = selector.select(element);
+
+                        // use value if null
+                        if (maximum[0] == null) {
+                            maximum[0] = value;
+                        }
 
-            // or update maximum (if applicable)
-            else if (value != null
-                    && maximum.compareTo(value) < 0) {
-                maximum = value;
+                        // or update maximum (if applicable)
+                        else if (value != null
+                                && maximum[0].compareTo(value) < 0) {
+                            maximum[0] = value;
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return largest value, or null if there are no matches
+                return maximum[0];
             }
-        }
 
-        // return largest value, or null if there are no matches
-        return maximum;
+            @Override
+            protected Byte combine(Byte left, Byte right) {
+
+                // use the larger of the partition maximums, ignoring missing values
+                return left == null
+                        || (right != null && left.compareTo(right) < 0)
+                        ? right
+                        : left;
+            }
+        });
     }
 
     /**
@@ -743,29 +1382,163 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      * @param selector Returns a numeric value for each element.
      */
     @Group(type = GroupType.Max)
-    public Short maxShort(Selector<TElement, Short> selector) {
+    public Short maxShort(final Selector<TElement, Short> selector) {
 
-        // iterate through all values, looking for the largest value
-        Short maximum = null;
-        for (TElement element : this) {
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Short>() {
 
-            // get next value
-            Short value = selector.select(element);
+            @Override
+            protected Short evaluatePartition(PipelineOperation<TElement> partition) {
 
-            // use value if null
-            if (maximum == null) {
-                maximum = value;
-            }
+                // push all values, looking for the largest value
+                final Short[] maximum = { null };
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
 
-            // or update maximum (if applicable)
-            else if (value != null
-                    && maximum.compareTo(value) < 0) {
-                maximum = value;
-            }
-        }
+                        // get next value
+                        Short value = selector.select(element);
 
-        // return largest value, or null if there are no matches
-        return maximum;
+                        // use value if null
+                        if (maximum[0] == null) {
+                            maximum[0] = value;
+                        }
+
+                        // or update maximum (if applicable)
+                        else if (value != null
+                                && maximum[0].compareTo(value) < 0) {
+                            maximum[0] = value;
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return largest value, or null if there are no matches
+                return maximum[0];
+            }
+
+            @Override
+            protected Short combine(Short left, Short right) {
+
+                // use the larger of the partition maximums, ignoring missing values
+                return left == null
+                        || (right != null && left.compareTo(right) < 0)
+                        ? right
+                        : left;
+            }
+        });
+    }
+
+    /**
+     * Returns the maximum value in a sequence of values.
+     *
+     * @param selector Returns a numeric value for each element.
+     */
+    @Group(type = GroupType.Max)
+    public Integer maxInteger(final Selector<TElement, Integer> selector) {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Integer>() {
+
+            @Override
+            protected Integer evaluatePartition(PipelineOperation<TElement> partition) {
+
+                // push all values, looking for the largest value
+                final Integer[] maximum = { null };
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
+
+                        // get next value
+                        Integer value = selector.select(element);
+
+                        // use value if null
+                        if (maximum[0] == null) {
+                            maximum[0] = value;
+                        }
+
+                        // or update maximum (if applicable)
+                        else if (value != null
+                                && maximum[0].compareTo(value) < 0) {
+                            maximum[0] = value;
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return largest value, or null if there are no matches
+                return maximum[0];
+            }
+
+            @Override
+            protected Integer combine(Integer left, Integer right) {
+
+                // use the larger of the partition maximums, ignoring missing values
+                return left == null
+                        || (right != null && left.compareTo(right) < 0)
+                        ? right
+                        : left;
+            }
+        });
+    }
+
+    /**
+     * Returns the maximum value in a sequence of values.
+     *
+     * @param selector Returns a numeric value for each element.
+     */
+    @Group(type = GroupType.Max)
+    public Long maxLong(final Selector<TElement, Long> selector) {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Long>() {
+
+            @Override
+            protected Long evaluatePartition(PipelineOperation<TElement> partition) {
+
+                // push all values, looking for the largest value
+                final Long[] maximum = { null };
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
+
+                        // get next value
+                        Long value = selector.select(element);
+
+                        // use value if null
+                        if (maximum[0] == null) {
+                            maximum[0] = value;
+                        }
+
+                        // or update maximum (if applicable)
+                        else if (value != null
+                                && maximum[0].compareTo(value) < 0) {
+                            maximum[0] = value;
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return largest value, or null if there are no matches
+                return maximum[0];
+            }
+
+            @Override
+            protected Long combine(Long left, Long right) {
+
+                // use the larger of the partition maximums, ignoring missing values
+                return left == null
+                        || (right != null && left.compareTo(right) < 0)
+                        ? right
+                        : left;
+            }
+        });
     }
 
     /**
@@ -774,140 +1547,904 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      * @param selector Returns a numeric value for each element.
      */
     @Group(type = GroupType.Max)
-    public Integer maxInteger(Selector<TElement, Integer> selector) {
+    public Float maxFloat(final Selector<TElement, Float> selector) {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Float>() {
+
+            @Override
+            protected Float evaluatePartition(PipelineOperation<TElement> partition) {
 
-        // iterate through all values, looking for the largest value
-        Integer maximum = null;
-        for (TElement element : this) {
+                // push all values, looking for the largest value
+                final Float[] maximum = { null };
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
 
-            // get next value
-            Integer value = selector.select(element);
+                        // get next value
+                        Float value = selector.select(element);
 
-            // use value if null
-            if (maximum == null) {
-                maximum = value;
+                        // use value if null
+                        if (maximum[0] == null) {
+                            maximum[0] = value;
+                        }
+
+                        // or update maximum (if applicable)
+                        else if (value != null
+                                && maximum[0].compareTo(value) < 0) {
+                            maximum[0] = value;
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return largest value, or null if there are no matches
+                return maximum[0];
             }
 
-            // or update maximum (if applicable)
-            else if (value != null
-                    && maximum.compareTo(value) < 0) {
-                maximum = value;
+            @Override
+            protected Float combine(Float left, Float right) {
+
+                // use the larger of the partition maximums, ignoring missing values
+                return left == null
+                        || (right != null && left.compareTo(right) < 0)
+                        ? right
+                        : left;
             }
+        });
+    }
+
+    /**
+     * Returns the maximum value in a sequence of values.
+     *
+     * @param selector Returns a numeric value for each element.
+     */
+    @Group(type = GroupType.Max)
+    public Double maxDouble(final Selector<TElement, Double> selector) {
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Double>() {
+
+            @Override
+            protected Double evaluatePartition(PipelineOperation<TElement> partition) {
+
+                // push all values, looking for the largest value
+                final Double[] maximum = { null };
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
+
+                        // get next value
+                        Double value = selector.select(element);
+
+                        // use value if null
+                        if (maximum[0] == null) {
+                            maximum[0] = value;
+                        }
+
+                        // or update maximum (if applicable)
+                        else if (value != null
+                                && maximum[0].compareTo(value) < 0) {
+                            maximum[0] = value;
+                        }
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return largest value, or null if there are no matches
+                return maximum[0];
+            }
+
+            @Override
+            protected Double combine(Double left, Double right) {
+
+                // use the larger of the partition maximums, ignoring missing values
+                return left == null
+                        || (right != null && left.compareTo(right) < 0)
+                        ? right
+                        : left;
+            }
+        });
+    }
+
+    // endregion
+
+    // region statistics
+
+    /**
+     * Computes the count, sum, minimum, maximum and average of the <c>int</c> values selected
+     * from each element, in a single pass rather than evaluating the sequence per aggregation.
+     *
+     * @param selector Returns a numeric value for each element.
+     */
+    @Group(type = GroupType.Aggregation)
+    public IntStatistics intStatistics(IntSelector<TElement> selector) {
+        return mapToInt(selector).statistics();
+    }
+
+    /**
+     * Computes the count, sum, minimum, maximum and average of the <c>long</c> values selected
+     * from each element, in a single pass rather than evaluating the sequence per aggregation.
+     *
+     * @param selector Returns a numeric value for each element.
+     */
+    @Group(type = GroupType.Aggregation)
+    public LongStatistics longStatistics(LongSelector<TElement> selector) {
+        return mapToLong(selector).statistics();
+    }
+
+    /**
+     * Computes the count, sum, minimum, maximum and average of the <c>double</c> values selected
+     * from each element, in a single pass rather than evaluating the sequence per aggregation.
+     *
+     * @param selector Returns a numeric value for each element.
+     */
+    @Group(type = GroupType.Aggregation)
+    public DoubleStatistics doubleStatistics(DoubleSelector<TElement> selector) {
+        return mapToDouble(selector).statistics();
+    }
+
+    // endregion
+
+    // region approximate distinct count
+
+    /**
+     * Estimates the number of distinct keys in a sequence using a {@link HyperLogLog} sketch with
+     * the {@link HyperLogLog#DEFAULT_PRECISION default precision}, which uses a fixed 16 KB of
+     * memory and has a standard error of roughly 0.81%.
+     *
+     * @param keySelector A function returning the key counted for each element.
+     * @param <TKey>      The type of the key returned by <i>keySelector</i>.
+     */
+    @Group(type = GroupType.Aggregation)
+    public <TKey> long countDistinctApprox(Selector<TElement, TKey> keySelector) {
+        return countDistinctApprox(keySelector, HyperLogLog.DEFAULT_PRECISION);
+    }
+
+    /**
+     * Estimates the number of distinct keys in a sequence using a {@link HyperLogLog} sketch.
+     *
+     * @param keySelector A function returning the key counted for each element.
+     * @param precision   The precision of the sketch, trading memory for accuracy.
+     * @param <TKey>      The type of the key returned by <i>keySelector</i>.
+     * @throws IllegalArgumentException The precision is out of range.
+     */
+    @Group(type = GroupType.Aggregation)
+    public <TKey> long countDistinctApprox(Selector<TElement, TKey> keySelector, int precision) {
+        return toHyperLogLog(keySelector, precision).estimate();
+    }
+
+    /**
+     * Adds the keys of a sequence to a new {@link HyperLogLog} sketch, which can be merged with
+     * the sketches of other sequences before estimating the number of distinct keys.
+     * <p>
+     * Parallel pipelines build a sketch for each partition and merge them.
+     *
+     * @param keySelector A function returning the key added for each element.
+     * @param precision   The precision of the sketch, trading memory for accuracy.
+     * @param <TKey>      The type of the key returned by <i>keySelector</i>.
+     * @throws IllegalArgumentException The precision is out of range.
+     */
+    @Group(type = GroupType.Aggregation)
+    public <TKey> HyperLogLog toHyperLogLog(final Selector<TElement, TKey> keySelector,
+                                            final int precision) {
+
+        // fail if precision is out of range
+        HyperLogLog.checkPrecision(precision);
+
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, HyperLogLog>() {
+
+            @Override
+            protected HyperLogLog evaluatePartition(PipelineOperation<TElement> partition) {
+
+                // add all keys to sketch
+                final HyperLogLog sketch = new HyperLogLog(precision);
+                partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
+
+                        // add key
+                        sketch.add(keySelector.select(element));
+
+                        // continue processing
+                        return true;
+                    }
+                });
+
+                // return sketch
+                return sketch;
+            }
+
+            @Override
+            protected HyperLogLog combine(HyperLogLog left, HyperLogLog right) {
+                left.merge(right);
+                return left;
+            }
+        });
+    }
+
+    // endregion
+
+    // endregion
+
+
+    // region grouping
+
+    /**
+     * Groups the elements of a sequence according to a specified key selector function.
+     * <p>
+     * Groups are yielded in the order their keys are first encountered, with the elements of
+     * each group in their original order.  Parallel pipelines group each partition concurrently
+     * and merge the partial groups in sequence order.
+     *
+     * @param selector A function to extract the key for each element.
+     * @param <TKey>   The type of the key returned by the function represented in <i>keySelector</i>.
+     */
+    @Group(type = GroupType.Grouping)
+    public <TKey> Pipeline<Grouping<TKey, TElement>> groupBy(Selector<TElement, TKey> selector) {
+        return new Pipeline<>(new GroupByOperation<>(_operation, selector, _pool), _pool);
+    }
+
+    /**
+     * Groups the elements of a sequence according to a specified key selector function, while
+     * keeping at most <i>memoryLimit</i> elements in memory.
+     * <p>
+     * If the sequence fits within the limit, groups are yielded in the order their keys are first
+     * encountered, as with {@link #groupBy(Selector)}.  Otherwise, elements are encoded with
+     * <i>codec</i> and spilled to temporary files partitioned by the hash code of their key, and
+     * each partition is then grouped and yielded in turn, so groups are only in encounter order
+     * within a partition.  Elements always keep their original order within a group.  Keys must
+     * therefore have a {@link Object#hashCode()} consistent with {@link Object#equals(Object)},
+     * and elements must survive a round trip through the codec.
+     * <p>
+     * A single group with more elements than the limit is still held in memory in its entirety.
+     *
+     * @param selector    A function to extract the key for each element.
+     * @param codec       Encodes and decodes spilled elements.
+     * @param memoryLimit The maximum number of elements kept in memory.
+     * @param <TKey>      The type of the key returned by <i>selector</i>.
+     * @throws IllegalArgumentException The codec is missing or the memory limit is less than
+     *                                  <c>1</c>.
+     */
+    @Group(type = GroupType.Grouping)
+    public <TKey> Pipeline<Grouping<TKey, TElement>> groupBy(Selector<TElement, TKey> selector,
+                                                             Codec<TElement> codec,
+                                                             int memoryLimit) {
+
+        // fail if arguments are invalid
+        if (codec == null) {
+            throw new IllegalArgumentException("A codec is required to spill elements.");
+        }
+        if (memoryLimit < 1) {
+            throw new IllegalArgumentException("Memory limit must be at least 1 element.");
         }
 
-        // return largest value, or null if there are no matches
-        return maximum;
+        // return new pipeline
+        return new Pipeline<>(
+                new SpillingGroupByOperation<>(_operation, selector, codec, memoryLimit), _pool);
+    }
+
+    /**
+     * Groups runs of consecutive elements of a sequence that have equal keys, such as a sequence
+     * already sorted by key.
+     * <p>
+     * Unlike {@link #groupBy(Selector)}, groupings are streamed: each is yielded as soon as the
+     * key changes, and only the elements of the current run are held in memory.  Elements with
+     * equal keys that aren't adjacent are yielded in separate groupings.
+     *
+     * @param selector A function to extract the key for each element.
+     * @param <TKey>   The type of the key returned by <i>selector</i>.
+     */
+    @Group(type = GroupType.Grouping)
+    public <TKey> Pipeline<Grouping<TKey, TElement>> groupAdjacent(
+            Selector<TElement, TKey> selector) {
+        return new Pipeline<>(new GroupAdjacentOperation<>(_operation, selector), _pool);
+    }
+
+    /**
+     * Groups the elements of a sequence by key and folds each element into an accumulator for
+     * its group as it arrives, returning one entry per group in the order the groups were first
+     * encountered.
+     * <p>
+     * Unlike {@link #groupBy(Selector)}, only one accumulator is retained per group rather than
+     * every element, so memory grows with the number of groups instead of the number of elements.
+     * The seed is shared by every group, so it should be immutable (e.g. a number or string),
+     * with <i>aggregator</i> returning a new accumulator rather than modifying it.
+     *
+     * @param keySelector   A function to extract the key for each element.
+     * @param seed          The initial accumulator of each group.
+     * @param aggregator    A function that folds an element into the accumulator of its group.
+     * @param <TKey>        The type of the key returned by <i>keySelector</i>.
+     * @param <TAccumulate> The type of the accumulator of each group.
+     */
+    @Group(type = GroupType.Grouping)
+    public <TKey, TAccumulate> Pipeline<Entry<TKey, TAccumulate>> aggregateBy(
+            Selector<TElement, TKey> keySelector,
+            TAccumulate seed,
+            Aggregator<TElement, TAccumulate> aggregator) {
+        return new Pipeline<>(
+                new AggregateByOperation<>(_operation, keySelector, seed, aggregator), _pool);
+    }
+
+    /**
+     * Counts the elements of each group of a sequence, returning one entry per group in the
+     * order the groups were first encountered, without retaining the elements of each group.
+     *
+     * @param keySelector A function to extract the key for each element.
+     * @param <TKey>      The type of the key returned by <i>keySelector</i>.
+     */
+    @Group(type = GroupType.Grouping)
+    public <TKey> Pipeline<Entry<TKey, Integer>> countBy(Selector<TElement, TKey> keySelector) {
+        return new Pipeline<>(new CountByOperation<>(_operation, keySelector), _pool);
+    }
+
+    /**
+     * Sums a value of the elements of each group of a sequence, returning one entry per group in
+     * the order the groups were first encountered, without retaining the elements of each group.
+     *
+     * @param keySelector   A function to extract the key for each element.
+     * @param valueSelector A function to extract the value summed for each element.
+     * @param <TKey>        The type of the key returned by <i>keySelector</i>.
+     */
+    @Group(type = GroupType.Grouping)
+    public <TKey> Pipeline<Entry<TKey, Long>> sumBy(Selector<TElement, TKey> keySelector,
+                                                    LongSelector<TElement> valueSelector) {
+        return new Pipeline<>(new SumByOperation<>(_operation, keySelector, valueSelector), _pool);
+    }
+
+    // endregion
+
+
+    // region joining
+
+    /**
+     * Correlates the elements of the sequence with the elements of an inner sequence that have a
+     * matching key, producing a result for each matching pair.
+     * <p>
+     * Results are produced in the order of this sequence, with the matches of each element in the
+     * order of the inner sequence.  Keys are compared using {@link Object#equals(Object)}, and
+     * <c>null</c> keys never match.  Each evaluation builds a hash table of the inner sequence
+     * and streams this sequence through it, unless both sizes are known and this sequence is
+     * smaller, in which case only the inner elements matching one of its keys are kept.
+     *
+     * @param inner            The sequence to join to this sequence.
+     * @param outerKeySelector A function to extract the key of each element of this sequence.
+     * @param innerKeySelector A function to extract the key of each element of <i>inner</i>.
+     * @param resultSelector   A function to create a result from two matching elements.
+     * @param <TInner>         The type of elements in <i>inner</i>.
+     * @param <TKey>           The type of the keys being matched.
+     * @param <TResult>        The type of the results.
+     */
+    @Group(type = GroupType.Join)
+    public <TInner, TKey, TResult> Pipeline<TResult> join(
+            Iterable<TInner> inner,
+            Selector<TElement, TKey> outerKeySelector,
+            Selector<TInner, TKey> innerKeySelector,
+            ResultSelector<TElement, TInner, TResult> resultSelector) {
+        return join(inner, JoinKey.of(outerKeySelector, innerKeySelector), resultSelector, false);
+    }
+
+    /**
+     * Correlates the elements of the sequence with the elements of an inner sequence that have a
+     * matching key, like {@link #join(Iterable, Selector, Selector, ResultSelector)}, but also
+     * produces a result with a <c>null</c> inner element for each element without a match.
+     *
+     * @param inner            The sequence to join to this sequence.
+     * @param outerKeySelector A function to extract the key of each element of this sequence.
+     * @param innerKeySelector A function to extract the key of each element of <i>inner</i>.
+     * @param resultSelector   A function to create a result from an element and its match.
+     * @param <TInner>         The type of elements in <i>inner</i>.
+     * @param <TKey>           The type of the keys being matched.
+     * @param <TResult>        The type of the results.
+     */
+    @Group(type = GroupType.Join)
+    public <TInner, TKey, TResult> Pipeline<TResult> leftJoin(
+            Iterable<TInner> inner,
+            Selector<TElement, TKey> outerKeySelector,
+            Selector<TInner, TKey> innerKeySelector,
+            ResultSelector<TElement, TInner, TResult> resultSelector) {
+        return join(inner, JoinKey.of(outerKeySelector, innerKeySelector), resultSelector, true);
+    }
+
+    /**
+     * Correlates the elements of the sequence with the elements of an inner sequence that have a
+     * matching <c>int</c> key, like {@link #join(Iterable, Selector, Selector, ResultSelector)},
+     * but indexes keys unboxed.
+     *
+     * @param inner            The sequence to join to this sequence.
+     * @param outerKeySelector A function to extract the key of each element of this sequence.
+     * @param innerKeySelector A function to extract the key of each element of <i>inner</i>.
+     * @param resultSelector   A function to create a result from two matching elements.
+     * @param <TInner>         The type of elements in <i>inner</i>.
+     * @param <TResult>        The type of the results.
+     */
+    @Group(type = GroupType.Join)
+    public <TInner, TResult> Pipeline<TResult> joinByInt(
+            Iterable<TInner> inner,
+            IntSelector<TElement> outerKeySelector,
+            IntSelector<TInner> innerKeySelector,
+            ResultSelector<TElement, TInner, TResult> resultSelector) {
+        return join(inner, JoinKey.ofInt(outerKeySelector, innerKeySelector), resultSelector,
+                false);
+    }
+
+    /**
+     * Correlates the elements of the sequence with the elements of an inner sequence that have a
+     * matching <c>int</c> key, like
+     * {@link #leftJoin(Iterable, Selector, Selector, ResultSelector)}, but indexes keys unboxed.
+     *
+     * @param inner            The sequence to join to this sequence.
+     * @param outerKeySelector A function to extract the key of each element of this sequence.
+     * @param innerKeySelector A function to extract the key of each element of <i>inner</i>.
+     * @param resultSelector   A function to create a result from an element and its match.
+     * @param <TInner>         The type of elements in <i>inner</i>.
+     * @param <TResult>        The type of the results.
+     */
+    @Group(type = GroupType.Join)
+    public <TInner, TResult> Pipeline<TResult> leftJoinByInt(
+            Iterable<TInner> inner,
+            IntSelector<TElement> outerKeySelector,
+            IntSelector<TInner> innerKeySelector,
+            ResultSelector<TElement, TInner, TResult> resultSelector) {
+        return join(inner, JoinKey.ofInt(outerKeySelector, innerKeySelector), resultSelector,
+                true);
+    }
+
+    /**
+     * Correlates the elements of the sequence with the elements of an inner sequence that have a
+     * matching <c>long</c> key, like {@link #join(Iterable, Selector, Selector, ResultSelector)},
+     * but indexes keys unboxed.
+     *
+     * @param inner            The sequence to join to this sequence.
+     * @param outerKeySelector A function to extract the key of each element of this sequence.
+     * @param innerKeySelector A function to extract the key of each element of <i>inner</i>.
+     * @param resultSelector   A function to create a result from two matching elements.
+     * @param <TInner>         The type of elements in <i>inner</i>.
+     * @param <TResult>        The type of the results.
+     */
+    @Group(type = GroupType.Join)
+    public <TInner, TResult> Pipeline<TResult> joinByLong(
+            Iterable<TInner> inner,
+            LongSelector<TElement> outerKeySelector,
+            LongSelector<TInner> innerKeySelector,
+            ResultSelector<TElement, TInner, TResult> resultSelector) {
+        return join(inner, JoinKey.ofLong(outerKeySelector, innerKeySelector), resultSelector,
+                false);
+    }
+
+    /**
+     * Correlates the elements of the sequence with the elements of an inner sequence that have a
+     * matching <c>long</c> key, like
+     * {@link #leftJoin(Iterable, Selector, Selector, ResultSelector)}, but indexes keys unboxed.
+     *
+     * @param inner            The sequence to join to this sequence.
+     * @param outerKeySelector A function to extract the key of each element of this sequence.
+     * @param innerKeySelector A function to extract the key of each element of <i>inner</i>.
+     * @param resultSelector   A function to create a result from an element and its match.
+     * @param <TInner>         The type of elements in <i>inner</i>.
+     * @param <TResult>        The type of the results.
+     */
+    @Group(type = GroupType.Join)
+    public <TInner, TResult> Pipeline<TResult> leftJoinByLong(
+            Iterable<TInner> inner,
+            LongSelector<TElement> outerKeySelector,
+            LongSelector<TInner> innerKeySelector,
+            ResultSelector<TElement, TInner, TResult> resultSelector) {
+        return join(inner, JoinKey.ofLong(outerKeySelector, innerKeySelector), resultSelector,
+                true);
+    }
+
+    /**
+     * Correlates each element of the sequence with the group of elements of an inner sequence
+     * that have a matching key, producing one result per element.
+     * <p>
+     * Results are produced in the order of this sequence, and each group keeps the order of the
+     * inner sequence.  Keys are compared using {@link Object#equals(Object)}, and <c>null</c> keys
+     * never match.  Each evaluation indexes the inner sequence once into a compact
+     * {@link Lookup}, and elements without a match share a single empty group.
+     *
+     * @param inner            The sequence to join to this sequence.
+     * @param outerKeySelector A function to extract the key of each element of this sequence.
+     * @param innerKeySelector A function to extract the key of each element of <i>inner</i>.
+     * @param resultSelector   A function to create a result from an element and its group.
+     * @param <TInner>         The type of elements in <i>inner</i>.
+     * @param <TKey>           The type of the keys being matched.
+     * @param <TResult>        The type of the results.
+     */
+    @Group(type = GroupType.Join)
+    public <TInner, TKey, TResult> Pipeline<TResult> groupJoin(
+            Iterable<TInner> inner,
+            Selector<TElement, TKey> outerKeySelector,
+            Selector<TInner, TKey> innerKeySelector,
+            ResultSelector<TElement, Iterable<TInner>, TResult> resultSelector) {
+        return new Pipeline<>(new GroupJoinOperation<>(_operation, innerOperation(inner),
+                outerKeySelector, indexer(innerKeySelector), resultSelector), _pool);
+    }
+
+    /**
+     * Correlates the elements of the sequence with the elements of an inner sequence that have a
+     * matching key, where both sequences are already sorted in ascending order by their keys,
+     * producing a result for each matching pair.
+     * <p>
+     * Both sequences are read in lockstep, buffering only the current run of inner elements with
+     * equal keys, so sequences far larger than memory can be joined.  Results are produced in the
+     * order of this sequence, with the matches of each element in the order of the inner
+     * sequence.  <c>null</c> keys sort first but never match.  Evaluation fails with an
+     * {@link IllegalStateException} if either sequence is found to be out of order.
+     *
+     * @param inner            The sorted sequence to join to this sorted sequence.
+     * @param outerKeySelector A function to extract the key of each element of this sequence.
+     * @param innerKeySelector A function to extract the key of each element of <i>inner</i>.
+     * @param resultSelector   A function to create a result from two matching elements.
+     * @param <TInner>         The type of elements in <i>inner</i>.
+     * @param <TKey>           The type of the keys being matched.
+     * @param <TResult>        The type of the results.
+     */
+    @Group(type = GroupType.Join)
+    public <TInner, TKey extends Comparable<? super TKey>, TResult> Pipeline<TResult> mergeJoin(
+            Iterable<TInner> inner,
+            Selector<TElement, TKey> outerKeySelector,
+            Selector<TInner, TKey> innerKeySelector,
+            ResultSelector<TElement, TInner, TResult> resultSelector) {
+        return new Pipeline<>(new MergeJoinOperation<>(_operation, innerOperation(inner),
+                outerKeySelector, innerKeySelector, null, resultSelector), _pool);
+    }
+
+    /**
+     * Correlates the elements of the sequence with the elements of an inner sequence that have a
+     * matching key, like
+     * {@link #mergeJoin(Iterable, Selector, Selector, ResultSelector)}, where both sequences are
+     * already sorted in ascending order by a specified comparer.
+     *
+     * @param inner            The sorted sequence to join to this sorted sequence.
+     * @param outerKeySelector A function to extract the key of each element of this sequence.
+     * @param innerKeySelector A function to extract the key of each element of <i>inner</i>.
+     * @param comparator       Compares keys, which are matched when it returns <c>0</c>.
+     * @param resultSelector   A function to create a result from two matching elements.
+     * @param <TInner>         The type of elements in <i>inner</i>.
+     * @param <TKey>           The type of the keys being matched.
+     * @param <TResult>        The type of the results.
+     */
+    @Group(type = GroupType.Join)
+    public <TInner, TKey, TResult> Pipeline<TResult> mergeJoin(
+            Iterable<TInner> inner,
+            Selector<TElement, TKey> outerKeySelector,
+            Selector<TInner, TKey> innerKeySelector,
+            Comparator<? super TKey> comparator,
+            ResultSelector<TElement, TInner, TResult> resultSelector) {
+
+        // fail if comparator isn't specified
+        if (comparator == null) {
+            throw new IllegalArgumentException("A comparator is required to merge join.");
+        }
+
+        // return new pipeline joining sequences
+        return new Pipeline<>(new MergeJoinOperation<>(_operation, innerOperation(inner),
+                outerKeySelector, innerKeySelector, comparator, resultSelector), _pool);
+    }
+
+    // endregion
+
+
+    // region ordering
+
+    /**
+     * Sorts the elements of a sequence in ascending order according to a key, with <c>null</c>
+     * keys first.
+     * <p>
+     * The sort is stable, so elements with equal keys keep their original order.  Each key is
+     * extracted once per element, and the sequence is sorted each time the pipeline is evaluated,
+     * using a parallel merge sort for large sequences of parallel pipelines.
+     *
+     * @param keySelector A function to extract the key for each element.
+     * @param <TKey>      The type of the key returned by <i>keySelector</i>.
+     */
+    @Group(type = GroupType.Ordering)
+    public <TKey extends Comparable<? super TKey>> Pipeline<TElement> orderBy(
+            Selector<TElement, TKey> keySelector) {
+        return orderBy(SortKey.of(keySelector, null, false));
+    }
+
+    /**
+     * Sorts the elements of a sequence in ascending order according to a key, using a specified
+     * comparer.  The sort is stable, so elements with equal keys keep their original order.
+     *
+     * @param keySelector A function to extract the key for each element.
+     * @param comparator  Compares keys.
+     * @param <TKey>      The type of the key returned by <i>keySelector</i>.
+     */
+    @Group(type = GroupType.Ordering)
+    public <TKey> Pipeline<TElement> orderBy(Selector<TElement, TKey> keySelector,
+                                             Comparator<? super TKey> comparator) {
+        return orderBy(SortKey.of(keySelector, comparator, false));
+    }
+
+    /**
+     * Sorts the elements of a sequence in descending order according to a key, with <c>null</c>
+     * keys last.  The sort is stable, so elements with equal keys keep their original order.
+     *
+     * @param keySelector A function to extract the key for each element.
+     * @param <TKey>      The type of the key returned by <i>keySelector</i>.
+     */
+    @Group(type = GroupType.Ordering)
+    public <TKey extends Comparable<? super TKey>> Pipeline<TElement> orderByDescending(
+            Selector<TElement, TKey> keySelector) {
+        return orderBy(SortKey.of(keySelector, null, true));
+    }
+
+    /**
+     * Sorts the elements of a sequence in descending order according to a key, using a
+     * specified comparer.  The sort is stable, so elements with equal keys keep their original
+     * order.
+     *
+     * @param keySelector A function to extract the key for each element.
+     * @param comparator  Compares keys.
+     * @param <TKey>      The type of the key returned by <i>keySelector</i>.
+     */
+    @Group(type = GroupType.Ordering)
+    public <TKey> Pipeline<TElement> orderByDescending(Selector<TElement, TKey> keySelector,
+                                                       Comparator<? super TKey> comparator) {
+        return orderBy(SortKey.of(keySelector, comparator, true));
+    }
+
+    /**
+     * Sorts the elements of a sequence in ascending order according to an <c>int</c> key, which
+     * is extracted without boxing.  Unless further keys are added using <c>thenBy()</c>, large
+     * sequences are radix sorted by the key rather than compared, in parallel for parallel
+     * pipelines.
+     *
+     * @param keySelector A function to extract the key for each element.
+     */
+    @Group(type = GroupType.Ordering)
+    public Pipeline<TElement> orderByInt(IntSelector<TElement> keySelector) {
+        return orderBy(SortKey.ofInt(keySelector, false));
+    }
+
+    /**
+     * Sorts the elements of a sequence in descending order according to an <c>int</c> key, which
+     * is extracted without boxing.  Unless further keys are added using <c>thenBy()</c>, large
+     * sequences are radix sorted by the key rather than compared, in parallel for parallel
+     * pipelines.
+     *
+     * @param keySelector A function to extract the key for each element.
+     */
+    @Group(type = GroupType.Ordering)
+    public Pipeline<TElement> orderByIntDescending(IntSelector<TElement> keySelector) {
+        return orderBy(SortKey.ofInt(keySelector, true));
+    }
+
+    /**
+     * Sorts the elements of a sequence in ascending order according to a <c>long</c> key, which
+     * is extracted without boxing.  Unless further keys are added using <c>thenBy()</c>, large
+     * sequences are radix sorted by the key rather than compared, in parallel for parallel
+     * pipelines.
+     *
+     * @param keySelector A function to extract the key for each element.
+     */
+    @Group(type = GroupType.Ordering)
+    public Pipeline<TElement> orderByLong(LongSelector<TElement> keySelector) {
+        return orderBy(SortKey.ofLong(keySelector, false));
+    }
+
+    /**
+     * Sorts the elements of a sequence in descending order according to a <c>long</c> key, which
+     * is extracted without boxing.  Unless further keys are added using <c>thenBy()</c>, large
+     * sequences are radix sorted by the key rather than compared, in parallel for parallel
+     * pipelines.
+     *
+     * @param keySelector A function to extract the key for each element.
+     */
+    @Group(type = GroupType.Ordering)
+    public Pipeline<TElement> orderByLongDescending(LongSelector<TElement> keySelector) {
+        return orderBy(SortKey.ofLong(keySelector, true));
+    }
+
+    /**
+     * Sorts the elements of a sequence in ascending order according to a <c>double</c> key,
+     * which is extracted without boxing, as ordered by {@link Double#compare(double, double)}.
+     * Unless further keys are added using <c>thenBy()</c>, large sequences are radix sorted by
+     * the key rather than compared, in parallel for parallel pipelines.
+     *
+     * @param keySelector A function to extract the key for each element.
+     */
+    @Group(type = GroupType.Ordering)
+    public Pipeline<TElement> orderByDouble(DoubleSelector<TElement> keySelector) {
+        return orderBy(SortKey.ofDouble(keySelector, false));
+    }
+
+    /**
+     * Sorts the elements of a sequence in descending order according to a <c>double</c> key,
+     * which is extracted without boxing, as ordered by {@link Double#compare(double, double)}.
+     * Unless further keys are added using <c>thenBy()</c>, large sequences are radix sorted by
+     * the key rather than compared, in parallel for parallel pipelines.
+     *
+     * @param keySelector A function to extract the key for each element.
+     */
+    @Group(type = GroupType.Ordering)
+    public Pipeline<TElement> orderByDoubleDescending(DoubleSelector<TElement> keySelector) {
+        return orderBy(SortKey.ofDouble(keySelector, true));
+    }
+
+    /**
+     * Sorts the elements of a sorted sequence while keeping at most <i>memoryLimit</i> elements
+     * in memory, allowing sequences larger than the heap to be sorted.
+     * <p>
+     * Once the limit is reached, elements are sorted in runs of <i>memoryLimit</i> elements,
+     * which are encoded with <i>codec</i> and written to temporary files.  The runs are merged
+     * lazily as the sorted sequence is read, so reading only its first elements (e.g. using
+     * <c>take()</c>) only reads the start of each run.  Runs are deleted once the sequence has
+     * been read in full, or when evaluated by a terminal operation that stops early.
+     *
+     * @param codec       Encodes and decodes spilled elements.
+     * @param memoryLimit The maximum number of elements kept in memory.
+     * @throws IllegalArgumentException The codec is missing or the memory limit is less than
+     *                                  <c>1</c>.
+     * @throws IllegalStateException    The pipeline isn't immediately the result of an ordering
+     *                                  stage.
+     */
+    @Group(type = GroupType.Ordering)
+    public Pipeline<TElement> spill(Codec<TElement> codec, int memoryLimit) {
+
+        // fail if arguments are invalid
+        if (codec == null) {
+            throw new IllegalArgumentException("A codec is required to spill elements.");
+        }
+        if (memoryLimit < 1) {
+            throw new IllegalArgumentException("Memory limit must be at least 1 element.");
+        }
+
+        // fail if pipeline isn't sorted
+        if (!(_operation instanceof SortOperation)) {
+            throw new IllegalStateException("Only an ordering can be spilled.");
+        }
+
+        // return new pipeline, sorting within the memory limit
+        return new Pipeline<>(
+                ((SortOperation<TElement>) _operation).spill(codec, memoryLimit), _pool);
+    }
+
+    /**
+     * Returns the <i>count</i> elements of a sequence with the highest keys, from highest to
+     * lowest, with elements whose keys are equal in their original order.
+     * <p>
+     * Only the current top elements are kept while the sequence is evaluated, in a bounded heap,
+     * rather than sorting every element.  This is equivalent to
+     * <c>orderByDescending(keySelector).take(count)</c>, which is evaluated the same way.
+     *
+     * @param count       The number of elements to return.
+     * @param keySelector A function to extract the key for each element.
+     * @param <TKey>      The type of the key returned by <i>keySelector</i>.
+     */
+    @Group(type = GroupType.Ordering)
+    public <TKey extends Comparable<? super TKey>> Pipeline<TElement> top(
+            int count,
+            Selector<TElement, TKey> keySelector) {
+        return orderByDescending(keySelector).take(count);
+    }
+
+    /**
+     * Returns the <i>count</i> elements of a sequence with the highest keys, according to a
+     * specified comparer, from highest to lowest, with elements whose keys are equal in their
+     * original order.  This is equivalent to
+     * <c>orderByDescending(keySelector, comparator).take(count)</c>.
+     *
+     * @param count       The number of elements to return.
+     * @param keySelector A function to extract the key for each element.
+     * @param comparator  Compares keys.
+     * @param <TKey>      The type of the key returned by <i>keySelector</i>.
+     */
+    @Group(type = GroupType.Ordering)
+    public <TKey> Pipeline<TElement> top(int count,
+                                         Selector<TElement, TKey> keySelector,
+                                         Comparator<? super TKey> comparator) {
+        return orderByDescending(keySelector, comparator).take(count);
+    }
+
+    /**
+     * Returns the <i>count</i> elements of a sequence with the lowest keys, from lowest to
+     * highest, with elements whose keys are equal in their original order.
+     * <p>
+     * Only the current bottom elements are kept while the sequence is evaluated, in a bounded
+     * heap, rather than sorting every element.  This is equivalent to
+     * <c>orderBy(keySelector).take(count)</c>, which is evaluated the same way.
+     *
+     * @param count       The number of elements to return.
+     * @param keySelector A function to extract the key for each element.
+     * @param <TKey>      The type of the key returned by <i>keySelector</i>.
+     */
+    @Group(type = GroupType.Ordering)
+    public <TKey extends Comparable<? super TKey>> Pipeline<TElement> bottom(
+            int count,
+            Selector<TElement, TKey> keySelector) {
+        return orderBy(keySelector).take(count);
+    }
+
+    /**
+     * Returns the <i>count</i> elements of a sequence with the lowest keys, according to a
+     * specified comparer, from lowest to highest, with elements whose keys are equal in their
+     * original order.  This is equivalent to <c>orderBy(keySelector, comparator).take(count)</c>.
+     *
+     * @param count       The number of elements to return.
+     * @param keySelector A function to extract the key for each element.
+     * @param comparator  Compares keys.
+     * @param <TKey>      The type of the key returned by <i>keySelector</i>.
+     */
+    @Group(type = GroupType.Ordering)
+    public <TKey> Pipeline<TElement> bottom(int count,
+                                            Selector<TElement, TKey> keySelector,
+                                            Comparator<? super TKey> comparator) {
+        return orderBy(keySelector, comparator).take(count);
     }
 
     /**
-     * Returns the maximum value in a sequence of values.
+     * Performs a subsequent ordering of the elements of a sorted sequence in ascending order
+     * according to a key, with <c>null</c> keys first, for elements whose previous keys are equal.
      *
-     * @param selector Returns a numeric value for each element.
+     * @param keySelector A function to extract the key for each element.
+     * @param <TKey>      The type of the key returned by <i>keySelector</i>.
+     * @throws IllegalStateException The pipeline isn't immediately the result of an
+     *                               <c>orderBy</c> or <c>thenBy</c> stage, or elements of the
+     *                               ordering have been taken.
      */
-    @Group(type = GroupType.Max)
-    public Long maxLong(Selector<TElement, Long> selector) {
-
-        // iterate through all values, looking for the largest value
-        Long maximum = null;
-        for (TElement element : this) {
-
-            // get next value
-            Long value = selector.select(element);
-
-            // use value if null
-            if (maximum == null) {
-                maximum = value;
-            }
-
-            // or update maximum (if applicable)
-            else if (value != null
-                    && maximum.compareTo(value) < 0) {
-                maximum = value;
-            }
-        }
-
-        // return largest value, or null if there are no matches
-        return maximum;
+    @Group(type = GroupType.Ordering)
+    public <TKey extends Comparable<? super TKey>> Pipeline<TElement> thenBy(
+            Selector<TElement, TKey> keySelector) {
+        return thenBy(SortKey.of(keySelector, null, false));
     }
 
     /**
-     * Returns the maximum value in a sequence of values.
+     * Performs a subsequent ordering of the elements of a sorted sequence in ascending order
+     * according to a key, using a specified comparer, for elements whose previous keys are equal.
      *
-     * @param selector Returns a numeric value for each element.
+     * @param keySelector A function to extract the key for each element.
+     * @param comparator  Compares keys.
+     * @param <TKey>      The type of the key returned by <i>keySelector</i>.
+     * @throws IllegalStateException The pipeline isn't immediately the result of an
+     *                               <c>orderBy</c> or <c>thenBy</c> stage, or elements of the
+     *                               ordering have been taken.
      */
-    @Group(type = GroupType.Max)
-    public Float maxFloat(Selector<TElement, Float> selector) {
-
-        // iterate through all values, looking for the largest value
-        Float maximum = null;
-        for (TElement element : this) {
-
-            // get next value
-            Float value = selector.select(element);
-
-            // use value if null
-            if (maximum == null) {
-                maximum = value;
-            }
-
-            // or update maximum (if applicable)
-            else if (value != null
-                    && maximum.compareTo(value) < 0) {
-                maximum = value;
-            }
-        }
-
-        // return largest value, or null if there are no matches
-        return maximum;
+    @Group(type = GroupType.Ordering)
+    public <TKey> Pipeline<TElement> thenBy(Selector<TElement, TKey> keySelector,
+                                            Comparator<? super TKey> comparator) {
+        return thenBy(SortKey.of(keySelector, comparator, false));
     }
 
     /**
-     * Returns the maximum value in a sequence of values.
+     * Performs a subsequent ordering of the elements of a sorted sequence in descending order
+     * according to a key, with <c>null</c> keys last, for elements whose previous keys are equal.
      *
-     * @param selector Returns a numeric value for each element.
+     * @param keySelector A function to extract the key for each element.
+     * @param <TKey>      The type of the key returned by <i>keySelector</i>.
+     * @throws IllegalStateException The pipeline isn't immediately the result of an
+     *                               <c>orderBy</c> or <c>thenBy</c> stage, or elements of the
+     *                               ordering have been taken.
      */
-    @Group(type = GroupType.Max)
-    public Double maxDouble(Selector<TElement, Double> selector) {
-
-        // iterate through all values, looking for the largest value
-        Double maximum = null;
-        for (TElement element : this) {
-
-            // get next value
-            Double value = selector.select(element);
-
-            // use value if null
-            if (maximum == null) {
-                maximum = value;
-            }
-
-            // or update maximum (if applicable)
-            else if (value != null
-                    && maximum.compareTo(value) < 0) {
-                maximum = value;
-            }
-        }
-
-        // return largest value, or null if there are no matches
-        return maximum;
+    @Group(type = GroupType.Ordering)
+    public <TKey extends Comparable<? super TKey>> Pipeline<TElement> thenByDescending(
+            Selector<TElement, TKey> keySelector) {
+        return thenBy(SortKey.of(keySelector, null, true));
     }
 
-    // endregion
-
-    // endregion
-
-
-    // region grouping
-
     /**
-     * Groups the elements of a sequence according to a specified key selector function.
+     * Performs a subsequent ordering of the elements of a sorted sequence in descending order
+     * according to a key, using a specified comparer, for elements whose previous keys are equal.
      *
-     * @param selector A function to extract the key for each element.
-     * @param <TKey>   The type of the key returned by the function represented in <i>keySelector</i>.
+     * @param keySelector A function to extract the key for each element.
+     * @param comparator  Compares keys.
+     * @param <TKey>      The type of the key returned by <i>keySelector</i>.
+     * @throws IllegalStateException The pipeline isn't immediately the result of an
+     *                               <c>orderBy</c> or <c>thenBy</c> stage, or elements of the
+     *                               ordering have been taken.
      */
-    @Group(type = GroupType.Grouping)
-    public <TKey> Pipeline<Grouping<TKey, TElement>> groupBy(Selector<TElement, TKey> selector) {
-        return new Pipeline<>(new GroupByOperation<>(this, selector));
+    @Group(type = GroupType.Ordering)
+    public <TKey> Pipeline<TElement> thenByDescending(Selector<TElement, TKey> keySelector,
+                                                      Comparator<? super TKey> comparator) {
+        return thenBy(SortKey.of(keySelector, comparator, true));
     }
 
     // endregion
@@ -921,26 +2458,40 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      * @param value The value to locate in the sequence.
      */
     @Group(type = GroupType.Quantification)
-    public boolean contains(TElement value) {
+    public boolean contains(final TElement value) {
 
-        // search through sequence for first match
-        for (TElement element : this) {
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Boolean>() {
 
-            // check for null match
-            if (element == null) {
-                if (value == null) {
-                    return true;
-                }
+            @Override
+            protected Boolean evaluatePartition(PipelineOperation<TElement> partition) {
+
+                // search through partition for first match, which stops the push
+                return !partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
+
+                        // check for null match
+                        if (element == null) {
+                            return value != null;
+                        }
+
+                        // or check for value match
+                        return !element.equals(value);
+                    }
+                });
             }
 
-            // or check for value match
-            else if (element.equals(value)) {
-                return true;
+            @Override
+            protected Boolean combine(Boolean left, Boolean right) {
+                return left || right;
             }
-        }
 
-        // fail if sequence doesn't contain a match
-        return false;
+            @Override
+            protected boolean isFinal(Boolean result) {
+                return result;
+            }
+        });
     }
 
     /**
@@ -949,17 +2500,33 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      * @param predicate A function to test each element for a condition.
      */
     @Group(type = GroupType.Quantification)
-    public boolean all(Predicate<TElement> predicate) {
+    public boolean all(final Predicate<TElement> predicate) {
 
-        // iterate through all elements, fail as soon as predicate test fails
-        for (TElement element : this) {
-            if (!predicate.evaluate(element)) {
-                return false;
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Boolean>() {
+
+            @Override
+            protected Boolean evaluatePartition(PipelineOperation<TElement> partition) {
+
+                // push all elements, fail as soon as predicate test fails
+                return partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
+                        return predicate.evaluate(element);
+                    }
+                });
+            }
+
+            @Override
+            protected Boolean combine(Boolean left, Boolean right) {
+                return left && right;
             }
-        }
 
-        // succeed if we process without failing
-        return true;
+            @Override
+            protected boolean isFinal(Boolean result) {
+                return !result;
+            }
+        });
     }
 
     /**
@@ -968,8 +2535,19 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
     @Group(type = GroupType.Quantification)
     public boolean any() {
 
-        // simply test if there is a single item in the iterator
-        return this.iterator().hasNext();
+        // use size of sequence, if known
+        int size = _operation.size();
+        if (size != PipelineOperation.UNKNOWN_SIZE) {
+            return size > 0;
+        }
+
+        // or push elements, stopping at the first one
+        return !_operation.push(new Sink<TElement>() {
+            @Override
+            public boolean accept(TElement element) {
+                return false;
+            }
+        });
     }
 
     /**
@@ -978,17 +2556,33 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      * @param predicate A function to test each element for a condition.
      */
     @Group(type = GroupType.Quantification)
-    public boolean any(Predicate<TElement> predicate) {
+    public boolean any(final Predicate<TElement> predicate) {
 
-        // iterate through all elements, succeed as soon as predicate test passes
-        for (TElement element : this) {
-            if (predicate.evaluate(element)) {
-                return true;
+        // evaluate partitions, in parallel if possible
+        return evaluate(new Evaluation<TElement, Boolean>() {
+
+            @Override
+            protected Boolean evaluatePartition(PipelineOperation<TElement> partition) {
+
+                // push all elements, succeed as soon as predicate test passes
+                return !partition.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
+                        return !predicate.evaluate(element);
+                    }
+                });
             }
-        }
 
-        // fail if we process without matching
-        return false;
+            @Override
+            protected Boolean combine(Boolean left, Boolean right) {
+                return left || right;
+            }
+
+            @Override
+            protected boolean isFinal(Boolean result) {
+                return result;
+            }
+        });
     }
 
     // endregion
@@ -1004,12 +2598,22 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
     @Group(type = GroupType.ElementOperators)
     public TElement first() throws NoElementFoundException {
 
-        // create iterator
-        Iterator<TElement> iterator = this.iterator();
+        // push pipeline sequence, stopping at the first element
+        class FirstSink implements Sink<TElement> {
+
+            private TElement _element;
+
+            @Override
+            public boolean accept(TElement element) {
+                _element = element;
+                return false;
+            }
+        }
+        FirstSink sink = new FirstSink();
 
         // return first element if one is available
-        if (iterator.hasNext()) {
-            return iterator.next();
+        if (!_operation.push(sink)) {
+            return sink._element;
         }
 
         // or throw if nothing was found
@@ -1026,16 +2630,32 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      *                                 or the pipeline sequence is empty.
      */
     @Group(type = GroupType.ElementOperators)
-    public TElement first(Predicate<TElement> predicate) throws NoElementFoundException {
+    public TElement first(final Predicate<TElement> predicate) throws NoElementFoundException {
 
-        // iterate through pipeline sequence to find first match
-        for (TElement element : this) {
+        // push pipeline sequence to find first match
+        class FirstSink implements Sink<TElement> {
 
-            // return first element passing predicate test
-            if (predicate.evaluate(element)) {
-                return element;
+            private TElement _element;
+
+            @Override
+            public boolean accept(TElement element) {
+
+                // stop at first element passing predicate test
+                if (predicate.evaluate(element)) {
+                    _element = element;
+                    return false;
+                }
+
+                // or continue processing
+                return true;
             }
         }
+        FirstSink sink = new FirstSink();
+
+        // return first element passing predicate test
+        if (!_operation.push(sink)) {
+            return sink._element;
+        }
 
         // or throw if there is not match
         throw new NoElementFoundException("No element matching predicate.");
@@ -1079,6 +2699,156 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
         }
     }
 
+    /**
+     * Returns the last element of a sequence.
+     * <p>
+     * If the sequence is indexed (e.g. an array or random access list source), the last element is
+     * retrieved directly, without iterating.
+     *
+     * @throws NoElementFoundException The pipeline sequence is empty.
+     */
+    @Group(type = GroupType.ElementOperators)
+    public TElement last() throws NoElementFoundException {
+
+        // retrieve last element directly if sequence is indexed
+        if (_operation.isIndexed()) {
+
+            // return last element if one is available
+            int size = _operation.size();
+            if (size > 0) {
+                return _operation.get(size - 1);
+            }
+        }
+
+        // or push all elements, keeping the last one
+        else {
+
+            // capture every element
+            class LastSink implements Sink<TElement> {
+
+                private boolean _found;
+                private TElement _element;
+
+                @Override
+                public boolean accept(TElement element) {
+
+                    // capture element
+                    _found = true;
+                    _element = element;
+
+                    // continue processing
+                    return true;
+                }
+            }
+            LastSink sink = new LastSink();
+            _operation.push(sink);
+
+            // return last element if one was found
+            if (sink._found) {
+                return sink._element;
+            }
+        }
+
+        // or throw if nothing was found
+        throw new NoElementFoundException("Pipeline is empty.");
+    }
+
+    /**
+     * Returns the last element of a sequence, or a default value if the sequence contains no
+     * elements.
+     */
+    @Group(type = GroupType.ElementOperators)
+    public TElement lastOrDefault() {
+
+        // try to get last element
+        try {
+            return last();
+        }
+
+        // return default if not element was found
+        catch (NoElementFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the element at a specified index in a sequence.
+     * <p>
+     * If the sequence is indexed (e.g. an array or random access list source), the element is
+     * retrieved directly, without iterating the elements before it.
+     *
+     * @param index The zero-based index of the element to retrieve.
+     * @throws NoElementFoundException <i>index</i> is less than zero, or greater than or equal to
+     *                                 the number of elements in the sequence.
+     */
+    @Group(type = GroupType.ElementOperators)
+    public TElement elementAt(final int index) throws NoElementFoundException {
+
+        // fail immediately if index is negative
+        if (index >= 0) {
+
+            // retrieve element directly if sequence is indexed
+            if (_operation.isIndexed()) {
+                if (index < _operation.size()) {
+                    return _operation.get(index);
+                }
+            }
+
+            // or push elements until index is reached
+            else {
+
+                // stop at element with index
+                class ElementAtSink implements Sink<TElement> {
+
+                    private int _offset;
+                    private TElement _element;
+
+                    @Override
+                    public boolean accept(TElement element) {
+
+                        // stop if index is reached
+                        if (_offset++ == index) {
+                            _element = element;
+                            return false;
+                        }
+
+                        // or continue processing
+                        return true;
+                    }
+                }
+                ElementAtSink sink = new ElementAtSink();
+
+                // return element if index was reached
+                if (!_operation.push(sink)) {
+                    return sink._element;
+                }
+            }
+        }
+
+        // or throw if index is out of range
+        throw new NoElementFoundException("No element at index: " + index);
+    }
+
+    /**
+     * Returns the element at a specified index in a sequence, or a default value if the index is
+     * out of range.
+     *
+     * @param index The zero-based index of the element to retrieve.
+     */
+    @Group(type = GroupType.ElementOperators)
+    public TElement elementAtOrDefault(int index) {
+
+        // try to get element at index
+        try {
+            return elementAt(index);
+        }
+
+        // return default if not element was found
+        catch (NoElementFoundException e) {
+            return null;
+        }
+    }
+
     // endregion
 
 
@@ -1098,16 +2868,44 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      */
     @Group(type = GroupType.ConversionOperations)
     public <TDerived> Pipeline<TDerived> cast(Class<TDerived> targetClass) throws ClassCastException {
-        return new Pipeline<>(new CastOperation<>(this, targetClass));
+        return new Pipeline<>(new CastOperation<>(_operation, targetClass), _pool);
     }
 
     /**
      * Converts the sequence into an array.
      */
     @Group(type = GroupType.ConversionOperations)
+    @SuppressWarnings("unchecked")
     public TElement[] toArray(Class<TElement> elementType) {
 
-        // extract sequence from pipeline
+        // allocate array once if size of sequence is known
+        int size = _operation.size();
+        if (size != PipelineOperation.UNKNOWN_SIZE) {
+
+            // fill array from pipeline
+            final TElement[] array = (TElement[]) Array.newInstance(elementType, size);
+            if (size > 0) {
+                _operation.push(new Sink<TElement>() {
+
+                    private int _index;
+
+                    @Override
+                    public boolean accept(TElement element) {
+
+                        // fill next slot
+                        array[_index++] = element;
+
+                        // continue until array is full
+                        return _index < array.length;
+                    }
+                });
+            }
+
+            // return array
+            return array;
+        }
+
+        // or extract sequence from pipeline
         List<TElement> sequence = toList();
 
         // convert sequence to array
@@ -1123,11 +2921,17 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
     @Group(type = GroupType.ConversionOperations)
     public List<TElement> toList() {
 
-        // extract sequence from pipeline
-        List<TElement> sequence = new ArrayList<>();
-        for (TElement element : _operation) {
-            sequence.add(element);
-        }
+        // extract sequence from pipeline, pre-sizing list if size is known
+        int size = _operation.size();
+        final List<TElement> sequence = size == PipelineOperation.UNKNOWN_SIZE
+                ? new ArrayList<TElement>()
+                : new ArrayList<TElement>(size);
+        _operation.push(new Sink<TElement>() {
+            @Override
+            public boolean accept(TElement element) {
+                return sequence.add(element);
+            }
+        });
 
         // return sequence
         return sequence;
@@ -1142,26 +2946,32 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      *                               two elements.
      */
     @Group(type = GroupType.ConversionOperations)
-    public <TKey> Map<TKey, TElement> toMap(Selector<TElement, TKey> keySelector)
+    public <TKey> Map<TKey, TElement> toMap(final Selector<TElement, TKey> keySelector)
             throws DuplicateKeyException {
 
         // create map
-        Map<TKey, TElement> map = new HashMap<>();
+        final Map<TKey, TElement> map = new HashMap<>();
 
         // build map from elements in pipeline
-        for (TElement element : this) {
+        _operation.push(new Sink<TElement>() {
+            @Override
+            public boolean accept(TElement element) {
 
-            // get key for element using selector
-            TKey key = keySelector.select(element);
+                // get key for element using selector
+                TKey key = keySelector.select(element);
 
-            // throw if key is already mapped
-            if (map.containsKey(key)) {
-                throw new DuplicateKeyException("Duplicate key encountered: " + key);
-            }
+                // throw if key is already mapped
+                if (map.containsKey(key)) {
+                    throw new DuplicateKeyException("Duplicate key encountered: " + key);
+                }
 
-            // or map element using key
-            map.put(key, element);
-        }
+                // or map element using key
+                map.put(key, element);
+
+                // continue processing
+                return true;
+            }
+        });
 
         // return map
         return map;
@@ -1179,35 +2989,188 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
      *                               two elements.
      */
     @Group(type = GroupType.ConversionOperations)
-    public <TKey, TValue> Map<TKey, TValue> toMap(Selector<TElement, TKey> keySelector,
-                                                  Selector<TElement, TValue> valueSelector)
+    public <TKey, TValue> Map<TKey, TValue> toMap(final Selector<TElement, TKey> keySelector,
+                                                  final Selector<TElement, TValue> valueSelector)
             throws DuplicateKeyException {
 
         // create map
-        Map<TKey, TValue> map = new HashMap<>();
+        final Map<TKey, TValue> map = new HashMap<>();
 
         // build map from elements in pipeline
-        for (TElement element : this) {
+        _operation.push(new Sink<TElement>() {
+            @Override
+            public boolean accept(TElement element) {
 
-            // get key for element using selector
-            TKey key = keySelector.select(element);
+                // get key for element using selector
+                TKey key = keySelector.select(element);
 
-            // throw if key is already mapped
-            if (map.containsKey(key)) {
-                throw new DuplicateKeyException("Duplicate key encountered: " + key);
-            }
+                // throw if key is already mapped
+                if (map.containsKey(key)) {
+                    throw new DuplicateKeyException("Duplicate key encountered: " + key);
+                }
 
-            // resolve value
-            TValue value = valueSelector.select(element);
+                // resolve value
+                TValue value = valueSelector.select(element);
 
-            // or map element using key
-            map.put(key, value);
-        }
+                // or map element using key
+                map.put(key, value);
+
+                // continue processing
+                return true;
+            }
+        });
 
         // return map
         return map;
     }
 
+    /**
+     * Creates a {@link Lookup} from the pipeline according to a specified key selector function,
+     * which indexes every element by its key.
+     * <p>
+     * Unlike {@link #groupBy(Selector)}, the lookup is built once and can then be probed for
+     * specific keys any number of times without re-evaluating the pipeline.
+     *
+     * @param keySelector A function to extract a key from each element.
+     * @param <TKey>      The type of the key returned by <i>keySelector</i>.
+     */
+    @Group(type = GroupType.ConversionOperations)
+    public <TKey> Lookup<TKey, TElement> toLookup(final Selector<TElement, TKey> keySelector) {
+
+        // add every element to lookup, by key
+        final Lookup.Builder<TKey, TElement> builder = new Lookup.Builder<>();
+        _operation.push(new Sink<TElement>() {
+            @Override
+            public boolean accept(TElement element) {
+                builder.add(keySelector.select(element), element);
+                return true;
+            }
+        });
+
+        // return lookup
+        return builder.build();
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    private <TResult> TResult evaluate(Evaluation<TElement, TResult> evaluation) {
+        return evaluation.evaluate(_operation, _pool);
+    }
+
+    private Pipeline<TElement> orderBy(SortKey<TElement> key) {
+        return new Pipeline<>(new SortOperation<>(_operation, key, _pool), _pool);
+    }
+
+    private Pipeline<TElement> thenBy(SortKey<TElement> key) {
+
+        // fail if pipeline isn't sorted, or some elements have already been taken
+        if (!(_operation instanceof SortOperation)
+                || ((SortOperation<TElement>) _operation).isLimited()) {
+            throw new IllegalStateException(
+                    "A subsequent ordering must immediately follow an ordering.");
+        }
+
+        // return new pipeline, ordering by the additional key
+        return new Pipeline<>(((SortOperation<TElement>) _operation).thenBy(key), _pool);
+    }
+
+    private Pipeline<TElement> distinctBy(DistinctKey<TElement> key) {
+        return new Pipeline<>(new DistinctByOperation<>(_operation, key), _pool);
+    }
+
+    private <TInner, TResult> Pipeline<TResult> join(
+            Iterable<TInner> inner,
+            JoinKey<TElement, TInner> key,
+            ResultSelector<TElement, TInner, TResult> resultSelector,
+            boolean leftOuter) {
+        return new Pipeline<>(new JoinOperation<>(_operation, innerOperation(inner), key,
+                resultSelector, leftOuter), _pool);
+    }
+
+    /**
+     * Returns the operation producing the inner sequence of a join, fusing directly with
+     * pipelines.
+     */
+    @SuppressWarnings("unchecked")
+    private static <TInner> PipelineOperation<TInner> innerOperation(Iterable<TInner> inner) {
+
+        // fail if inner sequence isn't specified
+        if (inner == null) {
+            throw new IllegalArgumentException("An inner sequence is required to join.");
+        }
+
+        // return operation, fusing directly with pipelines
+        return inner instanceof Pipeline
+                ? ((Pipeline<TInner>) inner)._operation
+                : new IterableSourceOperation<>(inner);
+    }
+
+    /**
+     * Returns a function that indexes the elements of a sequence into a {@link Lookup} by key,
+     * skipping <c>null</c> keys, so that operations can build lookups without access to its
+     * builder.
+     */
+    private static <TElement, TKey> Selector<PipelineOperation<TElement>, Lookup<TKey, TElement>>
+    indexer(final Selector<TElement, TKey> keySelector) {
+        return new Selector<PipelineOperation<TElement>, Lookup<TKey, TElement>>() {
+            @Override
+            public Lookup<TKey, TElement> select(PipelineOperation<TElement> operation) {
+
+                // add every element with a key to lookup
+                final Lookup.Builder<TKey, TElement> builder = new Lookup.Builder<>();
+                operation.push(new Sink<TElement>() {
+                    @Override
+                    public boolean accept(TElement element) {
+                        TKey key = keySelector.select(element);
+                        if (key != null) {
+                            builder.add(key, element);
+                        }
+                        return true;
+                    }
+                });
+
+                // return lookup
+                return builder.build();
+            }
+        };
+    }
+
+    private static <TElement, TOutput> TOutput reducePartition(
+            PipelineOperation<TElement> partition,
+            final Aggregator<TElement, TOutput> aggregator,
+            TOutput initial) {
+
+        // start aggregate as initial value
+        class ReduceSink implements Sink<TElement> {
+
+            private TOutput _aggregate;
+
+            private ReduceSink(TOutput initial) {
+                _aggregate = initial;
+            }
+
+            @Override
+            public boolean accept(TElement element) {
+
+                // fold element into aggregate
+                _aggregate = aggregator.aggregate(_aggregate, element);
+
+                // continue processing
+                return true;
+            }
+        }
+        ReduceSink sink = new ReduceSink(initial);
+
+        // process all elements
+        partition.push(sink);
+
+        // return aggregate
+        return sink._aggregate;
+    }
+
     // endregion
 
 
@@ -1220,5 +3183,18 @@ public final class Pipeline<TElement> implements Iterable<TElement> {
     }
 
     // endregion
+
+
+    // region internal classes
+
+    /**
+     * Lazily creates the pool shared by parallel pipelines.
+     */
+    static final class DefaultPool {
+
+        static final ForkJoinPool instance = new ForkJoinPool();
+    }
+
+    // endregion
 }
 
@@ -1,5 +1,58 @@
 package com.nascentdigital.pipeline;
 
+import java.util.List;
+
 
 public interface PipelineOperation<TElement> extends Iterable<TElement> {
+
+    /**
+     * The value returned by {@link #size()} when the number of elements in the sequence cannot be
+     * determined without iterating it.
+     */
+    int UNKNOWN_SIZE = -1;
+
+    /**
+     * Returns the exact number of elements in the sequence, if it is known without iterating, or
+     * {@link #UNKNOWN_SIZE} otherwise.
+     */
+    int size();
+
+    /**
+     * Determines whether elements of the sequence can be retrieved by position using
+     * {@link #get(int)}, without iterating.  Indexed operations always report their
+     * {@link #size()}.
+     */
+    boolean isIndexed();
+
+    /**
+     * Returns the element at the specified position of an indexed sequence.
+     *
+     * @param index The zero-based position of the element, which must be less than
+     *              {@link #size()}.
+     * @throws UnsupportedOperationException The operation is not indexed.
+     */
+    TElement get(int index);
+
+    /**
+     * Splits the sequence into contiguous partitions that can be processed independently, such as
+     * on separate threads.  Concatenating the partitions, in order, yields the original sequence.
+     *
+     * @param count The desired number of partitions, which is a hint and may not be honoured.
+     * @return The partitions of the sequence, in order, or <c>null</c> if the operation cannot be
+     *         split.
+     */
+    List<PipelineOperation<TElement>> split(int count);
+
+    /**
+     * Pushes the elements of the sequence into a sink, in order, until the sequence is exhausted
+     * or the sink stops processing.
+     * <p>
+     * Unlike {@link #iterator()}, pushing fuses every stage of a chain into a single loop driven
+     * by the source, avoiding per-stage iterators and <c>hasNext()</c>/<c>next()</c> calls.
+     *
+     * @param sink The sink receiving the elements of the sequence.
+     * @return <c>false</c> if the sink stopped processing before the sequence was exhausted,
+     *         otherwise <c>true</c>.
+     */
+    boolean push(Sink<TElement> sink);
 }
@@ -0,0 +1,14 @@
+package com.nascentdigital.pipeline;
+
+
+/**
+ * Combines an element of an outer sequence with a matching element of an inner sequence.
+ *
+ * @param <TOuter>  The type of elements in the outer sequence.
+ * @param <TInner>  The type of elements in the inner sequence.
+ * @param <TResult> The type of the combined result.
+ */
+public interface ResultSelector<TOuter, TInner, TResult> {
+
+    TResult select(TOuter outer, TInner inner);
+}
@@ -0,0 +1,18 @@
+package com.nascentdigital.pipeline;
+
+/**
+ * Receives elements pushed through a fused chain of {@link PipelineOperation} stages.
+ *
+ * @param <TElement> The type of elements accepted by the sink.
+ */
+public interface Sink<TElement> {
+
+    /**
+     * Accepts the next element of a sequence.
+     *
+     * @param element The element being pushed into the sink.
+     * @return <c>true</c> if the sink should continue receiving elements, or <c>false</c> to stop
+     *         processing the sequence.
+     */
+    boolean accept(TElement element);
+}
@@ -0,0 +1,25 @@
+package com.nascentdigital.pipeline;
+
+/**
+ * Thrown when a {@link Pipeline} stage fails to write or read the temporary files it spills
+ * elements to after exceeding its memory budget.
+ */
+public class SpillException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public SpillException() {
+    }
+
+    public SpillException(String message) {
+        super(message);
+    }
+
+    public SpillException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public SpillException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -23,7 +23,11 @@ public enum GroupType {
     Min("Min"),
     Max("Max"),
     SetOperations("Set Operations"),
-    InterfaceIterator("Interface Iterator");
+    InterfaceIterator("Interface Iterator"),
+    Parallelism("Parallelism"),
+    Caching("Caching"),
+    Ordering("Ordering"),
+    Join("Join");
 
     public final String name;
 
@@ -0,0 +1,137 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.Aggregator;
+import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Selector;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+
+/**
+ * Folds each element into the accumulator of its group as it arrives, retaining only one
+ * accumulator per group rather than the elements of each group.
+ */
+public class AggregateByOperation<TElement, TKey, TAccumulate>
+        implements PipelineOperation<Entry<TKey, TAccumulate>> {
+
+    // region instance variables
+
+    private final PipelineOperation<TElement> _source;
+    private final Selector<TElement, TKey> _keySelector;
+    private final TAccumulate _seed;
+    private final Aggregator<TElement, TAccumulate> _aggregator;
+
+    // endregion
+
+
+    // region constructors
+
+    public AggregateByOperation(PipelineOperation<TElement> source,
+                                Selector<TElement, TKey> keySelector,
+                                TAccumulate seed,
+                                Aggregator<TElement, TAccumulate> aggregator) {
+        _source = source;
+        _keySelector = keySelector;
+        _seed = seed;
+        _aggregator = aggregator;
+    }
+
+    // endregion
+
+
+    // region Iterable<Entry<TKey, TAccumulate>> interface
+
+    @Override
+    public Iterator<Entry<TKey, TAccumulate>> iterator() {
+        return aggregate().iterator();
+    }
+
+    // endregion
+
+
+    // region PipelineOperation<Entry<TKey, TAccumulate>> interface
+
+    @Override
+    public int size() {
+        return UNKNOWN_SIZE;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public Entry<TKey, TAccumulate> get(int index) {
+        throw new UnsupportedOperationException("Operation is not indexed.");
+    }
+
+    @Override
+    public List<PipelineOperation<Entry<TKey, TAccumulate>>> split(int count) {
+        return null;
+    }
+
+    @Override
+    public boolean push(Sink<Entry<TKey, TAccumulate>> sink) {
+
+        // push all groups, stopping if the sink is done
+        for (Entry<TKey, TAccumulate> group : aggregate()) {
+            if (!sink.accept(group)) {
+                return false;
+            }
+        }
+
+        // indicate sequence was exhausted
+        return true;
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    @SuppressWarnings("unchecked")
+    private List<Entry<TKey, TAccumulate>> aggregate() {
+
+        // push all elements, folding each into the accumulator of its group
+        final Map<TKey, Object[]> groups = new LinkedHashMap<>();
+        _source.push(new Sink<TElement>() {
+            @Override
+            public boolean accept(TElement element) {
+
+                // get accumulator for element's group, or create one
+                TKey key = _keySelector.select(element);
+                Object[] accumulator = groups.get(key);
+                if (accumulator == null) {
+                    accumulator = new Object[] { _seed };
+                    groups.put(key, accumulator);
+                }
+
+                // fold element into accumulator
+                accumulator[0] = _aggregator.aggregate((TAccumulate) accumulator[0], element);
+
+                // continue aggregating
+                return true;
+            }
+        });
+
+        // create an entry for each group, in the order groups were first encountered
+        List<Entry<TKey, TAccumulate>> entries = new ArrayList<>(groups.size());
+        for (Entry<TKey, Object[]> group : groups.entrySet()) {
+            TAccumulate accumulator = (TAccumulate) group.getValue()[0];
+            entries.add(new SimpleImmutableEntry<>(group.getKey(), accumulator));
+        }
+
+        // return entries
+        return entries;
+    }
+
+    // endregion
+}
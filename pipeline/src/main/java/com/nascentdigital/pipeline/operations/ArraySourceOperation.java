@@ -1,6 +1,10 @@
 package com.nascentdigital.pipeline.operations;
 
 import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.Arrays;
+import java.util.List;
 
 
 public class ArraySourceOperation<TElement> implements PipelineOperation<TElement> {
@@ -39,6 +43,100 @@ public class ArraySourceOperation<TElement> implements PipelineOperation<TElemen
     // endregion
 
 
+    // region PipelineOperation<TElement> interface
+
+    @Override
+    public int size() {
+        return _source == null
+                ? 0
+                : _source.length;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return true;
+    }
+
+    @Override
+    public TElement get(int index) {
+        return _source[index];
+    }
+
+    @Override
+    public List<PipelineOperation<TElement>> split(int count) {
+        return RangeOperation.split(this, count);
+    }
+
+    @Override
+    public boolean push(Sink<TElement> sink) {
+
+        // skip processing if there is no source
+        if (_source == null) {
+            return true;
+        }
+
+        // push all elements, stopping if the sink is done
+        for (TElement element : _source) {
+            if (!sink.accept(element)) {
+                return false;
+            }
+        }
+
+        // indicate sequence was exhausted
+        return true;
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    /**
+     * Evaluates an operation into an array holding every element of its sequence, in order.
+     */
+    @SuppressWarnings("unchecked")
+    static <TElement> TElement[] materialize(PipelineOperation<TElement> source) {
+
+        // append all elements, growing the array as needed
+        class BufferSink implements Sink<TElement> {
+
+            private Object[] _elements;
+            private int _count;
+
+            private BufferSink(int capacity) {
+                _elements = new Object[capacity];
+            }
+
+            @Override
+            public boolean accept(TElement element) {
+
+                // grow array if full
+                if (_count == _elements.length) {
+                    _elements = Arrays.copyOf(_elements, Math.max(16, _count * 2));
+                }
+
+                // append element
+                _elements[_count++] = element;
+
+                // continue processing
+                return true;
+            }
+        }
+
+        // allocate for the size of the source, if known
+        int size = source.size();
+        BufferSink sink = new BufferSink(size != UNKNOWN_SIZE ? size : 16);
+        source.push(sink);
+
+        // return elements, trimming any unused capacity
+        return (TElement[]) (sink._count == sink._elements.length
+                ? sink._elements
+                : Arrays.copyOf(sink._elements, sink._count));
+    }
+
+    // endregion
+
+
     // region internal classes
 
     private class Iterator implements java.util.Iterator<TElement> {
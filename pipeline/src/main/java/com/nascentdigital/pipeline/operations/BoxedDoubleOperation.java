@@ -0,0 +1,111 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.DoubleIterator;
+import com.nascentdigital.pipeline.DoublePipelineOperation;
+import com.nascentdigital.pipeline.DoubleSink;
+import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class BoxedDoubleOperation implements PipelineOperation<Double> {
+
+    // region instance variables
+
+    private final DoublePipelineOperation _source;
+
+    // endregion
+
+
+    // region constructors
+
+    public BoxedDoubleOperation(DoublePipelineOperation source) {
+        _source = source;
+    }
+
+    // endregion
+
+
+    // region Iterable<Double> interface
+
+    @Override
+    public Iterator iterator() {
+        return new Iterator();
+    }
+
+    // endregion
+
+
+    // region PipelineOperation<Double> interface
+
+    @Override
+    public int size() {
+        return _source.size();
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public Double get(int index) {
+        throw new UnsupportedOperationException("Operation is not indexed.");
+    }
+
+    @Override
+    public List<PipelineOperation<Double>> split(int count) {
+
+        // fail if source can't be split
+        List<DoublePipelineOperation> partitions = _source.split(count);
+        if (partitions == null) {
+            return null;
+        }
+
+        // or apply operation to each partition of the source
+        List<PipelineOperation<Double>> operations = new ArrayList<>(partitions.size());
+        for (DoublePipelineOperation partition : partitions) {
+            operations.add(new BoxedDoubleOperation(partition));
+        }
+        return operations;
+    }
+
+    @Override
+    public boolean push(final Sink<Double> sink) {
+        return _source.push(new DoubleSink() {
+            @Override
+            public boolean accept(double element) {
+                return sink.accept(element);
+            }
+        });
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    private class Iterator implements java.util.Iterator<Double> {
+
+        private final DoubleIterator _input = _source.iterator();
+
+        @Override
+        public boolean hasNext() {
+            return _input.hasNext();
+        }
+
+        @Override
+        public Double next() {
+            return _input.nextDouble();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Not implemented.");
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,111 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.IntIterator;
+import com.nascentdigital.pipeline.IntPipelineOperation;
+import com.nascentdigital.pipeline.IntSink;
+import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class BoxedIntOperation implements PipelineOperation<Integer> {
+
+    // region instance variables
+
+    private final IntPipelineOperation _source;
+
+    // endregion
+
+
+    // region constructors
+
+    public BoxedIntOperation(IntPipelineOperation source) {
+        _source = source;
+    }
+
+    // endregion
+
+
+    // region Iterable<Integer> interface
+
+    @Override
+    public Iterator iterator() {
+        return new Iterator();
+    }
+
+    // endregion
+
+
+    // region PipelineOperation<Integer> interface
+
+    @Override
+    public int size() {
+        return _source.size();
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public Integer get(int index) {
+        throw new UnsupportedOperationException("Operation is not indexed.");
+    }
+
+    @Override
+    public List<PipelineOperation<Integer>> split(int count) {
+
+        // fail if source can't be split
+        List<IntPipelineOperation> partitions = _source.split(count);
+        if (partitions == null) {
+            return null;
+        }
+
+        // or apply operation to each partition of the source
+        List<PipelineOperation<Integer>> operations = new ArrayList<>(partitions.size());
+        for (IntPipelineOperation partition : partitions) {
+            operations.add(new BoxedIntOperation(partition));
+        }
+        return operations;
+    }
+
+    @Override
+    public boolean push(final Sink<Integer> sink) {
+        return _source.push(new IntSink() {
+            @Override
+            public boolean accept(int element) {
+                return sink.accept(element);
+            }
+        });
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    private class Iterator implements java.util.Iterator<Integer> {
+
+        private final IntIterator _input = _source.iterator();
+
+        @Override
+        public boolean hasNext() {
+            return _input.hasNext();
+        }
+
+        @Override
+        public Integer next() {
+            return _input.nextInt();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Not implemented.");
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,111 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.LongIterator;
+import com.nascentdigital.pipeline.LongPipelineOperation;
+import com.nascentdigital.pipeline.LongSink;
+import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class BoxedLongOperation implements PipelineOperation<Long> {
+
+    // region instance variables
+
+    private final LongPipelineOperation _source;
+
+    // endregion
+
+
+    // region constructors
+
+    public BoxedLongOperation(LongPipelineOperation source) {
+        _source = source;
+    }
+
+    // endregion
+
+
+    // region Iterable<Long> interface
+
+    @Override
+    public Iterator iterator() {
+        return new Iterator();
+    }
+
+    // endregion
+
+
+    // region PipelineOperation<Long> interface
+
+    @Override
+    public int size() {
+        return _source.size();
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public Long get(int index) {
+        throw new UnsupportedOperationException("Operation is not indexed.");
+    }
+
+    @Override
+    public List<PipelineOperation<Long>> split(int count) {
+
+        // fail if source can't be split
+        List<LongPipelineOperation> partitions = _source.split(count);
+        if (partitions == null) {
+            return null;
+        }
+
+        // or apply operation to each partition of the source
+        List<PipelineOperation<Long>> operations = new ArrayList<>(partitions.size());
+        for (LongPipelineOperation partition : partitions) {
+            operations.add(new BoxedLongOperation(partition));
+        }
+        return operations;
+    }
+
+    @Override
+    public boolean push(final Sink<Long> sink) {
+        return _source.push(new LongSink() {
+            @Override
+            public boolean accept(long element) {
+                return sink.accept(element);
+            }
+        });
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    private class Iterator implements java.util.Iterator<Long> {
+
+        private final LongIterator _input = _source.iterator();
+
+        @Override
+        public boolean hasNext() {
+            return _input.hasNext();
+        }
+
+        @Override
+        public Long next() {
+            return _input.nextLong();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Not implemented.");
+        }
+    }
+
+    // endregion
+}
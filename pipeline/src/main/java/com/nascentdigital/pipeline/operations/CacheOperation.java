@@ -0,0 +1,138 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Sink;
+
+import java.lang.ref.SoftReference;
+import java.util.List;
+
+
+/**
+ * Materializes the sequence of its source into an array the first time it is accessed, then
+ * replays every subsequent access from that array instead of re-evaluating the source.
+ * <p>
+ * A soft cache holds its array through a {@link SoftReference}, allowing the garbage collector to
+ * drop it under memory pressure, in which case the source is evaluated again on next access.
+ */
+public class CacheOperation<TElement> implements PipelineOperation<TElement> {
+
+    // region instance variables
+
+    private final PipelineOperation<TElement> _source;
+    private final boolean _soft;
+    private volatile ArraySourceOperation<TElement> _buffer;
+    private volatile SoftReference<ArraySourceOperation<TElement>> _softBuffer;
+
+    // endregion
+
+
+    // region constructors
+
+    public CacheOperation(PipelineOperation<TElement> source, boolean soft) {
+        _source = source;
+        _soft = soft;
+    }
+
+    // endregion
+
+
+    // region Iterable<TElement> interface
+
+    @Override
+    public java.util.Iterator<TElement> iterator() {
+        return buffer().iterator();
+    }
+
+    // endregion
+
+
+    // region PipelineOperation<TElement> interface
+
+    @Override
+    public int size() {
+
+        // use size of buffer, if materialized
+        ArraySourceOperation<TElement> buffer = cachedBuffer();
+        if (buffer != null) {
+            return buffer.size();
+        }
+
+        // or use source size, if known, materializing the source otherwise
+        int size = _source.size();
+        return size != UNKNOWN_SIZE
+                ? size
+                : buffer().size();
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return true;
+    }
+
+    @Override
+    public TElement get(int index) {
+        return buffer().get(index);
+    }
+
+    @Override
+    public List<PipelineOperation<TElement>> split(int count) {
+        return buffer().split(count);
+    }
+
+    @Override
+    public boolean push(Sink<TElement> sink) {
+        return buffer().push(sink);
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    private ArraySourceOperation<TElement> cachedBuffer() {
+
+        // use strong buffer
+        if (!_soft) {
+            return _buffer;
+        }
+
+        // or use soft buffer, if it hasn't been collected
+        SoftReference<ArraySourceOperation<TElement>> reference = _softBuffer;
+        return reference == null
+                ? null
+                : reference.get();
+    }
+
+    private ArraySourceOperation<TElement> buffer() {
+
+        // use cached buffer, if available
+        ArraySourceOperation<TElement> buffer = cachedBuffer();
+        if (buffer != null) {
+            return buffer;
+        }
+
+        // or materialize source, ensuring only one thread evaluates it
+        synchronized (this) {
+
+            // use buffer if another thread materialized the source first
+            buffer = cachedBuffer();
+            if (buffer != null) {
+                return buffer;
+            }
+
+            // materialize source and cache the buffer
+            buffer = new ArraySourceOperation<>(ArraySourceOperation.materialize(_source));
+            if (_soft) {
+                _softBuffer = new SoftReference<>(buffer);
+            }
+            else {
+                _buffer = buffer;
+            }
+
+            // return buffer
+            return buffer;
+        }
+    }
+
+    // endregion
+}
@@ -2,13 +2,17 @@ package com.nascentdigital.pipeline.operations;
 
 import com.nascentdigital.pipeline.PipelineOperation;
 import com.nascentdigital.pipeline.Predicate;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.ArrayList;
+import java.util.List;
 
 
 public class CastOperation<TInput, TOutput> implements PipelineOperation<TOutput> {
 
     // region instance variables
 
-    private final Iterable<TInput> _source;
+    private final PipelineOperation<TInput> _source;
     private final Class<TOutput> _targetClass;
 
     // endregion
@@ -16,7 +20,7 @@ public class CastOperation<TInput, TOutput> implements PipelineOperation<TOutput
 
     // region constructors
 
-    public CastOperation(Iterable<TInput> source, Class<TOutput> targetClass) {
+    public CastOperation(PipelineOperation<TInput> source, Class<TOutput> targetClass) {
         _source = source;
         _targetClass = targetClass;
     }
@@ -34,6 +38,74 @@ public class CastOperation<TInput, TOutput> implements PipelineOperation<TOutput
     // endregion
 
 
+    // region PipelineOperation<TOutput> interface
+
+    @Override
+    public int size() {
+        return _source.size();
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return _source.isIndexed();
+    }
+
+    @Override
+    public TOutput get(int index) {
+        return cast(_source.get(index));
+    }
+
+    @Override
+    public List<PipelineOperation<TOutput>> split(int count) {
+
+        // fail if source can't be split
+        List<PipelineOperation<TInput>> partitions = _source.split(count);
+        if (partitions == null) {
+            return null;
+        }
+
+        // or apply operation to each partition of the source
+        List<PipelineOperation<TOutput>> operations = new ArrayList<>(partitions.size());
+        for (PipelineOperation<TInput> partition : partitions) {
+            operations.add(new CastOperation<>(partition, _targetClass));
+        }
+        return operations;
+    }
+
+    @Override
+    public boolean push(final Sink<TOutput> sink) {
+        return _source.push(new Sink<TInput>() {
+            @Override
+            public boolean accept(TInput element) {
+                return sink.accept(cast(element));
+            }
+        });
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    @SuppressWarnings("unchecked")
+    private TOutput cast(TInput element) {
+
+        // throw if type mismatches
+        if (element != null
+                && !_targetClass.isInstance(element)) {
+            throw new ClassCastException("Element cannot be casted to \""
+                    + _targetClass.getSimpleName()
+                    + "\": "
+                    + element.getClass().getSimpleName());
+        }
+
+        // return element
+        return (TOutput)element;
+    }
+
+    // endregion
+
+
     // region internal classes
 
     private class Iterator implements java.util.Iterator<TOutput> {
@@ -46,22 +118,9 @@ public class CastOperation<TInput, TOutput> implements PipelineOperation<TOutput
             return _input.hasNext();
         }
 
-        @SuppressWarnings("unchecked")
         @Override
         public TOutput next() {
-
-            // throw if type mismatches
-            TInput element = _input.next();
-            if (element != null
-                    && !_targetClass.isInstance(element)) {
-                throw new ClassCastException("Element cannot be casted to \""
-                        + _targetClass.getSimpleName()
-                        + "\": "
-                        + element.getClass().getSimpleName());
-            }
-
-            // return element
-            return (TOutput)element;
+            return cast(_input.next());
         }
 
         @Override
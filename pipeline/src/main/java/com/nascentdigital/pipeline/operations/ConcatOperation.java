@@ -1,21 +1,26 @@
 package com.nascentdigital.pipeline.operations;
 
 import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.ArrayList;
+import java.util.List;
 
 
 public class ConcatOperation<TElement> implements PipelineOperation<TElement> {
 
     // region instance variables
 
-    private final Iterable<TElement> _source;
-    private final Iterable<TElement> _addition;
+    private final PipelineOperation<TElement> _source;
+    private final PipelineOperation<TElement> _addition;
 
     // endregion
 
 
     // region constructors
 
-    public ConcatOperation(Iterable<TElement> source, Iterable<TElement> addition) {
+    public ConcatOperation(PipelineOperation<TElement> source,
+                           PipelineOperation<TElement> addition) {
         _source = source;
         _addition = addition;
     }
@@ -33,6 +38,73 @@ public class ConcatOperation<TElement> implements PipelineOperation<TElement> {
     // endregion
 
 
+    // region PipelineOperation<TElement> interface
+
+    @Override
+    public int size() {
+
+        // size is unknown if either sequence is unknown
+        int sourceSize = _source.size();
+        int additionSize = _addition.size();
+        if (sourceSize == UNKNOWN_SIZE
+                || additionSize == UNKNOWN_SIZE) {
+            return UNKNOWN_SIZE;
+        }
+
+        // or combine sizes, unless they overflow
+        long size = (long)sourceSize + additionSize;
+        return size > Integer.MAX_VALUE
+                ? UNKNOWN_SIZE
+                : (int)size;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return _source.isIndexed()
+                && _addition.isIndexed()
+                && size() != UNKNOWN_SIZE;
+    }
+
+    @Override
+    public TElement get(int index) {
+
+        // resolve element from source or addition
+        int sourceSize = _source.size();
+        return index < sourceSize
+                ? _source.get(index)
+                : _addition.get(index - sourceSize);
+    }
+
+    @Override
+    public List<PipelineOperation<TElement>> split(int count) {
+
+        // fail if either sequence can't be split
+        List<PipelineOperation<TElement>> sourcePartitions = _source.split(count);
+        List<PipelineOperation<TElement>> additionPartitions = _addition.split(count);
+        if (sourcePartitions == null
+                || additionPartitions == null) {
+            return null;
+        }
+
+        // or use partitions of source followed by partitions of addition
+        List<PipelineOperation<TElement>> partitions = new ArrayList<>(
+                sourcePartitions.size() + additionPartitions.size());
+        partitions.addAll(sourcePartitions);
+        partitions.addAll(additionPartitions);
+        return partitions;
+    }
+
+    @Override
+    public boolean push(Sink<TElement> sink) {
+
+        // push addition only if the sink didn't stop during the source
+        return _source.push(sink)
+                && _addition.push(sink);
+    }
+
+    // endregion
+
+
     // region internal classes
 
     private class Iterator implements java.util.Iterator<TElement> {
@@ -0,0 +1,127 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Selector;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+
+/**
+ * Counts the elements of each group as they arrive, using an unboxed counter per group.
+ */
+public class CountByOperation<TElement, TKey>
+        implements PipelineOperation<Entry<TKey, Integer>> {
+
+    // region instance variables
+
+    private final PipelineOperation<TElement> _source;
+    private final Selector<TElement, TKey> _keySelector;
+
+    // endregion
+
+
+    // region constructors
+
+    public CountByOperation(PipelineOperation<TElement> source,
+                            Selector<TElement, TKey> keySelector) {
+        _source = source;
+        _keySelector = keySelector;
+    }
+
+    // endregion
+
+
+    // region Iterable<Entry<TKey, Integer>> interface
+
+    @Override
+    public Iterator<Entry<TKey, Integer>> iterator() {
+        return aggregate().iterator();
+    }
+
+    // endregion
+
+
+    // region PipelineOperation<Entry<TKey, Integer>> interface
+
+    @Override
+    public int size() {
+        return UNKNOWN_SIZE;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public Entry<TKey, Integer> get(int index) {
+        throw new UnsupportedOperationException("Operation is not indexed.");
+    }
+
+    @Override
+    public List<PipelineOperation<Entry<TKey, Integer>>> split(int count) {
+        return null;
+    }
+
+    @Override
+    public boolean push(Sink<Entry<TKey, Integer>> sink) {
+
+        // push all groups, stopping if the sink is done
+        for (Entry<TKey, Integer> group : aggregate()) {
+            if (!sink.accept(group)) {
+                return false;
+            }
+        }
+
+        // indicate sequence was exhausted
+        return true;
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    private List<Entry<TKey, Integer>> aggregate() {
+
+        // push all elements, folding each into the accumulator of its group
+        final Map<TKey, int[]> groups = new LinkedHashMap<>();
+        _source.push(new Sink<TElement>() {
+            @Override
+            public boolean accept(TElement element) {
+
+                // get accumulator for element's group, or create one
+                TKey key = _keySelector.select(element);
+                int[] accumulator = groups.get(key);
+                if (accumulator == null) {
+                    accumulator = new int[1];
+                    groups.put(key, accumulator);
+                }
+
+                // fold element into accumulator
+                ++accumulator[0];
+
+                // continue aggregating
+                return true;
+            }
+        });
+
+        // create an entry for each group, in the order groups were first encountered
+        List<Entry<TKey, Integer>> entries = new ArrayList<>(groups.size());
+        for (Entry<TKey, int[]> group : groups.entrySet()) {
+            entries.add(new SimpleImmutableEntry<>(group.getKey(), group.getValue()[0]));
+        }
+
+        // return entries
+        return entries;
+    }
+
+    // endregion
+}
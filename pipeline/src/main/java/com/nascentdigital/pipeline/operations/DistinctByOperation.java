@@ -0,0 +1,154 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Sink;
+import com.nascentdigital.pipeline.operations.DistinctKey.Keys;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Returns the elements of its source whose keys are distinct, keeping the first element
+ * encountered for each key.
+ * <p>
+ * Each evaluation retains only the keys it has seen, using the {@link DistinctKey.Keys} of its
+ * {@link DistinctKey}, rather than every distinct element.
+ */
+public class DistinctByOperation<TElement> implements PipelineOperation<TElement> {
+
+    // region instance variables
+
+    private final PipelineOperation<TElement> _source;
+    private final DistinctKey<TElement> _key;
+
+    // endregion
+
+
+    // region constructors
+
+    public DistinctByOperation(PipelineOperation<TElement> source, DistinctKey<TElement> key) {
+        _source = source;
+        _key = key;
+    }
+
+    // endregion
+
+
+    // region Iterable<TElement> interface
+
+    @Override
+    public Iterator iterator() {
+        return new Iterator();
+    }
+
+    // endregion
+
+
+    // region PipelineOperation<TElement> interface
+
+    @Override
+    public int size() {
+        return UNKNOWN_SIZE;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public TElement get(int index) {
+        throw new UnsupportedOperationException("Operation is not indexed.");
+    }
+
+    @Override
+    public List<PipelineOperation<TElement>> split(int count) {
+        return null;
+    }
+
+    @Override
+    public boolean push(final Sink<TElement> sink) {
+
+        // only push elements whose key hasn't been seen yet, retaining keys only
+        final Keys<TElement> distinctKeys = _key.keys();
+        return _source.push(new Sink<TElement>() {
+            @Override
+            public boolean accept(TElement element) {
+                return !distinctKeys.add(element)
+                        || sink.accept(element);
+            }
+        });
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    private class Iterator implements java.util.Iterator<TElement> {
+
+        private final java.util.Iterator<TElement> _input = _source.iterator();
+        private final Keys<TElement> _distinctKeys = _key.keys();
+        private Boolean _hasNext;
+        private TElement _next;
+
+        @Override
+        public boolean hasNext() {
+
+            // get next if isn't undefined
+            if (_hasNext == null) {
+
+                // assume that there is nothing left
+                _hasNext = false;
+
+                // using underlying iterator until an element
+                while (_input.hasNext()) {
+
+                    // get element
+                    TElement element = _input.next();
+
+                    // use element if its key is unique
+                    if (_distinctKeys.add(element)) {
+
+                        // set state
+                        _hasNext = true;
+                        _next = element;
+
+                        // stop processing
+                        break;
+                    }
+                }
+            }
+
+            // return value
+            return _hasNext;
+        }
+
+        @Override
+        public TElement next() {
+
+            // fail if there are no elements left
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            // get item
+            TElement next = _next;
+
+            // clear state
+            _hasNext = null;
+            _next = null;
+
+            // return item
+            return next;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Not implemented.");
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,145 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.IntSelector;
+import com.nascentdigital.pipeline.LongSelector;
+import com.nascentdigital.pipeline.Selector;
+
+
+/**
+ * The key that a {@link DistinctByOperation} compares elements by.
+ * <p>
+ * Each evaluation tracks the keys it has seen in a {@link Keys} set, retaining only the keys
+ * rather than the elements.  Primitive keys are tracked unboxed, in an open-addressing set.
+ */
+public abstract class DistinctKey<TElement> {
+
+    // region constructors
+
+    private DistinctKey() {
+    }
+
+    // endregion
+
+
+    // region factory methods
+
+    /**
+     * Creates a key that compares elements by the keys returned by a selector, tracking
+     * {@link Integer} and {@link Long} keys unboxed.
+     *
+     * @param keySelector A function to extract the key of an element.
+     */
+    public static <TElement, TKey> DistinctKey<TElement> of(
+            Selector<TElement, TKey> keySelector) {
+        return new ObjectDistinctKey<>(keySelector);
+    }
+
+    /**
+     * Creates a key that compares elements by their <c>int</c> keys.
+     */
+    public static <TElement> DistinctKey<TElement> ofInt(IntSelector<TElement> keySelector) {
+        return new IntDistinctKey<>(keySelector);
+    }
+
+    /**
+     * Creates a key that compares elements by their <c>long</c> keys.
+     */
+    public static <TElement> DistinctKey<TElement> ofLong(LongSelector<TElement> keySelector) {
+        return new LongDistinctKey<>(keySelector);
+    }
+
+    // endregion
+
+
+    // region key tracking
+
+    /**
+     * Creates an empty set of keys, for a single evaluation.
+     */
+    abstract Keys<TElement> keys();
+
+    // endregion
+
+
+    // region internal classes
+
+    /**
+     * Tracks the keys of the elements seen by an evaluation.
+     */
+    abstract static class Keys<TElement> {
+
+        /**
+         * Adds the key of an element, returning <c>true</c> if it wasn't seen before, otherwise
+         * <c>false</c>.
+         */
+        abstract boolean add(TElement element);
+    }
+
+    private static final class ObjectDistinctKey<TElement, TKey> extends DistinctKey<TElement> {
+
+        private final Selector<TElement, TKey> _keySelector;
+
+        ObjectDistinctKey(Selector<TElement, TKey> keySelector) {
+            _keySelector = keySelector;
+        }
+
+        @Override
+        Keys<TElement> keys() {
+
+            // track keys by type, unboxing integers and longs
+            final DistinctSet keys = new DistinctSet();
+            return new Keys<TElement>() {
+                @Override
+                boolean add(TElement element) {
+                    return keys.add(_keySelector.select(element));
+                }
+            };
+        }
+    }
+
+    private static final class IntDistinctKey<TElement> extends DistinctKey<TElement> {
+
+        private final IntSelector<TElement> _keySelector;
+
+        IntDistinctKey(IntSelector<TElement> keySelector) {
+            _keySelector = keySelector;
+        }
+
+        @Override
+        Keys<TElement> keys() {
+
+            // track keys unboxed
+            final IntHashSet keys = new IntHashSet();
+            return new Keys<TElement>() {
+                @Override
+                boolean add(TElement element) {
+                    return keys.add(_keySelector.select(element));
+                }
+            };
+        }
+    }
+
+    private static final class LongDistinctKey<TElement> extends DistinctKey<TElement> {
+
+        private final LongSelector<TElement> _keySelector;
+
+        LongDistinctKey(LongSelector<TElement> keySelector) {
+            _keySelector = keySelector;
+        }
+
+        @Override
+        Keys<TElement> keys() {
+
+            // track keys unboxed
+            final LongHashSet keys = new LongHashSet();
+            return new Keys<TElement>() {
+                @Override
+                boolean add(TElement element) {
+                    return keys.add(_keySelector.select(element));
+                }
+            };
+        }
+    }
+
+    // endregion
+}
@@ -1,23 +1,23 @@
 package com.nascentdigital.pipeline.operations;
 
 import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Sink;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
 
 
 public class DistinctOperation<TElement> implements PipelineOperation<TElement> {
 
     // region instance variables
 
-    private final Iterable<TElement> _source;
+    private final PipelineOperation<TElement> _source;
 
     // endregion
 
 
     // region constructors
 
-    public DistinctOperation(Iterable<TElement> source) {
+    public DistinctOperation(PipelineOperation<TElement> source) {
         _source = source;
     }
 
@@ -34,12 +34,51 @@ public class DistinctOperation<TElement> implements PipelineOperation<TElement>
     // endregion
 
 
+    // region PipelineOperation<TElement> interface
+
+    @Override
+    public int size() {
+        return UNKNOWN_SIZE;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public TElement get(int index) {
+        throw new UnsupportedOperationException("Operation is not indexed.");
+    }
+
+    @Override
+    public List<PipelineOperation<TElement>> split(int count) {
+        return null;
+    }
+
+    @Override
+    public boolean push(final Sink<TElement> sink) {
+
+        // only push elements that haven't been seen yet
+        final DistinctSet distinctElements = new DistinctSet();
+        return _source.push(new Sink<TElement>() {
+            @Override
+            public boolean accept(TElement element) {
+                return !distinctElements.add(element)
+                        || sink.accept(element);
+            }
+        });
+    }
+
+    // endregion
+
+
     // region internal classes
 
     private class Iterator implements java.util.Iterator<TElement> {
 
         private final java.util.Iterator<TElement> _input = _source.iterator();
-        private final Set<TElement> _distinctElements = new HashSet<>();
+        private final DistinctSet _distinctElements = new DistinctSet();
         private Boolean _hasNext;
         private TElement _next;
 
@@ -0,0 +1,59 @@
+package com.nascentdigital.pipeline.operations;
+
+import java.util.HashSet;
+import java.util.Set;
+
+
+/**
+ * Tracks the distinct values seen by a stage, storing {@link Integer} and {@link Long} values
+ * unboxed in open-addressing primitive sets, and any other value in a {@link HashSet}.
+ * <p>
+ * Values of different types are tracked separately, so equality matches
+ * {@link Object#equals(Object)} (e.g. <c>1</c> and <c>1L</c> are distinct).
+ */
+class DistinctSet {
+
+    // region instance variables
+
+    private IntHashSet _ints;
+    private LongHashSet _longs;
+    private Set<Object> _objects;
+
+    // endregion
+
+
+    // region set operations
+
+    /**
+     * Adds a value to the set.
+     *
+     * @param value The value being added, which may be <c>null</c>.
+     * @return <c>true</c> if the value wasn't already in the set, otherwise <c>false</c>.
+     */
+    boolean add(Object value) {
+
+        // track integers unboxed
+        if (value instanceof Integer) {
+            if (_ints == null) {
+                _ints = new IntHashSet();
+            }
+            return _ints.add((Integer) value);
+        }
+
+        // or track longs unboxed
+        if (value instanceof Long) {
+            if (_longs == null) {
+                _longs = new LongHashSet();
+            }
+            return _longs.add((Long) value);
+        }
+
+        // or track any other value
+        if (_objects == null) {
+            _objects = new HashSet<>();
+        }
+        return _objects.add(value);
+    }
+
+    // endregion
+}
@@ -0,0 +1,121 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.DoubleIterator;
+import com.nascentdigital.pipeline.DoublePipelineOperation;
+import com.nascentdigital.pipeline.DoubleSink;
+import com.nascentdigital.pipeline.PipelineOperation;
+
+import java.util.List;
+
+
+public class DoubleDistinctOperation implements DoublePipelineOperation {
+
+    // region instance variables
+
+    private final DoublePipelineOperation _source;
+
+    // endregion
+
+
+    // region constructors
+
+    public DoubleDistinctOperation(DoublePipelineOperation source) {
+        _source = source;
+    }
+
+    // endregion
+
+
+    // region DoublePipelineOperation interface
+
+    @Override
+    public DoubleIterator iterator() {
+        return new Iterator();
+    }
+
+    @Override
+    public int size() {
+        return PipelineOperation.UNKNOWN_SIZE;
+    }
+
+    @Override
+    public List<DoublePipelineOperation> split(int count) {
+        return null;
+    }
+
+    @Override
+    public boolean push(final DoubleSink sink) {
+
+        // only push values that haven't been seen yet
+        final LongHashSet distinctValues = new LongHashSet();
+        return _source.push(new DoubleSink() {
+            @Override
+            public boolean accept(double element) {
+                return !distinctValues.add(Double.doubleToLongBits(element))
+                        || sink.accept(element);
+            }
+        });
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    private class Iterator implements DoubleIterator {
+
+        private final DoubleIterator _input = _source.iterator();
+        private final LongHashSet _distinctValues = new LongHashSet();
+        private boolean _fetched;
+        private boolean _hasNext;
+        private double _next;
+
+        @Override
+        public boolean hasNext() {
+
+            // find next value if it hasn't been fetched
+            if (!_fetched) {
+
+                // assume that there is nothing left
+                _fetched = true;
+                _hasNext = false;
+
+                // use underlying iterator until a value hasn't been seen
+                while (_input.hasNext()) {
+
+                    // get value
+                    double value = _input.nextDouble();
+
+                    // use value if it is unique
+                    if (_distinctValues.add(Double.doubleToLongBits(value))) {
+
+                        // set state
+                        _hasNext = true;
+                        _next = value;
+
+                        // stop processing
+                        break;
+                    }
+                }
+            }
+
+            // return value
+            return _hasNext;
+        }
+
+        @Override
+        public double nextDouble() {
+
+            // ensure next value has been fetched
+            hasNext();
+
+            // clear state
+            _fetched = false;
+
+            // return value
+            return _next;
+        }
+    }
+
+    // endregion
+}
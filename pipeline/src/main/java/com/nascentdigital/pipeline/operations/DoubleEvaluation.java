@@ -0,0 +1,24 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.DoublePipelineOperation;
+
+import java.util.List;
+
+
+/**
+ * A {@link PartitionedEvaluation} of the sequence produced by an {@link DoublePipelineOperation}.
+ *
+ * @param <TResult> The type of the result.
+ */
+public abstract class DoubleEvaluation<TResult>
+        extends PartitionedEvaluation<DoublePipelineOperation, TResult> {
+
+    // region PartitionedEvaluation interface
+
+    @Override
+    protected List<DoublePipelineOperation> split(DoublePipelineOperation operation, int count) {
+        return operation.split(count);
+    }
+
+    // endregion
+}
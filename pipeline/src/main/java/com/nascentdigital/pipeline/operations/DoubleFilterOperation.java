@@ -0,0 +1,135 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.DoubleIterator;
+import com.nascentdigital.pipeline.DoublePipelineOperation;
+import com.nascentdigital.pipeline.DoublePredicate;
+import com.nascentdigital.pipeline.DoubleSink;
+import com.nascentdigital.pipeline.PipelineOperation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class DoubleFilterOperation implements DoublePipelineOperation {
+
+    // region instance variables
+
+    private final DoublePipelineOperation _source;
+    private final DoublePredicate _filter;
+
+    // endregion
+
+
+    // region constructors
+
+    public DoubleFilterOperation(DoublePipelineOperation source, DoublePredicate filter) {
+        _source = source;
+        _filter = filter;
+    }
+
+    // endregion
+
+
+    // region DoublePipelineOperation interface
+
+    @Override
+    public DoubleIterator iterator() {
+        return new Iterator();
+    }
+
+    @Override
+    public int size() {
+        return PipelineOperation.UNKNOWN_SIZE;
+    }
+
+    @Override
+    public List<DoublePipelineOperation> split(int count) {
+
+        // fail if source can't be split
+        List<DoublePipelineOperation> partitions = _source.split(count);
+        if (partitions == null) {
+            return null;
+        }
+
+        // or apply operation to each partition of the source
+        List<DoublePipelineOperation> operations = new ArrayList<>(partitions.size());
+        for (DoublePipelineOperation partition : partitions) {
+            operations.add(new DoubleFilterOperation(partition, _filter));
+        }
+        return operations;
+    }
+
+    @Override
+    public boolean push(final DoubleSink sink) {
+
+        // only push values that pass the filter
+        return _source.push(new DoubleSink() {
+            @Override
+            public boolean accept(double element) {
+                return !_filter.evaluate(element)
+                        || sink.accept(element);
+            }
+        });
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    private class Iterator implements DoubleIterator {
+
+        private final DoubleIterator _input = _source.iterator();
+        private boolean _fetched;
+        private boolean _hasNext;
+        private double _next;
+
+        @Override
+        public boolean hasNext() {
+
+            // find next value if it hasn't been fetched
+            if (!_fetched) {
+
+                // assume that there is nothing left
+                _fetched = true;
+                _hasNext = false;
+
+                // use underlying iterator until a value passes the filter
+                while (_input.hasNext()) {
+
+                    // get value
+                    double value = _input.nextDouble();
+
+                    // use value if it passes filter
+                    if (_filter.evaluate(value)) {
+
+                        // set state
+                        _hasNext = true;
+                        _next = value;
+
+                        // stop processing
+                        break;
+                    }
+                }
+            }
+
+            // return value
+            return _hasNext;
+        }
+
+        @Override
+        public double nextDouble() {
+
+            // ensure next value has been fetched
+            hasNext();
+
+            // clear state
+            _fetched = false;
+
+            // return value
+            return _next;
+        }
+    }
+
+    // endregion
+}
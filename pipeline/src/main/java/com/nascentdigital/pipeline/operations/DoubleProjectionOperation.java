@@ -0,0 +1,95 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.DoubleIterator;
+import com.nascentdigital.pipeline.DoublePipelineOperation;
+import com.nascentdigital.pipeline.DoubleSelector;
+import com.nascentdigital.pipeline.DoubleSink;
+import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class DoubleProjectionOperation<TInput> implements DoublePipelineOperation {
+
+    // region instance variables
+
+    private final PipelineOperation<TInput> _source;
+    private final DoubleSelector<TInput> _selector;
+
+    // endregion
+
+
+    // region constructors
+
+    public DoubleProjectionOperation(PipelineOperation<TInput> source,
+                                     DoubleSelector<TInput> selector) {
+        _source = source;
+        _selector = selector;
+    }
+
+    // endregion
+
+
+    // region DoublePipelineOperation interface
+
+    @Override
+    public DoubleIterator iterator() {
+        return new Iterator();
+    }
+
+    @Override
+    public int size() {
+        return _source.size();
+    }
+
+    @Override
+    public List<DoublePipelineOperation> split(int count) {
+
+        // fail if source can't be split
+        List<PipelineOperation<TInput>> partitions = _source.split(count);
+        if (partitions == null) {
+            return null;
+        }
+
+        // or apply operation to each partition of the source
+        List<DoublePipelineOperation> operations = new ArrayList<>(partitions.size());
+        for (PipelineOperation<TInput> partition : partitions) {
+            operations.add(new DoubleProjectionOperation<>(partition, _selector));
+        }
+        return operations;
+    }
+
+    @Override
+    public boolean push(final DoubleSink sink) {
+        return _source.push(new Sink<TInput>() {
+            @Override
+            public boolean accept(TInput element) {
+                return sink.accept(_selector.select(element));
+            }
+        });
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    private class Iterator implements DoubleIterator {
+
+        private final java.util.Iterator<TInput> _input = _source.iterator();
+
+        @Override
+        public boolean hasNext() {
+            return _input.hasNext();
+        }
+
+        @Override
+        public double nextDouble() {
+            return _selector.select(_input.next());
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,26 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.PipelineOperation;
+
+import java.util.List;
+
+
+/**
+ * A {@link PartitionedEvaluation} of the sequence produced by a {@link PipelineOperation}.
+ *
+ * @param <TElement> The type of elements in the sequence.
+ * @param <TResult>  The type of the result.
+ */
+public abstract class Evaluation<TElement, TResult>
+        extends PartitionedEvaluation<PipelineOperation<TElement>, TResult> {
+
+    // region PartitionedEvaluation interface
+
+    @Override
+    protected List<PipelineOperation<TElement>> split(PipelineOperation<TElement> operation,
+                                                      int count) {
+        return operation.split(count);
+    }
+
+    // endregion
+}
@@ -2,13 +2,17 @@ package com.nascentdigital.pipeline.operations;
 
 import com.nascentdigital.pipeline.PipelineOperation;
 import com.nascentdigital.pipeline.Predicate;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.ArrayList;
+import java.util.List;
 
 
 public class FilterOperation<TElement> implements PipelineOperation<TElement> {
 
     // region instance variables
 
-    private final Iterable<TElement> _source;
+    private final PipelineOperation<TElement> _source;
     private final Predicate<TElement> _filter;
 
     // endregion
@@ -16,7 +20,7 @@ public class FilterOperation<TElement> implements PipelineOperation<TElement> {
 
     // region constructors
 
-    public FilterOperation(Iterable<TElement> source, Predicate<TElement> filter) {
+    public FilterOperation(PipelineOperation<TElement> source, Predicate<TElement> filter) {
         _source = source;
         _filter = filter;
     }
@@ -34,6 +38,56 @@ public class FilterOperation<TElement> implements PipelineOperation<TElement> {
     // endregion
 
 
+    // region PipelineOperation<TElement> interface
+
+    @Override
+    public int size() {
+        return UNKNOWN_SIZE;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public TElement get(int index) {
+        throw new UnsupportedOperationException("Operation is not indexed.");
+    }
+
+    @Override
+    public List<PipelineOperation<TElement>> split(int count) {
+
+        // fail if source can't be split
+        List<PipelineOperation<TElement>> partitions = _source.split(count);
+        if (partitions == null) {
+            return null;
+        }
+
+        // or apply operation to each partition of the source
+        List<PipelineOperation<TElement>> operations = new ArrayList<>(partitions.size());
+        for (PipelineOperation<TElement> partition : partitions) {
+            operations.add(new FilterOperation<>(partition, _filter));
+        }
+        return operations;
+    }
+
+    @Override
+    public boolean push(final Sink<TElement> sink) {
+
+        // only push elements that pass the filter
+        return _source.push(new Sink<TElement>() {
+            @Override
+            public boolean accept(TElement element) {
+                return !_filter.evaluate(element)
+                        || sink.accept(element);
+            }
+        });
+    }
+
+    // endregion
+
+
     // region internal classes
 
     private class Iterator implements java.util.Iterator<TElement> {
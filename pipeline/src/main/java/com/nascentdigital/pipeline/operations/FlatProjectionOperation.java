@@ -2,13 +2,17 @@ package com.nascentdigital.pipeline.operations;
 
 import com.nascentdigital.pipeline.PipelineOperation;
 import com.nascentdigital.pipeline.Selector;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.ArrayList;
+import java.util.List;
 
 
 public class FlatProjectionOperation<TInput, TOutput> implements PipelineOperation<TOutput> {
 
     // region instance variables
 
-    private final Iterable<TInput> _source;
+    private final PipelineOperation<TInput> _source;
     private final Selector<TInput, Iterable<TOutput>> _selector;
 
     // endregion
@@ -16,7 +20,7 @@ public class FlatProjectionOperation<TInput, TOutput> implements PipelineOperati
 
     // region constructors
 
-    public FlatProjectionOperation(Iterable<TInput> source, Selector<TInput,
+    public FlatProjectionOperation(PipelineOperation<TInput> source, Selector<TInput,
             Iterable<TOutput>> selector) {
         _source = source;
         _selector = selector;
@@ -35,6 +39,62 @@ public class FlatProjectionOperation<TInput, TOutput> implements PipelineOperati
     // endregion
 
 
+    // region PipelineOperation<TOutput> interface
+
+    @Override
+    public int size() {
+        return UNKNOWN_SIZE;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public TOutput get(int index) {
+        throw new UnsupportedOperationException("Operation is not indexed.");
+    }
+
+    @Override
+    public List<PipelineOperation<TOutput>> split(int count) {
+
+        // fail if source can't be split
+        List<PipelineOperation<TInput>> partitions = _source.split(count);
+        if (partitions == null) {
+            return null;
+        }
+
+        // or apply operation to each partition of the source
+        List<PipelineOperation<TOutput>> operations = new ArrayList<>(partitions.size());
+        for (PipelineOperation<TInput> partition : partitions) {
+            operations.add(new FlatProjectionOperation<>(partition, _selector));
+        }
+        return operations;
+    }
+
+    @Override
+    public boolean push(final Sink<TOutput> sink) {
+        return _source.push(new Sink<TInput>() {
+            @Override
+            public boolean accept(TInput element) {
+
+                // push all elements of the sub-sequence
+                for (TOutput output : _selector.select(element)) {
+                    if (!sink.accept(output)) {
+                        return false;
+                    }
+                }
+
+                // continue with next sub-sequence
+                return true;
+            }
+        });
+    }
+
+    // endregion
+
+
     // region internal classes
 
     private class Iterator implements java.util.Iterator<TOutput> {
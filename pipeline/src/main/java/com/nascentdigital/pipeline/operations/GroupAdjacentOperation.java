@@ -0,0 +1,191 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.Grouping;
+import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Selector;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Groups runs of consecutive elements with equal keys, yielding each grouping as soon as its run
+ * ends, and holding only the elements of the current run in memory.
+ */
+public class GroupAdjacentOperation<TElement, TKey>
+        implements PipelineOperation<Grouping<TKey, TElement>> {
+
+    // region instance variables
+
+    private final PipelineOperation<TElement> _source;
+    private final Selector<TElement, TKey> _selector;
+
+    // endregion
+
+
+    // region constructors
+
+    public GroupAdjacentOperation(PipelineOperation<TElement> source,
+                                  Selector<TElement, TKey> selector) {
+        _source = source;
+        _selector = selector;
+    }
+
+    // endregion
+
+
+    // region Iterable<Grouping<TKey, TElement>> interface
+
+    @Override
+    public Iterator iterator() {
+        return new Iterator();
+    }
+
+    // endregion
+
+
+    // region PipelineOperation<Grouping<TKey, TElement>> interface
+
+    @Override
+    public int size() {
+        return UNKNOWN_SIZE;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public Grouping<TKey, TElement> get(int index) {
+        throw new UnsupportedOperationException("Operation is not indexed.");
+    }
+
+    @Override
+    public List<PipelineOperation<Grouping<TKey, TElement>>> split(int count) {
+        return null;
+    }
+
+    @Override
+    public boolean push(final Sink<Grouping<TKey, TElement>> sink) {
+
+        // push elements, yielding the current run whenever the key changes
+        class RunSink implements Sink<TElement> {
+
+            private TKey _key;
+            private List<TElement> _run;
+
+            @Override
+            public boolean accept(TElement element) {
+
+                // extend current run while the key is unchanged
+                TKey key = _selector.select(element);
+                if (_run != null
+                        && equal(_key, key)) {
+                    _run.add(element);
+                    return true;
+                }
+
+                // or yield current run, stopping if the sink is done
+                if (_run != null
+                        && !sink.accept(new Grouping<>(_key, _run))) {
+                    _run = null;
+                    return false;
+                }
+
+                // start new run
+                _key = key;
+                _run = new ArrayList<>();
+                _run.add(element);
+
+                // continue grouping
+                return true;
+            }
+        }
+        RunSink runSink = new RunSink();
+
+        // stop if the sink is done
+        if (!_source.push(runSink)) {
+            return false;
+        }
+
+        // or yield last run
+        return runSink._run == null
+                || sink.accept(new Grouping<>(runSink._key, runSink._run));
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    private static boolean equal(Object left, Object right) {
+        return left == null
+                ? right == null
+                : left.equals(right);
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    private class Iterator implements java.util.Iterator<Grouping<TKey, TElement>> {
+
+        private final java.util.Iterator<TElement> _input = _source.iterator();
+        private boolean _pending;
+        private TElement _pendingElement;
+        private TKey _pendingKey;
+
+        @Override
+        public boolean hasNext() {
+            return _pending
+                    || _input.hasNext();
+        }
+
+        @Override
+        public Grouping<TKey, TElement> next() {
+
+            // fail if there are no more runs
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            // start run with the element that ended the previous run, or the first element
+            if (!_pending) {
+                _pendingElement = _input.next();
+                _pendingKey = _selector.select(_pendingElement);
+            }
+            TKey key = _pendingKey;
+            List<TElement> run = new ArrayList<>();
+            run.add(_pendingElement);
+            _pending = false;
+            _pendingElement = null;
+
+            // extend run until the key changes, holding on to the element that ended it
+            while (_input.hasNext()) {
+                TElement element = _input.next();
+                TKey elementKey = _selector.select(element);
+                if (!equal(key, elementKey)) {
+                    _pending = true;
+                    _pendingElement = element;
+                    _pendingKey = elementKey;
+                    break;
+                }
+                run.add(element);
+            }
+
+            // return grouping for run
+            return new Grouping<>(key, run);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Not implemented.");
+        }
+    }
+
+    // endregion
+}
@@ -3,29 +3,42 @@ package com.nascentdigital.pipeline.operations;
 import com.nascentdigital.pipeline.Grouping;
 import com.nascentdigital.pipeline.PipelineOperation;
 import com.nascentdigital.pipeline.Selector;
+import com.nascentdigital.pipeline.Sink;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 
+/**
+ * Groups the elements of its source by key, in the order keys are first encountered.
+ * <p>
+ * If a pool is specified and the source can be split, each partition is grouped concurrently into
+ * its own map, and the partial maps are then merged in sequence order, so the result is the same
+ * as grouping sequentially.
+ */
 public class GroupByOperation<TElement, TKey> implements PipelineOperation<Grouping<TKey, TElement>> {
 
     // region instance variables
 
-    private final Iterable<TElement> _source;
+    private final PipelineOperation<TElement> _source;
     private final Selector<TElement, TKey> _selector;
+    private final ForkJoinPool _pool;
 
     // endregion
 
 
     // region constructors
 
-    public GroupByOperation(Iterable<TElement> source, Selector<TElement, TKey> selector) {
+    public GroupByOperation(PipelineOperation<TElement> source,
+                            Selector<TElement, TKey> selector,
+                            ForkJoinPool pool) {
         _source = source;
         _selector = selector;
+        _pool = pool;
     }
 
     // endregion
@@ -36,30 +49,86 @@ public class GroupByOperation<TElement, TKey> implements PipelineOperation<Group
     @Override
     public Iterator<Grouping<TKey, TElement>> iterator() {
 
-        // iterate through all elements to group them
-        Map<TKey, List<TElement>> groups = new HashMap<>();
-        for (TElement element : _source) {
+        // use groupings as iterator
+        return group().iterator();
+    }
 
-            // get key for element
-            TKey key = _selector.select(element);
+    // endregion
 
-            // get group, or create one
-            List<TElement> group = groups.get(key);
-            if (group == null) {
 
-                // create new group
-                group = new ArrayList<>();
+    // region PipelineOperation<Grouping<TKey, TElement>> interface
 
-                // persist group
-                groups.put(key, group);
-            }
+    @Override
+    public int size() {
+        return UNKNOWN_SIZE;
+    }
 
-            // add item to group
-            group.add(element);
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public Grouping<TKey, TElement> get(int index) {
+        throw new UnsupportedOperationException("Operation is not indexed.");
+    }
+
+    @Override
+    public List<PipelineOperation<Grouping<TKey, TElement>>> split(int count) {
+        return null;
+    }
+
+    @Override
+    public boolean push(Sink<Grouping<TKey, TElement>> sink) {
+
+        // push all groupings, stopping if the sink is done
+        for (Grouping<TKey, TElement> grouping : group()) {
+            if (!sink.accept(grouping)) {
+                return false;
+            }
         }
 
+        // indicate sequence was exhausted
+        return true;
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    private List<Grouping<TKey, TElement>> group() {
+
+        // group elements of each partition, in parallel if possible, merging them in order
+        Map<TKey, List<TElement>> groups = new Evaluation<TElement, Map<TKey, List<TElement>>>() {
+            @Override
+            protected Map<TKey, List<TElement>> evaluatePartition(
+                    PipelineOperation<TElement> partition) {
+                return groupPartition(partition);
+            }
+
+            @Override
+            protected Map<TKey, List<TElement>> combine(Map<TKey, List<TElement>> left,
+                                                        Map<TKey, List<TElement>> right) {
+
+                // append each group of the right partition to the left partition's group
+                for (Map.Entry<TKey, List<TElement>> groupEntry : right.entrySet()) {
+                    List<TElement> group = left.get(groupEntry.getKey());
+                    if (group == null) {
+                        left.put(groupEntry.getKey(), groupEntry.getValue());
+                    }
+                    else {
+                        group.addAll(groupEntry.getValue());
+                    }
+                }
+
+                // return merged groups
+                return left;
+            }
+        }.evaluate(_source, _pool);
+
         // create groupings
-        List<Grouping<TKey, TElement>> groupings = new ArrayList<>();
+        List<Grouping<TKey, TElement>> groupings = new ArrayList<>(groups.size());
 
         // create groupings for groups
         for (Map.Entry<TKey, List<TElement>> groupEntry : groups.entrySet()) {
@@ -72,8 +141,42 @@ public class GroupByOperation<TElement, TKey> implements PipelineOperation<Group
             groupings.add(grouping);
         }
 
-        // use groupings as iterator
-        return groupings.iterator();
+        // return groupings
+        return groupings;
+    }
+
+    private Map<TKey, List<TElement>> groupPartition(PipelineOperation<TElement> partition) {
+
+        // push all elements to group them, keeping groups in the order they're encountered
+        final Map<TKey, List<TElement>> groups = new LinkedHashMap<>();
+        partition.push(new Sink<TElement>() {
+            @Override
+            public boolean accept(TElement element) {
+
+                // get key for element
+                TKey key = _selector.select(element);
+
+                // get group, or create one
+                List<TElement> group = groups.get(key);
+                if (group == null) {
+
+                    // create new group
+                    group = new ArrayList<>();
+
+                    // persist group
+                    groups.put(key, group);
+                }
+
+                // add item to group
+                group.add(element);
+
+                // continue grouping
+                return true;
+            }
+        });
+
+        // return groups
+        return groups;
     }
 
     // endregion
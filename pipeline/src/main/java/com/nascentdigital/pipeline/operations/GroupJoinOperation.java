@@ -0,0 +1,217 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.Lookup;
+import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.ResultSelector;
+import com.nascentdigital.pipeline.Selector;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Correlates each element of an outer sequence with the group of inner elements that have a
+ * matching key, yielding one result per outer element in the order of the outer sequence.
+ * <p>
+ * Each evaluation indexes the inner sequence once into a {@link Lookup}, whose groups are views
+ * over a single packed array, and then streams the outer sequence through it.  Outer elements
+ * without a match are given a shared empty group, so they don't allocate.  <c>null</c> keys never
+ * match.  Partitions of the outer sequence are probed concurrently when the join is evaluated in
+ * parallel, sharing a single lookup.
+ */
+public class GroupJoinOperation<TOuter, TInner, TKey, TResult>
+        implements PipelineOperation<TResult> {
+
+    // region instance variables
+
+    private final PipelineOperation<TOuter> _outer;
+    private final PipelineOperation<TInner> _inner;
+    private final Selector<TOuter, TKey> _outerKeySelector;
+    private final Selector<PipelineOperation<TInner>, Lookup<TKey, TInner>> _indexer;
+    private final ResultSelector<TOuter, Iterable<TInner>, TResult> _resultSelector;
+
+    // endregion
+
+
+    // region constructors
+
+    /**
+     * @param indexer Indexes the inner sequence into a lookup by key, skipping <c>null</c> keys.
+     */
+    public GroupJoinOperation(PipelineOperation<TOuter> outer,
+                              PipelineOperation<TInner> inner,
+                              Selector<TOuter, TKey> outerKeySelector,
+                              Selector<PipelineOperation<TInner>, Lookup<TKey, TInner>> indexer,
+                              ResultSelector<TOuter, Iterable<TInner>, TResult> resultSelector) {
+        _outer = outer;
+        _inner = inner;
+        _outerKeySelector = outerKeySelector;
+        _indexer = indexer;
+        _resultSelector = resultSelector;
+    }
+
+    // endregion
+
+
+    // region Iterable<TResult> interface
+
+    @Override
+    public java.util.Iterator<TResult> iterator() {
+        return build(Collections.singletonList(_outer)).get(0).iterator();
+    }
+
+    // endregion
+
+
+    // region PipelineOperation<TResult> interface
+
+    @Override
+    public int size() {
+        return _outer.size();
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public TResult get(int index) {
+        throw new UnsupportedOperationException("Operation is not indexed.");
+    }
+
+    @Override
+    public List<PipelineOperation<TResult>> split(int count) {
+
+        // fail before reading the inner sequence if the outer sequence can't be split
+        List<PipelineOperation<TOuter>> partitions = _outer.split(count);
+        if (partitions == null
+                || partitions.size() < 2) {
+            return null;
+        }
+
+        // or probe a single lookup with each partition of the outer sequence
+        return build(partitions);
+    }
+
+    @Override
+    public boolean push(Sink<TResult> sink) {
+        return build(Collections.singletonList(_outer)).get(0).push(sink);
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    /**
+     * Indexes the inner sequence, returning an operation for each partition of the outer sequence
+     * that probes it.
+     */
+    private List<PipelineOperation<TResult>> build(List<PipelineOperation<TOuter>> partitions) {
+        return probes(partitions, _indexer.select(_inner));
+    }
+
+    private List<PipelineOperation<TResult>> probes(List<PipelineOperation<TOuter>> partitions,
+                                                    Lookup<TKey, TInner> lookup) {
+
+        // probe lookup with each partition of the outer sequence
+        List<PipelineOperation<TResult>> operations = new ArrayList<>(partitions.size());
+        for (PipelineOperation<TOuter> partition : partitions) {
+            operations.add(new Probe(partition, lookup));
+        }
+        return operations;
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    /**
+     * Streams (a partition of) the outer sequence through a built lookup.
+     */
+    private class Probe implements PipelineOperation<TResult> {
+
+        private final PipelineOperation<TOuter> _source;
+        private final Lookup<TKey, TInner> _lookup;
+
+        Probe(PipelineOperation<TOuter> source, Lookup<TKey, TInner> lookup) {
+            _source = source;
+            _lookup = lookup;
+        }
+
+        @Override
+        public java.util.Iterator<TResult> iterator() {
+            return new Iterator();
+        }
+
+        @Override
+        public int size() {
+            return _source.size();
+        }
+
+        @Override
+        public boolean isIndexed() {
+            return false;
+        }
+
+        @Override
+        public TResult get(int index) {
+            throw new UnsupportedOperationException("Operation is not indexed.");
+        }
+
+        @Override
+        public List<PipelineOperation<TResult>> split(int count) {
+
+            // fail if outer sequence can't be split
+            List<PipelineOperation<TOuter>> partitions = _source.split(count);
+            if (partitions == null) {
+                return null;
+            }
+
+            // or probe lookup with each partition of the outer sequence
+            return probes(partitions, _lookup);
+        }
+
+        @Override
+        public boolean push(final Sink<TResult> sink) {
+            return _source.push(new Sink<TOuter>() {
+                @Override
+                public boolean accept(TOuter outer) {
+                    return sink.accept(select(outer));
+                }
+            });
+        }
+
+        private TResult select(TOuter outer) {
+
+            // combine element with its group, which is the shared empty group without a match
+            return _resultSelector.select(outer, _lookup.get(_outerKeySelector.select(outer)));
+        }
+
+        private class Iterator implements java.util.Iterator<TResult> {
+
+            private final java.util.Iterator<TOuter> _input = _source.iterator();
+
+            @Override
+            public boolean hasNext() {
+                return _input.hasNext();
+            }
+
+            @Override
+            public TResult next() {
+                return select(_input.next());
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("Not implemented.");
+            }
+        }
+    }
+
+    // endregion
+}
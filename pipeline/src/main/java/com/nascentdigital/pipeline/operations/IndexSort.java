@@ -0,0 +1,313 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.operations.SortKey.PositionComparator;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+
+/**
+ * Stably sorts arrays of element positions, so that elements can be ordered by keys extracted
+ * ahead of time without moving the elements themselves.
+ * <p>
+ * Large arrays can be sorted on a {@link ForkJoinPool}, where both halves of each range are sorted
+ * concurrently and then merged concurrently, by splitting the larger half at its middle position
+ * and the smaller half where that position would be inserted.
+ */
+final class IndexSort {
+
+    // region constants
+
+    /**
+     * The length of range below which insertion sort is used instead of merging.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * The length of range below which ranges are sorted or merged on a single thread, rather than
+     * being split between tasks.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    // endregion
+
+
+    // region constructors
+
+    private IndexSort() {
+    }
+
+    // endregion
+
+
+    // region sorting
+
+    /**
+     * Sorts positions in place, keeping positions that compare equal in their current order.
+     *
+     * @param positions  The positions being sorted.
+     * @param comparator Compares the elements at two positions.
+     */
+    static void sort(int[] positions, PositionComparator comparator) {
+        sort(positions, comparator, null);
+    }
+
+    /**
+     * Sorts positions in place, keeping positions that compare equal in their current order, in
+     * parallel if a pool is specified and there are enough positions.
+     *
+     * @param positions  The positions being sorted.
+     * @param comparator Compares the elements at two positions, which must be safe to call from
+     *                   multiple threads at once when sorting in parallel.
+     * @param pool       The pool used to sort large arrays, or <c>null</c> to sort on the calling
+     *                   thread.
+     */
+    static void sort(int[] positions, PositionComparator comparator, ForkJoinPool pool) {
+
+        // sort on calling thread, if not parallel or too small to benefit
+        if (pool == null
+                || positions.length < 2 * PARALLEL_THRESHOLD) {
+            mergeSort(positions.clone(), positions, 0, positions.length, comparator);
+            return;
+        }
+
+        // or sort on pool
+        pool.invoke(new SortAction(positions.clone(), positions, 0, positions.length,
+                comparator));
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    /**
+     * Sorts a range of <i>source</i> into the same range of <i>destination</i>, where both ranges
+     * hold the same positions on entry.
+     */
+    private static void mergeSort(int[] source,
+                                  int[] destination,
+                                  int start,
+                                  int end,
+                                  PositionComparator comparator) {
+
+        // use insertion sort for small ranges
+        if (end - start < INSERTION_SORT_THRESHOLD) {
+            for (int i = start + 1; i < end; ++i) {
+                int position = destination[i];
+                int j = i;
+                while (j > start
+                        && comparator.compare(destination[j - 1], position) > 0) {
+                    destination[j] = destination[j - 1];
+                    --j;
+                }
+                destination[j] = position;
+            }
+            return;
+        }
+
+        // sort each half into source, swapping roles of the arrays
+        int middle = (start + end) >>> 1;
+        mergeSort(destination, source, start, middle, comparator);
+        mergeSort(destination, source, middle, end, comparator);
+
+        // merge halves into destination
+        merge(source, destination, start, middle, end, comparator);
+    }
+
+    /**
+     * Merges two adjacent sorted ranges of <i>source</i> into the same range of
+     * <i>destination</i>, taking from the left range first when positions compare equal.
+     */
+    private static void merge(int[] source,
+                              int[] destination,
+                              int start,
+                              int middle,
+                              int end,
+                              PositionComparator comparator) {
+
+        // copy ranges if they are already in order
+        if (comparator.compare(source[middle - 1], source[middle]) <= 0) {
+            System.arraycopy(source, start, destination, start, end - start);
+            return;
+        }
+
+        // or take the lowest position from either range
+        int left = start;
+        int right = middle;
+        for (int i = start; i < end; ++i) {
+            if (right >= end
+                    || (left < middle
+                    && comparator.compare(source[left], source[right]) <= 0)) {
+                destination[i] = source[left++];
+            }
+            else {
+                destination[i] = source[right++];
+            }
+        }
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    /**
+     * Sorts a range of <i>source</i> into the same range of <i>destination</i>, like
+     * {@link #mergeSort}, sorting and merging halves of the range concurrently.
+     */
+    @SuppressWarnings("serial")
+    private static final class SortAction extends RecursiveAction {
+
+        private final int[] _source;
+        private final int[] _destination;
+        private final int _start;
+        private final int _end;
+        private final PositionComparator _comparator;
+
+        SortAction(int[] source,
+                   int[] destination,
+                   int start,
+                   int end,
+                   PositionComparator comparator) {
+            _source = source;
+            _destination = destination;
+            _start = start;
+            _end = end;
+            _comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+
+            // sort small ranges directly
+            if (_end - _start < 2 * PARALLEL_THRESHOLD) {
+                mergeSort(_source, _destination, _start, _end, _comparator);
+                return;
+            }
+
+            // or sort each half into source concurrently, swapping roles of the arrays
+            int middle = (_start + _end) >>> 1;
+            invokeAll(new SortAction(_destination, _source, _start, middle, _comparator),
+                    new SortAction(_destination, _source, middle, _end, _comparator));
+
+            // and merge halves into destination
+            new MergeAction(_source, _destination, _start, middle, middle, _end, _start,
+                    _comparator).invoke();
+        }
+    }
+
+    /**
+     * Merges two sorted ranges of <i>source</i> into <i>destination</i>, taking from the left
+     * range first when positions compare equal, by merging both sides of a split concurrently.
+     */
+    @SuppressWarnings("serial")
+    private static final class MergeAction extends RecursiveAction {
+
+        private final int[] _source;
+        private final int[] _destination;
+        private final int _leftStart;
+        private final int _leftEnd;
+        private final int _rightStart;
+        private final int _rightEnd;
+        private final int _destinationStart;
+        private final PositionComparator _comparator;
+
+        MergeAction(int[] source,
+                    int[] destination,
+                    int leftStart,
+                    int leftEnd,
+                    int rightStart,
+                    int rightEnd,
+                    int destinationStart,
+                    PositionComparator comparator) {
+            _source = source;
+            _destination = destination;
+            _leftStart = leftStart;
+            _leftEnd = leftEnd;
+            _rightStart = rightStart;
+            _rightEnd = rightEnd;
+            _destinationStart = destinationStart;
+            _comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+
+            // copy ranges if either is empty, or they are already in order
+            int leftLength = _leftEnd - _leftStart;
+            int rightLength = _rightEnd - _rightStart;
+            if (leftLength == 0
+                    || rightLength == 0
+                    || _comparator.compare(_source[_leftEnd - 1], _source[_rightStart]) <= 0) {
+                System.arraycopy(_source, _leftStart, _destination, _destinationStart,
+                        leftLength);
+                System.arraycopy(_source, _rightStart, _destination,
+                        _destinationStart + leftLength, rightLength);
+                return;
+            }
+
+            // merge small ranges directly
+            if (leftLength + rightLength < 2 * PARALLEL_THRESHOLD) {
+                int left = _leftStart;
+                int right = _rightStart;
+                for (int i = _destinationStart; left < _leftEnd || right < _rightEnd; ++i) {
+                    if (right >= _rightEnd
+                            || (left < _leftEnd
+                            && _comparator.compare(_source[left], _source[right]) <= 0)) {
+                        _destination[i] = _source[left++];
+                    }
+                    else {
+                        _destination[i] = _source[right++];
+                    }
+                }
+                return;
+            }
+
+            // or split the larger range at its middle, and the smaller range where the middle
+            // position belongs (after equal positions of the left range, before those of the
+            // right range)
+            int leftSplit;
+            int rightSplit;
+            if (leftLength >= rightLength) {
+                leftSplit = (_leftStart + _leftEnd) >>> 1;
+                rightSplit = search(_rightStart, _rightEnd, _source[leftSplit], false);
+            }
+            else {
+                rightSplit = (_rightStart + _rightEnd) >>> 1;
+                leftSplit = search(_leftStart, _leftEnd, _source[rightSplit], true);
+            }
+
+            // merge both sides of the split concurrently
+            int splitDestination = _destinationStart
+                    + (leftSplit - _leftStart)
+                    + (rightSplit - _rightStart);
+            invokeAll(new MergeAction(_source, _destination, _leftStart, leftSplit,
+                            _rightStart, rightSplit, _destinationStart, _comparator),
+                    new MergeAction(_source, _destination, leftSplit, _leftEnd,
+                            rightSplit, _rightEnd, splitDestination, _comparator));
+        }
+
+        /**
+         * Returns the index of the first position in a sorted range of <i>source</i> that comes
+         * after <i>position</i>, or that doesn't come before it if <i>afterEqual</i> is
+         * <c>false</c>.
+         */
+        private int search(int start, int end, int position, boolean afterEqual) {
+            while (start < end) {
+                int middle = (start + end) >>> 1;
+                int result = _comparator.compare(_source[middle], position);
+                if (result < 0
+                        || (result == 0 && afterEqual)) {
+                    start = middle + 1;
+                }
+                else {
+                    end = middle;
+                }
+            }
+            return start;
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,63 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.PipelineOperation;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/**
+ * A helper iterator that walks an indexed {@link PipelineOperation} by position.
+ */
+class IndexedIterator<TElement> implements Iterator<TElement> {
+
+    // region instance variables
+
+    private final PipelineOperation<TElement> _operation;
+    private final int _end;
+    private int _offset;
+
+    // endregion
+
+
+    // region constructors
+
+    IndexedIterator(PipelineOperation<TElement> operation) {
+        this(operation, 0, operation.size());
+    }
+
+    IndexedIterator(PipelineOperation<TElement> operation, int start, int end) {
+        _operation = operation;
+        _offset = start;
+        _end = end;
+    }
+
+    // endregion
+
+
+    // region Iterator interface
+
+    @Override
+    public boolean hasNext() {
+        return _offset < _end;
+    }
+
+    @Override
+    public TElement next() {
+
+        // fail if there are no elements left
+        if (_offset >= _end) {
+            throw new NoSuchElementException();
+        }
+
+        // return element at next position
+        return _operation.get(_offset++);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Not implemented.");
+    }
+
+    // endregion
+}
@@ -0,0 +1,110 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.IntIterator;
+import com.nascentdigital.pipeline.IntPipelineOperation;
+import com.nascentdigital.pipeline.IntSink;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class IntArraySourceOperation implements IntPipelineOperation {
+
+    // region instance variables
+
+    private final int[] _source;
+    private final int _start;
+    private final int _end;
+
+    // endregion
+
+
+    // region constructors
+
+    public IntArraySourceOperation(int[] source) {
+        this(source, 0, source == null ? 0 : source.length);
+    }
+
+    private IntArraySourceOperation(int[] source, int start, int end) {
+        _source = source;
+        _start = start;
+        _end = end;
+    }
+
+    // endregion
+
+
+    // region IntPipelineOperation interface
+
+    @Override
+    public IntIterator iterator() {
+        return new Iterator();
+    }
+
+    @Override
+    public int size() {
+        return _end - _start;
+    }
+
+    @Override
+    public List<IntPipelineOperation> split(int count) {
+
+        // never create more ranges than there are values
+        int size = _end - _start;
+        int rangeCount = Math.max(1, Math.min(count, size));
+
+        // create ranges, spreading any remainder over the first ranges
+        List<IntPipelineOperation> ranges = new ArrayList<>(rangeCount);
+        int rangeSize = size / rangeCount;
+        int remainder = size % rangeCount;
+        int rangeStart = _start;
+        for (int i = 0; i < rangeCount; ++i) {
+
+            // create range
+            int rangeEnd = rangeStart + rangeSize + (i < remainder ? 1 : 0);
+            ranges.add(new IntArraySourceOperation(_source, rangeStart, rangeEnd));
+
+            // move to next range
+            rangeStart = rangeEnd;
+        }
+
+        // return ranges
+        return ranges;
+    }
+
+    @Override
+    public boolean push(IntSink sink) {
+
+        // push all values, stopping if the sink is done
+        for (int i = _start; i < _end; ++i) {
+            if (!sink.accept(_source[i])) {
+                return false;
+            }
+        }
+
+        // indicate sequence was exhausted
+        return true;
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    private class Iterator implements IntIterator {
+
+        private int _offset = _start;
+
+        @Override
+        public boolean hasNext() {
+            return _offset < _end;
+        }
+
+        @Override
+        public int nextInt() {
+            return _source[_offset++];
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,121 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.IntIterator;
+import com.nascentdigital.pipeline.IntPipelineOperation;
+import com.nascentdigital.pipeline.IntSink;
+import com.nascentdigital.pipeline.PipelineOperation;
+
+import java.util.List;
+
+
+public class IntDistinctOperation implements IntPipelineOperation {
+
+    // region instance variables
+
+    private final IntPipelineOperation _source;
+
+    // endregion
+
+
+    // region constructors
+
+    public IntDistinctOperation(IntPipelineOperation source) {
+        _source = source;
+    }
+
+    // endregion
+
+
+    // region IntPipelineOperation interface
+
+    @Override
+    public IntIterator iterator() {
+        return new Iterator();
+    }
+
+    @Override
+    public int size() {
+        return PipelineOperation.UNKNOWN_SIZE;
+    }
+
+    @Override
+    public List<IntPipelineOperation> split(int count) {
+        return null;
+    }
+
+    @Override
+    public boolean push(final IntSink sink) {
+
+        // only push values that haven't been seen yet
+        final IntHashSet distinctValues = new IntHashSet();
+        return _source.push(new IntSink() {
+            @Override
+            public boolean accept(int element) {
+                return !distinctValues.add(element)
+                        || sink.accept(element);
+            }
+        });
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    private class Iterator implements IntIterator {
+
+        private final IntIterator _input = _source.iterator();
+        private final IntHashSet _distinctValues = new IntHashSet();
+        private boolean _fetched;
+        private boolean _hasNext;
+        private int _next;
+
+        @Override
+        public boolean hasNext() {
+
+            // find next value if it hasn't been fetched
+            if (!_fetched) {
+
+                // assume that there is nothing left
+                _fetched = true;
+                _hasNext = false;
+
+                // use underlying iterator until a value hasn't been seen
+                while (_input.hasNext()) {
+
+                    // get value
+                    int value = _input.nextInt();
+
+                    // use value if it is unique
+                    if (_distinctValues.add(value)) {
+
+                        // set state
+                        _hasNext = true;
+                        _next = value;
+
+                        // stop processing
+                        break;
+                    }
+                }
+            }
+
+            // return value
+            return _hasNext;
+        }
+
+        @Override
+        public int nextInt() {
+
+            // ensure next value has been fetched
+            hasNext();
+
+            // clear state
+            _fetched = false;
+
+            // return value
+            return _next;
+        }
+    }
+
+    // endregion
+}
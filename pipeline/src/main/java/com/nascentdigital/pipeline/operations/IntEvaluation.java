@@ -0,0 +1,24 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.IntPipelineOperation;
+
+import java.util.List;
+
+
+/**
+ * A {@link PartitionedEvaluation} of the sequence produced by an {@link IntPipelineOperation}.
+ *
+ * @param <TResult> The type of the result.
+ */
+public abstract class IntEvaluation<TResult>
+        extends PartitionedEvaluation<IntPipelineOperation, TResult> {
+
+    // region PartitionedEvaluation interface
+
+    @Override
+    protected List<IntPipelineOperation> split(IntPipelineOperation operation, int count) {
+        return operation.split(count);
+    }
+
+    // endregion
+}
@@ -0,0 +1,135 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.IntIterator;
+import com.nascentdigital.pipeline.IntPipelineOperation;
+import com.nascentdigital.pipeline.IntPredicate;
+import com.nascentdigital.pipeline.IntSink;
+import com.nascentdigital.pipeline.PipelineOperation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class IntFilterOperation implements IntPipelineOperation {
+
+    // region instance variables
+
+    private final IntPipelineOperation _source;
+    private final IntPredicate _filter;
+
+    // endregion
+
+
+    // region constructors
+
+    public IntFilterOperation(IntPipelineOperation source, IntPredicate filter) {
+        _source = source;
+        _filter = filter;
+    }
+
+    // endregion
+
+
+    // region IntPipelineOperation interface
+
+    @Override
+    public IntIterator iterator() {
+        return new Iterator();
+    }
+
+    @Override
+    public int size() {
+        return PipelineOperation.UNKNOWN_SIZE;
+    }
+
+    @Override
+    public List<IntPipelineOperation> split(int count) {
+
+        // fail if source can't be split
+        List<IntPipelineOperation> partitions = _source.split(count);
+        if (partitions == null) {
+            return null;
+        }
+
+        // or apply operation to each partition of the source
+        List<IntPipelineOperation> operations = new ArrayList<>(partitions.size());
+        for (IntPipelineOperation partition : partitions) {
+            operations.add(new IntFilterOperation(partition, _filter));
+        }
+        return operations;
+    }
+
+    @Override
+    public boolean push(final IntSink sink) {
+
+        // only push values that pass the filter
+        return _source.push(new IntSink() {
+            @Override
+            public boolean accept(int element) {
+                return !_filter.evaluate(element)
+                        || sink.accept(element);
+            }
+        });
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    private class Iterator implements IntIterator {
+
+        private final IntIterator _input = _source.iterator();
+        private boolean _fetched;
+        private boolean _hasNext;
+        private int _next;
+
+        @Override
+        public boolean hasNext() {
+
+            // find next value if it hasn't been fetched
+            if (!_fetched) {
+
+                // assume that there is nothing left
+                _fetched = true;
+                _hasNext = false;
+
+                // use underlying iterator until a value passes the filter
+                while (_input.hasNext()) {
+
+                    // get value
+                    int value = _input.nextInt();
+
+                    // use value if it passes filter
+                    if (_filter.evaluate(value)) {
+
+                        // set state
+                        _hasNext = true;
+                        _next = value;
+
+                        // stop processing
+                        break;
+                    }
+                }
+            }
+
+            // return value
+            return _hasNext;
+        }
+
+        @Override
+        public int nextInt() {
+
+            // ensure next value has been fetched
+            hasNext();
+
+            // clear state
+            _fetched = false;
+
+            // return value
+            return _next;
+        }
+    }
+
+    // endregion
+}
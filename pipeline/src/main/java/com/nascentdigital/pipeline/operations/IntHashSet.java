@@ -0,0 +1,150 @@
+package com.nascentdigital.pipeline.operations;
+
+/**
+ * A set of unboxed <c>int</c> values using open addressing with linear probing.
+ * <p>
+ * Values are stored in a single array, rather than as a boxed key plus an entry per value like
+ * {@link java.util.HashSet}, which keeps the cost of each value to a few slots of the array.
+ */
+class IntHashSet {
+
+    // region constants
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    // endregion
+
+
+    // region instance variables
+
+    private int[] _slots;
+    private int _occupied;
+    private boolean _containsZero;
+
+    // endregion
+
+
+    // region constructors
+
+    IntHashSet() {
+        _slots = new int[DEFAULT_CAPACITY];
+    }
+
+    // endregion
+
+
+    // region set operations
+
+    /**
+     * Adds a value to the set.
+     *
+     * @param value The value being added.
+     * @return <c>true</c> if the value wasn't already in the set, otherwise <c>false</c>.
+     */
+    boolean add(int value) {
+
+        // track zero separately, since it marks empty slots
+        if (value == 0) {
+            if (_containsZero) {
+                return false;
+            }
+            _containsZero = true;
+            return true;
+        }
+
+        // probe for the value, or the empty slot it belongs in
+        int mask = _slots.length - 1;
+        int index = hash(value) & mask;
+        while (_slots[index] != 0) {
+
+            // stop if value is already in the set
+            if (_slots[index] == value) {
+                return false;
+            }
+
+            // or move to next slot
+            index = (index + 1) & mask;
+        }
+
+        // add value, keeping at least half the slots empty
+        _slots[index] = value;
+        if (++_occupied * 2 > _slots.length) {
+            grow();
+        }
+        return true;
+    }
+
+    /**
+     * Determines whether the set contains a value.
+     *
+     * @param value The value to look for.
+     */
+    boolean contains(int value) {
+
+        // zero is tracked separately
+        if (value == 0) {
+            return _containsZero;
+        }
+
+        // probe for the value until an empty slot is found
+        int mask = _slots.length - 1;
+        int index = hash(value) & mask;
+        while (_slots[index] != 0) {
+
+            // stop if value is found
+            if (_slots[index] == value) {
+                return true;
+            }
+
+            // or move to next slot
+            index = (index + 1) & mask;
+        }
+
+        // indicate value wasn't found
+        return false;
+    }
+
+    /**
+     * Returns the number of values in the set.
+     */
+    int size() {
+        return _containsZero
+                ? _occupied + 1
+                : _occupied;
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    private static int hash(int value) {
+        int hash = value * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private void grow() {
+
+        // fail if set can't grow any further
+        if (_slots.length == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Set has reached its maximum capacity.");
+        }
+
+        // re-insert all values into a table twice the size
+        int[] slots = _slots;
+        _slots = new int[slots.length * 2];
+        int mask = _slots.length - 1;
+        for (int value : slots) {
+            if (value != 0) {
+                int index = hash(value) & mask;
+                while (_slots[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                _slots[index] = value;
+            }
+        }
+    }
+
+    // endregion
+}
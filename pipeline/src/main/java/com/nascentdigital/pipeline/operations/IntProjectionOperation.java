@@ -0,0 +1,95 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.IntIterator;
+import com.nascentdigital.pipeline.IntPipelineOperation;
+import com.nascentdigital.pipeline.IntSelector;
+import com.nascentdigital.pipeline.IntSink;
+import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class IntProjectionOperation<TInput> implements IntPipelineOperation {
+
+    // region instance variables
+
+    private final PipelineOperation<TInput> _source;
+    private final IntSelector<TInput> _selector;
+
+    // endregion
+
+
+    // region constructors
+
+    public IntProjectionOperation(PipelineOperation<TInput> source,
+                                  IntSelector<TInput> selector) {
+        _source = source;
+        _selector = selector;
+    }
+
+    // endregion
+
+
+    // region IntPipelineOperation interface
+
+    @Override
+    public IntIterator iterator() {
+        return new Iterator();
+    }
+
+    @Override
+    public int size() {
+        return _source.size();
+    }
+
+    @Override
+    public List<IntPipelineOperation> split(int count) {
+
+        // fail if source can't be split
+        List<PipelineOperation<TInput>> partitions = _source.split(count);
+        if (partitions == null) {
+            return null;
+        }
+
+        // or apply operation to each partition of the source
+        List<IntPipelineOperation> operations = new ArrayList<>(partitions.size());
+        for (PipelineOperation<TInput> partition : partitions) {
+            operations.add(new IntProjectionOperation<>(partition, _selector));
+        }
+        return operations;
+    }
+
+    @Override
+    public boolean push(final IntSink sink) {
+        return _source.push(new Sink<TInput>() {
+            @Override
+            public boolean accept(TInput element) {
+                return sink.accept(_selector.select(element));
+            }
+        });
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    private class Iterator implements IntIterator {
+
+        private final java.util.Iterator<TInput> _input = _source.iterator();
+
+        @Override
+        public boolean hasNext() {
+            return _input.hasNext();
+        }
+
+        @Override
+        public int nextInt() {
+            return _selector.select(_input.next());
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,138 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.IntIterator;
+import com.nascentdigital.pipeline.IntPipelineOperation;
+import com.nascentdigital.pipeline.IntSink;
+import com.nascentdigital.pipeline.PipelineOperation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * Sorts the values of its source, each evaluation materializing the source into an array.
+ * <p>
+ * Large arrays are sorted by a {@link RadixSort} of keys mapped from the values, on the pool of
+ * the pipeline if it is parallel, while small arrays are sorted using {@link Arrays#sort}.
+ */
+public class IntSortOperation implements IntPipelineOperation {
+
+    // region instance variables
+
+    private final IntPipelineOperation _source;
+    private final boolean _descending;
+    private final ForkJoinPool _pool;
+
+    // endregion
+
+
+    // region constructors
+
+    public IntSortOperation(IntPipelineOperation source, boolean descending, ForkJoinPool pool) {
+        _source = source;
+        _descending = descending;
+        _pool = pool;
+    }
+
+    // endregion
+
+
+    // region IntPipelineOperation interface
+
+    @Override
+    public IntIterator iterator() {
+        return sort().iterator();
+    }
+
+    @Override
+    public int size() {
+        return _source.size();
+    }
+
+    @Override
+    public List<IntPipelineOperation> split(int count) {
+        return sort().split(count);
+    }
+
+    @Override
+    public boolean push(IntSink sink) {
+        return sort().push(sink);
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    private IntArraySourceOperation sort() {
+
+        // materialize values
+        int[] values = materialize();
+
+        // sort small arrays by comparison, reversing them if descending
+        if (values.length < RadixSort.MIN_SIZE) {
+            Arrays.sort(values);
+            if (_descending) {
+                for (int i = 0, j = values.length - 1; i < j; ++i, --j) {
+                    int value = values[i];
+                    values[i] = values[j];
+                    values[j] = value;
+                }
+            }
+            return new IntArraySourceOperation(values);
+        }
+
+        // or radix sort keys mapped from values
+        long[] keys = new long[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            keys[i] = RadixSort.intKey(values[i], _descending);
+        }
+        RadixSort.sort(keys, null, _pool);
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = RadixSort.intValue(keys[i], _descending);
+        }
+        return new IntArraySourceOperation(values);
+    }
+
+    private int[] materialize() {
+
+        // append all values, growing the array as needed
+        class ArraySink implements IntSink {
+
+            private int[] _values;
+            private int _count;
+
+            private ArraySink(int capacity) {
+                _values = new int[capacity];
+            }
+
+            @Override
+            public boolean accept(int element) {
+
+                // grow array if full
+                if (_count == _values.length) {
+                    _values = Arrays.copyOf(_values, Math.max(16, _count * 2));
+                }
+
+                // append value
+                _values[_count++] = element;
+
+                // continue processing
+                return true;
+            }
+        }
+
+        // allocate for the size of the source, if known
+        int size = _source.size();
+        ArraySink sink = new ArraySink(size != PipelineOperation.UNKNOWN_SIZE ? size : 16);
+        _source.push(sink);
+
+        // return values, trimming any unused capacity
+        return sink._count == sink._values.length
+                ? sink._values
+                : Arrays.copyOf(sink._values, sink._count);
+    }
+
+    // endregion
+}
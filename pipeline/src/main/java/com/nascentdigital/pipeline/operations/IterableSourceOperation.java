@@ -1,6 +1,11 @@
 package com.nascentdigital.pipeline.operations;
 
 import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
 
 
 public class IterableSourceOperation<TElement> implements PipelineOperation<TElement> {
@@ -39,6 +44,79 @@ public class IterableSourceOperation<TElement> implements PipelineOperation<TEle
     // endregion
 
 
+    // region PipelineOperation<TElement> interface
+
+    @Override
+    public int size() {
+
+        // always empty if iterable is null
+        if (_input == null) {
+            return 0;
+        }
+
+        // or use collection size, if available
+        return _input instanceof Collection
+                ? ((Collection<?>)_input).size()
+                : UNKNOWN_SIZE;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return _input instanceof List
+                && _input instanceof RandomAccess;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public TElement get(int index) {
+        return ((List<TElement>)_input).get(index);
+    }
+
+    @Override
+    public List<PipelineOperation<TElement>> split(int count) {
+
+        // split indexed sequences by position
+        return isIndexed()
+                ? RangeOperation.split(this, count)
+                : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean push(Sink<TElement> sink) {
+
+        // skip processing if there is no source
+        if (_input == null) {
+            return true;
+        }
+
+        // push elements by index for random access lists
+        if (_input instanceof List
+                && _input instanceof RandomAccess) {
+            List<TElement> list = (List<TElement>)_input;
+            for (int i = 0, size = list.size(); i < size; ++i) {
+                if (!sink.accept(list.get(i))) {
+                    return false;
+                }
+            }
+        }
+
+        // or push elements using the iterable
+        else {
+            for (TElement element : _input) {
+                if (!sink.accept(element)) {
+                    return false;
+                }
+            }
+        }
+
+        // indicate sequence was exhausted
+        return true;
+    }
+
+    // endregion
+
+
     // region internal classes
 
     private class Iterator implements java.util.Iterator<TElement> {
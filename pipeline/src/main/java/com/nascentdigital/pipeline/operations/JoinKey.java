@@ -0,0 +1,271 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.IntSelector;
+import com.nascentdigital.pipeline.LongSelector;
+import com.nascentdigital.pipeline.Selector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * The key that a {@link JoinOperation} matches elements of its outer and inner sequences by.
+ * <p>
+ * Each evaluation of a join assigns dense indices to the keys of one side using an
+ * {@link Index}, and then looks up the index of each element of the other side.  Primitive keys
+ * are indexed unboxed, in an open-addressing table, rather than as boxed keys of a
+ * {@link HashMap}.
+ */
+public abstract class JoinKey<TOuter, TInner> {
+
+    // region constructors
+
+    private JoinKey() {
+    }
+
+    // endregion
+
+
+    // region factory methods
+
+    /**
+     * Creates a key that matches elements whose keys are equal, where <c>null</c> keys never
+     * match.
+     *
+     * @param outerKeySelector A function to extract the key of an outer element.
+     * @param innerKeySelector A function to extract the key of an inner element.
+     */
+    public static <TOuter, TInner, TKey> JoinKey<TOuter, TInner> of(
+            Selector<TOuter, TKey> outerKeySelector,
+            Selector<TInner, TKey> innerKeySelector) {
+        return new ObjectJoinKey<>(outerKeySelector, innerKeySelector);
+    }
+
+    /**
+     * Creates a key that matches elements whose <c>int</c> keys are equal.
+     */
+    public static <TOuter, TInner> JoinKey<TOuter, TInner> ofInt(
+            IntSelector<TOuter> outerKeySelector,
+            IntSelector<TInner> innerKeySelector) {
+        return new IntJoinKey<>(outerKeySelector, innerKeySelector);
+    }
+
+    /**
+     * Creates a key that matches elements whose <c>long</c> keys are equal.
+     */
+    public static <TOuter, TInner> JoinKey<TOuter, TInner> ofLong(
+            LongSelector<TOuter> outerKeySelector,
+            LongSelector<TInner> innerKeySelector) {
+        return new LongJoinKey<>(outerKeySelector, innerKeySelector);
+    }
+
+    // endregion
+
+
+    // region key indexing
+
+    /**
+     * Creates an empty index of keys, for a single evaluation.
+     */
+    abstract Index<TOuter, TInner> index();
+
+    // endregion
+
+
+    // region internal classes
+
+    /**
+     * Assigns dense indices to keys, in the order they are first added, from either side of a
+     * join.
+     */
+    abstract static class Index<TOuter, TInner> {
+
+        /**
+         * Adds the key of an outer element, returning its index, or <c>-1</c> if the key can't
+         * be matched.
+         */
+        abstract int addOuter(TOuter outer);
+
+        /**
+         * Adds the key of an inner element, returning its index, or <c>-1</c> if the key can't
+         * be matched.
+         */
+        abstract int addInner(TInner inner);
+
+        /**
+         * Returns the index of the key of an outer element, or <c>-1</c> if it isn't indexed.
+         */
+        abstract int indexOfOuter(TOuter outer);
+
+        /**
+         * Returns the index of the key of an inner element, or <c>-1</c> if it isn't indexed.
+         */
+        abstract int indexOfInner(TInner inner);
+
+        /**
+         * Returns the number of indexed keys.
+         */
+        abstract int size();
+    }
+
+    private static final class ObjectJoinKey<TOuter, TInner, TKey>
+            extends JoinKey<TOuter, TInner> {
+
+        private final Selector<TOuter, TKey> _outerKeySelector;
+        private final Selector<TInner, TKey> _innerKeySelector;
+
+        ObjectJoinKey(Selector<TOuter, TKey> outerKeySelector,
+                      Selector<TInner, TKey> innerKeySelector) {
+            _outerKeySelector = outerKeySelector;
+            _innerKeySelector = innerKeySelector;
+        }
+
+        @Override
+        Index<TOuter, TInner> index() {
+
+            // index keys in a hash map, skipping null keys
+            final Map<TKey, Integer> indices = new HashMap<>();
+            return new Index<TOuter, TInner>() {
+                @Override
+                int addOuter(TOuter outer) {
+                    return add(_outerKeySelector.select(outer));
+                }
+
+                @Override
+                int addInner(TInner inner) {
+                    return add(_innerKeySelector.select(inner));
+                }
+
+                @Override
+                int indexOfOuter(TOuter outer) {
+                    return indexOf(_outerKeySelector.select(outer));
+                }
+
+                @Override
+                int indexOfInner(TInner inner) {
+                    return indexOf(_innerKeySelector.select(inner));
+                }
+
+                @Override
+                int size() {
+                    return indices.size();
+                }
+
+                private int add(TKey key) {
+
+                    // skip null keys
+                    if (key == null) {
+                        return -1;
+                    }
+
+                    // get index of key, or assign one
+                    Integer index = indices.get(key);
+                    if (index == null) {
+                        index = indices.size();
+                        indices.put(key, index);
+                    }
+                    return index;
+                }
+
+                private int indexOf(TKey key) {
+                    Integer index = key == null
+                            ? null
+                            : indices.get(key);
+                    return index == null
+                            ? -1
+                            : index;
+                }
+            };
+        }
+    }
+
+    private static final class IntJoinKey<TOuter, TInner> extends JoinKey<TOuter, TInner> {
+
+        private final IntSelector<TOuter> _outerKeySelector;
+        private final IntSelector<TInner> _innerKeySelector;
+
+        IntJoinKey(IntSelector<TOuter> outerKeySelector, IntSelector<TInner> innerKeySelector) {
+            _outerKeySelector = outerKeySelector;
+            _innerKeySelector = innerKeySelector;
+        }
+
+        @Override
+        Index<TOuter, TInner> index() {
+
+            // index keys unboxed
+            final IntKeyIndex indices = new IntKeyIndex();
+            return new Index<TOuter, TInner>() {
+                @Override
+                int addOuter(TOuter outer) {
+                    return indices.add(_outerKeySelector.select(outer));
+                }
+
+                @Override
+                int addInner(TInner inner) {
+                    return indices.add(_innerKeySelector.select(inner));
+                }
+
+                @Override
+                int indexOfOuter(TOuter outer) {
+                    return indices.indexOf(_outerKeySelector.select(outer));
+                }
+
+                @Override
+                int indexOfInner(TInner inner) {
+                    return indices.indexOf(_innerKeySelector.select(inner));
+                }
+
+                @Override
+                int size() {
+                    return indices.size();
+                }
+            };
+        }
+    }
+
+    private static final class LongJoinKey<TOuter, TInner> extends JoinKey<TOuter, TInner> {
+
+        private final LongSelector<TOuter> _outerKeySelector;
+        private final LongSelector<TInner> _innerKeySelector;
+
+        LongJoinKey(LongSelector<TOuter> outerKeySelector, LongSelector<TInner> innerKeySelector) {
+            _outerKeySelector = outerKeySelector;
+            _innerKeySelector = innerKeySelector;
+        }
+
+        @Override
+        Index<TOuter, TInner> index() {
+
+            // index keys unboxed
+            final LongKeyIndex indices = new LongKeyIndex();
+            return new Index<TOuter, TInner>() {
+                @Override
+                int addOuter(TOuter outer) {
+                    return indices.add(_outerKeySelector.select(outer));
+                }
+
+                @Override
+                int addInner(TInner inner) {
+                    return indices.add(_innerKeySelector.select(inner));
+                }
+
+                @Override
+                int indexOfOuter(TOuter outer) {
+                    return indices.indexOf(_outerKeySelector.select(outer));
+                }
+
+                @Override
+                int indexOfInner(TInner inner) {
+                    return indices.indexOf(_innerKeySelector.select(inner));
+                }
+
+                @Override
+                int size() {
+                    return indices.size();
+                }
+            };
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,448 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.ResultSelector;
+import com.nascentdigital.pipeline.Sink;
+import com.nascentdigital.pipeline.operations.JoinKey.Index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Correlates the elements of an outer and inner sequence with matching keys using a hash join,
+ * yielding a result for each matching pair in the order of the outer sequence, with the matches
+ * of each outer element in the order of the inner sequence.
+ * <p>
+ * Each evaluation builds a table of the inner elements by key, packed into a single array, and
+ * then streams the outer sequence through it.  If both sizes are known and the outer sequence is
+ * smaller, the outer sequence is materialized and indexed first instead, so that only the inner
+ * elements with a matching key are kept in the table, and probed with the key indices computed
+ * while indexing it.  Partitions of the outer sequence are probed
+ * concurrently when the join is evaluated in parallel, sharing a single table.
+ * <p>
+ * Outer elements with no matching inner elements are skipped, unless it is a left outer join, in
+ * which case they are yielded once with a <c>null</c> inner element.
+ */
+public class JoinOperation<TOuter, TInner, TResult> implements PipelineOperation<TResult> {
+
+    // region instance variables
+
+    private final PipelineOperation<TOuter> _outer;
+    private final PipelineOperation<TInner> _inner;
+    private final JoinKey<TOuter, TInner> _key;
+    private final ResultSelector<TOuter, TInner, TResult> _resultSelector;
+    private final boolean _leftOuter;
+
+    // endregion
+
+
+    // region constructors
+
+    public JoinOperation(PipelineOperation<TOuter> outer,
+                         PipelineOperation<TInner> inner,
+                         JoinKey<TOuter, TInner> key,
+                         ResultSelector<TOuter, TInner, TResult> resultSelector,
+                         boolean leftOuter) {
+        _outer = outer;
+        _inner = inner;
+        _key = key;
+        _resultSelector = resultSelector;
+        _leftOuter = leftOuter;
+    }
+
+    // endregion
+
+
+    // region Iterable<TResult> interface
+
+    @Override
+    public java.util.Iterator<TResult> iterator() {
+        return build(Collections.singletonList(_outer)).get(0).iterator();
+    }
+
+    // endregion
+
+
+    // region PipelineOperation<TResult> interface
+
+    @Override
+    public int size() {
+        return UNKNOWN_SIZE;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public TResult get(int index) {
+        throw new UnsupportedOperationException("Operation is not indexed.");
+    }
+
+    @Override
+    public List<PipelineOperation<TResult>> split(int count) {
+
+        // fail before reading the inner sequence if the outer sequence can't be split
+        List<PipelineOperation<TOuter>> partitions = _outer.split(count);
+        if (partitions == null
+                || partitions.size() < 2) {
+            return null;
+        }
+
+        // or probe a single table with each partition of the outer sequence
+        return build(partitions);
+    }
+
+    @Override
+    public boolean push(Sink<TResult> sink) {
+        return build(Collections.singletonList(_outer)).get(0).push(sink);
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    /**
+     * Builds the table of inner elements, returning an operation for each partition of the outer
+     * sequence that probes it.
+     */
+    private List<PipelineOperation<TResult>> build(List<PipelineOperation<TOuter>> partitions) {
+
+        // index the keys of a smaller outer sequence first, keeping only inner elements that match
+        final Index<TOuter, TInner> index = _key.index();
+        final TableBuilder<TInner> table = new TableBuilder<>();
+        int outerSize = _outer.size();
+        int innerSize = _inner.size();
+        if (outerSize != UNKNOWN_SIZE
+                && innerSize != UNKNOWN_SIZE
+                && outerSize < innerSize) {
+            List<TOuter[]> materialized = new ArrayList<>(partitions.size());
+            List<int[]> outerIndices = new ArrayList<>(partitions.size());
+            for (PipelineOperation<TOuter> partition : partitions) {
+                TOuter[] outers = ArraySourceOperation.materialize(partition);
+                int[] indices = new int[outers.length];
+                for (int i = 0; i < outers.length; ++i) {
+                    indices[i] = index.addOuter(outers[i]);
+                }
+                materialized.add(outers);
+                outerIndices.add(indices);
+            }
+            _inner.push(new Sink<TInner>() {
+                @Override
+                public boolean accept(TInner inner) {
+                    table.add(index.indexOfInner(inner), inner);
+                    return true;
+                }
+            });
+
+            // probe table with each materialized partition, reusing the indices of its keys
+            Table<TInner> built = table.build(index.size());
+            List<PipelineOperation<TResult>> operations = new ArrayList<>(partitions.size());
+            for (int i = 0; i < materialized.size(); ++i) {
+                operations.add(new Probe(new ArraySourceOperation<>(materialized.get(i)),
+                        outerIndices.get(i), 0, index, built));
+            }
+            return operations;
+        }
+
+        // or index every inner element by key
+        _inner.push(new Sink<TInner>() {
+            @Override
+            public boolean accept(TInner inner) {
+                table.add(index.addInner(inner), inner);
+                return true;
+            }
+        });
+        return probes(partitions, index, table.build(index.size()));
+    }
+
+    private List<PipelineOperation<TResult>> probes(List<PipelineOperation<TOuter>> partitions,
+                                                    Index<TOuter, TInner> index,
+                                                    Table<TInner> table) {
+
+        // probe table with each partition of the outer sequence
+        List<PipelineOperation<TResult>> operations = new ArrayList<>(partitions.size());
+        for (PipelineOperation<TOuter> partition : partitions) {
+            operations.add(new Probe(partition, index, table));
+        }
+        return operations;
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    /**
+     * The inner elements of a join, grouped by the index of their key in a single array.
+     */
+    private static final class Table<TInner> {
+
+        private final int[] _offsets;
+        private final Object[] _elements;
+
+        Table(int[] offsets, Object[] elements) {
+            _offsets = offsets;
+            _elements = elements;
+        }
+
+        /**
+         * Returns the position of the first element with a key, or <c>0</c> if the key isn't
+         * indexed.
+         */
+        int start(int index) {
+            return index < 0 ? 0 : _offsets[index];
+        }
+
+        /**
+         * Returns the position after the last element with a key, or <c>0</c> if the key isn't
+         * indexed.
+         */
+        int end(int index) {
+            return index < 0 ? 0 : _offsets[index + 1];
+        }
+
+        @SuppressWarnings("unchecked")
+        TInner get(int position) {
+            return (TInner) _elements[position];
+        }
+    }
+
+    /**
+     * Collects inner elements with the index of their key, then packs them into a
+     * {@link Table}.
+     */
+    private static final class TableBuilder<TInner> {
+
+        private Object[] _elements = new Object[16];
+        private int[] _indices = new int[16];
+        private int _count;
+
+        /**
+         * Adds an element with the index of its key, skipping it if the index is negative.
+         */
+        void add(int index, TInner element) {
+
+            // skip elements whose key can't be matched
+            if (index < 0) {
+                return;
+            }
+
+            // grow arrays if full
+            if (_count == _elements.length) {
+                _elements = Arrays.copyOf(_elements, _count * 2);
+                _indices = Arrays.copyOf(_indices, _count * 2);
+            }
+
+            // append element, tracking its key
+            _elements[_count] = element;
+            _indices[_count] = index;
+            ++_count;
+        }
+
+        /**
+         * Creates a table from the elements added so far.
+         *
+         * @param keyCount The number of indexed keys.
+         */
+        Table<TInner> build(int keyCount) {
+
+            // count elements of each key
+            int[] offsets = new int[keyCount + 1];
+            for (int i = 0; i < _count; ++i) {
+                ++offsets[_indices[i] + 1];
+            }
+
+            // compute start of each key's range, followed by the end of the last range
+            for (int i = 0; i < keyCount; ++i) {
+                offsets[i + 1] += offsets[i];
+            }
+
+            // place each element at the next position of its key's range, keeping their order
+            int[] positions = Arrays.copyOf(offsets, keyCount);
+            Object[] elements = new Object[_count];
+            for (int i = 0; i < _count; ++i) {
+                elements[positions[_indices[i]]++] = _elements[i];
+            }
+
+            // return table
+            return new Table<>(offsets, elements);
+        }
+    }
+
+    /**
+     * Streams (a partition of) the outer sequence through a built table, looking up the key index
+     * of each outer element unless it was computed while indexing a materialized sequence.
+     */
+    private class Probe implements PipelineOperation<TResult> {
+
+        private final PipelineOperation<TOuter> _source;
+        private final int[] _indices;
+        private final int _offset;
+        private final Index<TOuter, TInner> _index;
+        private final Table<TInner> _table;
+
+        Probe(PipelineOperation<TOuter> source, Index<TOuter, TInner> index, Table<TInner> table) {
+            this(source, null, 0, index, table);
+        }
+
+        /**
+         * @param indices The key index of each element of the materialized sequence that the
+         *                source is a range of, or <c>null</c> if they must be looked up.
+         * @param offset  The position of the first element of the source in that sequence.
+         */
+        Probe(PipelineOperation<TOuter> source,
+              int[] indices,
+              int offset,
+              Index<TOuter, TInner> index,
+              Table<TInner> table) {
+            _source = source;
+            _indices = indices;
+            _offset = offset;
+            _index = index;
+            _table = table;
+        }
+
+        @Override
+        public java.util.Iterator<TResult> iterator() {
+            return new Iterator();
+        }
+
+        @Override
+        public int size() {
+            return UNKNOWN_SIZE;
+        }
+
+        @Override
+        public boolean isIndexed() {
+            return false;
+        }
+
+        @Override
+        public TResult get(int index) {
+            throw new UnsupportedOperationException("Operation is not indexed.");
+        }
+
+        @Override
+        public List<PipelineOperation<TResult>> split(int count) {
+
+            // fail if outer sequence can't be split
+            List<PipelineOperation<TOuter>> partitions = _source.split(count);
+            if (partitions == null) {
+                return null;
+            }
+
+            // or probe table with each partition of the outer sequence
+            if (_indices == null) {
+                return probes(partitions, _index, _table);
+            }
+
+            // offsetting each range of a materialized sequence into its computed key indices
+            List<PipelineOperation<TResult>> operations = new ArrayList<>(partitions.size());
+            int offset = _offset;
+            for (PipelineOperation<TOuter> partition : partitions) {
+                operations.add(new Probe(partition, _indices, offset, _index, _table));
+                offset += partition.size();
+            }
+            return operations;
+        }
+
+        @Override
+        public boolean push(final Sink<TResult> sink) {
+            return _source.push(new Sink<TOuter>() {
+
+                private int _position;
+
+                @Override
+                public boolean accept(TOuter outer) {
+
+                    // push outer element without a match, if a left outer join
+                    int index = indexOf(outer, _position++);
+                    int start = _table.start(index);
+                    int end = _table.end(index);
+                    if (start == end) {
+                        return !_leftOuter
+                                || sink.accept(_resultSelector.select(outer, null));
+                    }
+
+                    // or push every match, stopping if the sink is done
+                    for (int i = start; i < end; ++i) {
+                        if (!sink.accept(_resultSelector.select(outer, _table.get(i)))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }
+            });
+        }
+
+        /**
+         * Returns the key index of an outer element at a position of the source.
+         */
+        private int indexOf(TOuter outer, int position) {
+            return _indices != null
+                    ? _indices[_offset + position]
+                    : _index.indexOfOuter(outer);
+        }
+
+        private class Iterator implements java.util.Iterator<TResult> {
+
+            private final java.util.Iterator<TOuter> _input = _source.iterator();
+            private int _read;
+            private TOuter _outer;
+            private int _position;
+            private int _end;
+            private boolean _unmatched;
+
+            @Override
+            public boolean hasNext() {
+
+                // find next outer element with results left
+                while (_position == _end
+                        && !_unmatched
+                        && _input.hasNext()) {
+                    _outer = _input.next();
+                    int index = indexOf(_outer, _read++);
+                    _position = _table.start(index);
+                    _end = _table.end(index);
+                    _unmatched = _leftOuter && _position == _end;
+                }
+
+                // return whether a result is left
+                return _position < _end
+                        || _unmatched;
+            }
+
+            @Override
+            public TResult next() {
+
+                // fail if there are no results left
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                // yield outer element without a match, if a left outer join
+                if (_unmatched) {
+                    _unmatched = false;
+                    return _resultSelector.select(_outer, null);
+                }
+
+                // or yield next match
+                return _resultSelector.select(_outer, _table.get(_position++));
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("Not implemented.");
+            }
+        }
+    }
+
+    // endregion
+}
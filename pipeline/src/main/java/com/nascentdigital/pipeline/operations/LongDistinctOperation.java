@@ -0,0 +1,121 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.LongIterator;
+import com.nascentdigital.pipeline.LongPipelineOperation;
+import com.nascentdigital.pipeline.LongSink;
+import com.nascentdigital.pipeline.PipelineOperation;
+
+import java.util.List;
+
+
+public class LongDistinctOperation implements LongPipelineOperation {
+
+    // region instance variables
+
+    private final LongPipelineOperation _source;
+
+    // endregion
+
+
+    // region constructors
+
+    public LongDistinctOperation(LongPipelineOperation source) {
+        _source = source;
+    }
+
+    // endregion
+
+
+    // region LongPipelineOperation interface
+
+    @Override
+    public LongIterator iterator() {
+        return new Iterator();
+    }
+
+    @Override
+    public int size() {
+        return PipelineOperation.UNKNOWN_SIZE;
+    }
+
+    @Override
+    public List<LongPipelineOperation> split(int count) {
+        return null;
+    }
+
+    @Override
+    public boolean push(final LongSink sink) {
+
+        // only push values that haven't been seen yet
+        final LongHashSet distinctValues = new LongHashSet();
+        return _source.push(new LongSink() {
+            @Override
+            public boolean accept(long element) {
+                return !distinctValues.add(element)
+                        || sink.accept(element);
+            }
+        });
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    private class Iterator implements LongIterator {
+
+        private final LongIterator _input = _source.iterator();
+        private final LongHashSet _distinctValues = new LongHashSet();
+        private boolean _fetched;
+        private boolean _hasNext;
+        private long _next;
+
+        @Override
+        public boolean hasNext() {
+
+            // find next value if it hasn't been fetched
+            if (!_fetched) {
+
+                // assume that there is nothing left
+                _fetched = true;
+                _hasNext = false;
+
+                // use underlying iterator until a value hasn't been seen
+                while (_input.hasNext()) {
+
+                    // get value
+                    long value = _input.nextLong();
+
+                    // use value if it is unique
+                    if (_distinctValues.add(value)) {
+
+                        // set state
+                        _hasNext = true;
+                        _next = value;
+
+                        // stop processing
+                        break;
+                    }
+                }
+            }
+
+            // return value
+            return _hasNext;
+        }
+
+        @Override
+        public long nextLong() {
+
+            // ensure next value has been fetched
+            hasNext();
+
+            // clear state
+            _fetched = false;
+
+            // return value
+            return _next;
+        }
+    }
+
+    // endregion
+}
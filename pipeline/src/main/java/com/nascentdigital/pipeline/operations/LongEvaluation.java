@@ -0,0 +1,24 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.LongPipelineOperation;
+
+import java.util.List;
+
+
+/**
+ * A {@link PartitionedEvaluation} of the sequence produced by a {@link LongPipelineOperation}.
+ *
+ * @param <TResult> The type of the result.
+ */
+public abstract class LongEvaluation<TResult>
+        extends PartitionedEvaluation<LongPipelineOperation, TResult> {
+
+    // region PartitionedEvaluation interface
+
+    @Override
+    protected List<LongPipelineOperation> split(LongPipelineOperation operation, int count) {
+        return operation.split(count);
+    }
+
+    // endregion
+}
@@ -0,0 +1,135 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.LongIterator;
+import com.nascentdigital.pipeline.LongPipelineOperation;
+import com.nascentdigital.pipeline.LongPredicate;
+import com.nascentdigital.pipeline.LongSink;
+import com.nascentdigital.pipeline.PipelineOperation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class LongFilterOperation implements LongPipelineOperation {
+
+    // region instance variables
+
+    private final LongPipelineOperation _source;
+    private final LongPredicate _filter;
+
+    // endregion
+
+
+    // region constructors
+
+    public LongFilterOperation(LongPipelineOperation source, LongPredicate filter) {
+        _source = source;
+        _filter = filter;
+    }
+
+    // endregion
+
+
+    // region LongPipelineOperation interface
+
+    @Override
+    public LongIterator iterator() {
+        return new Iterator();
+    }
+
+    @Override
+    public int size() {
+        return PipelineOperation.UNKNOWN_SIZE;
+    }
+
+    @Override
+    public List<LongPipelineOperation> split(int count) {
+
+        // fail if source can't be split
+        List<LongPipelineOperation> partitions = _source.split(count);
+        if (partitions == null) {
+            return null;
+        }
+
+        // or apply operation to each partition of the source
+        List<LongPipelineOperation> operations = new ArrayList<>(partitions.size());
+        for (LongPipelineOperation partition : partitions) {
+            operations.add(new LongFilterOperation(partition, _filter));
+        }
+        return operations;
+    }
+
+    @Override
+    public boolean push(final LongSink sink) {
+
+        // only push values that pass the filter
+        return _source.push(new LongSink() {
+            @Override
+            public boolean accept(long element) {
+                return !_filter.evaluate(element)
+                        || sink.accept(element);
+            }
+        });
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    private class Iterator implements LongIterator {
+
+        private final LongIterator _input = _source.iterator();
+        private boolean _fetched;
+        private boolean _hasNext;
+        private long _next;
+
+        @Override
+        public boolean hasNext() {
+
+            // find next value if it hasn't been fetched
+            if (!_fetched) {
+
+                // assume that there is nothing left
+                _fetched = true;
+                _hasNext = false;
+
+                // use underlying iterator until a value passes the filter
+                while (_input.hasNext()) {
+
+                    // get value
+                    long value = _input.nextLong();
+
+                    // use value if it passes filter
+                    if (_filter.evaluate(value)) {
+
+                        // set state
+                        _hasNext = true;
+                        _next = value;
+
+                        // stop processing
+                        break;
+                    }
+                }
+            }
+
+            // return value
+            return _hasNext;
+        }
+
+        @Override
+        public long nextLong() {
+
+            // ensure next value has been fetched
+            hasNext();
+
+            // clear state
+            _fetched = false;
+
+            // return value
+            return _next;
+        }
+    }
+
+    // endregion
+}
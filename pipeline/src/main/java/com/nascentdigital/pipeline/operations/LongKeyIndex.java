@@ -0,0 +1,157 @@
+package com.nascentdigital.pipeline.operations;
+
+/**
+ * Assigns dense indices to unboxed <c>long</c> keys, in the order they are first added, using open
+ * addressing with linear probing.
+ * <p>
+ * Keys and their indices are stored in two parallel arrays, rather than as boxed keys and values
+ * plus an entry per key like {@link java.util.HashMap}.
+ */
+class LongKeyIndex {
+
+    // region constants
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    // endregion
+
+
+    // region instance variables
+
+    private long[] _slots;
+    private int[] _indices;
+    private int _occupied;
+    private int _zeroIndex = -1;
+
+    // endregion
+
+
+    // region constructors
+
+    LongKeyIndex() {
+        _slots = new long[DEFAULT_CAPACITY];
+        _indices = new int[DEFAULT_CAPACITY];
+    }
+
+    // endregion
+
+
+    // region index operations
+
+    /**
+     * Adds a key to the index, if it isn't already in it.
+     *
+     * @param key The key being added.
+     * @return The index of the key.
+     */
+    int add(long key) {
+
+        // track zero separately, since it marks empty slots
+        if (key == 0) {
+            if (_zeroIndex < 0) {
+                _zeroIndex = size();
+            }
+            return _zeroIndex;
+        }
+
+        // probe for the key, or the empty slot it belongs in
+        int mask = _slots.length - 1;
+        int slot = hash(key) & mask;
+        while (_slots[slot] != 0) {
+
+            // stop if key is already in the index
+            if (_slots[slot] == key) {
+                return _indices[slot];
+            }
+
+            // or move to next slot
+            slot = (slot + 1) & mask;
+        }
+
+        // add key with the next index, keeping at least half the slots empty
+        int index = size();
+        _slots[slot] = key;
+        _indices[slot] = index;
+        if (++_occupied * 2 > _slots.length) {
+            grow();
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index of a key, or <c>-1</c> if it isn't in the index.
+     *
+     * @param key The key to look for.
+     */
+    int indexOf(long key) {
+
+        // zero is tracked separately
+        if (key == 0) {
+            return _zeroIndex;
+        }
+
+        // probe for the key until an empty slot is found
+        int mask = _slots.length - 1;
+        int slot = hash(key) & mask;
+        while (_slots[slot] != 0) {
+
+            // stop if key is found
+            if (_slots[slot] == key) {
+                return _indices[slot];
+            }
+
+            // or move to next slot
+            slot = (slot + 1) & mask;
+        }
+
+        // indicate key wasn't found
+        return -1;
+    }
+
+    /**
+     * Returns the number of keys in the index.
+     */
+    int size() {
+        return _zeroIndex < 0
+                ? _occupied
+                : _occupied + 1;
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    private static int hash(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private void grow() {
+
+        // fail if index can't grow any further
+        if (_slots.length == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Index has reached its maximum capacity.");
+        }
+
+        // re-insert all keys into a table twice the size
+        long[] slots = _slots;
+        int[] indices = _indices;
+        _slots = new long[slots.length * 2];
+        _indices = new int[slots.length * 2];
+        int mask = _slots.length - 1;
+        for (int i = 0; i < slots.length; ++i) {
+            if (slots[i] != 0) {
+                int slot = hash(slots[i]) & mask;
+                while (_slots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                _slots[slot] = slots[i];
+                _indices[slot] = indices[i];
+            }
+        }
+    }
+
+    // endregion
+}
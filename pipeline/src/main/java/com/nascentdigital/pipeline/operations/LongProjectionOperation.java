@@ -0,0 +1,95 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.LongIterator;
+import com.nascentdigital.pipeline.LongPipelineOperation;
+import com.nascentdigital.pipeline.LongSelector;
+import com.nascentdigital.pipeline.LongSink;
+import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class LongProjectionOperation<TInput> implements LongPipelineOperation {
+
+    // region instance variables
+
+    private final PipelineOperation<TInput> _source;
+    private final LongSelector<TInput> _selector;
+
+    // endregion
+
+
+    // region constructors
+
+    public LongProjectionOperation(PipelineOperation<TInput> source,
+                                   LongSelector<TInput> selector) {
+        _source = source;
+        _selector = selector;
+    }
+
+    // endregion
+
+
+    // region LongPipelineOperation interface
+
+    @Override
+    public LongIterator iterator() {
+        return new Iterator();
+    }
+
+    @Override
+    public int size() {
+        return _source.size();
+    }
+
+    @Override
+    public List<LongPipelineOperation> split(int count) {
+
+        // fail if source can't be split
+        List<PipelineOperation<TInput>> partitions = _source.split(count);
+        if (partitions == null) {
+            return null;
+        }
+
+        // or apply operation to each partition of the source
+        List<LongPipelineOperation> operations = new ArrayList<>(partitions.size());
+        for (PipelineOperation<TInput> partition : partitions) {
+            operations.add(new LongProjectionOperation<>(partition, _selector));
+        }
+        return operations;
+    }
+
+    @Override
+    public boolean push(final LongSink sink) {
+        return _source.push(new Sink<TInput>() {
+            @Override
+            public boolean accept(TInput element) {
+                return sink.accept(_selector.select(element));
+            }
+        });
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    private class Iterator implements LongIterator {
+
+        private final java.util.Iterator<TInput> _input = _source.iterator();
+
+        @Override
+        public boolean hasNext() {
+            return _input.hasNext();
+        }
+
+        @Override
+        public long nextLong() {
+            return _selector.select(_input.next());
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,268 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.ResultSelector;
+import com.nascentdigital.pipeline.Selector;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Correlates the elements of an outer and inner sequence with matching keys, where both sequences
+ * are already sorted by their keys, by walking them in lockstep.
+ * <p>
+ * Only the current run of inner elements with equal keys is buffered, so memory doesn't grow with
+ * the size of either sequence, and neither sequence is read further than the join requires.
+ * Results are yielded in the order of the outer sequence, with the matches of each outer element in
+ * the order of the inner sequence.  <c>null</c> keys sort first but never match.  A sequence that
+ * is found to be out of order fails the evaluation with an {@link IllegalStateException}.
+ */
+public class MergeJoinOperation<TOuter, TInner, TKey, TResult>
+        implements PipelineOperation<TResult> {
+
+    // region instance variables
+
+    private final PipelineOperation<TOuter> _outer;
+    private final PipelineOperation<TInner> _inner;
+    private final Selector<TOuter, TKey> _outerKeySelector;
+    private final Selector<TInner, TKey> _innerKeySelector;
+    private final Comparator<? super TKey> _comparator;
+    private final ResultSelector<TOuter, TInner, TResult> _resultSelector;
+
+    // endregion
+
+
+    // region constructors
+
+    /**
+     * @param comparator Compares keys, or <c>null</c> to compare them by their natural ordering.
+     */
+    public MergeJoinOperation(PipelineOperation<TOuter> outer,
+                              PipelineOperation<TInner> inner,
+                              Selector<TOuter, TKey> outerKeySelector,
+                              Selector<TInner, TKey> innerKeySelector,
+                              Comparator<? super TKey> comparator,
+                              ResultSelector<TOuter, TInner, TResult> resultSelector) {
+        _outer = outer;
+        _inner = inner;
+        _outerKeySelector = outerKeySelector;
+        _innerKeySelector = innerKeySelector;
+        _comparator = comparator;
+        _resultSelector = resultSelector;
+    }
+
+    // endregion
+
+
+    // region Iterable<TResult> interface
+
+    @Override
+    public Iterator iterator() {
+        return new Iterator();
+    }
+
+    // endregion
+
+
+    // region PipelineOperation<TResult> interface
+
+    @Override
+    public int size() {
+        return UNKNOWN_SIZE;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public TResult get(int index) {
+        throw new UnsupportedOperationException("Operation is not indexed.");
+    }
+
+    @Override
+    public List<PipelineOperation<TResult>> split(int count) {
+        return null;
+    }
+
+    @Override
+    public boolean push(final Sink<TResult> sink) {
+
+        // push the matches of each outer element, stopping if the sink is done
+        final Matcher matcher = new Matcher();
+        return _outer.push(new Sink<TOuter>() {
+            @Override
+            public boolean accept(TOuter outer) {
+                for (TInner inner : matcher.match(_outerKeySelector.select(outer))) {
+                    if (!sink.accept(_resultSelector.select(outer, inner))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        });
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    @SuppressWarnings("unchecked")
+    private int compare(TKey left, TKey right) {
+
+        // use comparator, if specified
+        if (_comparator != null) {
+            return _comparator.compare(left, right);
+        }
+
+        // or use natural ordering, with nulls first
+        if (left == null
+                || right == null) {
+            return left == null
+                    ? (right == null ? 0 : -1)
+                    : 1;
+        }
+        return ((Comparable<Object>) left).compareTo(right);
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    /**
+     * Tracks the position of a single evaluation within the inner sequence, buffering the run of
+     * inner elements matching the current outer key.
+     */
+    private class Matcher {
+
+        private final java.util.Iterator<TInner> _input = _inner.iterator();
+        private final List<TInner> _run = new ArrayList<>();
+        private boolean _started;
+        private TKey _outerKey;
+        private boolean _hasRun;
+        private TKey _runKey;
+        private boolean _hasNext;
+        private TInner _next;
+        private TKey _nextKey;
+
+        /**
+         * Returns the inner elements matching the key of the next outer element.
+         */
+        List<TInner> match(TKey outerKey) {
+
+            // fail if outer keys aren't in order
+            if (_started
+                    && compare(_outerKey, outerKey) > 0) {
+                throw new IllegalStateException("Outer sequence is not sorted by its join key.");
+            }
+            _started = true;
+            _outerKey = outerKey;
+
+            // null keys never match
+            if (outerKey == null) {
+                return Collections.emptyList();
+            }
+
+            // reuse current run, if the key is unchanged
+            if (_hasRun
+                    && compare(_runKey, outerKey) == 0) {
+                return _run;
+            }
+
+            // skip inner elements that come before the key
+            _hasRun = false;
+            _run.clear();
+            if (!_hasNext) {
+                fetch();
+            }
+            while (_hasNext
+                    && compare(_nextKey, outerKey) < 0) {
+                fetch();
+            }
+
+            // buffer the run of inner elements with the key
+            while (_hasNext
+                    && compare(_nextKey, outerKey) == 0) {
+                _run.add(_next);
+                fetch();
+            }
+            _hasRun = true;
+            _runKey = outerKey;
+
+            // return run
+            return _run;
+        }
+
+        private void fetch() {
+
+            // stop if inner sequence is exhausted
+            if (!_input.hasNext()) {
+                _hasNext = false;
+                _next = null;
+                return;
+            }
+
+            // or read next inner element, failing if it is out of order
+            TInner next = _input.next();
+            TKey nextKey = _innerKeySelector.select(next);
+            if (_hasNext
+                    && compare(_nextKey, nextKey) > 0) {
+                throw new IllegalStateException("Inner sequence is not sorted by its join key.");
+            }
+            _hasNext = true;
+            _next = next;
+            _nextKey = nextKey;
+        }
+    }
+
+    private class Iterator implements java.util.Iterator<TResult> {
+
+        private final java.util.Iterator<TOuter> _input = _outer.iterator();
+        private final Matcher _matcher = new Matcher();
+        private TOuter _element;
+        private List<TInner> _matches = Collections.emptyList();
+        private int _position;
+
+        @Override
+        public boolean hasNext() {
+
+            // move through outer elements until one has matches left
+            while (_position == _matches.size()
+                    && _input.hasNext()) {
+                _element = _input.next();
+                _matches = _matcher.match(_outerKeySelector.select(_element));
+                _position = 0;
+            }
+
+            // return whether a match is left
+            return _position < _matches.size();
+        }
+
+        @Override
+        public TResult next() {
+
+            // fail if there are no matches left
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            // return next match
+            return _resultSelector.select(_element, _matches.get(_position++));
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Not implemented.");
+        }
+    }
+
+    // endregion
+}
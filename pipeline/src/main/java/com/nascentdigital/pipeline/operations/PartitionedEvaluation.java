@@ -0,0 +1,158 @@
+package com.nascentdigital.pipeline.operations;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+
+/**
+ * Computes a terminal result for a sequence, either directly or by splitting the sequence into
+ * partitions that are evaluated concurrently on a {@link ForkJoinPool}, whose partial results are
+ * then combined in sequence order.
+ * <p>
+ * An evaluation keeps state while it runs, so a new instance must be used for every evaluation.
+ *
+ * @param <TPartition> The type of operation producing the sequence, and each of its partitions.
+ * @param <TResult>    The type of the result.
+ */
+public abstract class PartitionedEvaluation<TPartition, TResult> {
+
+    // region constants
+
+    /**
+     * The number of partitions created per pool thread, so that uneven partitions (e.g. after a
+     * filter) are balanced across threads.
+     */
+    private static final int PARTITIONS_PER_THREAD = 4;
+
+    // endregion
+
+
+    // region instance variables
+
+    private volatile boolean _completed;
+    private volatile TResult _finalResult;
+
+    // endregion
+
+
+    // region evaluation
+
+    /**
+     * Evaluates the result for a sequence, in parallel if a pool is specified and the sequence
+     * can be split, or on the calling thread otherwise.
+     *
+     * @param operation The sequence to evaluate.
+     * @param pool      The pool used to evaluate partitions of the sequence, or <c>null</c> to
+     *                  evaluate the sequence on the calling thread.
+     */
+    public TResult evaluate(TPartition operation, ForkJoinPool pool) {
+
+        // evaluate directly if not parallel
+        if (pool == null) {
+            return evaluatePartition(operation);
+        }
+
+        // or evaluate directly if sequence can't be split
+        List<TPartition> partitions =
+                split(operation, pool.getParallelism() * PARTITIONS_PER_THREAD);
+        if (partitions == null
+                || partitions.size() < 2) {
+            return evaluatePartition(operation);
+        }
+
+        // or evaluate partitions in parallel
+        return pool.invoke(new Task(partitions, 0, partitions.size()));
+    }
+
+    /**
+     * Splits the sequence into partitions, returning <c>null</c> if it can't be split.
+     *
+     * @param operation The sequence to split.
+     * @param count     The desired number of partitions.
+     */
+    protected abstract List<TPartition> split(TPartition operation, int count);
+
+    /**
+     * Evaluates the result for a single partition of the sequence.
+     *
+     * @param partition The partition to evaluate, which may be the entire sequence.
+     */
+    protected abstract TResult evaluatePartition(TPartition partition);
+
+    /**
+     * Combines the results of two adjacent partitions.
+     *
+     * @param left  The result of the partition that comes first in the sequence.
+     * @param right The result of the partition that immediately follows <i>left</i>.
+     */
+    protected abstract TResult combine(TResult left, TResult right);
+
+    /**
+     * Determines whether a partition result decides the final result on its own, allowing
+     * remaining partitions to be skipped (e.g. a match for <c>any()</c>).  A final result must be
+     * unchanged when combined with any other result.
+     *
+     * @param result The result of a partition.
+     */
+    protected boolean isFinal(TResult result) {
+        return false;
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    @SuppressWarnings("serial")
+    private class Task extends RecursiveTask<TResult> {
+
+        private final List<TPartition> _partitions;
+        private final int _start;
+        private final int _end;
+
+        Task(List<TPartition> partitions, int start, int end) {
+            _partitions = partitions;
+            _start = start;
+            _end = end;
+        }
+
+        @Override
+        protected TResult compute() {
+
+            // evaluate single partitions directly
+            if (_end - _start == 1) {
+
+                // skip evaluation if the result has already been decided
+                if (_completed) {
+                    return _finalResult;
+                }
+
+                // evaluate partition, marking evaluation complete if result is final
+                TResult result = evaluatePartition(_partitions.get(_start));
+                if (isFinal(result)) {
+                    _finalResult = result;
+                    _completed = true;
+                }
+
+                // return result
+                return result;
+            }
+
+            // or split partitions in half
+            int middle = (_start + _end) >>> 1;
+            Task left = new Task(_partitions, _start, middle);
+            Task right = new Task(_partitions, middle, _end);
+
+            // evaluate halves concurrently
+            right.fork();
+            TResult leftResult = left.compute();
+            TResult rightResult = right.join();
+
+            // combine results in sequence order
+            return combine(leftResult, rightResult);
+        }
+    }
+
+    // endregion
+}
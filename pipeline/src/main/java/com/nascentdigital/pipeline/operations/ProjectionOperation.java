@@ -2,13 +2,17 @@ package com.nascentdigital.pipeline.operations;
 
 import com.nascentdigital.pipeline.PipelineOperation;
 import com.nascentdigital.pipeline.Selector;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.ArrayList;
+import java.util.List;
 
 
 public class ProjectionOperation<TInput, TOutput> implements PipelineOperation<TOutput> {
 
     // region instance variables
 
-    private final Iterable<TInput> _source;
+    private final PipelineOperation<TInput> _source;
     private final Selector<TInput, TOutput> _selector;
 
     // endregion
@@ -16,7 +20,8 @@ public class ProjectionOperation<TInput, TOutput> implements PipelineOperation<T
 
     // region constructors
 
-    public ProjectionOperation(Iterable<TInput> source, Selector<TInput, TOutput> selector) {
+    public ProjectionOperation(PipelineOperation<TInput> source,
+                               Selector<TInput, TOutput> selector) {
         _source = source;
         _selector = selector;
     }
@@ -34,6 +39,53 @@ public class ProjectionOperation<TInput, TOutput> implements PipelineOperation<T
     // endregion
 
 
+    // region PipelineOperation<TOutput> interface
+
+    @Override
+    public int size() {
+        return _source.size();
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return _source.isIndexed();
+    }
+
+    @Override
+    public TOutput get(int index) {
+        return _selector.select(_source.get(index));
+    }
+
+    @Override
+    public List<PipelineOperation<TOutput>> split(int count) {
+
+        // fail if source can't be split
+        List<PipelineOperation<TInput>> partitions = _source.split(count);
+        if (partitions == null) {
+            return null;
+        }
+
+        // or apply operation to each partition of the source
+        List<PipelineOperation<TOutput>> operations = new ArrayList<>(partitions.size());
+        for (PipelineOperation<TInput> partition : partitions) {
+            operations.add(new ProjectionOperation<>(partition, _selector));
+        }
+        return operations;
+    }
+
+    @Override
+    public boolean push(final Sink<TOutput> sink) {
+        return _source.push(new Sink<TInput>() {
+            @Override
+            public boolean accept(TInput element) {
+                return sink.accept(_selector.select(element));
+            }
+        });
+    }
+
+    // endregion
+
+
     // region internal classes
 
     private class Iterator implements java.util.Iterator<TOutput> {
@@ -0,0 +1,415 @@
+package com.nascentdigital.pipeline.operations;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+
+/**
+ * Stably sorts arrays of 64-bit keys using a least-significant-digit radix sort, optionally
+ * permuting an array of element positions alongside the keys.
+ * <p>
+ * Keys are compared as unsigned values, so <c>int</c>, <c>long</c> and <c>double</c> values are
+ * first mapped to keys whose unsigned order matches the order of the values.  Keys are sorted one
+ * byte at a time in linear time, skipping any byte that is the same for every key (e.g. the upper
+ * half of keys mapped from <c>int</c> values).  Large arrays can be sorted on a
+ * {@link ForkJoinPool}, with each pass counting and scattering chunks of the array concurrently.
+ */
+final class RadixSort {
+
+    // region constants
+
+    /**
+     * The smallest number of keys for which a radix sort is used instead of a comparison sort,
+     * below which the fixed cost of counting buckets outweighs the cheaper passes.
+     */
+    static final int MIN_SIZE = 256;
+
+    /**
+     * The smallest number of keys sorted in parallel, below which the cost of coordinating chunks
+     * outweighs the time saved.
+     */
+    private static final int MIN_PARALLEL_SIZE = 1 << 16;
+
+    /**
+     * The smallest number of keys in a chunk of a parallel sort.
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 14;
+
+    private static final int DIGIT_BITS = 8;
+    private static final int DIGIT_COUNT = Long.SIZE / DIGIT_BITS;
+    private static final int BUCKET_COUNT = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = BUCKET_COUNT - 1;
+
+    // endregion
+
+
+    // region constructors
+
+    private RadixSort() {
+    }
+
+    // endregion
+
+
+    // region key mapping
+
+    /**
+     * Maps an <c>int</c> value to a key that sorts in the same order, or in reverse order if
+     * <i>descending</i>.
+     */
+    static long intKey(int value, boolean descending) {
+        long key = (value ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+        return descending ? ~key : key;
+    }
+
+    /**
+     * Maps a key created by {@link #intKey(int, boolean)} back to its value.
+     */
+    static int intValue(long key, boolean descending) {
+        return (int) (descending ? ~key : key) ^ Integer.MIN_VALUE;
+    }
+
+    /**
+     * Maps a <c>long</c> value to a key that sorts in the same order, or in reverse order if
+     * <i>descending</i>.
+     */
+    static long longKey(long value, boolean descending) {
+        long key = value ^ Long.MIN_VALUE;
+        return descending ? ~key : key;
+    }
+
+    /**
+     * Maps a key created by {@link #longKey(long, boolean)} back to its value.
+     */
+    static long longValue(long key, boolean descending) {
+        return (descending ? ~key : key) ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Maps a <c>double</c> value to a key that sorts in the order of
+     * {@link Double#compare(double, double)}, or in reverse order if <i>descending</i>.
+     * <p>
+     * Negative values have every bit flipped, so that larger magnitudes sort first, and positive
+     * values only have their sign bit flipped, so that they sort after negative values.
+     */
+    static long doubleKey(double value, boolean descending) {
+        long bits = Double.doubleToLongBits(value);
+        long key = bits < 0
+                ? ~bits
+                : bits ^ Long.MIN_VALUE;
+        return descending ? ~key : key;
+    }
+
+    /**
+     * Maps a key created by {@link #doubleKey(double, boolean)} back to its value.
+     */
+    static double doubleValue(long key, boolean descending) {
+        long ascendingKey = descending ? ~key : key;
+        return Double.longBitsToDouble(ascendingKey < 0
+                ? ascendingKey ^ Long.MIN_VALUE
+                : ~ascendingKey);
+    }
+
+    // endregion
+
+
+    // region sorting
+
+    /**
+     * Sorts keys in place, as unsigned values, keeping keys that are equal in their current
+     * order.
+     *
+     * @param keys      The keys being sorted.
+     * @param positions The positions of the elements that the keys were extracted from, which are
+     *                  moved along with their keys, or <c>null</c> if only the keys are sorted.
+     * @param pool      The pool used to sort large arrays in parallel, or <c>null</c> to sort on
+     *                  the calling thread.
+     */
+    static void sort(long[] keys, int[] positions, ForkJoinPool pool) {
+
+        // divide keys into chunks, if they are sorted in parallel
+        int chunkCount = pool == null || keys.length < MIN_PARALLEL_SIZE
+                ? 1
+                : Math.max(1, Math.min(pool.getParallelism(), keys.length / MIN_CHUNK_SIZE));
+
+        // sort keys
+        if (chunkCount == 1) {
+            sortSequential(keys, positions);
+        }
+        else {
+            new ParallelSort(keys, positions, pool, chunkCount).sort();
+        }
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    private static void sortSequential(long[] keys, int[] positions) {
+
+        // count the keys in each bucket of every digit, in a single pass
+        int length = keys.length;
+        int[][] counts = new int[DIGIT_COUNT][BUCKET_COUNT];
+        for (long key : keys) {
+            for (int digit = 0; digit < DIGIT_COUNT; ++digit) {
+                ++counts[digit][digit(key, digit)];
+            }
+        }
+
+        // scatter keys by each digit in turn, from the least significant, swapping buffers
+        long[] sourceKeys = keys;
+        long[] destinationKeys = null;
+        int[] sourcePositions = positions;
+        int[] destinationPositions = null;
+        for (int digit = 0; digit < DIGIT_COUNT; ++digit) {
+
+            // skip digits that are the same for every key
+            int[] offsets = counts[digit];
+            if (isConstant(offsets, length)) {
+                continue;
+            }
+
+            // allocate buffers on first use
+            if (destinationKeys == null) {
+                destinationKeys = new long[length];
+                destinationPositions = positions == null ? null : new int[length];
+            }
+
+            // convert counts into the offset of each bucket
+            int offset = 0;
+            for (int bucket = 0; bucket < BUCKET_COUNT; ++bucket) {
+                int count = offsets[bucket];
+                offsets[bucket] = offset;
+                offset += count;
+            }
+
+            // move keys (and positions) into their buckets, keeping their order within a bucket
+            for (int i = 0; i < length; ++i) {
+                long key = sourceKeys[i];
+                int target = offsets[digit(key, digit)]++;
+                destinationKeys[target] = key;
+                if (sourcePositions != null) {
+                    destinationPositions[target] = sourcePositions[i];
+                }
+            }
+
+            // swap buffers
+            long[] swapKeys = sourceKeys;
+            sourceKeys = destinationKeys;
+            destinationKeys = swapKeys;
+            int[] swapPositions = sourcePositions;
+            sourcePositions = destinationPositions;
+            destinationPositions = swapPositions;
+        }
+
+        // copy result back, if it ended up in the buffer
+        copyBack(keys, positions, sourceKeys, sourcePositions);
+    }
+
+    private static int digit(long key, int digit) {
+        return (int) (key >>> (digit * DIGIT_BITS)) & DIGIT_MASK;
+    }
+
+    private static boolean isConstant(int[] counts, int length) {
+        for (int count : counts) {
+            if (count != 0) {
+                return count == length;
+            }
+        }
+        return true;
+    }
+
+    private static void copyBack(long[] keys,
+                                 int[] positions,
+                                 long[] sortedKeys,
+                                 int[] sortedPositions) {
+        if (sortedKeys != keys) {
+            System.arraycopy(sortedKeys, 0, keys, 0, keys.length);
+            if (positions != null) {
+                System.arraycopy(sortedPositions, 0, positions, 0, positions.length);
+            }
+        }
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    /**
+     * Processes a single chunk of a parallel sort.
+     */
+    private interface ChunkProcessor {
+        void process(int chunk);
+    }
+
+    /**
+     * Processes a range of chunks concurrently, splitting the range in half until each task
+     * processes a single chunk.
+     */
+    @SuppressWarnings("serial")
+    private static final class ChunkAction extends RecursiveAction {
+
+        private final ChunkProcessor _processor;
+        private final int _start;
+        private final int _end;
+
+        ChunkAction(ChunkProcessor processor, int start, int end) {
+            _processor = processor;
+            _start = start;
+            _end = end;
+        }
+
+        @Override
+        protected void compute() {
+
+            // process single chunks directly
+            if (_end - _start == 1) {
+                _processor.process(_start);
+                return;
+            }
+
+            // or process halves concurrently
+            int middle = (_start + _end) >>> 1;
+            invokeAll(new ChunkAction(_processor, _start, middle),
+                    new ChunkAction(_processor, middle, _end));
+        }
+    }
+
+    /**
+     * A radix sort whose passes count and scatter contiguous chunks of the keys concurrently.
+     * <p>
+     * Each chunk writes its keys to bucket offsets reserved for it after the keys of every
+     * earlier chunk, so the sort stays stable without synchronizing the chunks.
+     */
+    private static final class ParallelSort {
+
+        private final long[] _keys;
+        private final int[] _positions;
+        private final ForkJoinPool _pool;
+        private final int _chunkCount;
+        private final int[][] _offsets;
+        private long[] _sourceKeys;
+        private long[] _destinationKeys;
+        private int[] _sourcePositions;
+        private int[] _destinationPositions;
+        private int _digit;
+
+        ParallelSort(long[] keys, int[] positions, ForkJoinPool pool, int chunkCount) {
+            _keys = keys;
+            _positions = positions;
+            _pool = pool;
+            _chunkCount = chunkCount;
+            _offsets = new int[chunkCount][];
+            _sourceKeys = keys;
+            _sourcePositions = positions;
+        }
+
+        void sort() {
+
+            // count the keys of each chunk in each bucket of every digit, in a single pass
+            final int[][][] counts = new int[_chunkCount][DIGIT_COUNT][BUCKET_COUNT];
+            run(new ChunkProcessor() {
+                @Override
+                public void process(int chunk) {
+                    int[][] chunkCounts = counts[chunk];
+                    for (int i = start(chunk), end = start(chunk + 1); i < end; ++i) {
+                        long key = _keys[i];
+                        for (int digit = 0; digit < DIGIT_COUNT; ++digit) {
+                            ++chunkCounts[digit][digit(key, digit)];
+                        }
+                    }
+                }
+            });
+
+            // scatter keys by each digit in turn, from the least significant
+            boolean counted = true;
+            for (int digit = 0; digit < DIGIT_COUNT; ++digit) {
+
+                // get counts of digit, skipping it if it is the same for every key (which doesn't
+                // depend on the order of the keys, so the counts of the first pass are used)
+                _digit = digit;
+                int[] totals = new int[BUCKET_COUNT];
+                for (int chunk = 0; chunk < _chunkCount; ++chunk) {
+                    _offsets[chunk] = counts[chunk][digit];
+                    for (int bucket = 0; bucket < BUCKET_COUNT; ++bucket) {
+                        totals[bucket] += _offsets[chunk][bucket];
+                    }
+                }
+                if (isConstant(totals, _keys.length)) {
+                    continue;
+                }
+
+                // recount chunks if an earlier pass reordered keys
+                if (!counted) {
+                    run(new ChunkProcessor() {
+                        @Override
+                        public void process(int chunk) {
+                            int[] chunkCounts = _offsets[chunk];
+                            Arrays.fill(chunkCounts, 0);
+                            for (int i = start(chunk), end = start(chunk + 1); i < end; ++i) {
+                                ++chunkCounts[digit(_sourceKeys[i], _digit)];
+                            }
+                        }
+                    });
+                }
+
+                // convert counts into the offset of each chunk within each bucket
+                int offset = 0;
+                for (int bucket = 0; bucket < BUCKET_COUNT; ++bucket) {
+                    for (int chunk = 0; chunk < _chunkCount; ++chunk) {
+                        int count = _offsets[chunk][bucket];
+                        _offsets[chunk][bucket] = offset;
+                        offset += count;
+                    }
+                }
+
+                // allocate buffers on first use
+                if (_destinationKeys == null) {
+                    _destinationKeys = new long[_keys.length];
+                    _destinationPositions = _positions == null ? null : new int[_keys.length];
+                }
+
+                // move keys (and positions) of each chunk into their buckets
+                run(new ChunkProcessor() {
+                    @Override
+                    public void process(int chunk) {
+                        int[] offsets = _offsets[chunk];
+                        for (int i = start(chunk), end = start(chunk + 1); i < end; ++i) {
+                            long key = _sourceKeys[i];
+                            int target = offsets[digit(key, _digit)]++;
+                            _destinationKeys[target] = key;
+                            if (_sourcePositions != null) {
+                                _destinationPositions[target] = _sourcePositions[i];
+                            }
+                        }
+                    }
+                });
+                counted = false;
+
+                // swap buffers
+                long[] swapKeys = _sourceKeys;
+                _sourceKeys = _destinationKeys;
+                _destinationKeys = swapKeys;
+                int[] swapPositions = _sourcePositions;
+                _sourcePositions = _destinationPositions;
+                _destinationPositions = swapPositions;
+            }
+
+            // copy result back, if it ended up in the buffer
+            copyBack(_keys, _positions, _sourceKeys, _sourcePositions);
+        }
+
+        private int start(int chunk) {
+            return (int) ((long) _keys.length * chunk / _chunkCount);
+        }
+
+        private void run(ChunkProcessor processor) {
+            _pool.invoke(new ChunkAction(processor, 0, _chunkCount));
+        }
+    }
+
+    // endregion
+}
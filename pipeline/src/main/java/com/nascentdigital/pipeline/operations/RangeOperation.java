@@ -0,0 +1,122 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * A contiguous range of positions within an indexed {@link PipelineOperation}, used to partition
+ * indexed sequences.
+ */
+class RangeOperation<TElement> implements PipelineOperation<TElement> {
+
+    // region instance variables
+
+    private final PipelineOperation<TElement> _source;
+    private final int _start;
+    private final int _end;
+
+    // endregion
+
+
+    // region constructors
+
+    private RangeOperation(PipelineOperation<TElement> source, int start, int end) {
+        _source = source;
+        _start = start;
+        _end = end;
+    }
+
+    // endregion
+
+
+    // region factory methods
+
+    /**
+     * Splits an indexed operation into at most <i>count</i> ranges of near equal size.
+     */
+    static <TElement> List<PipelineOperation<TElement>> split(PipelineOperation<TElement> source,
+                                                              int count) {
+        return split(source, 0, source.size(), count);
+    }
+
+    private static <TElement> List<PipelineOperation<TElement>> split(
+            PipelineOperation<TElement> source, int start, int end, int count) {
+
+        // never create more ranges than there are elements
+        int size = end - start;
+        int rangeCount = Math.max(1, Math.min(count, size));
+
+        // create ranges, spreading any remainder over the first ranges
+        List<PipelineOperation<TElement>> ranges = new ArrayList<>(rangeCount);
+        int rangeSize = size / rangeCount;
+        int remainder = size % rangeCount;
+        int rangeStart = start;
+        for (int i = 0; i < rangeCount; ++i) {
+
+            // create range
+            int rangeEnd = rangeStart + rangeSize + (i < remainder ? 1 : 0);
+            ranges.add(new RangeOperation<>(source, rangeStart, rangeEnd));
+
+            // move to next range
+            rangeStart = rangeEnd;
+        }
+
+        // return ranges
+        return ranges;
+    }
+
+    // endregion
+
+
+    // region Iterable<TElement> interface
+
+    @Override
+    public java.util.Iterator<TElement> iterator() {
+        return new IndexedIterator<>(_source, _start, _end);
+    }
+
+    // endregion
+
+
+    // region PipelineOperation<TElement> interface
+
+    @Override
+    public int size() {
+        return _end - _start;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return true;
+    }
+
+    @Override
+    public TElement get(int index) {
+        return _source.get(_start + index);
+    }
+
+    @Override
+    public List<PipelineOperation<TElement>> split(int count) {
+        return split(_source, _start, _end, count);
+    }
+
+    @Override
+    public boolean push(Sink<TElement> sink) {
+
+        // push all elements in range, stopping if the sink is done
+        for (int i = _start; i < _end; ++i) {
+            if (!sink.accept(_source.get(i))) {
+                return false;
+            }
+        }
+
+        // indicate range was exhausted
+        return true;
+    }
+
+    // endregion
+}
@@ -1,13 +1,16 @@
 package com.nascentdigital.pipeline.operations;
 
 import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.List;
 
 
 public class SkipOperation<TElement> implements PipelineOperation<TElement> {
 
     // region instance variables
 
-    private final Iterable<TElement> _source;
+    private final PipelineOperation<TElement> _source;
     private final int _count;
 
     // endregion
@@ -15,7 +18,7 @@ public class SkipOperation<TElement> implements PipelineOperation<TElement> {
 
     // region constructors
 
-    public SkipOperation(Iterable<TElement> source, int count) {
+    public SkipOperation(PipelineOperation<TElement> source, int count) {
         _source = source;
         _count = count;
     }
@@ -26,13 +29,90 @@ public class SkipOperation<TElement> implements PipelineOperation<TElement> {
     // region Iterable<TElement> interface
 
     @Override
-    public Iterator iterator() {
+    public java.util.Iterator<TElement> iterator() {
+
+        // jump straight to first element if source is indexed
+        if (_source.isIndexed()) {
+            return new IndexedIterator<>(this);
+        }
+
+        // or return iterator
         return new Iterator();
     }
 
     // endregion
 
 
+    // region PipelineOperation<TElement> interface
+
+    @Override
+    public int size() {
+
+        // size is unknown if source is unknown
+        int sourceSize = _source.size();
+        if (sourceSize == UNKNOWN_SIZE) {
+            return UNKNOWN_SIZE;
+        }
+
+        // or reduce source size by skipped elements
+        return Math.max(sourceSize - Math.max(_count, 0), 0);
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return _source.isIndexed();
+    }
+
+    @Override
+    public TElement get(int index) {
+        return _source.get(index + Math.max(_count, 0));
+    }
+
+    @Override
+    public List<PipelineOperation<TElement>> split(int count) {
+
+        // split indexed sequences by position
+        return isIndexed()
+                ? RangeOperation.split(this, count)
+                : null;
+    }
+
+    @Override
+    public boolean push(final Sink<TElement> sink) {
+
+        // push by position if source is indexed
+        if (_source.isIndexed()) {
+            for (int i = 0, size = size(); i < size; ++i) {
+                if (!sink.accept(get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // or bypass elements as they are pushed
+        return _source.push(new Sink<TElement>() {
+
+            private int _skipped;
+
+            @Override
+            public boolean accept(TElement element) {
+
+                // bypass elements until count is reached
+                if (_skipped < _count) {
+                    ++_skipped;
+                    return true;
+                }
+
+                // or push element
+                return sink.accept(element);
+            }
+        });
+    }
+
+    // endregion
+
+
     // region internal classes
 
     private class Iterator implements java.util.Iterator<TElement> {
@@ -2,13 +2,16 @@ package com.nascentdigital.pipeline.operations;
 
 import com.nascentdigital.pipeline.PipelineOperation;
 import com.nascentdigital.pipeline.Predicate;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.List;
 
 
 public class SkipWhileOperation<TElement> implements PipelineOperation<TElement> {
 
     // region instance variables
 
-    private final Iterable<TElement> _source;
+    private final PipelineOperation<TElement> _source;
     private final Predicate<TElement> _predicate;
 
     // endregion
@@ -16,7 +19,7 @@ public class SkipWhileOperation<TElement> implements PipelineOperation<TElement>
 
     // region constructors
 
-    public SkipWhileOperation(Iterable<TElement> source, Predicate<TElement> predicate) {
+    public SkipWhileOperation(PipelineOperation<TElement> source, Predicate<TElement> predicate) {
         _source = source;
         _predicate = predicate;
     }
@@ -34,6 +37,53 @@ public class SkipWhileOperation<TElement> implements PipelineOperation<TElement>
     // endregion
 
 
+    // region PipelineOperation<TElement> interface
+
+    @Override
+    public int size() {
+        return UNKNOWN_SIZE;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public TElement get(int index) {
+        throw new UnsupportedOperationException("Operation is not indexed.");
+    }
+
+    @Override
+    public List<PipelineOperation<TElement>> split(int count) {
+        return null;
+    }
+
+    @Override
+    public boolean push(final Sink<TElement> sink) {
+        return _source.push(new Sink<TElement>() {
+
+            private boolean _skipping = true;
+
+            @Override
+            public boolean accept(TElement element) {
+
+                // bypass elements while predicate passes
+                if (_skipping
+                        && _predicate.evaluate(element)) {
+                    return true;
+                }
+
+                // or push element
+                _skipping = false;
+                return sink.accept(element);
+            }
+        });
+    }
+
+    // endregion
+
+
     // region internal classes
 
     private class Iterator implements java.util.Iterator<TElement> {
@@ -0,0 +1,304 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.DoubleSelector;
+import com.nascentdigital.pipeline.IntSelector;
+import com.nascentdigital.pipeline.LongSelector;
+import com.nascentdigital.pipeline.Selector;
+
+import java.util.Comparator;
+
+
+/**
+ * A key that a {@link SortOperation} orders elements by, in ascending or descending order.
+ * <p>
+ * Keys are extracted once per element into slots of a {@link Keys} buffer, with primitive keys held
+ * in unboxed arrays, and elements are then compared by slot rather than extracting keys on every
+ * comparison.  Primitive keys can also be extracted as {@link RadixSort} keys, so that elements
+ * ordered by a single primitive key are sorted without comparing them at all.
+ */
+public abstract class SortKey<TElement> {
+
+    // region instance variables
+
+    final boolean descending;
+
+    // endregion
+
+
+    // region constructors
+
+    private SortKey(boolean descending) {
+        this.descending = descending;
+    }
+
+    // endregion
+
+
+    // region factory methods
+
+    /**
+     * Creates a key that orders elements using a comparator.
+     *
+     * @param selector   A function to extract the key from an element.
+     * @param comparator Compares keys, or <c>null</c> to compare them by their natural ordering,
+     *                   with <c>null</c> keys first.
+     * @param descending Whether elements are ordered from the highest key to the lowest.
+     */
+    public static <TElement, TKey> SortKey<TElement> of(Selector<TElement, TKey> selector,
+                                                        Comparator<? super TKey> comparator,
+                                                        boolean descending) {
+        return new ObjectSortKey<>(selector, comparator, descending);
+    }
+
+    /**
+     * Creates a key that orders elements by an <c>int</c> value.
+     */
+    public static <TElement> SortKey<TElement> ofInt(IntSelector<TElement> selector,
+                                                     boolean descending) {
+        return new IntSortKey<>(selector, descending);
+    }
+
+    /**
+     * Creates a key that orders elements by a <c>long</c> value.
+     */
+    public static <TElement> SortKey<TElement> ofLong(LongSelector<TElement> selector,
+                                                      boolean descending) {
+        return new LongSortKey<>(selector, descending);
+    }
+
+    /**
+     * Creates a key that orders elements by a <c>double</c> value, as ordered by
+     * {@link Double#compare(double, double)}.
+     */
+    public static <TElement> SortKey<TElement> ofDouble(DoubleSelector<TElement> selector,
+                                                        boolean descending) {
+        return new DoubleSortKey<>(selector, descending);
+    }
+
+    // endregion
+
+
+    // region key extraction
+
+    /**
+     * Creates a buffer holding the keys of up to <i>capacity</i> elements.
+     */
+    abstract Keys<TElement> keys(int capacity);
+
+    /**
+     * Extracts the keys of the first <i>count</i> elements of an array as keys whose unsigned order
+     * matches the order of this key, for a {@link RadixSort}.
+     *
+     * @return The extracted keys, or <c>null</c> if elements must be compared instead.
+     */
+    long[] radixKeys(Object[] elements, int count) {
+        return null;
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    /**
+     * Compares two elements by their positions in the sequence being sorted.
+     */
+    interface PositionComparator {
+        int compare(int left, int right);
+    }
+
+    /**
+     * A fixed number of slots holding the keys of elements, which compares elements by the slots
+     * holding their keys, accounting for the direction of the key.
+     */
+    abstract static class Keys<TElement> implements PositionComparator {
+
+        /**
+         * Extracts the key of an element into a slot, replacing any key already in it.
+         */
+        abstract void set(int slot, TElement element);
+    }
+
+    private static final class ObjectSortKey<TElement, TKey> extends SortKey<TElement> {
+
+        private final Selector<TElement, TKey> _selector;
+        private final Comparator<? super TKey> _comparator;
+
+        ObjectSortKey(Selector<TElement, TKey> selector,
+                      Comparator<? super TKey> comparator,
+                      boolean descending) {
+            super(descending);
+            _selector = selector;
+            _comparator = comparator;
+        }
+
+        @Override
+        Keys<TElement> keys(int capacity) {
+
+            // extract keys into slots
+            final Object[] keys = new Object[capacity];
+            return new Keys<TElement>() {
+                @Override
+                void set(int slot, TElement element) {
+                    keys[slot] = _selector.select(element);
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public int compare(int left, int right) {
+
+                    // compare keys, reversing the comparison if descending
+                    return descending
+                            ? compareKeys((TKey) keys[right], (TKey) keys[left])
+                            : compareKeys((TKey) keys[left], (TKey) keys[right]);
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private int compareKeys(TKey left, TKey right) {
+
+            // use comparator, if specified
+            if (_comparator != null) {
+                return _comparator.compare(left, right);
+            }
+
+            // or use natural ordering, with nulls first
+            if (left == null
+                    || right == null) {
+                return left == null
+                        ? (right == null ? 0 : -1)
+                        : 1;
+            }
+            return ((Comparable<Object>) left).compareTo(right);
+        }
+    }
+
+    private static final class IntSortKey<TElement> extends SortKey<TElement> {
+
+        private final IntSelector<TElement> _selector;
+
+        IntSortKey(IntSelector<TElement> selector, boolean descending) {
+            super(descending);
+            _selector = selector;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        long[] radixKeys(Object[] elements, int count) {
+            long[] keys = new long[count];
+            for (int i = 0; i < count; ++i) {
+                keys[i] = RadixSort.intKey(_selector.select((TElement) elements[i]), descending);
+            }
+            return keys;
+        }
+
+        @Override
+        Keys<TElement> keys(int capacity) {
+
+            // extract keys into slots
+            final int[] keys = new int[capacity];
+            return new Keys<TElement>() {
+                @Override
+                void set(int slot, TElement element) {
+                    keys[slot] = _selector.select(element);
+                }
+
+                @Override
+                public int compare(int left, int right) {
+
+                    // compare keys, reversing the comparison if descending
+                    return descending
+                            ? Integer.compare(keys[right], keys[left])
+                            : Integer.compare(keys[left], keys[right]);
+                }
+            };
+        }
+    }
+
+    private static final class LongSortKey<TElement> extends SortKey<TElement> {
+
+        private final LongSelector<TElement> _selector;
+
+        LongSortKey(LongSelector<TElement> selector, boolean descending) {
+            super(descending);
+            _selector = selector;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        long[] radixKeys(Object[] elements, int count) {
+            long[] keys = new long[count];
+            for (int i = 0; i < count; ++i) {
+                keys[i] = RadixSort.longKey(_selector.select((TElement) elements[i]), descending);
+            }
+            return keys;
+        }
+
+        @Override
+        Keys<TElement> keys(int capacity) {
+
+            // extract keys into slots
+            final long[] keys = new long[capacity];
+            return new Keys<TElement>() {
+                @Override
+                void set(int slot, TElement element) {
+                    keys[slot] = _selector.select(element);
+                }
+
+                @Override
+                public int compare(int left, int right) {
+
+                    // compare keys, reversing the comparison if descending
+                    return descending
+                            ? Long.compare(keys[right], keys[left])
+                            : Long.compare(keys[left], keys[right]);
+                }
+            };
+        }
+    }
+
+    private static final class DoubleSortKey<TElement> extends SortKey<TElement> {
+
+        private final DoubleSelector<TElement> _selector;
+
+        DoubleSortKey(DoubleSelector<TElement> selector, boolean descending) {
+            super(descending);
+            _selector = selector;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        long[] radixKeys(Object[] elements, int count) {
+            long[] keys = new long[count];
+            for (int i = 0; i < count; ++i) {
+                keys[i] = RadixSort.doubleKey(_selector.select((TElement) elements[i]), descending);
+            }
+            return keys;
+        }
+
+        @Override
+        Keys<TElement> keys(int capacity) {
+
+            // extract keys into slots
+            final double[] keys = new double[capacity];
+            return new Keys<TElement>() {
+                @Override
+                void set(int slot, TElement element) {
+                    keys[slot] = _selector.select(element);
+                }
+
+                @Override
+                public int compare(int left, int right) {
+
+                    // compare keys, reversing the comparison if descending
+                    return descending
+                            ? Double.compare(keys[right], keys[left])
+                            : Double.compare(keys[left], keys[right]);
+                }
+            };
+        }
+    }
+
+    // endregion
+}
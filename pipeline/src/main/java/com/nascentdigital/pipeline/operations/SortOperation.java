@@ -0,0 +1,715 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.Codec;
+import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Sink;
+import com.nascentdigital.pipeline.operations.SortKey.Keys;
+import com.nascentdigital.pipeline.operations.SortKey.PositionComparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * Orders the elements of its source by one or more keys, each evaluation materializing the source
+ * and stably sorting it.
+ * <p>
+ * The keys of every element are extracted once, up front, and an array of element positions is
+ * then sorted by comparing the extracted keys, with later keys only compared when earlier keys
+ * are equal.  Elements whose keys are all equal keep their original order.  Elements ordered by a
+ * single <c>int</c>, <c>long</c> or <c>double</c> key are instead sorted by a {@link RadixSort} of
+ * the extracted keys.  Large sources of a parallel pipeline are sorted in parallel either way.
+ * <p>
+ * When limited to the first few elements of the order (e.g. <c>orderBy().take(k)</c>), the source
+ * is instead streamed through a bounded heap holding the best <i>k</i> elements seen so far, which
+ * takes <c>O(n log k)</c> time and <c>O(k)</c> memory, and only those elements are sorted.
+ * <p>
+ * When given a {@link Codec} and memory limit, elements are sorted in runs of at most that many
+ * elements, each of which is written to a temporary file once the next run starts.  The runs are
+ * then lazily merged as the sorted sequence is read, so reading only its first elements only reads
+ * the start of each run.  Sources that fit within the limit are sorted in memory as usual.  Runs
+ * are deleted as soon as a pushed evaluation stops, however it stops, and as soon as an iterator
+ * reaches its end, or otherwise once an abandoned iterator has been garbage collected.
+ */
+public class SortOperation<TElement> implements PipelineOperation<TElement> {
+
+    // region constants
+
+    private static final int NO_LIMIT = Integer.MAX_VALUE;
+
+    /**
+     * The largest limit for which a bounded heap is used when the size of the source is unknown,
+     * beyond which the source is sorted in full rather than allocating a heap that may be much
+     * larger than the source.
+     */
+    private static final int MAX_UNSIZED_HEAP_LIMIT = 1 << 16;
+
+    // endregion
+
+
+    // region instance variables
+
+    private final PipelineOperation<TElement> _source;
+    private final List<SortKey<TElement>> _keys;
+    private final int _limit;
+    private final Codec<TElement> _codec;
+    private final int _memoryLimit;
+    private final ForkJoinPool _pool;
+
+    // endregion
+
+
+    // region constructors
+
+    public SortOperation(PipelineOperation<TElement> source,
+                         SortKey<TElement> key,
+                         ForkJoinPool pool) {
+        this(source, Collections.singletonList(key), NO_LIMIT, null, 0, pool);
+    }
+
+    private SortOperation(PipelineOperation<TElement> source,
+                          List<SortKey<TElement>> keys,
+                          int limit,
+                          Codec<TElement> codec,
+                          int memoryLimit,
+                          ForkJoinPool pool) {
+        _source = source;
+        _keys = keys;
+        _limit = limit;
+        _codec = codec;
+        _memoryLimit = memoryLimit;
+        _pool = pool;
+    }
+
+    // endregion
+
+
+    // region sort keys
+
+    /**
+     * Determines whether the operation is limited to the first elements of the order, in which
+     * case no further keys can be added.
+     */
+    public boolean isLimited() {
+        return _limit != NO_LIMIT;
+    }
+
+    /**
+     * Returns an operation that orders the same source by the keys of this operation, followed by
+     * another key for elements whose existing keys are equal.
+     *
+     * @param key The key used to order elements with equal existing keys.
+     */
+    public SortOperation<TElement> thenBy(SortKey<TElement> key) {
+        List<SortKey<TElement>> keys = new ArrayList<>(_keys.size() + 1);
+        keys.addAll(_keys);
+        keys.add(key);
+        return new SortOperation<>(_source, keys, _limit, _codec, _memoryLimit, _pool);
+    }
+
+    /**
+     * Returns an operation that yields only the first elements of the order of this operation.
+     *
+     * @param count The maximum number of elements yielded.
+     */
+    public SortOperation<TElement> take(int count) {
+        return new SortOperation<>(_source, _keys, Math.min(_limit, count), _codec, _memoryLimit,
+                _pool);
+    }
+
+    /**
+     * Returns an operation with the same order that keeps at most <i>memoryLimit</i> elements in
+     * memory, spilling sorted runs of elements to temporary files beyond that.
+     *
+     * @param codec       Encodes and decodes spilled elements.
+     * @param memoryLimit The maximum number of elements kept in memory.
+     */
+    public SortOperation<TElement> spill(Codec<TElement> codec, int memoryLimit) {
+        return new SortOperation<>(_source, _keys, _limit, codec, memoryLimit, _pool);
+    }
+
+    // endregion
+
+
+    // region Iterable<TElement> interface
+
+    @Override
+    public java.util.Iterator<TElement> iterator() {
+
+        // use sorted elements, if sorted in memory
+        if (!isExternal()) {
+            return sort().iterator();
+        }
+
+        // or merge spilled runs, if any, deleting them if sorting fails
+        RunSink runs = new RunSink();
+        try {
+            _source.push(runs);
+            if (!runs.isSpilled()) {
+                return runs.sorted().iterator();
+            }
+
+            // delete runs if the merge is abandoned before it finishes
+            RunMerger merger = runs.merge();
+            runs.discardWhenUnreachable(merger);
+            return merger;
+        }
+        catch (RuntimeException | Error e) {
+            runs.discard();
+            throw e;
+        }
+    }
+
+    // endregion
+
+
+    // region PipelineOperation<TElement> interface
+
+    @Override
+    public int size() {
+
+        // size is empty if nothing can be taken
+        if (_limit <= 0) {
+            return 0;
+        }
+
+        // or limit source size, if known
+        int sourceSize = _source.size();
+        return sourceSize == UNKNOWN_SIZE
+                ? UNKNOWN_SIZE
+                : Math.min(sourceSize, _limit);
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public TElement get(int index) {
+        throw new UnsupportedOperationException("Operation is not indexed.");
+    }
+
+    @Override
+    public List<PipelineOperation<TElement>> split(int count) {
+
+        // split sorted elements, unless they are merged lazily from disk
+        return isExternal()
+                ? null
+                : sort().split(count);
+    }
+
+    @Override
+    public boolean push(Sink<TElement> sink) {
+
+        // push sorted elements, if sorted in memory
+        if (!isExternal()) {
+            return sort().push(sink);
+        }
+
+        RunSink runs = new RunSink();
+        try {
+
+            // sort runs of elements that fit in memory, spilling each when the next run starts
+            _source.push(runs);
+
+            // push elements sorted in memory, if nothing was spilled
+            if (!runs.isSpilled()) {
+                return runs.sorted().push(sink);
+            }
+
+            // or push merged elements, stopping if the sink is done
+            RunMerger merger = runs.merge();
+            while (merger.hasNext()) {
+                if (!sink.accept(merger.next())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        finally {
+            runs.discard();
+        }
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    @SuppressWarnings("unchecked")
+    private ArraySourceOperation<TElement> sort() {
+
+        // skip evaluation if nothing can be taken
+        if (_limit <= 0) {
+            return new ArraySourceOperation<>((TElement[]) new Object[0]);
+        }
+
+        // select best elements using a bounded heap, if limited to fewer than the source
+        if (isSelection()) {
+            return new ArraySourceOperation<>(selectFirst());
+        }
+
+        // or sort every element
+        TElement[] elements = ArraySourceOperation.materialize(_source);
+        return new ArraySourceOperation<>(sortElements(elements, elements.length));
+    }
+
+    /**
+     * Determines whether the first elements of the order are selected using a bounded heap,
+     * which is only the case when limited to fewer elements than the source (and than the memory
+     * limit, if any).
+     */
+    private boolean isSelection() {
+        int size = _source.size();
+        return (size == UNKNOWN_SIZE ? _limit <= MAX_UNSIZED_HEAP_LIMIT : _limit < size)
+                && (_codec == null || _limit < _memoryLimit);
+    }
+
+    /**
+     * Determines whether the source may be sorted in runs spilled to disk.
+     */
+    private boolean isExternal() {
+        return _codec != null
+                && _limit > 0
+                && !isSelection();
+    }
+
+    /**
+     * Returns the first <i>count</i> elements of an array in sorted order, up to the limit.
+     */
+    @SuppressWarnings("unchecked")
+    private TElement[] sortElements(Object[] elements, int count) {
+
+        // sort positions of elements
+        int[] positions = sortPositions(elements, count);
+
+        // return elements in sorted order, trimming any beyond the limit
+        Object[] sorted = new Object[Math.min(count, _limit)];
+        for (int i = 0; i < sorted.length; ++i) {
+            sorted[i] = elements[positions[i]];
+        }
+        return (TElement[]) sorted;
+    }
+
+    /**
+     * Returns the positions of the first <i>count</i> elements of an array in sorted order.
+     */
+    @SuppressWarnings("unchecked")
+    private int[] sortPositions(Object[] elements, int count) {
+
+        // start with positions in their original order
+        int[] positions = new int[count];
+        for (int i = 0; i < count; ++i) {
+            positions[i] = i;
+        }
+
+        // radix sort positions by a single primitive key, if there are enough elements
+        if (_keys.size() == 1
+                && count >= RadixSort.MIN_SIZE) {
+            long[] radixKeys = _keys.get(0).radixKeys(elements, count);
+            if (radixKeys != null) {
+                RadixSort.sort(radixKeys, positions, _pool);
+                return positions;
+            }
+        }
+
+        // or extract keys and compare them
+        Keys<TElement> keys = keys(count);
+        for (int i = 0; i < count; ++i) {
+            keys.set(i, (TElement) elements[i]);
+        }
+        IndexSort.sort(positions, keys, _pool);
+        return positions;
+    }
+
+    @SuppressWarnings("unchecked")
+    private TElement[] selectFirst() {
+
+        // keep the first elements of the order in a bounded heap
+        final HeapSink sink = new HeapSink(_limit);
+        _source.push(sink);
+
+        // sort the kept elements, breaking ties by their original order
+        int[] slots = Arrays.copyOf(sink.heap, sink.size);
+        IndexSort.sort(slots, new PositionComparator() {
+            @Override
+            public int compare(int left, int right) {
+                int result = sink.keys.compare(left, right);
+                return result != 0
+                        ? result
+                        : Long.compare(sink.positions[left], sink.positions[right]);
+            }
+        }, _pool);
+
+        // return elements in sorted order
+        Object[] sorted = new Object[slots.length];
+        for (int i = 0; i < slots.length; ++i) {
+            sorted[i] = sink.elements[slots[i]];
+        }
+        return (TElement[]) sorted;
+    }
+
+    private Keys<TElement> keys(int capacity) {
+
+        // use keys directly if there is only one
+        if (_keys.size() == 1) {
+            return _keys.get(0).keys(capacity);
+        }
+
+        // or compare each key in turn until one differs
+        final List<Keys<TElement>> keys = new ArrayList<>(_keys.size());
+        for (SortKey<TElement> key : _keys) {
+            keys.add(key.keys(capacity));
+        }
+        return new Keys<TElement>() {
+            @Override
+            void set(int slot, TElement element) {
+                for (Keys<TElement> key : keys) {
+                    key.set(slot, element);
+                }
+            }
+
+            @Override
+            public int compare(int left, int right) {
+                for (Keys<TElement> key : keys) {
+                    int result = key.compare(left, right);
+                    if (result != 0) {
+                        return result;
+                    }
+                }
+                return 0;
+            }
+        };
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    /**
+     * Keeps the first <i>limit</i> elements of the order pushed to it, in a binary heap of slots
+     * whose root is the slot of the last of the kept elements.
+     */
+    private class HeapSink implements Sink<TElement> {
+
+        final Keys<TElement> keys;
+        final Object[] elements;
+        final long[] positions;
+        final int[] heap;
+        int size;
+        private int _spare;
+        private long _position;
+
+        HeapSink(int limit) {
+
+            // allocate a slot for each kept element, plus one for the incoming element
+            keys = keys(limit + 1);
+            elements = new Object[limit + 1];
+            positions = new long[limit + 1];
+            heap = new int[limit];
+            _spare = limit;
+        }
+
+        @Override
+        public boolean accept(TElement element) {
+
+            // extract element into a free slot
+            int slot = size < heap.length ? size : _spare;
+            keys.set(slot, element);
+            elements[slot] = element;
+            positions[slot] = _position++;
+
+            // keep element while the heap isn't full
+            if (size < heap.length) {
+                heap[size] = slot;
+                siftUp(size++);
+                return true;
+            }
+
+            // or replace the last kept element, if the element comes before it (elements with
+            // equal keys come after, since they were encountered later)
+            int last = heap[0];
+            if (keys.compare(slot, last) < 0) {
+                heap[0] = slot;
+                elements[last] = null;
+                _spare = last;
+                siftDown(0);
+            }
+
+            // continue processing
+            return true;
+        }
+
+        private boolean isAfter(int left, int right) {
+            int result = keys.compare(left, right);
+            return result > 0
+                    || (result == 0 && positions[left] > positions[right]);
+        }
+
+        private void siftUp(int index) {
+
+            // move slot up until its parent comes after it
+            int slot = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!isAfter(slot, heap[parent])) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = slot;
+        }
+
+        private void siftDown(int index) {
+
+            // move slot down until it comes after both of its children
+            int slot = heap[index];
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size
+                        && isAfter(heap[child + 1], heap[child])) {
+                    ++child;
+                }
+                if (!isAfter(heap[child], slot)) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = slot;
+        }
+    }
+
+    /**
+     * Buffers elements until the memory limit is reached, writing each full buffer to disk as a
+     * sorted run.
+     */
+    private class RunSink implements Sink<TElement> {
+
+        private Object[] _buffer;
+        private int _count;
+        private List<SpillFile<TElement>> _runs;
+        private final SpillFiles _files = new SpillFiles();
+        private RunMerger _merger;
+        private long _position;
+
+        RunSink() {
+
+            // allocate for the size of the source, if known, up to the memory limit
+            int size = _source.size();
+            _buffer = new Object[Math.min(size != UNKNOWN_SIZE ? size : 16, _memoryLimit)];
+        }
+
+        @Override
+        public boolean accept(TElement element) {
+
+            // spill buffer once it reaches the memory limit
+            if (_count == _memoryLimit) {
+                spill();
+            }
+
+            // grow buffer if full
+            if (_count == _buffer.length) {
+                _buffer = Arrays.copyOf(_buffer,
+                        Math.min(Math.max(16, _count * 2), _memoryLimit));
+            }
+
+            // buffer element
+            _buffer[_count++] = element;
+            ++_position;
+
+            // continue processing
+            return true;
+        }
+
+        /**
+         * Determines whether any runs were spilled to disk.
+         */
+        boolean isSpilled() {
+            return _runs != null;
+        }
+
+        /**
+         * Returns the buffered elements in sorted order, when nothing was spilled.
+         */
+        ArraySourceOperation<TElement> sorted() {
+            return new ArraySourceOperation<>(sortElements(_buffer, _count));
+        }
+
+        /**
+         * Spills the buffered elements as the last run, returning a merger of every run.
+         */
+        RunMerger merge() {
+            spill();
+            _merger = new RunMerger(_runs, _files);
+            return _merger;
+        }
+
+        /**
+         * Deletes every spilled run once an iterator becomes unreachable, if they haven't been
+         * deleted by then.
+         */
+        void discardWhenUnreachable(Object iterator) {
+            _files.deleteWhenUnreachable(iterator);
+        }
+
+        /**
+         * Stops merging, if started, and deletes every spilled run.
+         */
+        void discard() {
+
+            // stop merging
+            if (_merger != null) {
+                _merger.close();
+            }
+
+            // delete runs, including any only partially written
+            _files.deleteAll();
+        }
+
+        /**
+         * Writes the buffered elements to disk as a sorted run, tagged with their positions.
+         */
+        @SuppressWarnings("unchecked")
+        private void spill() {
+
+            // sort buffered elements
+            int[] positions = sortPositions(_buffer, _count);
+
+            // write elements to new run, tracked so that it's deleted even if writing fails
+            SpillFile<TElement> run = _files.create(_codec);
+            if (_runs == null) {
+                _runs = new ArrayList<>();
+            }
+            _runs.add(run);
+            long start = _position - _count;
+            for (int position : positions) {
+                run.write(start + position, (TElement) _buffer[position]);
+            }
+
+            // clear buffer
+            Arrays.fill(_buffer, 0, _count, null);
+            _count = 0;
+        }
+    }
+
+    /**
+     * Lazily merges sorted runs, taking elements with equal keys in their original order, and
+     * deleting each run as soon as it has been read, and the rest once the merge is closed or
+     * reaches the limit.
+     */
+    private class RunMerger implements java.util.Iterator<TElement> {
+
+        private final List<SpillFile<TElement>> _runs;
+        private final SpillFiles _files;
+        private final List<SpillFile<TElement>.Reader> _readers;
+        private final Keys<TElement> _keys;
+        private final PriorityQueue<Integer> _queue;
+        private int _remaining = _limit;
+
+        RunMerger(List<SpillFile<TElement>> runs, SpillFiles files) {
+
+            // initialize instance variables, holding the key of each run's current element
+            _runs = runs;
+            _files = files;
+            _readers = new ArrayList<>(runs.size());
+            _keys = keys(runs.size());
+            _queue = new PriorityQueue<>(runs.size(), new Comparator<Integer>() {
+                @Override
+                public int compare(Integer left, Integer right) {
+                    int result = _keys.compare(left, right);
+                    return result != 0
+                            ? result
+                            : Long.compare(_readers.get(left).position(),
+                                    _readers.get(right).position());
+                }
+            });
+
+            // queue each run by its first element
+            for (int i = 0; i < runs.size(); ++i) {
+                SpillFile<TElement>.Reader reader = runs.get(i).read();
+                _readers.add(reader);
+                if (reader.next()) {
+                    _keys.set(i, reader.element());
+                    _queue.add(i);
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+
+            // delete runs once every element has been read, or the limit is reached
+            if (_remaining <= 0
+                    || _queue.isEmpty()) {
+                close();
+                return false;
+            }
+
+            // indicate there are more elements
+            return true;
+        }
+
+        @Override
+        public TElement next() {
+
+            // fail if there are no more elements
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            // take element that comes first
+            int run = _queue.poll();
+            SpillFile<TElement>.Reader reader = _readers.get(run);
+            TElement element = reader.element();
+
+            // re-queue run if it has more elements, or delete it
+            if (reader.next()) {
+                _keys.set(run, reader.element());
+                _queue.add(run);
+            }
+            else {
+                _runs.get(run).delete();
+            }
+
+            // return element
+            --_remaining;
+            return element;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Not implemented.");
+        }
+
+        /**
+         * Stops merging and deletes all of the runs.
+         */
+        void close() {
+
+            // stop reading runs
+            for (SpillFile<TElement>.Reader reader : _readers) {
+                reader.close();
+            }
+            _queue.clear();
+            _remaining = 0;
+
+            // delete runs
+            _files.deleteAll();
+        }
+    }
+
+    // endregion
+}
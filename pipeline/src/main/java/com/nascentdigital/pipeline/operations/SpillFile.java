@@ -0,0 +1,319 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.Codec;
+import com.nascentdigital.pipeline.SpillException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+
+/**
+ * A temporary file holding a sequence of elements encoded with a {@link Codec}, each tagged with
+ * its position in the original sequence so that spilled elements can be restored to their
+ * original order.  Files whose elements never need to be reordered can skip positions, saving
+ * their encoding.
+ * <p>
+ * Elements are appended until the file is read, after which it can no longer be written.  The
+ * file is only created once the first element is written, and must be deleted explicitly once it
+ * is no longer needed (even if writing or reading it fails), typically by creating it through
+ * {@link SpillFiles}.
+ */
+class SpillFile<TElement> {
+
+    // region constants
+
+    /**
+     * The number of hash bits used to select a partition at each level of partitioning.
+     */
+    static final int PARTITION_BITS = 6;
+
+    /**
+     * The number of partitions elements are split into at each level of partitioning.
+     */
+    static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+
+    /**
+     * The number of levels elements can be partitioned into before the hash bits are exhausted.
+     */
+    static final int MAX_PARTITION_LEVEL = 64 / PARTITION_BITS - 1;
+
+    // endregion
+
+
+    // region instance variables
+
+    private final Codec<TElement> _codec;
+    private final boolean _positioned;
+    private File _file;
+    private DataOutputStream _output;
+    private Reader _reader;
+    private int _count;
+
+    // endregion
+
+
+    // region constructors
+
+    SpillFile(Codec<TElement> codec) {
+        this(codec, true);
+    }
+
+    /**
+     * @param codec      The codec used to encode elements.
+     * @param positioned <c>true</c> if elements are written with their positions, or
+     *                   <c>false</c> if positions are never needed.
+     */
+    SpillFile(Codec<TElement> codec, boolean positioned) {
+        _codec = codec;
+        _positioned = positioned;
+    }
+
+    // endregion
+
+
+    // region file operations
+
+    /**
+     * Returns the number of elements written to the file.
+     */
+    int count() {
+        return _count;
+    }
+
+    /**
+     * Appends an element to a file that doesn't track positions.
+     *
+     * @param element The element being written.
+     */
+    void write(TElement element) {
+        write(0, element);
+    }
+
+    /**
+     * Appends an element to the file.
+     *
+     * @param position The position of the element in the original sequence, which is ignored if
+     *                 the file doesn't track positions.
+     * @param element  The element being written.
+     */
+    void write(long position, TElement element) {
+        try {
+
+            // create file on first write
+            if (_output == null) {
+                _file = File.createTempFile("pipeline-", ".spill");
+                _output = new DataOutputStream(
+                        new BufferedOutputStream(new FileOutputStream(_file)));
+            }
+
+            // write position, if tracked, followed by element
+            if (_positioned) {
+                writePosition(_output, position);
+            }
+            _codec.write(_output, element);
+            ++_count;
+        }
+        catch (IOException e) {
+            throw new SpillException("Unable to write spill file.", e);
+        }
+    }
+
+    /**
+     * Finishes writing the file and returns a reader over its elements, in the order they were
+     * written, closing any previous reader.
+     */
+    Reader read() {
+
+        // finish writing, and previous reading
+        closeOutput();
+        if (_reader != null) {
+            _reader.close();
+        }
+
+        // return reader
+        _reader = new Reader();
+        return _reader;
+    }
+
+    /**
+     * Deletes the file, closing it first if it is still being written or read.
+     */
+    void delete() {
+
+        // finish writing and reading
+        closeOutput();
+        if (_reader != null) {
+            _reader.close();
+            _reader = null;
+        }
+
+        // delete file, if it was created
+        if (_file != null) {
+            _file.delete();
+            _file = null;
+        }
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    /**
+     * Returns the partition of an element at the specified level of partitioning, using bits of
+     * its hash code that differ for each level.
+     *
+     * @param element The element being partitioned, which may be <c>null</c>.
+     * @param level   The level of partitioning, from <c>0</c> to {@link #MAX_PARTITION_LEVEL}.
+     */
+    static int partition(Object element, int level) {
+
+        // spread hash code over 64 bits using the MurmurHash3 finalizer
+        long hash = element == null ? 0 : element.hashCode();
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        // use the bits for the level
+        return (int) (hash >>> (level * PARTITION_BITS)) & (PARTITION_COUNT - 1);
+    }
+
+    private void closeOutput() {
+
+        // skip if output isn't open
+        if (_output == null) {
+            return;
+        }
+
+        // close output
+        try {
+            _output.close();
+            _output = null;
+        }
+        catch (IOException e) {
+            throw new SpillException("Unable to write spill file.", e);
+        }
+    }
+
+    private static void writePosition(DataOutputStream output, long position)
+            throws IOException {
+
+        // write 7 bits at a time, flagging bytes that are followed by more bits
+        while ((position & ~0x7FL) != 0) {
+            output.writeByte((int) (position & 0x7F) | 0x80);
+            position >>>= 7;
+        }
+        output.writeByte((int) position);
+    }
+
+    private static long readPosition(DataInputStream input) throws IOException {
+
+        // read 7 bits at a time, until a byte isn't flagged
+        long position = 0;
+        int shift = 0;
+        int value;
+        do {
+            value = input.readUnsignedByte();
+            position |= (long) (value & 0x7F) << shift;
+            shift += 7;
+        }
+        while ((value & 0x80) != 0);
+        return position;
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    /**
+     * Reads the elements of a spill file, in the order they were written.
+     */
+    class Reader {
+
+        private DataInputStream _input;
+        private int _remaining = _count;
+        private long _position;
+        private TElement _element;
+
+        /**
+         * Moves to the next element of the file.
+         *
+         * @return <c>true</c> if there was another element, otherwise <c>false</c>.
+         */
+        boolean next() {
+
+            // stop if there are no more elements
+            if (_remaining == 0) {
+                close();
+                return false;
+            }
+
+            // read next position and element
+            try {
+                if (_input == null) {
+                    _input = new DataInputStream(
+                            new BufferedInputStream(new FileInputStream(_file)));
+                }
+                if (_positioned) {
+                    _position = readPosition(_input);
+                }
+                _element = _codec.read(_input);
+                --_remaining;
+                return true;
+            }
+            catch (IOException e) {
+                throw new SpillException("Unable to read spill file.", e);
+            }
+        }
+
+        /**
+         * Returns the position of the current element in the original sequence, or <c>0</c> if
+         * the file doesn't track positions.
+         */
+        long position() {
+            return _position;
+        }
+
+        /**
+         * Returns the current element.
+         */
+        TElement element() {
+            return _element;
+        }
+
+        /**
+         * Stops reading the file, without deleting it.
+         */
+        void close() {
+
+            // clear state
+            _remaining = 0;
+            _element = null;
+
+            // skip if input isn't open
+            if (_input == null) {
+                return;
+            }
+
+            // close input
+            try {
+                _input.close();
+                _input = null;
+            }
+            catch (IOException e) {
+                throw new SpillException("Unable to read spill file.", e);
+            }
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,167 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.Codec;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * The spill files created by a single evaluation, so that every one of them can be deleted once
+ * the evaluation ends, however it ends.
+ * <p>
+ * A pushed evaluation deletes its files before the push returns or throws.  An iterator can't tell
+ * when its caller stops reading it, so the files of an iterator are also deleted once it becomes
+ * unreachable, by a daemon thread shared by every iterator, unless they were deleted first.
+ */
+final class SpillFiles {
+
+    // region instance variables
+
+    private final List<SpillFile<?>> _files = new ArrayList<>();
+    private Object _owner;
+    private Cleanup _cleanup;
+
+    // endregion
+
+
+    // region file operations
+
+    /**
+     * Creates a spill file, tracking the positions of its elements, that is deleted along with
+     * every other file of the evaluation.
+     */
+    <TElement> SpillFile<TElement> create(Codec<TElement> codec) {
+        return create(codec, true);
+    }
+
+    /**
+     * Creates a spill file that is deleted along with every other file of the evaluation.
+     *
+     * @param positioned <c>true</c> if elements are written with their positions, or
+     *                   <c>false</c> if positions are never needed.
+     */
+    synchronized <TElement> SpillFile<TElement> create(Codec<TElement> codec,
+                                                       boolean positioned) {
+
+        // delete files once owner is unreachable, starting with the first file
+        if (_owner != null) {
+            _cleanup = new Cleanup(_owner, this);
+            _owner = null;
+        }
+
+        // create and track file
+        SpillFile<TElement> file = new SpillFile<>(codec, positioned);
+        _files.add(file);
+        return file;
+    }
+
+    /**
+     * Deletes every file once an iterator becomes unreachable, if they haven't been deleted
+     * explicitly by then.
+     *
+     * @param owner The iterator reading the files, which must not be referenced by this object
+     *              once files are created.
+     */
+    synchronized void deleteWhenUnreachable(Object owner) {
+        if (_files.isEmpty()) {
+            _owner = owner;
+        }
+        else if (_cleanup == null) {
+            _cleanup = new Cleanup(owner, this);
+        }
+    }
+
+    /**
+     * Deletes every file created so far, closing any that are still being read.
+     */
+    synchronized void deleteAll() {
+
+        // stop watching owner
+        _owner = null;
+        if (_cleanup != null) {
+            _cleanup.cancel();
+            _cleanup = null;
+        }
+
+        // delete files
+        for (SpillFile<?> file : _files) {
+            file.delete();
+        }
+        _files.clear();
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    /**
+     * Deletes the files of an evaluation once the iterator that owns them has been collected.
+     */
+    private static final class Cleanup extends PhantomReference<Object> {
+
+        private static final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+        private static final Set<Cleanup> pending = new HashSet<>();
+        private static Thread thread;
+
+        private final SpillFiles _files;
+
+        Cleanup(Object owner, SpillFiles files) {
+
+            // initialize instance variables
+            super(owner, queue);
+            _files = files;
+
+            // keep cleanup reachable until it runs, starting the cleanup thread on first use
+            synchronized (pending) {
+                pending.add(this);
+                if (thread == null) {
+                    thread = new Thread(new Runnable() {
+                        @Override
+                        public void run() {
+                            deleteCollected();
+                        }
+                    }, "pipeline-spill-cleanup");
+                    thread.setDaemon(true);
+                    thread.start();
+                }
+            }
+        }
+
+        void cancel() {
+            synchronized (pending) {
+                pending.remove(this);
+            }
+            clear();
+        }
+
+        private static void deleteCollected() {
+            while (true) {
+
+                // wait for an owner to be collected
+                Cleanup cleanup;
+                try {
+                    cleanup = (Cleanup) queue.remove();
+                }
+                catch (InterruptedException e) {
+                    return;
+                }
+
+                // delete its files, ignoring failures since there is no caller to report them to
+                try {
+                    cleanup._files.deleteAll();
+                }
+                catch (RuntimeException e) {
+                    cleanup.cancel();
+                }
+            }
+        }
+    }
+
+    // endregion
+}
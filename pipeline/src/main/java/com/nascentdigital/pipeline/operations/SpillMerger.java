@@ -0,0 +1,118 @@
+package com.nascentdigital.pipeline.operations;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+
+/**
+ * Lazily merges spill files whose elements are each ordered by position into a single sequence
+ * ordered by position, deleting the files once they have all been read.
+ */
+class SpillMerger<TElement> implements java.util.Iterator<TElement> {
+
+    // region instance variables
+
+    private final List<SpillFile<TElement>> _files;
+    private final PriorityQueue<SpillFile<TElement>.Reader> _readers;
+
+    // endregion
+
+
+    // region constructors
+
+    SpillMerger(List<SpillFile<TElement>> files) {
+
+        // initialize instance variables
+        _files = files;
+        _readers = new PriorityQueue<>(Math.max(1, files.size()),
+                new Comparator<SpillFile<TElement>.Reader>() {
+                    @Override
+                    public int compare(SpillFile<TElement>.Reader left,
+                                       SpillFile<TElement>.Reader right) {
+                        return Long.compare(left.position(), right.position());
+                    }
+                });
+
+        // queue a reader for each file with at least one element
+        for (SpillFile<TElement> file : files) {
+            SpillFile<TElement>.Reader reader = file.read();
+            if (reader.next()) {
+                _readers.add(reader);
+            }
+            else {
+                file.delete();
+            }
+        }
+    }
+
+    // endregion
+
+
+    // region Iterator<TElement> interface
+
+    @Override
+    public boolean hasNext() {
+
+        // delete files once every element has been read
+        if (_readers.isEmpty()) {
+            close();
+            return false;
+        }
+
+        // indicate there are more elements
+        return true;
+    }
+
+    @Override
+    public TElement next() {
+
+        // fail if there are no elements left
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        // take element with the lowest position
+        SpillFile<TElement>.Reader reader = _readers.poll();
+        TElement element = reader.element();
+
+        // re-queue reader if it has more elements
+        if (reader.next()) {
+            _readers.add(reader);
+        }
+
+        // return element
+        return element;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Not implemented.");
+    }
+
+    // endregion
+
+
+    // region cleanup
+
+    /**
+     * Stops merging and deletes all of the files.
+     */
+    void close() {
+
+        // stop reading remaining files
+        for (SpillFile<TElement>.Reader reader : _readers) {
+            reader.close();
+        }
+        _readers.clear();
+
+        // delete all files
+        for (SpillFile<TElement> file : _files) {
+            file.delete();
+        }
+        _files.clear();
+    }
+
+    // endregion
+}
@@ -0,0 +1,378 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.Codec;
+import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+
+/**
+ * Returns distinct elements, in the order they are first encountered, while keeping at most a
+ * fixed number of distinct elements in memory.
+ * <p>
+ * Elements are deduplicated in memory, and yielded immediately, until the memory limit is
+ * reached.  Any later element that isn't one of those is spilled, with its position, to one of
+ * several temporary files partitioned by hash code.  Once the source is exhausted each partition
+ * is deduplicated on its own (re-partitioning any that still exceed the limit), and the distinct
+ * elements of every partition are merged back into their original order.
+ */
+public class SpillingDistinctOperation<TElement> implements PipelineOperation<TElement> {
+
+    // region instance variables
+
+    private final PipelineOperation<TElement> _source;
+    private final Codec<TElement> _codec;
+    private final int _memoryLimit;
+
+    // endregion
+
+
+    // region constructors
+
+    public SpillingDistinctOperation(PipelineOperation<TElement> source,
+                                     Codec<TElement> codec,
+                                     int memoryLimit) {
+        _source = source;
+        _codec = codec;
+        _memoryLimit = memoryLimit;
+    }
+
+    // endregion
+
+
+    // region Iterable<TElement> interface
+
+    @Override
+    public Iterator iterator() {
+        return new Iterator();
+    }
+
+    // endregion
+
+
+    // region PipelineOperation<TElement> interface
+
+    @Override
+    public int size() {
+        return UNKNOWN_SIZE;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public TElement get(int index) {
+        throw new UnsupportedOperationException("Operation is not indexed.");
+    }
+
+    @Override
+    public List<PipelineOperation<TElement>> split(int count) {
+        return null;
+    }
+
+    @Override
+    public boolean push(final Sink<TElement> sink) {
+
+        final Deduplicator deduplicator = new Deduplicator();
+        try {
+
+            // push elements that fit in memory as they are found, spilling the rest
+            boolean exhausted = _source.push(new Sink<TElement>() {
+                @Override
+                public boolean accept(TElement element) {
+                    return !deduplicator.add(element)
+                            || sink.accept(element);
+                }
+            });
+
+            // stop if the sink is done
+            if (!exhausted) {
+                return false;
+            }
+
+            // or push spilled elements, in order
+            SpillMerger<TElement> spilled = deduplicator.finish();
+            while (spilled.hasNext()) {
+                if (!sink.accept(spilled.next())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        finally {
+            deduplicator.discard();
+        }
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    /**
+     * Tracks the distinct elements of a single evaluation of the source.
+     */
+    private class Deduplicator {
+
+        private Set<TElement> _distinctElements = new HashSet<>();
+        private List<SpillFile<TElement>> _partitions;
+        private final SpillFiles _files = new SpillFiles();
+        private long _position;
+
+        /**
+         * Adds the next element of the source.
+         *
+         * @return <c>true</c> if the element is distinct and can be yielded immediately, or
+         *         <c>false</c> if it is a duplicate or was spilled.
+         */
+        boolean add(TElement element) {
+
+            // track position of element
+            long position = _position++;
+
+            // skip elements already in memory
+            if (_distinctElements.contains(element)) {
+                return false;
+            }
+
+            // yield new elements while they fit in memory
+            if (_partitions == null
+                    && _distinctElements.size() < _memoryLimit) {
+                _distinctElements.add(element);
+                return true;
+            }
+
+            // or spill element to its partition
+            if (_partitions == null) {
+                _partitions = createPartitions();
+            }
+            _partitions.get(SpillFile.partition(element, 0)).write(position, element);
+            return false;
+        }
+
+        /**
+         * Deduplicates the spilled elements once the source is exhausted.
+         *
+         * @return A merger yielding the distinct spilled elements, in their original order.
+         */
+        SpillMerger<TElement> finish() {
+
+            // release elements held in memory
+            _distinctElements = null;
+
+            // deduplicate each partition into ordered runs
+            List<SpillFile<TElement>> runs = new ArrayList<>();
+            if (_partitions != null) {
+                for (SpillFile<TElement> partition : _partitions) {
+                    deduplicate(partition, 1, true, runs);
+                }
+                _partitions = null;
+            }
+
+            // merge runs
+            return new SpillMerger<>(runs);
+        }
+
+        /**
+         * Deletes any spilled elements once an iterator becomes unreachable, if they haven't been
+         * discarded by then.
+         */
+        void discardWhenUnreachable(Object iterator) {
+            _files.deleteWhenUnreachable(iterator);
+        }
+
+        /**
+         * Stops merging, if started, and deletes any spilled elements that haven't been yielded.
+         */
+        void discard() {
+
+            // release elements held in memory
+            _distinctElements = null;
+            _partitions = null;
+
+            // delete every file created by the evaluation, including any still being read
+            _files.deleteAll();
+        }
+
+        private SpillFile<TElement> createFile() {
+            return _files.create(_codec);
+        }
+
+        private List<SpillFile<TElement>> createPartitions() {
+            List<SpillFile<TElement>> partitions = new ArrayList<>(SpillFile.PARTITION_COUNT);
+            for (int i = 0; i < SpillFile.PARTITION_COUNT; ++i) {
+                partitions.add(createFile());
+            }
+            return partitions;
+        }
+
+        private void deduplicate(SpillFile<TElement> partition,
+                                 int level,
+                                 boolean divisible,
+                                 List<SpillFile<TElement>> runs) {
+
+            // skip empty partitions
+            if (partition.count() == 0) {
+                partition.delete();
+                return;
+            }
+
+            // keep the first occurrence of each element, which are already ordered by position
+            Set<TElement> distinctElements = new HashSet<>();
+            SpillFile<TElement> run = createFile();
+            SpillFile<TElement>.Reader reader = partition.read();
+            while (reader.next()) {
+
+                // skip duplicates
+                TElement element = reader.element();
+                if (!distinctElements.add(element)) {
+                    continue;
+                }
+
+                // re-partition if the partition doesn't fit in memory (while hash bits remain), marking
+                // sub-partitions holding every element of the partition as indivisible, since their
+                // elements likely share a hash
+                if (distinctElements.size() > _memoryLimit
+                        && divisible
+                        && level <= SpillFile.MAX_PARTITION_LEVEL) {
+
+                    // discard progress
+                    reader.close();
+                    run.delete();
+                    distinctElements = null;
+
+                    // deduplicate each sub-partition instead
+                    int count = partition.count();
+                    for (SpillFile<TElement> subPartition : repartition(partition, level)) {
+                        deduplicate(subPartition, level + 1, subPartition.count() < count, runs);
+                    }
+                    return;
+                }
+
+                // write distinct element
+                run.write(reader.position(), element);
+            }
+
+            // replace partition with its distinct elements
+            partition.delete();
+            runs.add(run);
+        }
+
+        private List<SpillFile<TElement>> repartition(SpillFile<TElement> partition, int level) {
+
+            // split elements using the hash bits of the next level
+            List<SpillFile<TElement>> subPartitions = createPartitions();
+            SpillFile<TElement>.Reader reader = partition.read();
+            while (reader.next()) {
+                TElement element = reader.element();
+                subPartitions.get(SpillFile.partition(element, level))
+                        .write(reader.position(), element);
+            }
+
+            // replace partition with sub-partitions
+            partition.delete();
+            return subPartitions;
+        }
+    }
+
+    private class Iterator implements java.util.Iterator<TElement> {
+
+        private final java.util.Iterator<TElement> _input = _source.iterator();
+        private final Deduplicator _deduplicator = new Deduplicator();
+        private SpillMerger<TElement> _spilled;
+        private boolean _fetched;
+        private boolean _hasNext;
+        private TElement _next;
+
+        Iterator() {
+
+            // delete spilled elements if the iterator is abandoned before it finishes
+            _deduplicator.discardWhenUnreachable(this);
+        }
+
+        @Override
+        public boolean hasNext() {
+
+            // find next element if it hasn't been fetched
+            if (!_fetched) {
+
+                // assume that there is nothing left
+                _fetched = true;
+                _hasNext = false;
+                _next = null;
+
+                try {
+
+                    // use underlying iterator until a distinct element can be yielded
+                    while (_spilled == null
+                            && _input.hasNext()) {
+
+                        // get element
+                        TElement element = _input.next();
+
+                        // use element if it is distinct and wasn't spilled
+                        if (_deduplicator.add(element)) {
+
+                            // set state
+                            _hasNext = true;
+                            _next = element;
+
+                            // stop processing
+                            return true;
+                        }
+                    }
+
+                    // or use spilled elements once the source is exhausted
+                    if (_spilled == null) {
+                        _spilled = _deduplicator.finish();
+                    }
+                    if (_spilled.hasNext()) {
+                        _hasNext = true;
+                        _next = _spilled.next();
+                    }
+                    else {
+                        _deduplicator.discard();
+                    }
+                }
+
+                // delete spilled elements if deduplication fails
+                catch (RuntimeException | Error e) {
+                    _deduplicator.discard();
+                    throw e;
+                }
+            }
+
+            // return value
+            return _hasNext;
+        }
+
+        @Override
+        public TElement next() {
+
+            // fail if there are no elements left
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            // clear state
+            _fetched = false;
+
+            // return element
+            return _next;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Not implemented.");
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,394 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.Codec;
+import com.nascentdigital.pipeline.Grouping;
+import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Selector;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+
+/**
+ * Groups the elements of its source by key while keeping at most a fixed number of elements in
+ * memory.
+ * <p>
+ * Elements are grouped in memory until the memory limit is reached, at which point every element
+ * is spilled to one of several temporary files partitioned by the hash code of its key.  Once the
+ * source is exhausted each partition is grouped on its own, one at a time (re-partitioning any
+ * that still exceed the limit, unless re-partitioning failed to split them), and its groups are
+ * yielded before the next partition is read.
+ * Groups keep their encounter order within a partition, and elements keep their original order
+ * within a group.
+ */
+public class SpillingGroupByOperation<TElement, TKey>
+        implements PipelineOperation<Grouping<TKey, TElement>> {
+
+    // region instance variables
+
+    private final PipelineOperation<TElement> _source;
+    private final Selector<TElement, TKey> _selector;
+    private final Codec<TElement> _codec;
+    private final int _memoryLimit;
+
+    // endregion
+
+
+    // region constructors
+
+    public SpillingGroupByOperation(PipelineOperation<TElement> source,
+                                    Selector<TElement, TKey> selector,
+                                    Codec<TElement> codec,
+                                    int memoryLimit) {
+        _source = source;
+        _selector = selector;
+        _codec = codec;
+        _memoryLimit = memoryLimit;
+    }
+
+    // endregion
+
+
+    // region Iterable<Grouping<TKey, TElement>> interface
+
+    @Override
+    public Iterator iterator() {
+        return new Iterator();
+    }
+
+    // endregion
+
+
+    // region PipelineOperation<Grouping<TKey, TElement>> interface
+
+    @Override
+    public int size() {
+        return UNKNOWN_SIZE;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public Grouping<TKey, TElement> get(int index) {
+        throw new UnsupportedOperationException("Operation is not indexed.");
+    }
+
+    @Override
+    public List<PipelineOperation<Grouping<TKey, TElement>>> split(int count) {
+        return null;
+    }
+
+    @Override
+    public boolean push(Sink<Grouping<TKey, TElement>> sink) {
+
+        Grouper grouper = new Grouper();
+        try {
+
+            // group every element, spilling them once they no longer fit in memory
+            grouper.addAll();
+
+            // push groups of each partition in turn, stopping if the sink is done
+            List<Grouping<TKey, TElement>> groupings = grouper.finish();
+            while (groupings != null) {
+                for (Grouping<TKey, TElement> grouping : groupings) {
+                    if (!sink.accept(grouping)) {
+                        return false;
+                    }
+                }
+                groupings = grouper.next();
+            }
+            return true;
+        }
+        finally {
+            grouper.discard();
+        }
+    }
+
+    // endregion
+
+
+    // region internal classes
+
+    /**
+     * Tracks the groups of a single evaluation of the source.
+     */
+    private class Grouper {
+
+        private Map<TKey, List<TElement>> _groups = new LinkedHashMap<>();
+        private int _count;
+        private List<SpillFile<TElement>> _partitions;
+        private final Deque<Partition> _pending = new ArrayDeque<>();
+        private final SpillFiles _files = new SpillFiles();
+
+        /**
+         * Adds every element of the source.
+         */
+        void addAll() {
+            _source.push(new Sink<TElement>() {
+                @Override
+                public boolean accept(TElement element) {
+                    add(element);
+                    return true;
+                }
+            });
+        }
+
+        /**
+         * Finishes adding elements.
+         *
+         * @return The groups held in memory, which is every group if nothing was spilled.
+         */
+        List<Grouping<TKey, TElement>> finish() {
+
+            // return groups in memory, if nothing was spilled
+            if (_partitions == null) {
+                List<Grouping<TKey, TElement>> groupings = toGroupings(_groups);
+                _groups = null;
+                return groupings;
+            }
+
+            // or queue partitions to be grouped
+            for (SpillFile<TElement> partition : _partitions) {
+                _pending.add(new Partition(partition, 1, true));
+            }
+            _partitions = null;
+            return Collections.emptyList();
+        }
+
+        /**
+         * Groups the next spilled partition.
+         *
+         * @return The groups of the partition, or <c>null</c> if every partition has been grouped.
+         */
+        List<Grouping<TKey, TElement>> next() {
+
+            // stop if there are no partitions left
+            Partition pending = _pending.poll();
+            if (pending == null) {
+                return null;
+            }
+
+            // skip empty partitions
+            SpillFile<TElement> partition = pending.file;
+            if (partition.count() == 0) {
+                partition.delete();
+                return Collections.emptyList();
+            }
+
+            // re-partition if the partition doesn't fit in memory (while hash bits remain), marking
+            // sub-partitions holding every element of the partition as indivisible, since their
+            // keys likely share a hash (e.g. a single group larger than the limit)
+            int count = partition.count();
+            if (count > _memoryLimit
+                    && pending.divisible
+                    && pending.level <= SpillFile.MAX_PARTITION_LEVEL) {
+                List<SpillFile<TElement>> subPartitions = repartition(partition, pending.level);
+                for (int i = subPartitions.size() - 1; i >= 0; --i) {
+                    SpillFile<TElement> subPartition = subPartitions.get(i);
+                    _pending.addFirst(new Partition(subPartition, pending.level + 1,
+                            subPartition.count() < count));
+                }
+                return Collections.emptyList();
+            }
+
+            // or group partition in memory
+            Map<TKey, List<TElement>> groups = new LinkedHashMap<>();
+            SpillFile<TElement>.Reader reader = partition.read();
+            while (reader.next()) {
+                TElement element = reader.element();
+                group(groups, _selector.select(element)).add(element);
+            }
+            partition.delete();
+
+            // return groups
+            return toGroupings(groups);
+        }
+
+        /**
+         * Deletes any spilled elements that haven't been grouped.
+         */
+        void discard() {
+
+            // release groups held in memory
+            _groups = null;
+            _partitions = null;
+            _pending.clear();
+
+            // delete every file created by the evaluation, including any still being read
+            _files.deleteAll();
+        }
+
+        /**
+         * Deletes any spilled elements once an iterator becomes unreachable, if they haven't been
+         * discarded by then.
+         */
+        void discardWhenUnreachable(Object iterator) {
+            _files.deleteWhenUnreachable(iterator);
+        }
+
+        private void add(TElement element) {
+
+            // group element in memory while it fits
+            TKey key = _selector.select(element);
+            if (_partitions == null
+                    && _count < _memoryLimit) {
+                group(_groups, key).add(element);
+                ++_count;
+                return;
+            }
+
+            // or spill groups held in memory, once the limit is reached
+            if (_partitions == null) {
+                _partitions = createPartitions();
+                for (Map.Entry<TKey, List<TElement>> group : _groups.entrySet()) {
+                    SpillFile<TElement> partition =
+                            _partitions.get(SpillFile.partition(group.getKey(), 0));
+                    for (TElement groupElement : group.getValue()) {
+                        partition.write(groupElement);
+                    }
+                }
+                _groups = null;
+            }
+
+            // and spill element to the partition of its key
+            _partitions.get(SpillFile.partition(key, 0)).write(element);
+        }
+
+        private List<SpillFile<TElement>> createPartitions() {
+
+            // skip positions, since partitions are only ever read in the order they were written
+            List<SpillFile<TElement>> partitions = new ArrayList<>(SpillFile.PARTITION_COUNT);
+            for (int i = 0; i < SpillFile.PARTITION_COUNT; ++i) {
+                partitions.add(_files.create(_codec, false));
+            }
+            return partitions;
+        }
+
+        private List<SpillFile<TElement>> repartition(SpillFile<TElement> partition, int level) {
+
+            // split elements using the key hash bits of the next level
+            List<SpillFile<TElement>> subPartitions = createPartitions();
+            SpillFile<TElement>.Reader reader = partition.read();
+            while (reader.next()) {
+                TElement element = reader.element();
+                subPartitions.get(SpillFile.partition(_selector.select(element), level))
+                        .write(element);
+            }
+
+            // replace partition with sub-partitions
+            partition.delete();
+            return subPartitions;
+        }
+
+        private List<TElement> group(Map<TKey, List<TElement>> groups, TKey key) {
+
+            // get group, or create one
+            List<TElement> group = groups.get(key);
+            if (group == null) {
+                group = new ArrayList<>();
+                groups.put(key, group);
+            }
+
+            // return group
+            return group;
+        }
+
+        private List<Grouping<TKey, TElement>> toGroupings(Map<TKey, List<TElement>> groups) {
+            List<Grouping<TKey, TElement>> groupings = new ArrayList<>(groups.size());
+            for (Map.Entry<TKey, List<TElement>> group : groups.entrySet()) {
+                groupings.add(new Grouping<>(group.getKey(), group.getValue()));
+            }
+            return groupings;
+        }
+    }
+
+    /**
+     * A spilled partition waiting to be grouped.
+     */
+    private final class Partition {
+
+        final SpillFile<TElement> file;
+        final int level;
+        final boolean divisible;
+
+        Partition(SpillFile<TElement> file, int level, boolean divisible) {
+            this.file = file;
+            this.level = level;
+            this.divisible = divisible;
+        }
+    }
+
+    private class Iterator implements java.util.Iterator<Grouping<TKey, TElement>> {
+
+        private Grouper _grouper;
+        private java.util.Iterator<Grouping<TKey, TElement>> _groupings;
+
+        @Override
+        public boolean hasNext() {
+
+            try {
+
+                // group source on first use, deleting spilled elements if the iterator is abandoned
+                if (_grouper == null) {
+                    _grouper = new Grouper();
+                    _grouper.discardWhenUnreachable(this);
+                    _grouper.addAll();
+                    _groupings = _grouper.finish().iterator();
+                }
+
+                // move through partitions until one has groups left
+                while (_groupings != null
+                        && !_groupings.hasNext()) {
+                    List<Grouping<TKey, TElement>> groupings = _grouper.next();
+                    _groupings = groupings == null
+                            ? null
+                            : groupings.iterator();
+                }
+
+                // delete spilled elements once every group has been read
+                if (_groupings == null) {
+                    _grouper.discard();
+                }
+            }
+
+            // delete spilled elements if grouping fails
+            catch (RuntimeException | Error e) {
+                _grouper.discard();
+                _groupings = null;
+                throw e;
+            }
+
+            // return whether there are groups left
+            return _groupings != null;
+        }
+
+        @Override
+        public Grouping<TKey, TElement> next() {
+
+            // fail if there are no groups left
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            // return next group
+            return _groupings.next();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Not implemented.");
+        }
+    }
+
+    // endregion
+}
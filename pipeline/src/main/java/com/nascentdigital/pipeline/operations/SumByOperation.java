@@ -0,0 +1,132 @@
+package com.nascentdigital.pipeline.operations;
+
+import com.nascentdigital.pipeline.LongSelector;
+import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Selector;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+
+/**
+ * Sums a <c>long</c> value of the elements of each group as they arrive, using an unboxed sum
+ * per group.
+ */
+public class SumByOperation<TElement, TKey>
+        implements PipelineOperation<Entry<TKey, Long>> {
+
+    // region instance variables
+
+    private final PipelineOperation<TElement> _source;
+    private final Selector<TElement, TKey> _keySelector;
+    private final LongSelector<TElement> _valueSelector;
+
+    // endregion
+
+
+    // region constructors
+
+    public SumByOperation(PipelineOperation<TElement> source,
+                          Selector<TElement, TKey> keySelector,
+                          LongSelector<TElement> valueSelector) {
+        _source = source;
+        _keySelector = keySelector;
+        _valueSelector = valueSelector;
+    }
+
+    // endregion
+
+
+    // region Iterable<Entry<TKey, Long>> interface
+
+    @Override
+    public Iterator<Entry<TKey, Long>> iterator() {
+        return aggregate().iterator();
+    }
+
+    // endregion
+
+
+    // region PipelineOperation<Entry<TKey, Long>> interface
+
+    @Override
+    public int size() {
+        return UNKNOWN_SIZE;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public Entry<TKey, Long> get(int index) {
+        throw new UnsupportedOperationException("Operation is not indexed.");
+    }
+
+    @Override
+    public List<PipelineOperation<Entry<TKey, Long>>> split(int count) {
+        return null;
+    }
+
+    @Override
+    public boolean push(Sink<Entry<TKey, Long>> sink) {
+
+        // push all groups, stopping if the sink is done
+        for (Entry<TKey, Long> group : aggregate()) {
+            if (!sink.accept(group)) {
+                return false;
+            }
+        }
+
+        // indicate sequence was exhausted
+        return true;
+    }
+
+    // endregion
+
+
+    // region helper methods
+
+    private List<Entry<TKey, Long>> aggregate() {
+
+        // push all elements, folding each into the accumulator of its group
+        final Map<TKey, long[]> groups = new LinkedHashMap<>();
+        _source.push(new Sink<TElement>() {
+            @Override
+            public boolean accept(TElement element) {
+
+                // get accumulator for element's group, or create one
+                TKey key = _keySelector.select(element);
+                long[] accumulator = groups.get(key);
+                if (accumulator == null) {
+                    accumulator = new long[1];
+                    groups.put(key, accumulator);
+                }
+
+                // fold element into accumulator
+                accumulator[0] += _valueSelector.select(element);
+
+                // continue aggregating
+                return true;
+            }
+        });
+
+        // create an entry for each group, in the order groups were first encountered
+        List<Entry<TKey, Long>> entries = new ArrayList<>(groups.size());
+        for (Entry<TKey, long[]> group : groups.entrySet()) {
+            entries.add(new SimpleImmutableEntry<>(group.getKey(), group.getValue()[0]));
+        }
+
+        // return entries
+        return entries;
+    }
+
+    // endregion
+}
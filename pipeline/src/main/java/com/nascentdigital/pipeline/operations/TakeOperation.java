@@ -1,13 +1,16 @@
 package com.nascentdigital.pipeline.operations;
 
 import com.nascentdigital.pipeline.PipelineOperation;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.List;
 
 
 public class TakeOperation<TElement> implements PipelineOperation<TElement> {
 
     // region instance variables
 
-    private final Iterable<TElement> _source;
+    private final PipelineOperation<TElement> _source;
     private final int _limit;
 
     // endregion
@@ -15,7 +18,7 @@ public class TakeOperation<TElement> implements PipelineOperation<TElement> {
 
     // region constructors
 
-    public TakeOperation(Iterable<TElement> source, int limit) {
+    public TakeOperation(PipelineOperation<TElement> source, int limit) {
         _source = source;
         _limit = limit;
     }
@@ -33,8 +36,97 @@ public class TakeOperation<TElement> implements PipelineOperation<TElement> {
     // endregion
 
 
+    // region PipelineOperation<TElement> interface
+
+    @Override
+    public int size() {
+
+        // size is empty if nothing can be taken
+        if (_limit <= 0) {
+            return 0;
+        }
+
+        // or limit source size, if known
+        int sourceSize = _source.size();
+        return sourceSize == UNKNOWN_SIZE
+                ? UNKNOWN_SIZE
+                : Math.min(sourceSize, _limit);
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return _source.isIndexed();
+    }
+
+    @Override
+    public TElement get(int index) {
+        return _source.get(index);
+    }
+
+    @Override
+    public List<PipelineOperation<TElement>> split(int count) {
+
+        // split indexed sequences by position
+        return isIndexed()
+                ? RangeOperation.split(this, count)
+                : null;
+    }
+
+    @Override
+    public boolean push(Sink<TElement> sink) {
+
+        // skip processing if nothing can be taken
+        if (_limit <= 0) {
+            return true;
+        }
+
+        // push by position if source is indexed
+        if (_source.isIndexed()) {
+            for (int i = 0, size = size(); i < size; ++i) {
+                if (!sink.accept(_source.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // or push elements until limit is reached
+        TakeSink takeSink = new TakeSink(sink);
+        _source.push(takeSink);
+
+        // indicate whether the sink stopped processing
+        return !takeSink.stopped;
+    }
+
+    // endregion
+
+
     // region internal classes
 
+    private class TakeSink implements Sink<TElement> {
+
+        private final Sink<TElement> _sink;
+        private int _count;
+        boolean stopped;
+
+        TakeSink(Sink<TElement> sink) {
+            _sink = sink;
+        }
+
+        @Override
+        public boolean accept(TElement element) {
+
+            // stop if the sink is done
+            if (!_sink.accept(element)) {
+                stopped = true;
+                return false;
+            }
+
+            // continue until limit is reached
+            return ++_count < _limit;
+        }
+    }
+
     private class Iterator implements java.util.Iterator<TElement> {
 
         private final java.util.Iterator<TElement> _input = _source.iterator();
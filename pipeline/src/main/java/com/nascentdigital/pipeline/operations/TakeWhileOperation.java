@@ -2,13 +2,16 @@ package com.nascentdigital.pipeline.operations;
 
 import com.nascentdigital.pipeline.PipelineOperation;
 import com.nascentdigital.pipeline.Predicate;
+import com.nascentdigital.pipeline.Sink;
+
+import java.util.List;
 
 
 public class TakeWhileOperation<TElement> implements PipelineOperation<TElement> {
 
     // region instance variables
 
-    private final Iterable<TElement> _source;
+    private final PipelineOperation<TElement> _source;
     private final Predicate<TElement> _predicate;
 
     // endregion
@@ -16,7 +19,7 @@ public class TakeWhileOperation<TElement> implements PipelineOperation<TElement>
 
     // region constructors
 
-    public TakeWhileOperation(Iterable<TElement> source, Predicate<TElement> predicate) {
+    public TakeWhileOperation(PipelineOperation<TElement> source, Predicate<TElement> predicate) {
         _source = source;
         _predicate = predicate;
     }
@@ -34,8 +37,72 @@ public class TakeWhileOperation<TElement> implements PipelineOperation<TElement>
     // endregion
 
 
+    // region PipelineOperation<TElement> interface
+
+    @Override
+    public int size() {
+        return UNKNOWN_SIZE;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public TElement get(int index) {
+        throw new UnsupportedOperationException("Operation is not indexed.");
+    }
+
+    @Override
+    public List<PipelineOperation<TElement>> split(int count) {
+        return null;
+    }
+
+    @Override
+    public boolean push(Sink<TElement> sink) {
+
+        // push elements until predicate fails
+        TakeWhileSink takeWhileSink = new TakeWhileSink(sink);
+        _source.push(takeWhileSink);
+
+        // indicate whether the sink stopped processing
+        return !takeWhileSink.stopped;
+    }
+
+    // endregion
+
+
     // region internal classes
 
+    private class TakeWhileSink implements Sink<TElement> {
+
+        private final Sink<TElement> _sink;
+        boolean stopped;
+
+        TakeWhileSink(Sink<TElement> sink) {
+            _sink = sink;
+        }
+
+        @Override
+        public boolean accept(TElement element) {
+
+            // stop once predicate fails
+            if (!_predicate.evaluate(element)) {
+                return false;
+            }
+
+            // stop if the sink is done
+            if (!_sink.accept(element)) {
+                stopped = true;
+                return false;
+            }
+
+            // continue processing
+            return true;
+        }
+    }
+
     private class Iterator implements java.util.Iterator<TElement> {
 
         private final java.util.Iterator<TElement> _input = _source.iterator();